@@ -14,13 +14,19 @@ import java.util.List;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.container.AsyncResponse;
 import jakarta.ws.rs.container.Suspended;
 import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseEventSink;
 
 import org.eclipse.scout.rt.api.data.uinotification.TopicDo;
 import org.eclipse.scout.rt.api.data.uinotification.UiNotificationRequest;
@@ -75,6 +81,30 @@ public class UiNotificationResource implements IRestResource {
         });
   }
 
+  /**
+   * Opens a stream of server-sent events delivering the notifications of the given topics as soon as they are put into
+   * the registry (see {@link UiNotificationStream}). A client reconnecting with the header {@code Last-Event-ID}
+   * receives the notifications it missed in the meantime.
+   */
+  @GET
+  @Path("stream")
+  @Produces(MediaType.SERVER_SENT_EVENTS)
+  public void stream(@QueryParam("topic") List<String> topics, @HeaderParam(HttpHeaders.LAST_EVENT_ID_HEADER) String lastEventId, @Context SseEventSink eventSink, @Context Sse sse) {
+    String userId = getUserId();
+    LOG.debug("Received stream request for topics {} and user {}", topics, userId);
+    if (topics == null || topics.isEmpty()) {
+      throw new BadRequestException("Topics must not be empty");
+    }
+
+    UiNotificationStream stream = createStream(topics, userId, lastEventId, eventSink, sse);
+    BEANS.get(UiNotificationStreamManager.class).register(stream);
+    stream.start();
+  }
+
+  protected UiNotificationStream createStream(List<String> topics, String userId, String lastEventId, SseEventSink eventSink, Sse sse) {
+    return new UiNotificationStream(topics, userId, lastEventId, eventSink, sse);
+  }
+
   protected String getUserId() {
     return BEANS.get(IAccessControlService.class).getUserIdOfCurrentSubject();
   }
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.api.uinotification;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jakarta.ws.rs.sse.OutboundSseEvent;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseEventSink;
+
+import org.eclipse.scout.rt.api.data.uinotification.TopicDo;
+import org.eclipse.scout.rt.api.data.uinotification.UiNotificationDo;
+import org.eclipse.scout.rt.api.data.uinotification.UiNotificationRequest;
+import org.eclipse.scout.rt.api.data.uinotification.UiNotificationResponse;
+import org.eclipse.scout.rt.dataobject.IDataObjectMapper;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.util.Base64Utility;
+import org.eclipse.scout.rt.platform.util.StringUtility;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A long-lived connection of a client receiving ui notifications as server-sent events.
+ * <p>
+ * Each event contains a {@link UiNotificationResponse} (same as a response of {@link UiNotificationResource#get}) and
+ * has an id that encodes the last known notifications per topic and node. A client reconnecting with this id as
+ * {@code Last-Event-ID} resumes where the previous connection stopped.
+ * <p>
+ * The stream does not hold a thread while waiting: it listens to the {@link UiNotificationRegistry} and delivers new
+ * notifications in a job. Notifications put while a delivery is pending are sent with that delivery.
+ */
+public class UiNotificationStream {
+  private static final Logger LOG = LoggerFactory.getLogger(UiNotificationStream.class);
+
+  public static final String EVENT_NAME = "notifications";
+
+  private final String m_userId;
+  private final SseEventSink m_eventSink;
+  private final Sse m_sse;
+  /**
+   * Topic name -> topic with the last known notifications of the client
+   */
+  private final Map<String, TopicDo> m_topics = new LinkedHashMap<>();
+  private final UiNotificationListener m_listener = event -> scheduleDelivery();
+  private final AtomicBoolean m_deliveryScheduled = new AtomicBoolean();
+  private final AtomicBoolean m_closed = new AtomicBoolean();
+
+  /**
+   * @param lastEventId
+   *          id of the last event received by the client, may be {@code null}
+   */
+  public UiNotificationStream(List<String> topics, String userId, String lastEventId, SseEventSink eventSink, Sse sse) {
+    m_userId = userId;
+    m_eventSink = eventSink;
+    m_sse = sse;
+    for (String topic : topics) {
+      m_topics.put(topic, new TopicDo().withName(topic));
+    }
+    for (TopicDo lastKnownTopic : parseEventId(lastEventId)) {
+      TopicDo topic = m_topics.get(lastKnownTopic.getName());
+      if (topic != null) {
+        topic.withLastNotifications(lastKnownTopic.getLastNotifications());
+      }
+    }
+  }
+
+  protected UiNotificationRegistry getRegistry() {
+    return BEANS.get(UiNotificationRegistry.class);
+  }
+
+  public String getUserId() {
+    return m_userId;
+  }
+
+  public List<String> getTopicNames() {
+    return new ArrayList<>(m_topics.keySet());
+  }
+
+  /**
+   * Sends the notifications available since the last event id and starts listening for new ones.
+   */
+  public void start() {
+    getRegistry().addListeners(getTopicNames(), m_listener);
+    LOG.debug("Started ui notification stream for topics {} and user {}", m_topics.keySet(), m_userId);
+    scheduleDelivery();
+  }
+
+  protected void scheduleDelivery() {
+    if (isClosed() || !m_deliveryScheduled.compareAndSet(false, true)) {
+      return;
+    }
+    Jobs.schedule(this::deliver, Jobs.newInput()
+        .withName("Delivering ui notifications to stream [topics={}, user={}]", m_topics.keySet(), m_userId));
+  }
+
+  protected synchronized void deliver() {
+    m_deliveryScheduled.set(false); // notifications put from now on are delivered by the next job
+    if (checkClosed()) {
+      return;
+    }
+
+    List<UiNotificationDo> notifications = new ArrayList<>();
+    for (TopicDo topic : m_topics.values()) {
+      List<UiNotificationDo> topicNotifications = getRegistry().get(List.of(topic), m_userId);
+      updateLastNotifications(topic, topicNotifications);
+      notifications.addAll(topicNotifications);
+    }
+    if (notifications.isEmpty()) {
+      return;
+    }
+
+    LOG.info("Sending {} notifications to stream for topics {} and user {}", notifications.size(), m_topics.keySet(), m_userId);
+    send(m_sse.newEventBuilder()
+        .name(EVENT_NAME)
+        .id(createEventId())
+        .data(BEANS.get(IDataObjectMapper.class).writeValue(new UiNotificationResponse().withNotifications(notifications)))
+        .build());
+  }
+
+  /**
+   * Keeps the notification with the newest creation time per node as last known notification (same as the client does
+   * when polling).
+   */
+  protected void updateLastNotifications(TopicDo topic, List<UiNotificationDo> notifications) {
+    if (notifications.isEmpty()) {
+      return;
+    }
+    Map<String, UiNotificationDo> lastNotificationByNode = new LinkedHashMap<>();
+    for (UiNotificationDo notification : topic.getLastNotifications()) {
+      lastNotificationByNode.put(notification.getNodeId(), notification);
+    }
+    for (UiNotificationDo notification : notifications) {
+      UiNotificationDo lastNotification = lastNotificationByNode.get(notification.getNodeId());
+      if (lastNotification == null || notification.getCreationTime().after(lastNotification.getCreationTime())) {
+        lastNotificationByNode.put(notification.getNodeId(), new UiNotificationDo()
+            .withId(notification.getId())
+            .withNodeId(notification.getNodeId())
+            .withCreationTime(notification.getCreationTime()));
+      }
+    }
+    topic.withLastNotifications(lastNotificationByNode.values());
+  }
+
+  /**
+   * Sends a comment to keep the connection open and to detect disconnected clients.
+   */
+  public void sendHeartbeat() {
+    if (checkClosed()) {
+      return;
+    }
+    send(m_sse.newEventBuilder()
+        .comment("heartbeat")
+        .build());
+  }
+
+  protected void send(OutboundSseEvent event) {
+    try {
+      m_eventSink.send(event).whenComplete((result, throwable) -> {
+        if (throwable != null) {
+          LOG.debug("Could not send event to ui notification stream, client probably has disconnected.", throwable);
+          close();
+        }
+      });
+    }
+    catch (RuntimeException e) {
+      LOG.debug("Could not send event to ui notification stream, client probably has disconnected.", e);
+      close();
+    }
+  }
+
+  protected String createEventId() {
+    UiNotificationRequest lastKnown = new UiNotificationRequest().withTopics(m_topics.values());
+    return Base64Utility.encodeUrlSafe(BEANS.get(IDataObjectMapper.class).writeValue(lastKnown).getBytes(StandardCharsets.UTF_8));
+  }
+
+  protected List<TopicDo> parseEventId(String eventId) {
+    if (StringUtility.isNullOrEmpty(eventId)) {
+      return new ArrayList<>();
+    }
+    try {
+      String json = new String(Base64Utility.decodeUrlSafe(eventId), StandardCharsets.UTF_8);
+      return BEANS.get(IDataObjectMapper.class).readValue(json, UiNotificationRequest.class).getTopics();
+    }
+    catch (RuntimeException e) {
+      LOG.info("Ignoring invalid last event id of ui notification stream for user {}", m_userId, e);
+      return new ArrayList<>();
+    }
+  }
+
+  /**
+   * @return {@code true} if the stream is closed, also closes the stream if the client has disconnected
+   */
+  protected boolean checkClosed() {
+    if (!isClosed() && m_eventSink.isClosed()) {
+      close();
+    }
+    return isClosed();
+  }
+
+  public boolean isClosed() {
+    return m_closed.get();
+  }
+
+  public void close() {
+    if (!m_closed.compareAndSet(false, true)) {
+      return;
+    }
+    getRegistry().removeListeners(getTopicNames(), m_userId, m_listener);
+    try {
+      m_eventSink.close();
+    }
+    catch (RuntimeException e) {
+      LOG.debug("Could not close ui notification stream", e);
+    }
+    BEANS.get(UiNotificationStreamManager.class).unregister(this);
+    LOG.debug("Closed ui notification stream for topics {} and user {}", m_topics.keySet(), m_userId);
+  }
+}
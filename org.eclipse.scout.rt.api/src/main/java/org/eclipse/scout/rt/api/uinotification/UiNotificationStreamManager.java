@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.api.uinotification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.api.uinotification.UiNotificationConfigProperties.UiNotificationStreamHeartbeatIntervalProperty;
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.exception.ExceptionHandler;
+import org.eclipse.scout.rt.platform.job.FixedDelayScheduleBuilder;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps track of the open {@link UiNotificationStream}s and sends a heartbeat to them while there are any.
+ */
+@ApplicationScoped
+public class UiNotificationStreamManager {
+  private static final Logger LOG = LoggerFactory.getLogger(UiNotificationStreamManager.class);
+
+  private final Set<UiNotificationStream> m_streams = ConcurrentHashMap.newKeySet();
+  private final Object m_heartbeatJobLock = new Object();
+  private IFuture<Void> m_heartbeatJob;
+
+  public void register(UiNotificationStream stream) {
+    m_streams.add(stream);
+    LOG.debug("Registered ui notification stream. Stream count: {}", m_streams.size());
+    startHeartbeatJob();
+  }
+
+  public void unregister(UiNotificationStream stream) {
+    m_streams.remove(stream);
+    LOG.debug("Unregistered ui notification stream. Stream count: {}", m_streams.size());
+  }
+
+  public List<UiNotificationStream> getStreams() {
+    return new ArrayList<>(m_streams);
+  }
+
+  protected void startHeartbeatJob() {
+    long interval = CONFIG.getPropertyValue(UiNotificationStreamHeartbeatIntervalProperty.class);
+    if (interval <= 0) {
+      return;
+    }
+    synchronized (m_heartbeatJobLock) {
+      if (m_heartbeatJob != null) {
+        // Already started
+        return;
+      }
+      LOG.info("Starting ui notification stream heartbeat job");
+      m_heartbeatJob = Jobs.schedule(() -> {
+        getStreams().forEach(UiNotificationStream::sendHeartbeat);
+
+        synchronized (m_heartbeatJobLock) {
+          if (m_streams.isEmpty()) {
+            m_heartbeatJob.cancel(false);
+            m_heartbeatJob = null;
+            LOG.info("Ui notification stream heartbeat job stopped.");
+          }
+        }
+      }, Jobs.newInput()
+          .withName("UI notification stream heartbeat")
+          .withExceptionHandling(new ExceptionHandler() {
+            @Override
+            public void handle(Throwable t) {
+              LOG.error("Exception while running ui notification stream heartbeat job", t);
+            }
+          }, true)
+          .withExecutionTrigger(Jobs
+              .newExecutionTrigger()
+              .withStartIn(interval, TimeUnit.SECONDS)
+              .withSchedule(FixedDelayScheduleBuilder.repeatForever(interval, TimeUnit.SECONDS))));
+    }
+  }
+}
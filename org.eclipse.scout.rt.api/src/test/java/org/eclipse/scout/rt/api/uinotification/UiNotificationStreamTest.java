@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.api.uinotification;
+
+import static org.eclipse.scout.rt.api.uinotification.UiNotificationPutOptions.noTransaction;
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.ws.rs.sse.OutboundSseEvent;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseEventSink;
+
+import org.eclipse.scout.rt.api.data.uinotification.UiNotificationDo;
+import org.eclipse.scout.rt.api.data.uinotification.UiNotificationResponse;
+import org.eclipse.scout.rt.dataobject.DoEntity;
+import org.eclipse.scout.rt.dataobject.IDataObjectMapper;
+import org.eclipse.scout.rt.dataobject.IDoEntity;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class UiNotificationStreamTest {
+  private UiNotificationRegistry m_registry;
+  private SseEventSink m_eventSink;
+  private Sse m_sse;
+  private BlockingQueue<String> m_events;
+  private volatile String m_lastEventId;
+
+  @Before
+  public void before() {
+    m_registry = new UiNotificationRegistry();
+    m_registry.setCleanupJobInterval(0);
+    m_events = new LinkedBlockingQueue<>();
+
+    OutboundSseEvent.Builder eventBuilder = mock(OutboundSseEvent.Builder.class, RETURNS_SELF);
+    when(eventBuilder.id(any())).thenAnswer(invocation -> {
+      m_lastEventId = invocation.getArgument(0);
+      return eventBuilder;
+    });
+    when(eventBuilder.data(any())).thenAnswer(invocation -> {
+      m_events.add(invocation.getArgument(0));
+      return eventBuilder;
+    });
+    m_sse = mock(Sse.class);
+    when(m_sse.newEventBuilder()).thenReturn(eventBuilder);
+    m_eventSink = mock(SseEventSink.class);
+    when(m_eventSink.send(any())).thenReturn(CompletableFuture.completedFuture(null));
+  }
+
+  @Test
+  public void testStream() throws InterruptedException {
+    UiNotificationStream stream = createStream("otto", null);
+    stream.start();
+
+    // Subscription start
+    List<UiNotificationDo> notifications = nextNotifications();
+    assertEquals(1, notifications.size());
+    assertTrue(notifications.get(0).isSubscriptionStart());
+    assertEquals(UiNotificationRegistry.SUBSCRIPTION_START_ID, notifications.get(0).getId());
+
+    m_registry.put("topic", createMessage("1"), noTransaction());
+    notifications = nextNotifications();
+    assertEquals(1, notifications.size());
+    assertEquals(createMessage("1"), notifications.get(0).getMessage());
+
+    // Notification for another user is not sent
+    m_registry.put("topic", "max", createMessage("2"), noTransaction());
+    assertNull(m_events.poll(200, TimeUnit.MILLISECONDS));
+
+    stream.close();
+    assertTrue(stream.isClosed());
+    verify(m_eventSink).close();
+    assertNull(m_registry.getListeners("topic"));
+  }
+
+  @Test
+  public void testStreamResume() throws InterruptedException {
+    UiNotificationStream stream = createStream("otto", null);
+    stream.start();
+    nextNotifications(); // subscription start
+    m_registry.put("topic", createMessage("1"), noTransaction());
+    nextNotifications();
+    String lastEventId = m_lastEventId;
+    stream.close();
+
+    // Put while client is disconnected
+    m_registry.put("topic", createMessage("2"), noTransaction());
+    m_registry.put("topic", "otto", createMessage("3"), noTransaction());
+
+    UiNotificationStream resumedStream = createStream("otto", lastEventId);
+    resumedStream.start();
+    List<UiNotificationDo> notifications = nextNotifications();
+    assertEquals(2, notifications.size());
+    assertEquals(createMessage("2"), notifications.get(0).getMessage());
+    assertEquals(createMessage("3"), notifications.get(1).getMessage());
+    resumedStream.close();
+  }
+
+  @Test
+  public void testStreamInvalidLastEventId() throws InterruptedException {
+    UiNotificationStream stream = createStream("otto", "invalid");
+    stream.start();
+
+    // Starts a new subscription
+    List<UiNotificationDo> notifications = nextNotifications();
+    assertEquals(1, notifications.size());
+    assertTrue(notifications.get(0).isSubscriptionStart());
+    stream.close();
+  }
+
+  @Test
+  public void testClientDisconnected() {
+    UiNotificationStream stream = createStream("otto", null);
+    stream.start();
+    when(m_eventSink.isClosed()).thenReturn(true);
+
+    stream.sendHeartbeat();
+    assertTrue(stream.isClosed());
+    assertNull(m_registry.getListeners("topic"));
+  }
+
+  protected UiNotificationStream createStream(String userId, String lastEventId) {
+    return new UiNotificationStream(List.of("topic"), userId, lastEventId, m_eventSink, m_sse) {
+      @Override
+      protected UiNotificationRegistry getRegistry() {
+        return m_registry;
+      }
+    };
+  }
+
+  protected List<UiNotificationDo> nextNotifications() throws InterruptedException {
+    String event = m_events.poll(5, TimeUnit.SECONDS);
+    assertNotNull("event expected to be sent", event);
+    return BEANS.get(IDataObjectMapper.class).readValue(event, UiNotificationResponse.class).getNotifications();
+  }
+
+  protected IDoEntity createMessage(String value) {
+    IDoEntity message = new DoEntity();
+    message.put("dummy", value);
+    return message;
+  }
+}
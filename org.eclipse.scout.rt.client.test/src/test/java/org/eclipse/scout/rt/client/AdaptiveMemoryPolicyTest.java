@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.client;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.scout.rt.client.ClientConfigProperties.AdaptiveMemoryPolicySessionCellLimitProperty;
+import org.eclipse.scout.rt.client.context.ClientRunContexts;
+import org.eclipse.scout.rt.client.job.ModelJobs;
+import org.eclipse.scout.rt.client.testenvironment.TestEnvironmentClientSession;
+import org.eclipse.scout.rt.client.ui.basic.table.ITable;
+import org.eclipse.scout.rt.client.ui.basic.tree.ITreeNode;
+import org.eclipse.scout.rt.client.ui.desktop.IDesktop;
+import org.eclipse.scout.rt.client.ui.desktop.outline.IOutline;
+import org.eclipse.scout.rt.client.ui.desktop.outline.pages.IPage;
+import org.eclipse.scout.rt.platform.BeanMetaData;
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.platform.util.visitor.IDepthFirstTreeVisitor;
+import org.eclipse.scout.rt.testing.client.runner.ClientTestRunner;
+import org.eclipse.scout.rt.testing.client.runner.RunWithClientSession;
+import org.eclipse.scout.rt.testing.platform.BeanTestingHelper;
+import org.eclipse.scout.rt.testing.platform.job.JobTestUtil;
+import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests for {@link AdaptiveMemoryPolicy}
+ */
+@RunWith(ClientTestRunner.class)
+@RunWithSubject("default")
+@RunWithClientSession(TestEnvironmentClientSession.class)
+public class AdaptiveMemoryPolicyTest {
+
+  private P_HeapPressureMonitor m_heapPressureMonitor;
+  private List<IBean<?>> m_beans;
+  private IDesktop m_desktop;
+  private IOutline m_activeOutline;
+  private IOutline m_inactiveOutline;
+
+  @Before
+  public void before() {
+    m_heapPressureMonitor = new P_HeapPressureMonitor();
+    m_beans = BeanTestingHelper.get().registerBeans(new BeanMetaData(HeapPressureMonitor.class, m_heapPressureMonitor));
+    m_activeOutline = mock(IOutline.class);
+    m_inactiveOutline = mock(IOutline.class);
+    m_desktop = mock(IDesktop.class);
+    when(m_desktop.getOutline()).thenReturn(m_activeOutline);
+    when(m_desktop.getAvailableOutlines()).thenReturn(Arrays.asList(m_activeOutline, m_inactiveOutline));
+  }
+
+  @After
+  public void after() {
+    BeanTestingHelper.get().unregisterBeans(m_beans);
+  }
+
+  @Test
+  public void testNoPressure() {
+    new AdaptiveMemoryPolicy().afterOutlineSelectionChanged(m_desktop);
+    verify(m_desktop, never()).releaseUnusedPages();
+  }
+
+  @Test
+  public void testHeapPressure() {
+    AdaptiveMemoryPolicy policy = new AdaptiveMemoryPolicy();
+    m_heapPressureMonitor.m_underPressure = true;
+    policy.afterOutlineSelectionChanged(m_desktop);
+    // a release already pending is not scheduled again
+    policy.afterOutlineSelectionChanged(m_desktop);
+    runScheduledRelease();
+
+    verify(m_inactiveOutline).selectNode(null);
+    verify(m_activeOutline, never()).selectNode(any());
+    verify(m_desktop, times(1)).releaseUnusedPages();
+
+    // released again on the next pressure
+    policy.afterOutlineSelectionChanged(m_desktop);
+    runScheduledRelease();
+    verify(m_desktop, times(2)).releaseUnusedPages();
+
+    // pressure gone
+    m_heapPressureMonitor.m_underPressure = false;
+    policy.afterOutlineSelectionChanged(m_desktop);
+    verify(m_desktop, times(2)).releaseUnusedPages();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testSessionCellLimit() {
+    IBean<?> cellLimit = BeanTestingHelper.get().mockConfigProperty(AdaptiveMemoryPolicySessionCellLimitProperty.class, 10L);
+    try {
+      ITable table = mock(ITable.class);
+      when(table.getRowCount()).thenReturn(3);
+      when(table.getColumnCount()).thenReturn(3);
+      IPage<ITable> page = mock(IPage.class);
+      when(page.getTable(false)).thenReturn(table);
+      when(m_inactiveOutline.visitTree(any())).thenAnswer(invocation -> invocation.<IDepthFirstTreeVisitor<ITreeNode>> getArgument(0).preVisit(page, 0, 0));
+
+      // 9 cells
+      AdaptiveMemoryPolicy policy = new AdaptiveMemoryPolicy();
+      policy.afterOutlineSelectionChanged(m_desktop);
+      verify(m_desktop, never()).releaseUnusedPages();
+
+      // 12 cells
+      when(table.getColumnCount()).thenReturn(4);
+      policy.afterOutlineSelectionChanged(m_desktop);
+      runScheduledRelease();
+      verify(m_desktop).releaseUnusedPages();
+    }
+    finally {
+      BeanTestingHelper.get().unregisterBean(cellLimit);
+    }
+  }
+
+  /**
+   * Yields the model job permit to the job releasing the pages.
+   */
+  protected void runScheduledRelease() {
+    JobTestUtil.waitForMinimalPermitCompetitors(ModelJobs.newInput(ClientRunContexts.copyCurrent()).getExecutionSemaphore(), 2);
+    ModelJobs.yield();
+  }
+
+  private static class P_HeapPressureMonitor extends HeapPressureMonitor {
+    volatile boolean m_underPressure;
+
+    @Override
+    public boolean isUnderPressure() {
+      return m_underPressure;
+    }
+  }
+}
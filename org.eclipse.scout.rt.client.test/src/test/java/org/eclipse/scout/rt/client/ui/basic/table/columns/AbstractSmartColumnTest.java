@@ -9,28 +9,47 @@
  */
 package org.eclipse.scout.rt.client.ui.basic.table.columns;
 
-import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertFalse;
-import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.eclipse.scout.rt.client.context.ClientRunContexts;
+import org.eclipse.scout.rt.client.job.ModelJobs;
 import org.eclipse.scout.rt.client.testenvironment.TestEnvironmentClientSession;
 import org.eclipse.scout.rt.client.ui.basic.table.AbstractTable;
 import org.eclipse.scout.rt.client.ui.basic.table.ITableRow;
 import org.eclipse.scout.rt.client.ui.basic.table.columns.fixture.TestCodeType;
 import org.eclipse.scout.rt.client.ui.form.fields.IValueField;
 import org.eclipse.scout.rt.shared.services.common.code.ICodeType;
+import org.eclipse.scout.rt.shared.services.lookup.BatchLookupCall;
+import org.eclipse.scout.rt.shared.services.lookup.IBatchLookupService;
+import org.eclipse.scout.rt.shared.services.lookup.ILookupRow;
+import org.eclipse.scout.rt.shared.services.lookup.LookupCall;
+import org.eclipse.scout.rt.shared.services.lookup.LookupRow;
 import org.eclipse.scout.rt.testing.client.runner.ClientTestRunner;
 import org.eclipse.scout.rt.testing.client.runner.RunWithClientSession;
+import org.eclipse.scout.rt.testing.platform.job.JobTestUtil;
+import org.eclipse.scout.rt.testing.platform.mock.BeanMock;
 import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.Mockito;
 
 @RunWith(ClientTestRunner.class)
 @RunWithSubject("default")
 @RunWithClientSession(TestEnvironmentClientSession.class)
 public class AbstractSmartColumnTest {
+  private static final Map<Long, String> TEXTS = Map.of(1L, "c", 2L, "a", 3L, "b");
+
   private P_Table table = new P_Table();
 
+  @BeanMock
+  private IBatchLookupService m_batchLookupService;
+
   @Test
   public void testResetInvalidValue() {
     table.addRowsByArray(new Long[]{3L});
@@ -45,6 +64,57 @@ public class AbstractSmartColumnTest {
     assertTrue(testRow.getCell(0).isContentValid());
   }
 
+  @Test
+  public void testAsyncDisplayTexts() {
+    P_AsyncTable asyncTable = createAsyncTable();
+    asyncTable.addRowsByArray(new Long[]{1L, 2L, 3L, 1L});
+    assertNotEquals("c", asyncTable.getRow(0).getCell(0).getText());
+
+    waitForAsyncDisplayTexts();
+    assertEquals(Arrays.asList("c", "a", "b", "c"), asyncTable.getAsyncSmartColumn().getDisplayTexts());
+    // equal lookup calls are resolved once
+    Mockito.verify(m_batchLookupService).getBatchDataByKey(Mockito.argThat(call -> call.getCallBatch().size() == 3));
+  }
+
+  @Test
+  public void testAsyncDisplayTextsRowDeleted() {
+    P_AsyncTable asyncTable = createAsyncTable();
+    asyncTable.addRowsByArray(new Long[]{1L, 2L, 3L});
+    ITableRow deletedRow = asyncTable.getRow(0);
+    asyncTable.deleteRow(deletedRow);
+
+    waitForAsyncDisplayTexts();
+    assertEquals(Arrays.asList("a", "b"), asyncTable.getAsyncSmartColumn().getDisplayTexts());
+    assertNotEquals("c", deletedRow.getCell(0).getText());
+  }
+
+  @Test
+  public void testAsyncDisplayTextsSorted() {
+    P_AsyncTable asyncTable = createAsyncTable();
+    asyncTable.getColumnSet().setSortColumn(asyncTable.getAsyncSmartColumn(), true);
+    asyncTable.addRowsByArray(new Long[]{1L, 2L, 3L});
+
+    waitForAsyncDisplayTexts();
+    assertEquals(Arrays.asList(2L, 3L, 1L), asyncTable.getAsyncSmartColumn().getValues());
+  }
+
+  private P_AsyncTable createAsyncTable() {
+    Mockito.when(m_batchLookupService.getBatchDataByKey(any(BatchLookupCall.class))).thenAnswer(invocation -> invocation.<BatchLookupCall> getArgument(0).getCallBatch().stream()
+        .map(call -> Collections.<ILookupRow<?>> singletonList(new LookupRow<>(call.getKey(), TEXTS.get(call.getKey()))))
+        .collect(Collectors.toList()));
+    P_AsyncTable asyncTable = new P_AsyncTable();
+    asyncTable.getAsyncSmartColumn().setLookupCall(new P_LookupCall());
+    return asyncTable;
+  }
+
+  /**
+   * Waits until the display texts are resolved and yields the model job permit to apply them.
+   */
+  private void waitForAsyncDisplayTexts() {
+    JobTestUtil.waitForMinimalPermitCompetitors(ModelJobs.newInput(ClientRunContexts.copyCurrent()).getExecutionSemaphore(), 2);
+    ModelJobs.yield();
+  }
+
   private void parseAndSetInEditField(ITableRow testRow, String text) {
     IValueField<?> field = prepareTestEdit();
     field.parseAndSetValue(text);
@@ -75,4 +145,22 @@ public class AbstractSmartColumnTest {
     }
   }
 
+  public static class P_AsyncTable extends AbstractTable {
+
+    public AsyncSmartColumn getAsyncSmartColumn() {
+      return getColumnSet().getColumnByClass(AsyncSmartColumn.class);
+    }
+
+    public static class AsyncSmartColumn extends AbstractSmartColumn<Long> {
+
+      @Override
+      protected boolean getConfiguredAsyncDisplayTextResolution() {
+        return true;
+      }
+    }
+  }
+
+  public static class P_LookupCall extends LookupCall<Long> {
+    private static final long serialVersionUID = 1L;
+  }
 }
@@ -284,6 +284,8 @@ public abstract class AbstractClientSession extends AbstractPropertyObserver imp
         return new SmallMemoryPolicy();
       case "medium":
         return new MediumMemoryPolicy();
+      case "adaptive":
+        return new AdaptiveMemoryPolicy();
       default:
         return new LargeMemoryPolicy();
     }
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.client;
+
+import org.eclipse.scout.rt.client.ClientConfigProperties.AdaptiveMemoryPolicySessionCellLimitProperty;
+import org.eclipse.scout.rt.client.context.ClientRunContexts;
+import org.eclipse.scout.rt.client.job.ModelJobs;
+import org.eclipse.scout.rt.client.session.ClientSessionProvider;
+import org.eclipse.scout.rt.client.ui.basic.table.ITable;
+import org.eclipse.scout.rt.client.ui.basic.tree.ITreeNode;
+import org.eclipse.scout.rt.client.ui.desktop.IDesktop;
+import org.eclipse.scout.rt.client.ui.desktop.outline.IOutline;
+import org.eclipse.scout.rt.client.ui.desktop.outline.pages.IPage;
+import org.eclipse.scout.rt.client.ui.desktop.outline.pages.IPageWithTable;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.util.visitor.DepthFirstTreeVisitor;
+import org.eclipse.scout.rt.platform.util.visitor.TreeVisitResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caches search form contents and table filter settings like {@link LargeMemoryPolicy}, but releases loaded pages as
+ * soon as there is memory pressure.
+ * <p>
+ * Memory pressure is either signaled by the {@link HeapPressureMonitor} (heap still above its threshold after garbage
+ * collection) or by the estimated size of this session, which is the number of table cells held by the loaded pages of
+ * all outlines (see {@link AdaptiveMemoryPolicySessionCellLimitProperty}).
+ * <p>
+ * Under pressure the selection of inactive outlines is cleared and all pages which are neither selected nor on the path
+ * to the selected page are unloaded. This disposes their tables, detail forms and search forms. They are loaded again
+ * when the user navigates back to them.
+ */
+public class AdaptiveMemoryPolicy extends LargeMemoryPolicy {
+
+  private static final Logger LOG = LoggerFactory.getLogger(AdaptiveMemoryPolicy.class);
+
+  private final HeapPressureMonitor m_heapPressureMonitor;
+  private final long m_sessionCellLimit;
+  private boolean m_release;
+
+  public AdaptiveMemoryPolicy() {
+    m_heapPressureMonitor = BEANS.get(HeapPressureMonitor.class);
+    m_sessionCellLimit = CONFIG.getPropertyValue(AdaptiveMemoryPolicySessionCellLimitProperty.class);
+  }
+
+  @Override
+  public void afterOutlineSelectionChanged(final IDesktop desktop) {
+    if (m_release || !isUnderPressure(desktop)) {
+      return;
+    }
+    m_release = true;
+    ModelJobs.schedule(() -> releasePages(desktop), ModelJobs.newInput(ClientRunContexts.copyCurrent()).withName("Releasing unused pages"));
+  }
+
+  @Override
+  public void beforeTablePageLoadData(IPageWithTable<?> page) {
+    if (!m_release && m_heapPressureMonitor.isUnderPressure()) {
+      IDesktop desktop = ClientSessionProvider.currentSession().getDesktop();
+      if (desktop != null) {
+        releasePages(desktop);
+      }
+    }
+  }
+
+  protected boolean isUnderPressure(IDesktop desktop) {
+    return m_heapPressureMonitor.isUnderPressure() || estimateSessionCells(desktop) > m_sessionCellLimit;
+  }
+
+  /**
+   * @return the number of table cells held by the loaded pages of all outlines of the given desktop.
+   */
+  protected long estimateSessionCells(IDesktop desktop) {
+    long[] cells = new long[1];
+    for (IOutline outline : desktop.getAvailableOutlines()) {
+      outline.visitTree(new DepthFirstTreeVisitor<>() {
+        @Override
+        public TreeVisitResult preVisit(ITreeNode element, int level, int index) {
+          ITable table = ((IPage<?>) element).getTable(false);
+          if (table != null) {
+            cells[0] += (long) table.getRowCount() * table.getColumnCount();
+          }
+          return TreeVisitResult.CONTINUE;
+        }
+      });
+    }
+    return cells[0];
+  }
+
+  protected void releasePages(IDesktop desktop) {
+    try {
+      LOG.debug("Releasing unused pages due to memory pressure");
+      //make sure inactive outlines have no selection that "keeps" the pages
+      IOutline activeOutline = desktop.getOutline();
+      for (IOutline o : desktop.getAvailableOutlines()) {
+        if (o != activeOutline) {
+          o.selectNode(null);
+        }
+      }
+      desktop.releaseUnusedPages();
+    }
+    finally {
+      m_release = false;
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "Adaptive";
+  }
+}
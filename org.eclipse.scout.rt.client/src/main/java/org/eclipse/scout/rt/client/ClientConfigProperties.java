@@ -9,6 +9,7 @@
  */
 package org.eclipse.scout.rt.client;
 
+import org.eclipse.scout.rt.platform.config.AbstractPositiveIntegerConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveLongConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractStringConfigProperty;
 import org.eclipse.scout.rt.platform.exception.PlatformException;
@@ -23,10 +24,10 @@ public final class ClientConfigProperties {
 
     @Override
     protected String parse(String value) {
-      if (ObjectUtility.isOneOf(value, "small", "medium", "large")) {
+      if (ObjectUtility.isOneOf(value, "small", "medium", "large", "adaptive")) {
         return value;
       }
-      throw new PlatformException("Invalid value for property '" + getKey() + "': '" + value + "'. Valid values are small, medium or large");
+      throw new PlatformException("Invalid value for property '" + getKey() + "': '" + value + "'. Valid values are small, medium, large or adaptive");
     }
 
     @Override
@@ -36,7 +37,8 @@ public final class ClientConfigProperties {
 
     @Override
     public String description() {
-      return "Specifies how long the client keeps fetched data before it is discarded. One of 'small', 'medium' or 'large'. The default value is 'large'.";
+      return "Specifies how long the client keeps fetched data before it is discarded. One of 'small', 'medium', 'large' or 'adaptive'. The default value is 'large'.\n"
+          + "'adaptive' behaves like 'large' but releases unused pages as soon as the heap or the session is under memory pressure.";
     }
 
     @Override
@@ -45,6 +47,44 @@ public final class ClientConfigProperties {
     }
   }
 
+  public static class AdaptiveMemoryPolicyHeapThresholdProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.client.memoryPolicy.adaptive.heapThreshold";
+    }
+
+    @Override
+    public String description() {
+      return "Heap usage in percent of the maximum pool size which, if still exceeded after a garbage collection, lets the adaptive memory policy release unused pages.\n"
+          + "Only used if the memory policy is 'adaptive'. The default value is 80.";
+    }
+
+    @Override
+    public Integer getDefaultValue() {
+      return 80;
+    }
+  }
+
+  public static class AdaptiveMemoryPolicySessionCellLimitProperty extends AbstractPositiveLongConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.client.memoryPolicy.adaptive.sessionCellLimit";
+    }
+
+    @Override
+    public String description() {
+      return "Estimated memory budget of a client session, expressed as the number of table cells (rows times columns) held by loaded outline pages.\n"
+          + "If a session exceeds this limit, the adaptive memory policy releases its unused pages. Only used if the memory policy is 'adaptive'. The default value is 500000.";
+    }
+
+    @Override
+    public Long getDefaultValue() {
+      return 500_000L;
+    }
+  }
+
   public static class UserAreaProperty extends AbstractStringConfigProperty {
 
     @Override
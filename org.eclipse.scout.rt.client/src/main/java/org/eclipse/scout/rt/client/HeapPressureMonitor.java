@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.client;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import jakarta.annotation.PostConstruct;
+
+import org.eclipse.scout.rt.client.ClientConfigProperties.AdaptiveMemoryPolicyHeapThresholdProperty;
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Observes the heap pressure of the JVM by polling the collection usage of the heap memory pools.
+ * <p>
+ * The pressure is measured after garbage collection: a pool whose usage is still above
+ * {@link AdaptiveMemoryPolicyHeapThresholdProperty} percent of its maximum size once the collector has run indicates
+ * memory that is actually retained, e.g. by loaded outline pages, and not just garbage that has not been collected yet.
+ * <p>
+ * The JVM wide usage thresholds of the memory pools are neither set nor read, so other components may use them freely.
+ *
+ * @see AdaptiveMemoryPolicy
+ */
+@ApplicationScoped
+public class HeapPressureMonitor {
+
+  private static final Logger LOG = LoggerFactory.getLogger(HeapPressureMonitor.class);
+
+  private List<MemoryPoolMXBean> m_pools = Collections.emptyList();
+  private int m_thresholdPercent;
+
+  @PostConstruct
+  protected void initPools() {
+    m_thresholdPercent = CONFIG.getPropertyValue(AdaptiveMemoryPolicyHeapThresholdProperty.class);
+    List<MemoryPoolMXBean> pools = new ArrayList<>();
+    for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+      if (pool.getType() == MemoryType.HEAP && pool.isValid() && pool.isCollectionUsageThresholdSupported()) {
+        pools.add(pool);
+      }
+    }
+    LOG.debug("Observing heap pressure on memory pools {}", pools.stream().map(MemoryPoolMXBean::getName).toArray());
+    m_pools = Collections.unmodifiableList(pools);
+  }
+
+  /**
+   * @return {@code true} if the usage of at least one heap memory pool exceeded the configured share of its maximum
+   *         size after the most recent garbage collection.
+   */
+  public boolean isUnderPressure() {
+    for (MemoryPoolMXBean pool : m_pools) {
+      if (!pool.isValid()) {
+        continue;
+      }
+      MemoryUsage usage = pool.getCollectionUsage();
+      if (usage != null && usage.getMax() > 0 && usage.getUsed() > usage.getMax() * m_thresholdPercent / 100L) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
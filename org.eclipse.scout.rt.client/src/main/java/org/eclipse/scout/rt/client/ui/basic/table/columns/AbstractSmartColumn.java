@@ -12,9 +12,12 @@ package org.eclipse.scout.rt.client.ui.basic.table.columns;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.eclipse.scout.rt.client.context.ClientRunContext;
+import org.eclipse.scout.rt.client.context.ClientRunContexts;
 import org.eclipse.scout.rt.client.extension.ui.basic.table.columns.IColumnExtension;
 import org.eclipse.scout.rt.client.extension.ui.basic.table.columns.ISmartColumnExtension;
 import org.eclipse.scout.rt.client.extension.ui.basic.table.columns.SmartColumnChains.SmartColumnPrepareLookupChain;
+import org.eclipse.scout.rt.client.job.ModelJobs;
 import org.eclipse.scout.rt.client.services.lookup.ILookupCallProvisioningService;
 import org.eclipse.scout.rt.client.services.lookup.TableProvisioningContext;
 import org.eclipse.scout.rt.client.ui.action.menu.IMenu;
@@ -30,8 +33,11 @@ import org.eclipse.scout.rt.platform.annotations.ConfigProperty;
 import org.eclipse.scout.rt.platform.classid.ClassId;
 import org.eclipse.scout.rt.platform.exception.ExceptionHandler;
 import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
 import org.eclipse.scout.rt.platform.reflect.ConfigurationUtility;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
+import org.eclipse.scout.rt.platform.util.ObjectUtility;
 import org.eclipse.scout.rt.platform.util.StringUtility;
 import org.eclipse.scout.rt.platform.util.TypeCastUtility;
 import org.eclipse.scout.rt.platform.util.collection.OrderedCollection;
@@ -39,6 +45,7 @@ import org.eclipse.scout.rt.shared.extension.ContributionComposite;
 import org.eclipse.scout.rt.shared.extension.IContributionOwner;
 import org.eclipse.scout.rt.shared.services.common.code.ICodeType;
 import org.eclipse.scout.rt.shared.services.lookup.BatchLookupCall;
+import org.eclipse.scout.rt.shared.services.lookup.BatchLookupNormalizer;
 import org.eclipse.scout.rt.shared.services.lookup.BatchLookupResultCache;
 import org.eclipse.scout.rt.shared.services.lookup.CodeLookupCall;
 import org.eclipse.scout.rt.shared.services.lookup.IBatchLookupService;
@@ -55,6 +62,7 @@ public abstract class AbstractSmartColumn<VALUE> extends AbstractColumn<VALUE> i
   private ILookupCall<VALUE> m_lookupCall;
 
   private boolean m_sortCodesByDisplayText;
+  private boolean m_asyncDisplayTextResolution;
   private IContributionOwner m_contributionHolder;
 
   public AbstractSmartColumn() {
@@ -132,6 +140,22 @@ public abstract class AbstractSmartColumn<VALUE> extends AbstractColumn<VALUE> i
     return null;
   }
 
+  /**
+   * Configures whether the display texts of this column are resolved asynchronously. If {@code true}, rows are shown
+   * immediately and the display texts of remote lookup calls are fetched in deduplicated batches in a background job.
+   * The cells are updated once the results arrive. Local lookup calls (e.g. code types) are always resolved
+   * synchronously.
+   * <p>
+   * Subclasses can override this method. Default is {@code false}.
+   *
+   * @return {@code true} if display texts are resolved asynchronously, {@code false} otherwise.
+   */
+  @ConfigProperty(ConfigProperty.BOOLEAN)
+  @Order(175)
+  protected boolean getConfiguredAsyncDisplayTextResolution() {
+    return false;
+  }
+
   @ConfigOperation
   @Order(160)
   protected void execPrepareLookup(ILookupCall<VALUE> call, ITableRow row) {
@@ -215,6 +239,7 @@ public abstract class AbstractSmartColumn<VALUE> extends AbstractColumn<VALUE> i
     super.initConfig();
     m_contributionHolder = new ContributionComposite(this);
     setSortCodesByDisplayText(getConfiguredSortCodesByDisplayText());
+    setAsyncDisplayTextResolution(getConfiguredAsyncDisplayTextResolution());
 
     // code type
     if (getConfiguredCodeType() != null) {
@@ -312,7 +337,10 @@ public abstract class AbstractSmartColumn<VALUE> extends AbstractColumn<VALUE> i
         }
 
         //
-        if (!batchCall.isEmpty()) {
+        if (!batchCall.isEmpty() && isAsyncDisplayTextResolution() && ModelJobs.isModelThread()) {
+          resolveDisplayTextsInBackground(batchRowList, batchCall.getCallBatch());
+        }
+        else if (!batchCall.isEmpty()) {
           ITableRow[] tableRows = batchRowList.toArray(new ITableRow[0]);
           IBatchLookupService service = BEANS.get(IBatchLookupService.class);
           List<List<ILookupRow<?>>> resultArray = service.getBatchDataByKey(batchCall);
@@ -328,6 +356,57 @@ public abstract class AbstractSmartColumn<VALUE> extends AbstractColumn<VALUE> i
     }
   }
 
+  /**
+   * Resolves the display texts of the given rows in a background job. Equal lookup calls are sent only once. The
+   * results are applied in a model job, rows whose value changed in the meantime or which are no longer part of the
+   * table are skipped. Lookup failures are passed to the {@link ExceptionHandler}.
+   */
+  protected IFuture<Void> resolveDisplayTextsInBackground(final List<ITableRow> rows, final List<ILookupCall<?>> calls) {
+    final BatchLookupNormalizer normalizer = new BatchLookupNormalizer();
+    final List<ILookupCall<?>> normalizedCalls = normalizer.normalizeCalls(calls);
+    final ClientRunContext runContext = ClientRunContexts.copyCurrent();
+    return Jobs.schedule(() -> {
+      List<List<ILookupRow<?>>> results;
+      try {
+        results = normalizer.denormalizeResults(BEANS.get(IBatchLookupService.class).getBatchDataByKey(new BatchLookupCall(normalizedCalls)));
+      }
+      catch (RuntimeException e) {
+        BEANS.get(ExceptionHandler.class).handle(e);
+        return;
+      }
+      if (runContext.getRunMonitor().isCancelled()) {
+        return;
+      }
+      ModelJobs.schedule(() -> applyLookupResultsAsync(rows, calls, results), ModelJobs.newInput(runContext.copy())
+          .withName("Applying display texts [column={}]", getClass().getName()));
+    }, Jobs.newInput()
+        .withRunContext(runContext.copy())
+        .withName("Resolving display texts [column={}, calls={}]", getClass().getName(), normalizedCalls.size()));
+  }
+
+  protected void applyLookupResultsAsync(List<ITableRow> rows, List<ILookupCall<?>> calls, List<List<ILookupRow<?>>> results) {
+    if (getTable() == null) {
+      return;
+    }
+    List<ITableRow> updatedRows = new ArrayList<>(rows.size());
+    for (int i = 0; i < rows.size(); i++) {
+      ITableRow row = rows.get(i);
+      if (row.getTable() != getTable() || !ObjectUtility.equals(getValueInternal(row), calls.get(i).getKey())) {
+        continue;
+      }
+      applyLookupResult(row, results.get(i));
+      updatedRows.add(row);
+    }
+    if (!updatedRows.isEmpty()) {
+      // rows updated events are buffered and coalesced by the table event buffer
+      getTable().updateRows(updatedRows);
+      // display texts are no values, updateRows does not restore the sort order
+      if (isSortActive() && getTable().isSortEnabled()) {
+        getTable().sort();
+      }
+    }
+  }
+
   @Override
   public void updateDisplayText(ITableRow row, VALUE value) {
     ILookupCall<?> call = prepareLookupCall(row, value);
@@ -407,6 +486,16 @@ public abstract class AbstractSmartColumn<VALUE> extends AbstractColumn<VALUE> i
     f.setBrowseLoadIncremental(getConfiguredBrowseLoadIncremental());
   }
 
+  @Override
+  public boolean isAsyncDisplayTextResolution() {
+    return m_asyncDisplayTextResolution;
+  }
+
+  @Override
+  public void setAsyncDisplayTextResolution(boolean b) {
+    m_asyncDisplayTextResolution = b;
+  }
+
   @Override
   public boolean isSortCodesByDisplayText() {
     return m_sortCodesByDisplayText;
@@ -46,4 +46,16 @@ public interface ISmartColumn<VALUE> extends IColumn<VALUE> {
 
   ILookupCall<VALUE> prepareLookupCall(ITableRow row);
 
+  /**
+   * see {@link #setAsyncDisplayTextResolution(boolean)}
+   */
+  boolean isAsyncDisplayTextResolution();
+
+  /**
+   * If {@code true}, display texts of remote lookup calls are resolved in a background job. Rows are shown
+   * immediately and their texts are patched in by a rows updated event once the batch lookup returns. Local lookup
+   * calls (e.g. code types) are always resolved synchronously.
+   */
+  void setAsyncDisplayTextResolution(boolean b);
+
 }
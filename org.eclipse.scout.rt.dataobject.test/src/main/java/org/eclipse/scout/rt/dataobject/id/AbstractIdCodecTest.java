@@ -12,12 +12,15 @@ package org.eclipse.scout.rt.dataobject.id;
 import static org.junit.Assert.*;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.scout.rt.dataobject.fixture.FixtureCompositeId;
 import org.eclipse.scout.rt.dataobject.fixture.FixtureIntegerId;
@@ -678,6 +681,72 @@ public abstract class AbstractIdCodecTest {
     assertThrows(AssertionException.class, () -> getCodec().registerRawTypeMapper(String.class, x -> x, null));
   }
 
+  @Test
+  public void testToQualifiedCacheInvalidatedByTypeMapper() {
+    FixtureCustomComparableRawDataId id = IIds.create(FixtureCustomComparableRawDataId.class, new CustomComparableRawDataType(100));
+    try {
+      getCodec().registerRawTypeMapper(CustomComparableRawDataType.class, CustomComparableRawDataType::of, CustomComparableRawDataType::toString);
+      assertEquals("scout.FixtureCustomComparableRawDataId:100", getCodec().toQualified(id));
+      assertEquals(id, getCodec().fromQualified("scout.FixtureCustomComparableRawDataId:100"));
+    }
+    finally {
+      getCodec().unregisterRawTypeMapper(CustomComparableRawDataType.class);
+    }
+    // cached conversions must not outlive the type mapper
+    assertThrows(IdCodecException.class, () -> getCodec().toQualified(id));
+    assertThrows(IdCodecException.class, () -> getCodec().fromQualified("scout.FixtureCustomComparableRawDataId:100"));
+  }
+
+  @Test
+  public void testToQualifiedAll() {
+    FixtureUuId id1 = FixtureUuId.of(TEST_UUID);
+    FixtureStringId id2 = FixtureStringId.of(TEST_STRING);
+    List<String> qualified = getCodec().toQualifiedAll(Arrays.asList(id1, null, id2, id1));
+    assertEquals(Arrays.asList("scout.FixtureUuId:" + TEST_UUID, null, "scout.FixtureStringId:" + TEST_STRING, "scout.FixtureUuId:" + TEST_UUID), qualified);
+    assertEquals(Arrays.asList(id1, null, id2, id1), getCodec().fromQualifiedAll(qualified));
+
+    assertTrue(getCodec().toQualifiedAll(null).isEmpty());
+    assertTrue(getCodec().fromQualifiedAll(null).isEmpty());
+  }
+
+  @Test
+  public void testQualifiedAllSignature() {
+    var ids = new HashSet<IId>();
+    collectSignatureIds(ids);
+    List<IId> idList = List.copyOf(ids);
+    List<String> serialized = getCodec().toQualifiedAll(idList, IdCodecFlag.SIGNATURE);
+    List<IId> deserialized = getCodec().fromQualifiedAll(serialized, IdCodecFlag.SIGNATURE);
+    for (int i = 0; i < idList.size(); i++) {
+      assertEquals(getCodec().toQualified(idList.get(i), IdCodecFlag.SIGNATURE), serialized.get(i));
+      assertQualifiedSignature(idList.get(i), serialized.get(i), deserialized.get(i));
+    }
+  }
+
+  @Test
+  public void testQualifiedSignatureCustomPassword() {
+    AtomicReference<String> password = new AtomicReference<>("a");
+    IdCodec codec = new IdCodec() {
+      @Override
+      protected byte[] getIdSignaturePassword() {
+        return password.get().getBytes(StandardCharsets.UTF_8);
+      }
+    };
+    codec.initialize();
+    assertFalse(codec.isDefaultSignature());
+    assertTrue(new IdCodec().isDefaultSignature());
+
+    FixtureUuId id = FixtureUuId.of(TEST_UUID);
+    String signedWithA = codec.toQualified(id, IdCodecFlag.SIGNATURE);
+    assertEquals(id, codec.fromQualified(signedWithA, IdCodecFlag.SIGNATURE));
+
+    // signatures depending on an overridden password must not be cached
+    password.set("b");
+    String signedWithB = codec.toQualified(id, IdCodecFlag.SIGNATURE);
+    assertNotEquals(signedWithA, signedWithB);
+    assertThrows(IdCodecException.class, () -> codec.fromQualified(signedWithA, IdCodecFlag.SIGNATURE));
+    assertEquals(id, codec.fromQualified(signedWithB, IdCodecFlag.SIGNATURE));
+  }
+
   @Test
   public void testQualifiedSignature() {
     var ids = new HashSet<IId>();
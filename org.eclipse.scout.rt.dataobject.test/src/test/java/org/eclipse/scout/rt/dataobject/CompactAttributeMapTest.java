@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.dataobject;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Various low-level tests for {@link CompactAttributeMap}
+ */
+@RunWith(PlatformTestRunner.class)
+public class CompactAttributeMapTest {
+
+  private static final DoEntityAttributeLayout LAYOUT = new DoEntityAttributeLayout(Arrays.asList("a", "b", "c"));
+
+  @Test
+  public void testPutGetRemove() {
+    CompactAttributeMap map = new CompactAttributeMap(LAYOUT);
+    assertTrue(map.isEmpty());
+    assertNull(map.get("a"));
+    assertNull(map.remove("a"));
+
+    DoValue<String> a = DoValue.of("a");
+    DoValue<String> b = DoValue.of("b");
+    assertNull(map.put("a", a));
+    assertNull(map.put("b", b));
+    assertEquals(2, map.size());
+    assertSame(a, map.get("a"));
+    assertSame(a, map.get(new String("a"))); // equal but not identical key
+    assertTrue(map.containsKey("b"));
+    assertFalse(map.containsKey("c"));
+    assertFalse(map.containsKey("d"));
+    assertFalse(map.containsKey(null));
+    assertNull(map.get(null));
+
+    DoValue<String> a2 = DoValue.of("a2");
+    assertSame(a, map.put("a", a2));
+    assertSame(a2, map.get("a"));
+    assertEquals(2, map.size());
+
+    assertSame(a2, map.remove("a"));
+    assertNull(map.remove("a"));
+    assertEquals(1, map.size());
+    assertSame(b, map.get("b"));
+
+    map.clear();
+    assertTrue(map.isEmpty());
+    assertNull(map.get("b"));
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void testPutNullKey() {
+    new CompactAttributeMap(LAYOUT).put(null, DoValue.of("a"));
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void testPutNullValue() {
+    new CompactAttributeMap(LAYOUT).put("a", null);
+  }
+
+  @Test
+  public void testInsertionOrder() {
+    List<String> names = new ArrayList<>();
+    for (int i = 1; i <= 20; i++) {
+      names.add("attr" + i);
+    }
+    CompactAttributeMap map = new CompactAttributeMap(new DoEntityAttributeLayout(names));
+    Map<String, DoNode<?>> expected = new LinkedHashMap<>();
+    for (int i = 20; i > 0; i--) {
+      DoValue<Integer> node = DoValue.of(i);
+      map.put("attr" + i, node);
+      expected.put("attr" + i, node);
+    }
+    assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(map.keySet()));
+    assertEquals(expected, map);
+    assertEquals(map, expected);
+    assertEquals(expected.hashCode(), map.hashCode());
+
+    map.remove("attr10");
+    expected.remove("attr10");
+    assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(map.keySet()));
+
+    // removed attribute is appended when put again
+    DoValue<Integer> node = DoValue.of(10);
+    map.put("attr10", node);
+    expected.put("attr10", node);
+    assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(map.keySet()));
+    assertEquals(expected, map);
+  }
+
+  @Test
+  public void testIteratorRemove() {
+    CompactAttributeMap map = new CompactAttributeMap(LAYOUT);
+    map.put("a", DoValue.of("a"));
+    map.put("b", DoValue.of("b"));
+    map.put("c", DoValue.of("c"));
+
+    Iterator<Entry<String, DoNode<?>>> it = map.entrySet().iterator();
+    while (it.hasNext()) {
+      if ("b".equals(it.next().getKey())) {
+        it.remove();
+      }
+    }
+    assertEquals(Arrays.asList("a", "c"), new ArrayList<>(map.keySet()));
+    assertFalse(map.containsKey("b"));
+
+    assertTrue(map.values().removeIf(node -> "a".equals(node.get())));
+    assertEquals(Arrays.asList("c"), new ArrayList<>(map.keySet()));
+  }
+
+  @Test
+  public void testEntrySetValue() {
+    CompactAttributeMap map = new CompactAttributeMap(LAYOUT);
+    map.put("a", DoValue.of("a"));
+    map.put("b", DoValue.of("b"));
+
+    DoValue<String> b2 = DoValue.of("b2");
+    for (Entry<String, DoNode<?>> entry : map.entrySet()) {
+      if ("b".equals(entry.getKey())) {
+        assertEquals("b", entry.setValue(b2).get());
+        assertSame(b2, entry.getValue());
+      }
+    }
+    assertSame(b2, map.get("b"));
+    assertEquals(Arrays.asList("a", "b"), new ArrayList<>(map.keySet()));
+  }
+
+  @Test
+  public void testUndeclaredAttribute() {
+    CompactAttributeMap map = new CompactAttributeMap(LAYOUT);
+    Map<String, DoNode<?>> expected = new LinkedHashMap<>();
+    for (String name : Arrays.asList("b", "a", "undeclared", "c")) {
+      DoValue<String> node = DoValue.of(name);
+      assertNull(map.put(name, node));
+      expected.put(name, node);
+    }
+    assertEquals(expected.size(), map.size());
+    assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(map.keySet()));
+    assertSame(expected.get("undeclared"), map.get("undeclared"));
+    assertEquals(expected, map);
+
+    assertSame(expected.remove("a"), map.remove("a"));
+    assertFalse(map.containsKey("a"));
+    assertEquals(expected, map);
+
+    DoValue<String> replaced = DoValue.of("x");
+    map.entrySet().iterator().next().setValue(replaced);
+    assertSame(replaced, map.get("b"));
+
+    map.clear();
+    assertTrue(map.isEmpty());
+    map.put("a", DoValue.of("a"));
+    assertEquals(Arrays.asList("a"), new ArrayList<>(map.keySet()));
+  }
+
+  @Test(expected = ConcurrentModificationException.class)
+  public void testConcurrentModification() {
+    CompactAttributeMap map = new CompactAttributeMap(LAYOUT);
+    map.put("a", DoValue.of("a"));
+    for (String key : map.keySet()) {
+      map.put(key.equals("a") ? "b" : "c", DoValue.of("x"));
+    }
+  }
+
+  @Test(expected = ConcurrentModificationException.class)
+  public void testConcurrentModificationOnLastElement() {
+    CompactAttributeMap map = new CompactAttributeMap(LAYOUT);
+    map.put("a", DoValue.of("a"));
+    map.put("b", DoValue.of("b"));
+    for (String key : map.keySet()) {
+      if ("b".equals(key)) {
+        map.remove("a"); // iteration must not silently end
+      }
+    }
+  }
+
+  @Test
+  public void testConcurrentSwitchToHashMap() {
+    CompactAttributeMap map = new CompactAttributeMap(LAYOUT);
+    map.put("a", DoValue.of("a"));
+    map.put("b", DoValue.of("b"));
+    Iterator<String> it = map.keySet().iterator();
+    assertEquals("a", it.next());
+    map.put("undeclared", DoValue.of("x"));
+    assertTrue(it.hasNext());
+    assertThrows(ConcurrentModificationException.class, it::next);
+  }
+
+  @Test
+  public void testTypedEntity() throws Exception {
+    assertTrue(getAttributesMap(new FixtureLegacyEntity()) instanceof LinkedHashMap);
+    assertTrue(getAttributesMap(new DoEntity()) instanceof LinkedHashMap);
+    assertTrue(getAttributesMap(new FixtureCompactEntity()) instanceof CompactAttributeMap);
+
+    // layout is shared per class
+    DoEntityAttributeLayout layout = BEANS.get(DataObjectInventory.class).getAttributeLayout(FixtureCompactEntity.class);
+    assertSame(layout, BEANS.get(DataObjectInventory.class).getAttributeLayout(FixtureCompactEntity.class));
+    assertEquals(2, layout.size());
+    assertTrue(layout.indexOf("name") >= 0);
+    assertTrue(layout.indexOf("items") >= 0);
+
+    FixtureCompactEntity compact = new FixtureCompactEntity().withItems("x", "y").withName("lorem");
+    FixtureLegacyEntity legacy = new FixtureLegacyEntity().withItems("x", "y").withName("lorem");
+    assertEquals(new ArrayList<>(legacy.allNodes().keySet()), new ArrayList<>(compact.allNodes().keySet()));
+    assertEquals(legacy.allNodes(), compact.allNodes());
+    assertEquals(legacy.all(), compact.all());
+
+    FixtureCompactEntity compact2 = new FixtureCompactEntity().withName("lorem").withItems("x", "y");
+    assertEquals(compact, compact2);
+    assertEquals(compact.hashCode(), compact2.hashCode());
+
+    assertSame(compact.name(), compact.getNode("name"));
+    compact.name().set("ipsum");
+    assertEquals("ipsum", compact.getString("name"));
+
+    // undeclared attributes are still supported
+    compact.put("undeclared", 42);
+    assertEquals(42, compact.get("undeclared"));
+    assertEquals(Arrays.asList("items", "name", "undeclared"), new ArrayList<>(compact.allNodes().keySet()));
+    assertTrue(compact.remove("items"));
+    assertEquals(Arrays.asList("name", "undeclared"), new ArrayList<>(compact.allNodes().keySet()));
+  }
+
+  private Map<?, ?> getAttributesMap(DoEntity entity) throws Exception {
+    Field f = DoEntity.class.getDeclaredField("m_attributes");
+    f.setAccessible(true);
+    return (Map<?, ?>) f.get(entity);
+  }
+
+  public static class FixtureLegacyEntity extends DoEntity {
+
+    public DoValue<String> name() {
+      return doValue("name");
+    }
+
+    public DoList<String> items() {
+      return doList("items");
+    }
+
+    public FixtureLegacyEntity withName(String name) {
+      name().set(name);
+      return this;
+    }
+
+    public FixtureLegacyEntity withItems(String... items) {
+      items().updateAll(Arrays.asList(items));
+      return this;
+    }
+  }
+
+  @CompactAttributes
+  public static class FixtureCompactEntity extends DoEntity {
+
+    public DoValue<String> name() {
+      return doValue("name");
+    }
+
+    public DoList<String> items() {
+      return doList("items");
+    }
+
+    public FixtureCompactEntity withName(String name) {
+      name().set(name);
+      return this;
+    }
+
+    public FixtureCompactEntity withItems(String... items) {
+      items().updateAll(Arrays.asList(items));
+      return this;
+    }
+  }
+}
@@ -246,6 +246,26 @@ public class DataObjectInventoryTest {
     assertEquals("otherEntitiesMap", attributesDescription.get("otherEntitiesMap").getName());
   }
 
+  @Test
+  public void testPreloadAttributeDescriptions() {
+    assertEquals(5, m_inventory.getAttributesDescription(EntityFixtureDo.class).size()); // already loaded, not counted by preload
+    int count = m_inventory.preloadAttributeDescriptions();
+    assertTrue(count > 0);
+    assertEquals(0, m_inventory.preloadAttributeDescriptions());
+    assertEquals(5, m_inventory.getAttributesDescription(EntityFixtureDo.class).size());
+  }
+
+  @Test
+  public void testGetSkippableAttributes() {
+    assertEquals(Collections.singleton("id"), m_inventory.getSkippableAttributes(EntityFixtureDo.class, IDoEntity.class).keySet());
+    assertEquals(Collections.emptySet(), m_inventory.getSkippableAttributes(EntityFixtureDo.class, String.class).keySet());
+    assertEquals(CollectionUtility.hashSet("id", "active", "items"), m_inventory.getSkippableAttributes(OtherEntityFixtureDo.class, IId.class).keySet());
+    assertEquals(Collections.singleton("active"), m_inventory.getSkippableAttributes(OtherEntityFixtureDo.class, CharSequence.class).keySet());
+    assertEquals(Collections.emptySet(), m_inventory.getSkippableAttributes(OtherEntityFixtureDo.class, Object.class).keySet());
+    assertEquals(Collections.emptySet(), m_inventory.getSkippableAttributes(DoEntity.class, IId.class).keySet());
+    assertEquals(Boolean.class, m_inventory.getSkippableAttributes(OtherEntityFixtureDo.class, CharSequence.class).get("active"));
+  }
+
   /**
    * Tests that data object inventory contains proper information for all variations of nodes regarding generics.
    */
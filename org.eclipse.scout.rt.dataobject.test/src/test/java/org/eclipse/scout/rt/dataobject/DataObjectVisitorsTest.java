@@ -142,6 +142,25 @@ public class DataObjectVisitorsTest {
     assertEquals(16, visitedStrings.size()); // 2 map keys, 9 from regular entities, 5 from contributions
   }
 
+  /**
+   * Attributes which are skippable by their declaration are visited if their actual value does not match the declared
+   * type (e.g. put as raw value or read by a lenient data object mapper).
+   */
+  @Test
+  public void testForEachRec_UndeclaredValueType() {
+    OtherEntityFixtureDo entity = BEANS.get(OtherEntityFixtureDo.class).withId("id");
+    entity.put("active", "not a boolean"); // declared as DoValue<Boolean>
+    entity.putList("items", Arrays.asList("a", 1)); // declared as DoList<String>
+
+    List<CharSequence> visitedStrings = new ArrayList<>();
+    DataObjectVisitors.forEachRec(entity, CharSequence.class, visitedStrings::add);
+    assertEquals(Arrays.asList("id", "not a boolean", "a"), visitedStrings);
+
+    List<Integer> visitedIntegers = new ArrayList<>();
+    DataObjectVisitors.forEachRec(entity, Integer.class, visitedIntegers::add);
+    assertEquals(Arrays.asList(1), visitedIntegers);
+  }
+
   @Test
   public void testForEachRec_List() {
     DoList<OtherEntityFixtureDo> list = new DoList<>();
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.dataobject;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import org.eclipse.scout.rt.platform.Platform;
+
+/**
+ * Memory benchmark comparing the retained heap of data objects using {@link CompactAttributes} with the default hash
+ * based attribute map. Not run as part of the test suite, start {@link #main(String[])} manually (e.g. with
+ * {@code -Xmx2g}).
+ */
+public final class DoEntityMemoryUsage {
+
+  private static final int ENTITIES = 200_000;
+
+  private DoEntityMemoryUsage() {
+  }
+
+  public static void main(String[] args) {
+    Platform.get(); // starts the platform, required by the data object inventory
+    // warm up class loading and the shared attribute layout
+    measure(LegacyFixtureDo::new, 1000);
+    measure(CompactFixtureDo::new, 1000);
+
+    long legacy = measure(LegacyFixtureDo::new, ENTITIES);
+    long compact = measure(CompactFixtureDo::new, ENTITIES);
+    System.out.println("entities=" + ENTITIES);
+    System.out.println("LinkedHashMap      bytes/entity=" + legacy / ENTITIES);
+    System.out.println("@CompactAttributes bytes/entity=" + compact / ENTITIES);
+    System.out.println("saved              bytes/entity=" + (legacy - compact) / ENTITIES);
+    System.exit(0);
+  }
+
+  /**
+   * @return heap in bytes retained by {@code count} entities created by {@code factory}
+   */
+  private static long measure(Supplier<? extends AbstractFixtureDo> factory, int count) {
+    AbstractFixtureDo[] entities = new AbstractFixtureDo[count];
+    long used0 = usedMemory();
+    for (int i = 0; i < count; i++) {
+      entities[i] = factory.get().fill(i);
+    }
+    long used1 = usedMemory();
+    if (entities[count - 1] == null) {
+      throw new IllegalStateException(); // keep entities reachable
+    }
+    return used1 - used0;
+  }
+
+  private static long usedMemory() {
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    Runtime runtime = Runtime.getRuntime();
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+
+  public abstract static class AbstractFixtureDo extends DoEntity {
+
+    public DoValue<Long> id() {
+      return doValue("id");
+    }
+
+    public DoValue<String> name() {
+      return doValue("name");
+    }
+
+    public DoValue<Boolean> active() {
+      return doValue("active");
+    }
+
+    public DoValue<Integer> version() {
+      return doValue("version");
+    }
+
+    public DoValue<String> comment() {
+      return doValue("comment");
+    }
+
+    public DoList<String> tags() {
+      return doList("tags");
+    }
+
+    AbstractFixtureDo fill(int i) {
+      // values are shared so that only the attribute representation is measured
+      id().set(Long.valueOf(i & 0xff));
+      name().set("name");
+      active().set(Boolean.TRUE);
+      version().set(Integer.valueOf(i & 0xff));
+      comment().set(null);
+      tags().updateAll(Arrays.asList("a", "b"));
+      return this;
+    }
+  }
+
+  public static class LegacyFixtureDo extends AbstractFixtureDo {
+  }
+
+  @CompactAttributes
+  public static class CompactFixtureDo extends AbstractFixtureDo {
+  }
+}
@@ -15,8 +15,11 @@ import static org.junit.Assert.*;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.eclipse.scout.rt.dataobject.DataObjectHelper;
 import org.eclipse.scout.rt.dataobject.DoEntityBuilder;
@@ -52,6 +55,7 @@ import org.eclipse.scout.rt.dataobject.migration.fixture.house.RoomTypesCollecti
 import org.eclipse.scout.rt.dataobject.migration.fixture.house.RoomTypesFixture;
 import org.eclipse.scout.rt.dataobject.migration.fixture.version.AlfaFixtureTypeVersions.AlfaFixture_3;
 import org.eclipse.scout.rt.dataobject.migration.fixture.version.CharlieFixtureTypeVersions.CharlieFixture_2;
+import org.eclipse.scout.rt.dataobject.migration.fixture.version.CharlieFixtureTypeVersions.CharlieFixture_3;
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.BeanMetaData;
 import org.eclipse.scout.rt.platform.IBean;
@@ -62,6 +66,7 @@ import org.eclipse.scout.rt.testing.platform.BeanTestingHelper;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.mockito.Mockito;
 
 /**
  * Tests for {@link DataObjectMigrator}, with focus on data object value migrations ({@link IDoValueMigrationHandler}).
@@ -630,4 +635,102 @@ public class DataObjectMigratorValueMigrationTest {
     assertTrue(result.getDataObject().getId() instanceof HouseTypeFixtureStringId);
     assertEquals(HouseTypesFixture.DETACHED_HOUSE, result.getDataObject().getId());
   }
+
+  /**
+   * Tests bulk migration with structure and value migrations, results are equal to the ones of single migrations.
+   */
+  @Test
+  public void testBulkMigration() {
+    List<Integer> sources = IntStream.range(0, 25).boxed().collect(Collectors.toList());
+    DataObjectMigrationContext ctx = BEANS.get(DataObjectMigrationContext.class)
+        .putGlobal(BEANS.get(DoValueMigrationIdsContextData.class)
+            .withAppliedValueMigrationIds(CollectionUtility.hashSet(PetFixtureAlwaysAcceptDoValueMigrationHandler_3.ID, RoomSizeFixtureDoValueMigrationHandler_2.ID)));
+
+    Map<Integer, DataObjectMigratorResult<HouseFixtureDo>> results = Collections.synchronizedMap(new HashMap<>());
+    s_migrator.migrateDataObjects(ctx, sources.iterator(), this::createBulkHouse, HouseFixtureDo.class, (batch, batchResults) -> {
+      assertEquals(batch.size(), batchResults.size());
+      for (int i = 0; i < batch.size(); i++) {
+        results.put(batch.get(i), batchResults.get(i));
+      }
+    });
+
+    assertEquals(sources.size(), results.size());
+    int expectedChangedCount = 0;
+    for (Integer source : sources) {
+      DataObjectMigratorResult<HouseFixtureDo> expected = s_migrator.migrateDataObject(s_migrationContext, createBulkHouse(source), HouseFixtureDo.class);
+      assertEquals(expected.isChanged(), results.get(source).isChanged());
+      assertEqualsWithComparisonFailure(expected.getDataObject(), results.get(source).getDataObject());
+      expectedChangedCount += expected.isChanged() ? 1 : 0;
+    }
+    assertEquals(sources.size(), ctx.getStats().getDataObjectsProcessedCount());
+    assertEquals(expectedChangedCount, ctx.getStats().getDataObjectsChangedCount());
+    assertEquals(0, ctx.getStats().getDataObjectsUpToDateCount()); // value migrations are applied to all data objects
+  }
+
+  /**
+   * Tests bulk migration without value migrations, up-to-date data objects are not migrated.
+   */
+  @Test
+  public void testBulkMigrationUpToDate() {
+    List<Integer> sources = IntStream.range(0, 25).boxed().collect(Collectors.toList());
+    DataObjectMigrationContext ctx = BEANS.get(DataObjectMigrationContext.class); // no value migrations
+
+    List<HouseFixtureDo> unchanged = Collections.synchronizedList(new ArrayList<>());
+    s_migrator.migrateDataObjects(ctx, sources.iterator(), this::createBulkHouse, HouseFixtureDo.class, (batch, batchResults) -> batchResults.stream()
+        .filter(result -> !result.isChanged())
+        .map(DataObjectMigratorResult::getDataObject)
+        .forEach(unchanged::add));
+
+    assertEquals(12, unchanged.size());
+    unchanged.forEach(house -> assertTrue(house.getName().startsWith("house ")));
+    assertEquals(sources.size(), ctx.getStats().getDataObjectsProcessedCount());
+    assertEquals(13, ctx.getStats().getDataObjectsChangedCount());
+    assertEquals(12, ctx.getStats().getDataObjectsUpToDateCount());
+  }
+
+  /**
+   * Tests bulk migration of up-to-date data objects which already are of the value type, they are returned as they are.
+   */
+  @Test
+  public void testBulkMigrationUpToDateSameInstance() {
+    IDoEntity house = createBulkHouse(1); // CharlieFixture_3, up-to-date
+    List<DataObjectMigratorResult<IDoEntity>> results = Collections.synchronizedList(new ArrayList<>());
+    s_migrator.migrateDataObjects(BEANS.get(DataObjectMigrationContext.class), List.of(house).iterator(), source -> source, IDoEntity.class, (batch, batchResults) -> results.addAll(batchResults));
+
+    assertEquals(1, results.size());
+    assertFalse(results.get(0).isChanged());
+    assertSame(house, results.get(0).getDataObject());
+  }
+
+  /**
+   * Tests bulk migration using the value migration handlers of an inventory overriding
+   * {@link DataObjectMigrationInventory#getValueMigrationHandlers()}.
+   */
+  @Test
+  public void testBulkMigrationOverriddenValueMigrationHandlers() {
+    DataObjectMigrationInventory inventory = Mockito.spy(BEANS.get(DataObjectMigrationInventory.class));
+    Mockito.doReturn(Collections.emptyList()).when(inventory).getValueMigrationHandlers();
+    IBean<?> inventoryBean = BEANS.get(BeanTestingHelper.class).registerBean(new BeanMetaData(TestDataObjectMigrationInventory.class, inventory).withReplace(true).withOrder(BeanTestingHelper.TESTING_BEAN_ORDER - 1));
+    try {
+      DataObjectMigrationContext ctx = BEANS.get(DataObjectMigrationContext.class)
+          .putGlobal(BEANS.get(DoValueMigrationIdsContextData.class)
+              .withAppliedValueMigrationIds(CollectionUtility.hashSet(PetFixtureAlwaysAcceptDoValueMigrationHandler_3.ID, RoomSizeFixtureDoValueMigrationHandler_2.ID)));
+      s_migrator.migrateDataObjects(ctx, IntStream.range(0, 25).boxed().iterator(), this::createBulkHouse, HouseFixtureDo.class, (batch, batchResults) -> {
+      });
+
+      // no value migrations -> up-to-date data objects are not migrated
+      assertEquals(12, ctx.getStats().getDataObjectsUpToDateCount());
+    }
+    finally {
+      BEANS.get(BeanTestingHelper.class).unregisterBean(inventoryBean);
+    }
+  }
+
+  protected IDoEntity createBulkHouse(Integer index) {
+    return BEANS.get(DoEntityBuilder.class)
+        .put("_type", "charlieFixture.HouseFixture")
+        .put("_typeVersion", (index % 2 == 0 ? CharlieFixture_2.VERSION : CharlieFixture_3.VERSION).unwrap()) // CharlieFixture_2 will be updated by HouseFixtureDoStructureMigrationHandler_3
+        .put("name", "house " + index)
+        .build();
+  }
 }
@@ -9,7 +9,9 @@
  */
 package org.eclipse.scout.rt.dataobject;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.function.Consumer;
@@ -71,12 +73,68 @@ public abstract class AbstractDataObjectVisitor {
     }
   }
 
+  /**
+   * @return Type of the values this visitor is interested in or {@code null} if all values are relevant (default). If a
+   *         type is returned, attributes of data objects which by their declaration can neither hold nor contain a
+   *         value of this type are not visited (see {@link DataObjectInventory#getSkippableAttributes(Class, Class)}).
+   */
+  protected Class<?> getVisitedType() {
+    return null;
+  }
+
   protected void caseDoEntity(IDoEntity entity) {
     applyVisitorExtension(entity);
-    caseDoEntityNodes(entity.allNodes().values());
+    caseDoEntityNodes(getDoEntityNodesToVisit(entity));
     caseDoEntityContributions(entity.getContributions());
   }
 
+  /**
+   * @return Nodes of {@code entity} without the attributes which cannot contain a value of {@link #getVisitedType()}.
+   *         An attribute is only skipped if its actual value is of the declared type.
+   */
+  protected Collection<DoNode<?>> getDoEntityNodesToVisit(IDoEntity entity) {
+    Map<String, DoNode<?>> nodes = entity.allNodes();
+    Class<?> visitedType = getVisitedType();
+    if (visitedType == null || nodes.isEmpty()) {
+      return nodes.values();
+    }
+    Map<String, Class<?>> skippableAttributes = m_inventory.getSkippableAttributes(entity.getClass(), visitedType);
+    if (skippableAttributes.isEmpty()) {
+      return nodes.values();
+    }
+    List<DoNode<?>> nodesToVisit = new ArrayList<>(nodes.size());
+    for (Entry<String, DoNode<?>> entry : nodes.entrySet()) {
+      Class<?> declaredType = skippableAttributes.get(entry.getKey());
+      if (declaredType == null || !hasValueOfType(entry.getValue(), declaredType)) {
+        nodesToVisit.add(entry.getValue());
+      }
+    }
+    return nodesToVisit;
+  }
+
+  /**
+   * @return {@code true} if the value of the given node (respectively all elements of a collection node) is
+   *         {@code null} or an instance of {@code type}
+   */
+  protected boolean hasValueOfType(DoNode<?> node, Class<?> type) {
+    Object value = node.get();
+    if (value == null) {
+      return true;
+    }
+    if (node instanceof DoValue) {
+      return type.isInstance(value);
+    }
+    if (value instanceof Collection) {
+      for (Object element : (Collection<?>) value) {
+        if (element != null && !type.isInstance(element)) {
+          return false;
+        }
+      }
+      return true;
+    }
+    return false;
+  }
+
   protected void caseDoEntityNodes(Collection<DoNode<?>> nodes) {
     for (DoNode<?> node : nodes) {
       caseDoEntityNode(node);
@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.dataobject;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Insertion ordered map of attribute nodes used by {@link DoEntity} subclasses annotated with
+ * {@link CompactAttributes}.
+ * <p>
+ * The attribute names are mapped to slots by a {@link DoEntityAttributeLayout} shared by all instances of an entity
+ * class. Each instance only holds an array of nodes indexed by slot and the slot indexes in insertion order. Compared to
+ * a {@link LinkedHashMap} there is neither an entry object per attribute nor a hash table per instance. As soon as an
+ * attribute which is not part of the layout is put, the map switches to a {@link LinkedHashMap}.
+ * <p>
+ * Iterators fail fast with a {@link ConcurrentModificationException}, also if the map switches to the
+ * {@link LinkedHashMap} while iterating. Entries support {@link Map.Entry#setValue(Object)}, which writes through to
+ * the map. Not thread-safe, like the {@link LinkedHashMap} it replaces.
+ */
+final class CompactAttributeMap extends AbstractMap<String, DoNode<?>> {
+
+  private static final DoNode<?>[] EMPTY_VALUES = new DoNode<?>[0];
+  private static final short[] EMPTY_ORDER = new short[0];
+
+  private final DoEntityAttributeLayout m_layout;
+  /**
+   * Nodes indexed by slot, {@code null} for slots without attribute. Allocated on first put.
+   */
+  private DoNode<?>[] m_values = EMPTY_VALUES;
+  /**
+   * Slots of the first {@link #m_size} attributes in insertion order.
+   */
+  private short[] m_order = EMPTY_ORDER;
+  private int m_size;
+  private int m_modCount;
+  /**
+   * Used instead of the arrays once an attribute which is not part of the layout was put.
+   */
+  private LinkedHashMap<String, DoNode<?>> m_hashMap;
+
+  CompactAttributeMap(DoEntityAttributeLayout layout) {
+    m_layout = layout;
+  }
+
+  /**
+   * @return slot of the attribute {@code key} if present, otherwise {@code -1}
+   */
+  private int slotOf(Object key) {
+    int slot = m_layout.indexOf(key);
+    return slot >= 0 && slot < m_values.length && m_values[slot] != null ? slot : -1;
+  }
+
+  @Override
+  public int size() {
+    return m_hashMap != null ? m_hashMap.size() : m_size;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    if (m_hashMap != null) {
+      return m_hashMap.containsKey(key);
+    }
+    return slotOf(key) >= 0;
+  }
+
+  @Override
+  public DoNode<?> get(Object key) {
+    if (m_hashMap != null) {
+      return m_hashMap.get(key);
+    }
+    int slot = slotOf(key);
+    return slot < 0 ? null : m_values[slot];
+  }
+
+  @Override
+  public DoNode<?> put(String key, DoNode<?> value) {
+    if (key == null) {
+      throw new NullPointerException("attribute name must not be null");
+    }
+    if (value == null) {
+      throw new NullPointerException("attribute node must not be null");
+    }
+    if (m_hashMap != null) {
+      return m_hashMap.put(key, value);
+    }
+    int slot = m_layout.indexOf(key);
+    if (slot < 0) {
+      switchToHashMap();
+      return m_hashMap.put(key, value);
+    }
+    if (m_values.length == 0) {
+      m_values = new DoNode<?>[m_layout.size()];
+      m_order = new short[m_layout.size()];
+    }
+    DoNode<?> old = m_values[slot];
+    m_values[slot] = value;
+    if (old == null) {
+      m_order[m_size++] = (short) slot;
+      m_modCount++;
+    }
+    return old;
+  }
+
+  private void switchToHashMap() {
+    LinkedHashMap<String, DoNode<?>> hashMap = new LinkedHashMap<>();
+    for (int i = 0; i < m_size; i++) {
+      int slot = m_order[i];
+      hashMap.put(m_layout.getName(slot), m_values[slot]);
+    }
+    m_hashMap = hashMap;
+    m_values = EMPTY_VALUES;
+    m_order = EMPTY_ORDER;
+    m_size = 0;
+    m_modCount++;
+  }
+
+  @Override
+  public DoNode<?> remove(Object key) {
+    if (m_hashMap != null) {
+      return m_hashMap.remove(key);
+    }
+    int slot = slotOf(key);
+    if (slot < 0) {
+      return null;
+    }
+    DoNode<?> old = m_values[slot];
+    for (int i = 0; i < m_size; i++) {
+      if (m_order[i] == slot) {
+        removeAt(i);
+        break;
+      }
+    }
+    return old;
+  }
+
+  /**
+   * Removes the attribute at position {@code index} of the insertion order.
+   */
+  private void removeAt(int index) {
+    m_values[m_order[index]] = null;
+    int tail = m_size - index - 1;
+    if (tail > 0) {
+      System.arraycopy(m_order, index + 1, m_order, index, tail);
+    }
+    m_size--;
+    m_modCount++;
+  }
+
+  @Override
+  public void clear() {
+    if (m_hashMap != null) {
+      m_hashMap.clear();
+      return;
+    }
+    Arrays.fill(m_values, null);
+    m_size = 0;
+    m_modCount++;
+  }
+
+  @Override
+  public void forEach(BiConsumer<? super String, ? super DoNode<?>> action) {
+    if (m_hashMap != null) {
+      m_hashMap.forEach(action);
+      return;
+    }
+    int modCount = m_modCount;
+    for (int i = 0; i < m_size; i++) {
+      int slot = m_order[i];
+      action.accept(m_layout.getName(slot), m_values[slot]);
+      if (modCount != m_modCount) {
+        throw new ConcurrentModificationException();
+      }
+    }
+  }
+
+  @Override
+  public Set<Map.Entry<String, DoNode<?>>> entrySet() {
+    return new EntrySet();
+  }
+
+  private final class EntrySet extends AbstractSet<Map.Entry<String, DoNode<?>>> {
+
+    @Override
+    public int size() {
+      return CompactAttributeMap.this.size();
+    }
+
+    @Override
+    public void clear() {
+      CompactAttributeMap.this.clear();
+    }
+
+    @Override
+    public Iterator<Map.Entry<String, DoNode<?>>> iterator() {
+      if (m_hashMap != null) {
+        return m_hashMap.entrySet().iterator();
+      }
+      return new EntryIterator();
+    }
+  }
+
+  private final class EntryIterator implements Iterator<Map.Entry<String, DoNode<?>>> {
+    private int m_next;
+    private int m_last = -1;
+    private int m_expectedModCount = m_modCount;
+
+    /**
+     * Reports further elements after a concurrent modification (e.g. the switch to the {@link LinkedHashMap}), so that
+     * the subsequent {@link #next()} fails instead of silently ending the iteration.
+     */
+    @Override
+    public boolean hasNext() {
+      return m_next < m_size || m_expectedModCount != m_modCount;
+    }
+
+    @Override
+    public Map.Entry<String, DoNode<?>> next() {
+      if (m_expectedModCount != m_modCount) {
+        throw new ConcurrentModificationException();
+      }
+      if (m_next >= m_size) {
+        throw new NoSuchElementException();
+      }
+      m_last = m_next++;
+      int slot = m_order[m_last];
+      return new WriteThroughEntry(m_layout.getName(slot), m_values[slot]);
+    }
+
+    @Override
+    public void remove() {
+      if (m_last < 0) {
+        throw new IllegalStateException();
+      }
+      if (m_expectedModCount != m_modCount) {
+        throw new ConcurrentModificationException();
+      }
+      removeAt(m_last);
+      m_next = m_last;
+      m_last = -1;
+      m_expectedModCount = m_modCount;
+    }
+  }
+
+  /**
+   * Entry which writes {@link #setValue(Object)} through to the map. Replacing the value of an existing key is no
+   * structural modification, so iterating continues.
+   */
+  private final class WriteThroughEntry extends SimpleEntry<String, DoNode<?>> {
+    private static final long serialVersionUID = 1L;
+
+    private WriteThroughEntry(String key, DoNode<?> value) {
+      super(key, value);
+    }
+
+    @Override
+    public DoNode<?> setValue(DoNode<?> value) {
+      put(getKey(), value);
+      return super.setValue(value);
+    }
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.dataobject;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Opt-in for a compact attribute representation of a typed {@link DoEntity} subclass.
+ * <p>
+ * Instances of an annotated class store their attribute nodes in slots of an array, using the
+ * {@link DoEntityAttributeLayout} shared by all instances of the class (see
+ * {@link DataObjectInventory#getAttributeLayout(Class)}), instead of a {@link java.util.LinkedHashMap} entry per
+ * attribute. Intended for data objects which are held in large numbers, e.g. in caches.
+ * <p>
+ * {@link DoEntity#allNodes()} keeps its semantics, including the insertion order. As soon as an attribute which is not
+ * declared by an accessor method is put (e.g. by a lenient data object mapper), the entity falls back to the hash based
+ * representation.
+ * <p>
+ * Example:
+ *
+ * <pre>
+ * &#64;TypeName("ExampleEntity")
+ * &#64;CompactAttributes
+ * public class ExampleEntityDo extends DoEntity {
+ *   ...
+ * }
+ * </pre>
+ */
+@Documented
+@Retention(RUNTIME)
+@Target({TYPE})
+@Inherited
+public @interface CompactAttributes {
+}
@@ -15,6 +15,7 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -22,6 +23,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
@@ -70,6 +72,15 @@ public class DataObjectInventory {
   /** Map of {@link IDoEntity} class to its attributes map */
   private final Map<Class<? extends IDoEntity>, Map<String, DataObjectAttributeDescriptor>> m_classAttributeMap = new ConcurrentHashMap<>();
 
+  /** Map of {@link IDoEntity} class to the slot layout of its attributes (see {@link CompactAttributes}) */
+  private final Map<Class<? extends IDoEntity>, DoEntityAttributeLayout> m_classAttributeLayouts = new ConcurrentHashMap<>();
+
+  /**
+   * Map of {@link IDoEntity} class to visited value type to the attributes which cannot contain a value of this type and
+   * their declared value types (see {@link #getSkippableAttributes(Class, Class)}).
+   */
+  private final Map<Class<? extends IDoEntity>, Map<Class<?>, Map<String, Class<?>>>> m_classSkippableAttributes = new ConcurrentHashMap<>();
+
   /**
    * Map of {@link IDoEntityContribution} class to its compile-time annotated containers (see {@link ContributesTo}
    * annotation).
@@ -258,6 +269,61 @@ public class DataObjectInventory {
     return Collections.unmodifiableMap(m_classAttributeMap.get(entityClass));
   }
 
+  /**
+   * @return slot layout of the attributes declared by {@code entityClass}, shared by all instances of the class using
+   *         {@link CompactAttributes}
+   */
+  public DoEntityAttributeLayout getAttributeLayout(Class<? extends IDoEntity> entityClass) {
+    return m_classAttributeLayouts.computeIfAbsent(entityClass, this::createAttributeLayout);
+  }
+
+  /**
+   * Computes the attribute descriptors of all registered {@link IDoEntity} classes with a {@link TypeName} annotation (or
+   * of their replacing bean classes) which are not yet cached. Subsequent calls of {@link #getAttributesDescription(Class)}
+   * and {@link #getAttributeDescription(Class, String)} for these classes are served without reflection.
+   *
+   * @return number of classes whose attribute descriptors were computed by this call
+   */
+  public int preloadAttributeDescriptions() {
+    int count = 0;
+    for (String typeName : m_typeNameToClassMap.keySet()) {
+      Class<? extends IDoEntity> entityClass = fromTypeName(typeName);
+      if (entityClass == null || m_classAttributeMap.containsKey(entityClass)) {
+        continue;
+      }
+      try {
+        ensureEntityDefinitionLoaded(entityClass);
+        count++;
+      }
+      catch (RuntimeException | LinkageError e) {
+        LOG.warn("Could not compute attribute descriptors of class {} with type name '{}'", entityClass.getName(), typeName, e);
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Returns the attributes of {@code entityClass} which by their declaration can neither hold nor contain a value of
+   * {@code valueType}. Used by data object visitors to skip subtrees which are not relevant for the visited type.
+   * <p>
+   * Only attributes declared with a final type (e.g. {@code DoValue<String>} or {@code DoList<Integer>}) which is not
+   * assignable to {@code valueType}, is neither a data object, a collection nor a map and has no registered
+   * {@link IDataObjectVisitorExtension} are skippable. Attributes which are not declared by an accessor method are never
+   * skippable. Attributes declared as data object, collection or map are always traversed.
+   * <p>
+   * The declaration does not guarantee the actual value of an attribute (e.g. a value put by
+   * {@link IDoEntity#put(String, Object)} or read by a lenient data object mapper), a caller must therefore check that
+   * the value of a node is an instance of the declared value type before skipping it.
+   *
+   * @return names of skippable attributes mapped to their declared value type (i.e. the type of a {@link DoValue} or the
+   *         element type of a {@link DoList}, {@link DoSet} or {@link DoCollection}), never {@code null}
+   */
+  public Map<String, Class<?>> getSkippableAttributes(Class<? extends IDoEntity> entityClass, Class<?> valueType) {
+    return m_classSkippableAttributes
+        .computeIfAbsent(entityClass, k -> new ConcurrentHashMap<>())
+        .computeIfAbsent(valueType, k -> createSkippableAttributes(entityClass, valueType));
+  }
+
   /* **************************************************************************
    * HELPER METHODS
    * *************************************************************************/
@@ -427,6 +493,36 @@ public class DataObjectInventory {
     LOG.debug("Adding attribute '{}' with type {} and format pattern '{}' to registry.", name, type, formatPattern.orElse("null"));
   }
 
+  protected DoEntityAttributeLayout createAttributeLayout(Class<? extends IDoEntity> entityClass) {
+    return new DoEntityAttributeLayout(new TreeSet<>(getAttributesDescription(entityClass).keySet()));
+  }
+
+  protected Map<String, Class<?>> createSkippableAttributes(Class<? extends IDoEntity> entityClass, Class<?> valueType) {
+    ensureEntityDefinitionLoaded(entityClass);
+    return m_classAttributeMap.get(entityClass).values().stream()
+        .filter(attribute -> !canContainValueType(attribute.getType().getActualTypeArguments()[0], valueType))
+        .collect(Collectors.toUnmodifiableMap(DataObjectAttributeDescriptor::getName, attribute -> (Class<?>) attribute.getType().getActualTypeArguments()[0]));
+  }
+
+  /**
+   * @return {@code false} if a value of the declared attribute type can neither be nor contain a value of
+   *         {@code valueType}
+   */
+  protected boolean canContainValueType(Type declaredType, Class<?> valueType) {
+    if (!(declaredType instanceof Class)) {
+      return true; // parameterized type, type variable or wildcard
+    }
+    Class<?> declaredClass = (Class<?>) declaredType;
+    if (declaredClass.isArray() || !Modifier.isFinal(declaredClass.getModifiers())) {
+      return true; // value might be of any subclass
+    }
+    return valueType.isAssignableFrom(declaredClass)
+        || IDataObject.class.isAssignableFrom(declaredClass)
+        || Collection.class.isAssignableFrom(declaredClass)
+        || Map.class.isAssignableFrom(declaredClass)
+        || getVisitorExtension(declaredClass) != null;
+  }
+
   protected String resolveTypeName(Class<?> c) {
     TypeName typeNameAnn = c.getAnnotation(TypeName.class);
     return typeNameAnn == null ? null : typeNameAnn.value();
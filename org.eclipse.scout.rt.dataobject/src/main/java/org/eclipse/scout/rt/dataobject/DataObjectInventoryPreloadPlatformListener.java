@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.dataobject;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.IPlatform.State;
+import org.eclipse.scout.rt.platform.IPlatformListener;
+import org.eclipse.scout.rt.platform.PlatformEvent;
+import org.eclipse.scout.rt.platform.config.AbstractBooleanConfigProperty;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Computes the attribute descriptors of all data objects in {@link DataObjectInventory} in a background job once the
+ * platform has started (see {@link DataObjectInventoryPreloadProperty}). Requests after startup then do not pay the
+ * reflection cost on first (de)serialization of a data object.
+ */
+public class DataObjectInventoryPreloadPlatformListener implements IPlatformListener {
+  private static final Logger LOG = LoggerFactory.getLogger(DataObjectInventoryPreloadPlatformListener.class);
+
+  @Override
+  public void stateChanged(PlatformEvent event) {
+    if (event.getState() != State.PlatformStarted || !CONFIG.getPropertyValue(DataObjectInventoryPreloadProperty.class)) {
+      return;
+    }
+    Jobs.schedule(this::preload, Jobs.newInput()
+        .withRunContext(RunContexts.empty())
+        .withName("Preloading data object inventory"));
+  }
+
+  protected void preload() {
+    long start = System.nanoTime();
+    int count = BEANS.get(DataObjectInventory.class).preloadAttributeDescriptions();
+    LOG.info("Preloaded attribute descriptors of {} data objects in {} ms", count, (System.nanoTime() - start) / 1_000_000L);
+  }
+
+  public static class DataObjectInventoryPreloadProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.dataobject.preloadInventory";
+    }
+
+    @Override
+    public String description() {
+      return "Specifies if the attribute descriptors of all data objects with a type name are computed in a background job after platform startup. "
+          + "If false, they are computed on first use of each data object. The default value is false.";
+    }
+
+    @Override
+    public Boolean getDefaultValue() {
+      return false;
+    }
+  }
+}
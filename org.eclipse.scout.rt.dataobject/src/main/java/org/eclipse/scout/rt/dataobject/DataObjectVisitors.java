@@ -23,7 +23,7 @@ public final class DataObjectVisitors {
    * <b>not</b> recursively. If a node matches child nodes of this node are not visited.
    */
   public static <T> void forEach(Object root, Class<? extends T> elementType, Consumer<T> consumer) {
-    forEach(root, new P_TypedElementConsumer<>(elementType, consumer, false));
+    forEach(root, elementType, new P_TypedElementConsumer<>(elementType, consumer, false));
   }
 
   /**
@@ -31,7 +31,7 @@ public final class DataObjectVisitors {
    * recursively. If a node matches, child nodes of this node are also visited.
    */
   public static <T> void forEachRec(Object root, Class<? extends T> elementType, Consumer<T> consumer) {
-    forEach(root, new P_TypedElementConsumer<>(elementType, consumer, true));
+    forEach(root, elementType, new P_TypedElementConsumer<>(elementType, consumer, true));
   }
 
   /**
@@ -39,11 +39,11 @@ public final class DataObjectVisitors {
    * then matching node is visited recursively.
    */
   public static <T> void forEachRecIf(Object root, Class<? extends T> elementType, Predicate<T> consumer) {
-    forEach(root, new P_TypedElementConsumer<>(elementType, consumer));
+    forEach(root, elementType, new P_TypedElementConsumer<>(elementType, consumer));
   }
 
-  private static void forEach(Object root, Predicate<Object> elementConsumer) {
-    new P_DataObjectVisitor(elementConsumer).visit(root);
+  private static void forEach(Object root, Class<?> elementType, Predicate<Object> elementConsumer) {
+    new P_DataObjectVisitor(elementType, elementConsumer).visit(root);
   }
 
   /**
@@ -58,12 +58,19 @@ public final class DataObjectVisitors {
 
   private static final class P_DataObjectVisitor extends AbstractDataObjectVisitor {
 
+    private final Class<?> m_elementType;
     private final Predicate<Object> m_elementConsumer;
 
-    private P_DataObjectVisitor(Predicate<Object> elementConsumer) {
+    private P_DataObjectVisitor(Class<?> elementType, Predicate<Object> elementConsumer) {
+      m_elementType = elementType;
       m_elementConsumer = elementConsumer;
     }
 
+    @Override
+    protected Class<?> getVisitedType() {
+      return m_elementType;
+    }
+
     @Override
     protected <T> void caseNode(T node, Consumer<T> chain) {
       if (m_elementConsumer.test(node)) {
@@ -108,6 +115,11 @@ public final class DataObjectVisitors {
       m_operator = operator;
     }
 
+    @Override
+    protected Class<?> getVisitedType() {
+      return m_elementType;
+    }
+
     @Override
     protected <OT> OT replaceOrVisit(OT o) {
       if (m_elementType.isInstance(o)) {
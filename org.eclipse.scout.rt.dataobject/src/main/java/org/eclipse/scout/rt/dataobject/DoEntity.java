@@ -49,7 +49,14 @@ import org.eclipse.scout.rt.platform.util.StreamUtility;
  */
 public class DoEntity implements IDoEntity {
 
-  private final Map<String, DoNode<?>> m_attributes = new LinkedHashMap<>();
+  private static final ClassValue<Boolean> COMPACT_ATTRIBUTES = new ClassValue<>() {
+    @Override
+    protected Boolean computeValue(Class<?> type) {
+      return type.isAnnotationPresent(CompactAttributes.class) && !DoMapEntity.class.isAssignableFrom(type);
+    }
+  };
+
+  private final Map<String, DoNode<?>> m_attributes = newAttributesMap();
 
   private List<IDoEntityContribution> m_contributions; // lazy init, because contributions are used rarely
 
@@ -224,6 +231,18 @@ public class DoEntity implements IDoEntity {
     return getClass().getSimpleName() + " " + BEANS.get(DataObjectHelper.class).toString(this);
   }
 
+  /**
+   * Entity classes annotated with {@link CompactAttributes} store their attributes in slots of the layout shared by all
+   * instances of the class. All other entities, including raw {@link DoEntity} and {@link DoMapEntity} instances, use a
+   * hash based map.
+   */
+  private Map<String, DoNode<?>> newAttributesMap() {
+    if (COMPACT_ATTRIBUTES.get(getClass())) {
+      return new CompactAttributeMap(BEANS.get(DataObjectInventory.class).getAttributeLayout(getClass()));
+    }
+    return new LinkedHashMap<>();
+  }
+
   // ------- helper methods ------- //
 
   /**
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.dataobject;
+
+import static org.eclipse.scout.rt.platform.util.Assertions.*;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable mapping of the declared attribute names of a {@link DoEntity} class to slot indexes. One instance is shared
+ * by all instances of the class using {@link CompactAttributes}.
+ *
+ * @see DataObjectInventory#getAttributeLayout(Class)
+ */
+public final class DoEntityAttributeLayout {
+
+  private final String[] m_names;
+  private final Map<String, Integer> m_slots;
+
+  public DoEntityAttributeLayout(Collection<String> attributeNames) {
+    assertTrue(attributeNames.size() <= Short.MAX_VALUE, "too many attributes: {}", attributeNames.size());
+    m_names = attributeNames.toArray(new String[0]);
+    m_slots = new HashMap<>(m_names.length * 2);
+    for (int i = 0; i < m_names.length; i++) {
+      Integer existing = m_slots.put(m_names[i], i);
+      assertNull(existing, "duplicate attribute name '{}'", m_names[i]);
+    }
+  }
+
+  /**
+   * @return number of slots
+   */
+  public int size() {
+    return m_names.length;
+  }
+
+  /**
+   * @return slot index of attribute {@code attributeName} or {@code -1} if the attribute is not part of this layout
+   */
+  public int indexOf(Object attributeName) {
+    Integer slot = m_slots.get(attributeName);
+    return slot == null ? -1 : slot.intValue();
+  }
+
+  /**
+   * @return attribute name of slot {@code index}
+   */
+  public String getName(int index) {
+    return m_names[index];
+  }
+}
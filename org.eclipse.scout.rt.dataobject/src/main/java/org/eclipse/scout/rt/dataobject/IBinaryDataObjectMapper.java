@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.dataobject;
+
+/**
+ * Interface to a data mapper that uses a binary format instead of JSON text for its representation, with the same type
+ * name, id and enum semantics as the default {@link IDataObjectMapper}.
+ * <p>
+ * The stream based methods read and write the binary representation. The string based methods of
+ * {@link IDataObjectMapper} use the Base64 encoded binary representation.
+ *
+ * @see IDataObjectMapper
+ */
+public interface IBinaryDataObjectMapper extends IDataObjectMapper {
+
+  /**
+   * @return media type of the binary representation (e.g. to be used as HTTP content type)
+   */
+  String getMediaType();
+
+  /**
+   * Deserializes the given binary representation to an object of type {@code valueType}.
+   *
+   * @return {@code null} if {@code value} is {@code null}
+   */
+  <T> T readValue(byte[] value, Class<T> valueType);
+
+  /**
+   * Serializes the given object to its binary representation.
+   *
+   * @return {@code null} if {@code value} is {@code null}
+   */
+  byte[] writeValueAsBytes(Object value);
+}
@@ -11,6 +11,9 @@ package org.eclipse.scout.rt.dataobject;
 
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
 
 import org.eclipse.scout.rt.platform.Bean;
 
@@ -55,4 +58,43 @@ public interface IDataObjectMapper {
    * Serializes a data object into its string representation.
    */
   String writeValue(Object value);
+
+  /**
+   * Deserializes the elements of an array (e.g. a serialized {@link DoList}) read from the input stream one at a time.
+   * <p>
+   * The returned stream is lazy: an element is read from the input stream only when the stream consumer requests it,
+   * so the memory used does not depend on the number of elements. The returned stream must be closed, which closes the
+   * input stream.
+   * <p>
+   * The default implementation reads the whole array at once, implementations should override it.
+   */
+  default <T> Stream<T> readValues(InputStream inputStream, Class<T> elementType) {
+    @SuppressWarnings("unchecked")
+    List<Object> elements = readValue(inputStream, DoList.class).get();
+    return elements.stream().map(elementType::cast);
+  }
+
+  /**
+   * Serializes the given values as an array into the output stream (e.g. readable as {@link DoList}), consuming one
+   * value at a time.
+   * <p>
+   * The default implementation collects all values first, implementations should override it.
+   */
+  default void writeValues(OutputStream outputStream, Iterator<?> values) {
+    DoList<Object> list = new DoList<>();
+    values.forEachRemaining(list::add);
+    writeValue(outputStream, list);
+  }
+
+  /**
+   * Serializes the given values as an array into the output stream, consuming one value at a time. The stream of values
+   * is closed afterwards.
+   *
+   * @see #writeValues(OutputStream, Iterator)
+   */
+  default void writeValues(OutputStream outputStream, Stream<?> values) {
+    try (Stream<?> s = values) {
+      writeValues(outputStream, s.iterator());
+    }
+  }
 }
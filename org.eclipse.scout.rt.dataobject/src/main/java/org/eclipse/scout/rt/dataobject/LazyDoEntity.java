@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.dataobject;
+
+import static org.eclipse.scout.rt.platform.util.Assertions.*;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.eclipse.scout.rt.platform.BEANS;
+
+/**
+ * Raw {@link DoEntity} which keeps its JSON representation and parses it only on first access of an attribute.
+ * <p>
+ * Used for payloads which are mostly passed through (e.g. relayed to another service) without looking at their
+ * attributes. As long as no attribute was accessed, the entity is written back as the original JSON without parsing
+ * it. Any access to the attributes or contributions parses the JSON (see {@link #materialize()}), afterwards the entity
+ * behaves like a raw {@link DoEntity} and is serialized as such.
+ * <p>
+ * A {@link LazyDoEntity} is created by reading a value of this type using an {@link IDataObjectMapper} (e.g. as
+ * parameter type of a REST resource) or by {@link #of(String)}.
+ * <p>
+ * The entity may be accessed by several threads, it is materialized only once.
+ */
+public class LazyDoEntity extends DoEntity {
+
+  private volatile String m_json;
+
+  /**
+   * @param json
+   *          JSON object, which is validated by parsing it once (the parsed attributes are not kept)
+   * @throws AssertionException
+   *           if the given JSON is not an object
+   */
+  public static LazyDoEntity of(String json) {
+    parse(json);
+    return ofUnchecked(json);
+  }
+
+  /**
+   * Same as {@link #of(String)} but without validating the given JSON, e.g. because it was written by a JSON generator
+   * which copied a well-formed object.
+   */
+  public static LazyDoEntity ofUnchecked(String json) {
+    LazyDoEntity entity = new LazyDoEntity();
+    entity.m_json = assertNotNull(json, "json is required");
+    return entity;
+  }
+
+  /**
+   * @return JSON representation this entity was created with or {@code null} if this entity was already materialized.
+   */
+  public String getJson() {
+    return m_json;
+  }
+
+  /**
+   * @return {@code true} if the JSON representation was parsed into attribute nodes
+   */
+  public boolean isMaterialized() {
+    return m_json == null;
+  }
+
+  /**
+   * Parses the JSON representation into attribute nodes (if not already done) and discards the JSON representation.
+   * If parsing fails, the JSON representation is retained.
+   */
+  public void materialize() {
+    if (m_json == null) {
+      return;
+    }
+    synchronized (this) {
+      String json = m_json;
+      if (json == null) {
+        return;
+      }
+      IDoEntity entity = parse(json);
+      entity.allNodes().forEach(super::putNode);
+      if (entity.hasContributions()) {
+        super.getContributions().addAll(entity.getContributions());
+      }
+      // published after the attribute nodes, see volatile
+      m_json = null;
+    }
+  }
+
+  protected static IDoEntity parse(String json) {
+    return assertInstance(BEANS.get(IDataObjectMapper.class).readValueRaw(assertNotNull(json, "json is required")), IDoEntity.class, "JSON of {} must be an object", LazyDoEntity.class.getSimpleName());
+  }
+
+  @Override
+  public DoNode<?> getNode(String attributeName) {
+    materialize();
+    return super.getNode(attributeName);
+  }
+
+  @Override
+  public boolean has(String attributeName) {
+    materialize();
+    return super.has(attributeName);
+  }
+
+  @Override
+  public void putNode(String attributeName, DoNode<?> attribute) {
+    materialize();
+    super.putNode(attributeName, attribute);
+  }
+
+  @Override
+  public boolean remove(String attributeName) {
+    materialize();
+    return super.remove(attributeName);
+  }
+
+  @Override
+  public boolean removeIf(Predicate<? super DoNode<?>> filter) {
+    materialize();
+    return super.removeIf(filter);
+  }
+
+  @Override
+  public Map<String, DoNode<?>> allNodes() {
+    materialize();
+    return super.allNodes();
+  }
+
+  @Override
+  public boolean hasContributions() {
+    materialize();
+    return super.hasContributions();
+  }
+
+  @Override
+  public Collection<IDoEntityContribution> getContributions() {
+    materialize();
+    return super.getContributions();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o instanceof LazyDoEntity) {
+      ((LazyDoEntity) o).materialize();
+    }
+    materialize();
+    return super.equals(o);
+  }
+
+  @Override
+  public int hashCode() {
+    materialize();
+    return super.hashCode();
+  }
+}
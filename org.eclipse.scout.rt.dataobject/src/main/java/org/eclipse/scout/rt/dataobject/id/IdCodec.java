@@ -17,7 +17,10 @@ import static org.eclipse.scout.rt.platform.util.ObjectUtility.isOneOf;
 import static org.eclipse.scout.rt.platform.util.StringUtility.isNullOrEmpty;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -26,6 +29,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -34,14 +38,20 @@ import jakarta.annotation.PostConstruct;
 
 import org.eclipse.scout.rt.platform.ApplicationScoped;
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.AbstractIntegerConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractStringConfigProperty;
 import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.exception.PlatformException;
 import org.eclipse.scout.rt.platform.util.LazyValue;
 import org.eclipse.scout.rt.platform.util.StringUtility;
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap;
 
 /**
  * Codec used to convert between {@link IId} instances and their qualified/unqualified representation as {@link String}.
+ * <p>
+ * Results of {@link #toQualified(IId, Set)} and {@link #fromQualified(String, Set)} are kept in bounded caches (see
+ * {@link IdCodecCacheSizeProperty}), hence ids which are serialized repeatedly (e.g. the same signed id in many rows of
+ * a table) are signed and parsed only once.
  */
 @ApplicationScoped
 public class IdCodec {
@@ -55,6 +65,12 @@ public class IdCodec {
   protected final Map<Class<?>, Function<String, Object>> m_rawTypeFromStringMapper = new HashMap<>();
   protected final Map<Class<?>, Function<Object, String>> m_rawTypeToStringMapper = new HashMap<>();
 
+  protected final Map<IdCacheKey<IId>, String> m_qualifiedIdCache = createCache();
+  protected final Map<IdCacheKey<String>, IId> m_idCache = createCache();
+  protected final boolean m_defaultSignature = isDefaultSignature();
+  protected volatile int m_cacheModificationCount;
+  protected volatile String m_cacheSignaturePassword;
+
   /**
    * Interface for flags used to parametrize conversion between {@link IId} instances and their qualified/unqualified
    * representation as {@link String}. This interface is used for all method declarations and allows extension of the
@@ -96,6 +112,102 @@ public class IdCodec {
     return m_idInventory.get();
   }
 
+  /**
+   * @return bounded cache or {@code null} if caching is disabled by {@link IdCodecCacheSizeProperty}
+   */
+  protected <K, V> Map<K, V> createCache() {
+    int cacheSize = CONFIG.getPropertyValue(IdCodecCacheSizeProperty.class);
+    if (cacheSize <= 0) {
+      return null;
+    }
+    return new ConcurrentExpiringMap<>(0, TimeUnit.MILLISECONDS, cacheSize);
+  }
+
+  /**
+   * @return {@code true} if none of the methods creating or verifying signatures ({@link #createSignature(String)},
+   *         {@link #getIdSignaturePassword()}, {@link #addSignature(Class, String, Set)},
+   *         {@link #removeSignature(Class, String, Set)} and {@link #assertSignature(Class, String[], Set)}) is
+   *         overridden, i.e. the signature of an id only depends on the id and the {@link IdSignaturePasswordProperty}.
+   */
+  protected boolean isDefaultSignature() {
+    for (Class<?> c = getClass(); c != null && c != IdCodec.class; c = c.getSuperclass()) {
+      if (declaresMethod(c, "createSignature", String.class)
+          || declaresMethod(c, "getIdSignaturePassword")
+          || declaresMethod(c, "addSignature", Class.class, String.class, Set.class)
+          || declaresMethod(c, "removeSignature", Class.class, String.class, Set.class)
+          || declaresMethod(c, "assertSignature", Class.class, String[].class, Set.class)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean declaresMethod(Class<?> c, String name, Class<?>... parameterTypes) {
+    try {
+      c.getDeclaredMethod(name, parameterTypes);
+      return true;
+    }
+    catch (NoSuchMethodException e) { // NOSONAR
+      return false;
+    }
+  }
+
+  /**
+   * @return {@code true} if the result of a conversion using the given flags only depends on the converted value and
+   *         may therefore be cached. Ids converted with {@link IdCodecFlag#SIGNATURE} are only cached if the default
+   *         signature is used (see {@link #isDefaultSignature()}), because a custom signature may depend on the current
+   *         context (e.g. the current user). Cached signed ids are discarded if the {@link IdSignaturePasswordProperty}
+   *         changes.
+   */
+  protected boolean isCacheable(Set<IIdCodecFlag> flags) {
+    return m_defaultSignature || !isOneOf(IdCodecFlag.SIGNATURE, flags);
+  }
+
+  /**
+   * Returns the cached value for the given key or computes and caches it. Values are computed without caching if the
+   * cache is disabled ({@code null}) or the given flags are not cacheable (see {@link #isCacheable(Set)}).
+   */
+  protected <K, V> V getCached(Map<IdCacheKey<K>, V> cache, K value, Set<IIdCodecFlag> flags, Function<IdCacheKey<K>, V> loader) {
+    IdCacheKey<K> key = new IdCacheKey<>(value, flags);
+    if (cache == null || !isCacheable(flags)) {
+      return loader.apply(key);
+    }
+    int modificationCount = idInventory().getModificationCount();
+    if (m_cacheModificationCount != modificationCount) {
+      // id types or signatures were registered at runtime
+      clearCache();
+      m_cacheModificationCount = modificationCount;
+    }
+    if (isOneOf(IdCodecFlag.SIGNATURE, flags)) {
+      String password = CONFIG.getPropertyValue(IdSignaturePasswordProperty.class);
+      if (!Objects.equals(m_cacheSignaturePassword, password)) {
+        // signed ids of a previous password must not be served
+        clearCache();
+        m_cacheSignaturePassword = password;
+      }
+    }
+    V result = cache.get(key);
+    if (result == null) {
+      result = loader.apply(key);
+      if (result != null) {
+        cache.put(key.copy(), result);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Clears all cached conversion results. Called whenever the configuration of this codec changes.
+   */
+  public void clearCache() {
+    if (m_qualifiedIdCache != null) {
+      m_qualifiedIdCache.clear();
+    }
+    if (m_idCache != null) {
+      m_idCache.clear();
+    }
+  }
+
   // ---------------- IId to String ----------------
 
   /**
@@ -108,7 +220,7 @@ public class IdCodec {
    * </ul>
    */
   public String toQualified(IId id, IIdCodecFlag... flags) {
-    return toQualified(id, hashSet(flags));
+    return toQualified(id, toFlagSet(flags));
   }
 
   /**
@@ -118,6 +230,29 @@ public class IdCodec {
     if (id == null) {
       return null;
     }
+    return getCached(m_qualifiedIdCache, id, flags, key -> toQualifiedInternal(key.getValue(), key.getFlags()));
+  }
+
+  /**
+   * Converts a list of ids, see {@link #toQualified(IId, IIdCodecFlag...)}.
+   *
+   * @return qualified ids in the same order as the given ids, {@code null} elements are retained
+   */
+  public List<String> toQualifiedAll(Collection<? extends IId> ids, IIdCodecFlag... flags) {
+    return toQualifiedAll(ids, toFlagSet(flags));
+  }
+
+  /**
+   * @see #toQualifiedAll(Collection, IIdCodecFlag...)
+   */
+  public List<String> toQualifiedAll(Collection<? extends IId> ids, Set<IIdCodecFlag> flags) {
+    return convertAll(ids, id -> toQualified(id, flags));
+  }
+
+  /**
+   * @see #toQualified(IId, IIdCodecFlag...)
+   */
+  protected String toQualifiedInternal(IId id, Set<IIdCodecFlag> flags) {
     String typeName = idInventory().getTypeName(id);
     if (isNullOrEmpty(typeName)) {
       if (id instanceof UnknownId) {
@@ -140,7 +275,7 @@ public class IdCodec {
    * </ul>
    */
   public String toUnqualified(IId id, IIdCodecFlag... flags) {
-    return toUnqualified(id, hashSet(flags));
+    return toUnqualified(id, toFlagSet(flags));
   }
 
   /**
@@ -225,14 +360,33 @@ public class IdCodec {
    *           if the given string does not match the expected format or the referenced class is not found.
    */
   public IId fromQualified(String qualifiedId, IIdCodecFlag... flags) {
-    return fromQualified(qualifiedId, hashSet(flags));
+    return fromQualified(qualifiedId, toFlagSet(flags));
   }
 
   /**
    * @see #fromQualified(String, IIdCodecFlag...)
    */
   public IId fromQualified(String qualifiedId, Set<IIdCodecFlag> flags) {
-    return fromQualifiedInternal(qualifiedId, flags);
+    if (isNullOrEmpty(qualifiedId)) {
+      return null;
+    }
+    return getCached(m_idCache, qualifiedId, flags, key -> fromQualifiedInternal(key.getValue(), key.getFlags()));
+  }
+
+  /**
+   * Parses a list of qualified ids, see {@link #fromQualified(String, IIdCodecFlag...)}.
+   *
+   * @return ids in the same order as the given qualified ids, {@code null} elements are retained
+   */
+  public List<IId> fromQualifiedAll(Collection<String> qualifiedIds, IIdCodecFlag... flags) {
+    return fromQualifiedAll(qualifiedIds, toFlagSet(flags));
+  }
+
+  /**
+   * @see #fromQualifiedAll(Collection, IIdCodecFlag...)
+   */
+  public List<IId> fromQualifiedAll(Collection<String> qualifiedIds, Set<IIdCodecFlag> flags) {
+    return convertAll(qualifiedIds, qualifiedId -> fromQualified(qualifiedId, flags));
   }
 
   /**
@@ -243,7 +397,7 @@ public class IdCodec {
    *           if the given string does not match the expected format
    */
   public <ID extends IId> ID fromUnqualified(Class<ID> idClass, String unqualifiedId, IIdCodecFlag... flags) {
-    return fromUnqualified(idClass, unqualifiedId, hashSet(flags));
+    return fromUnqualified(idClass, unqualifiedId, toFlagSet(flags));
   }
 
   /**
@@ -274,6 +428,7 @@ public class IdCodec {
     //noinspection unchecked
     m_rawTypeToStringMapper.put(rawType, (Function<Object, String>) toStringMapper);
     m_rawTypeFromStringMapper.put(rawType, fromStringMapper);
+    clearCache();
   }
 
   /**
@@ -286,10 +441,36 @@ public class IdCodec {
   public void unregisterRawTypeMapper(Class<?> rawType) {
     m_rawTypeToStringMapper.remove(rawType);
     m_rawTypeFromStringMapper.remove(rawType);
+    clearCache();
   }
 
   // ---------------- helper methods ----------------
 
+  /**
+   * @return set of the given flags, an immutable empty set if there are none
+   */
+  protected Set<IIdCodecFlag> toFlagSet(IIdCodecFlag... flags) {
+    if (flags == null || flags.length == 0) {
+      return Set.of();
+    }
+    return hashSet(flags);
+  }
+
+  /**
+   * Converts each element of the given collection, equal elements are converted only once.
+   */
+  protected <S, T> List<T> convertAll(Collection<? extends S> source, Function<S, T> converter) {
+    if (source == null) {
+      return new ArrayList<>();
+    }
+    Map<S, T> converted = new HashMap<>();
+    List<T> result = new ArrayList<>(source.size());
+    for (S element : source) {
+      result.add(element == null ? null : converted.computeIfAbsent(element, converter));
+    }
+    return result;
+  }
+
   /**
    * Callback method to implement if the codec should be extended to handle qualification of unknown {@link IId} types.
    */
@@ -441,6 +622,76 @@ public class IdCodec {
     return components;
   }
 
+  /**
+   * Key of the conversion caches: converted value and flags used for the conversion. Keys used for lookups refer to the
+   * flags of the caller, keys stored in a cache hold an immutable copy (see {@link #copy()}).
+   */
+  protected static final class IdCacheKey<T> {
+    private final T m_value;
+    private final Set<IIdCodecFlag> m_flags;
+    private final int m_hashCode;
+
+    public IdCacheKey(T value, Set<IIdCodecFlag> flags) {
+      this(value, flags == null ? Set.of() : flags, Objects.hash(value, flags == null ? Set.of() : flags));
+    }
+
+    private IdCacheKey(T value, Set<IIdCodecFlag> flags, int hashCode) {
+      m_value = value;
+      m_flags = flags;
+      m_hashCode = hashCode;
+    }
+
+    /**
+     * @return key holding an immutable copy of the flags, which may be stored in a cache
+     */
+    public IdCacheKey<T> copy() {
+      return new IdCacheKey<>(m_value, Collections.unmodifiableSet(hashSet(m_flags)), m_hashCode);
+    }
+
+    public T getValue() {
+      return m_value;
+    }
+
+    public Set<IIdCodecFlag> getFlags() {
+      return m_flags;
+    }
+
+    @Override
+    public int hashCode() {
+      return m_hashCode;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (obj == null || getClass() != obj.getClass()) {
+        return false;
+      }
+      IdCacheKey<?> other = (IdCacheKey<?>) obj;
+      return m_hashCode == other.m_hashCode && Objects.equals(m_value, other.m_value) && m_flags.equals(other.m_flags);
+    }
+  }
+
+  public static class IdCodecCacheSizeProperty extends AbstractIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.idCodecCacheSize";
+    }
+
+    @Override
+    public String description() {
+      return "Number of converted ids kept in the caches of the IdCodec, separately for serialization and deserialization. The value 0 disables caching. The default value is 10000.";
+    }
+
+    @Override
+    public Integer getDefaultValue() {
+      return 10000;
+    }
+  }
+
   public static class IdSignaturePasswordProperty extends AbstractStringConfigProperty {
 
     @Override
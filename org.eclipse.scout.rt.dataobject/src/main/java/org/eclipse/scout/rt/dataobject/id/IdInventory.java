@@ -33,6 +33,7 @@ public class IdInventory {
   protected final Map<String, Class<? extends IId>> m_nameToClassMap = new HashMap<>();
   protected final Map<Class<? extends IId>, String> m_classToNameMap = new HashMap<>();
   protected final Map<Class<? extends IId>, Boolean> m_classToIdSignatureMap = new HashMap<>();
+  protected volatile int m_modificationCount;
 
   @PostConstruct
   protected void createClassCache() {
@@ -72,6 +73,7 @@ public class IdInventory {
   public void registerIdTypeName(String typeName, Class<? extends IId> idClass) {
     Class<? extends IId> registeredIdClass = m_nameToClassMap.put(typeName, idClass);
     String registeredTypeName = m_classToNameMap.put(idClass, typeName);
+    m_modificationCount++;
     checkDuplicateIdTypeNames(idClass, typeName, registeredIdClass, registeredTypeName);
   }
 
@@ -92,6 +94,15 @@ public class IdInventory {
    */
   public void registerIdSignature(Class<? extends IId> idClass, boolean signature) {
     m_classToIdSignatureMap.put(idClass, signature);
+    m_modificationCount++;
+  }
+
+  /**
+   * @return number of registrations of type names and id signatures so far. Used by {@link IdCodec} to invalidate its
+   *         caches after a registration at runtime.
+   */
+  public int getModificationCount() {
+    return m_modificationCount;
   }
 
   /**
@@ -362,6 +362,21 @@ public class DataObjectMigrationInventory {
         .collect(Collectors.toUnmodifiableList());
   }
 
+  /**
+   * @param ctx
+   *          Migration context with a non-<code>null</code>
+   *          {@link DoValueMigrationIdsContextData#getAppliedValueMigrationIds()}.
+   * @return Ordered list of {@link IDoValueMigrationHandler}s of {@link #getValueMigrationHandlers()} accepted for the
+   *         given context (see {@link IDoValueMigrationHandler#accept(DataObjectMigrationContext)}).
+   */
+  public List<IDoValueMigrationHandler<?>> getValueMigrationHandlers(DataObjectMigrationContext ctx) {
+    Set<DoValueMigrationId> appliedValueMigrationIds = ctx.getGlobal(DoValueMigrationIdsContextData.class).getAppliedValueMigrationIds();
+    assertNotNull(appliedValueMigrationIds, "Applied value migration IDs on context required.");
+    return getValueMigrationHandlers().stream()
+        .filter(handler -> handler.accept(ctx))
+        .collect(Collectors.toList());
+  }
+
   /**
    * @return {@link IDoValueMigrationHandler} for a given {@link DoValueMigrationId}
    */
@@ -630,7 +645,8 @@ public class DataObjectMigrationInventory {
   public Map<String, IDoStructureMigrationHandler> getStructureMigrationHandlers(NamespaceVersion version) {
     assertNotNull(version, "version is required");
     assertTrue(m_orderedVersions.contains(version), "version is unknown");
-    return m_structureMigrationHandlers.computeIfAbsent(version, k -> Collections.emptyMap());
+    // no computeIfAbsent: handlers are looked up concurrently during parallel migrations (see DataObjectMigrator)
+    return m_structureMigrationHandlers.getOrDefault(version, Collections.emptyMap());
   }
 
   public Set<Class<? extends IDoStructureMigrationTargetContextData>> getStructureMigrationTargetContextDataClasses(IDoEntity doEntity) {
@@ -29,6 +29,7 @@ public class DataObjectMigrationStatsContextData implements IDataObjectMigration
   protected final AtomicLong m_startNanos = new AtomicLong();
   protected final LongAdder m_dataObjectsProcessed = new LongAdder();
   protected final LongAdder m_dataObjectsChanged = new LongAdder();
+  protected final LongAdder m_dataObjectsUpToDate = new LongAdder();
   protected final LongAdder m_accumulatedMigrationDurationNano = new LongAdder(); // nanoseconds
 
   /**
@@ -76,6 +77,21 @@ public class DataObjectMigrationStatsContextData implements IDataObjectMigration
     return m_dataObjectsChanged.sum();
   }
 
+  /**
+   * Increment the number of data objects which were already up-to-date and therefore not migrated at all (see
+   * {@link DataObjectMigrator#migrateDataObjects(DataObjectMigrationContext, java.util.Iterator, java.util.function.Function, Class, java.util.function.BiConsumer)}).
+   */
+  protected void incrementDataObjectsUpToDate() {
+    m_dataObjectsUpToDate.increment();
+  }
+
+  /**
+   * @return The number of processed data objects which were already up-to-date.
+   */
+  public long getDataObjectsUpToDateCount() {
+    return m_dataObjectsUpToDate.sum();
+  }
+
   /**
    * Accumulation of raw data object migration duration. To be called after migration of a single data object.
    *
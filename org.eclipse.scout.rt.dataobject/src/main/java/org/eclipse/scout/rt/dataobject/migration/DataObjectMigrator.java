@@ -14,18 +14,29 @@ import static org.eclipse.scout.rt.platform.util.Assertions.assertNotNull;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 import org.eclipse.scout.rt.dataobject.IDataObject;
 import org.eclipse.scout.rt.dataobject.IDataObjectMapper;
 import org.eclipse.scout.rt.dataobject.ILenientDataObjectMapper;
 import org.eclipse.scout.rt.platform.ApplicationScoped;
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
 import org.eclipse.scout.rt.platform.namespace.NamespaceVersion;
+import org.eclipse.scout.rt.platform.transaction.TransactionScope;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
+import org.eclipse.scout.rt.platform.util.concurrent.IRunnable;
 
 /**
  * Main class for data object migration.
@@ -37,6 +48,9 @@ import org.eclipse.scout.rt.platform.util.CollectionUtility;
  * DoStructureMigratorResult<ExampleDo> result = BEANS.get(DoStructureMigrator.class).migrateDataObject(ctx, rawContent, ExampleDo.class);
  * ctx.getStats().printStats("example", 1);
  * </pre>
+ * <p>
+ * Large amounts of stored data objects are migrated with
+ * {@link #migrateDataObjects(DataObjectMigrationContext, Iterator, Function, Class, BiConsumer)}.
  */
 @ApplicationScoped
 public class DataObjectMigrator {
@@ -131,6 +145,23 @@ public class DataObjectMigrator {
       NamespaceVersion toVersion,
       List<IDataObjectMigrationLocalContextData> initialLocalContextData,
       List<IDataObjectIntermediateMigration<T>> localIntermediateMigrations) {
+    return migrateDataObjectInternal(ctx, dataObject, valueType, toVersion, initialLocalContextData, localIntermediateMigrations, null);
+  }
+
+  /**
+   * @param valueMigrationHandlers
+   *          Value migration handlers to apply (see
+   *          {@link DataObjectMigrationInventory#getValueMigrationHandlers(DataObjectMigrationContext)}) or
+   *          <code>null</code> to resolve them for this data object.
+   */
+  protected <T extends IDataObject> DataObjectMigratorResult<T> migrateDataObjectInternal(
+      DataObjectMigrationContext ctx,
+      IDataObject dataObject,
+      Class<T> valueType,
+      NamespaceVersion toVersion,
+      List<IDataObjectMigrationLocalContextData> initialLocalContextData,
+      List<IDataObjectIntermediateMigration<T>> localIntermediateMigrations,
+      List<IDoValueMigrationHandler<?>> valueMigrationHandlers) {
     assertNotNull(ctx, "ctx is required");
     assertNotNull(dataObject, "dataObject is required");
 
@@ -173,7 +204,7 @@ public class DataObjectMigrator {
     }
 
     // Apply value migration
-    DataObjectMigratorResult<T> result = applyValueMigration(ctxCopy, typedDataObject);
+    DataObjectMigratorResult<T> result = applyValueMigration(ctxCopy, typedDataObject, valueMigrationHandlers);
     boolean valueChanged = result.isChanged();
     T migratedDataObject = result.getDataObject();
     if (valueChanged) {
@@ -223,13 +254,19 @@ public class DataObjectMigrator {
   }
 
   protected <T extends IDataObject> DataObjectMigratorResult<T> applyValueMigration(DataObjectMigrationContext ctx, T dataObject) {
-    // Applied value migration IDs should be explicitly set to an empty set, if all value migrations actually should be applied.
-    // A null value indicates a caller which is unaware of value migrations - skip value migrations.
-    if (ctx.getGlobal(DoValueMigrationIdsContextData.class).getAppliedValueMigrationIds() == null) {
+    return applyValueMigration(ctx, dataObject, null);
+  }
+
+  /**
+   * @param valueMigrationHandlers
+   *          Value migration handlers to apply or <code>null</code> to resolve them for this data object.
+   */
+  protected <T extends IDataObject> DataObjectMigratorResult<T> applyValueMigration(DataObjectMigrationContext ctx, T dataObject, List<IDoValueMigrationHandler<?>> valueMigrationHandlers) {
+    if (!isValueMigrationEnabled(ctx)) {
       return DataObjectMigratorResult.of(dataObject, false);
     }
 
-    DoValueMigrationDataObjectVisitor valueMigrationVisitor = createValueMigrationVisitor(ctx);
+    DoValueMigrationDataObjectVisitor valueMigrationVisitor = valueMigrationHandlers == null ? createValueMigrationVisitor(ctx) : createValueMigrationVisitor(ctx, valueMigrationHandlers);
     T migratedDataObject = valueMigrationVisitor.migrate(dataObject);
     return DataObjectMigratorResult.of(migratedDataObject, valueMigrationVisitor.isChanged());
   }
@@ -238,6 +275,169 @@ public class DataObjectMigrator {
     return new DoValueMigrationDataObjectVisitor(ctx);
   }
 
+  protected DoValueMigrationDataObjectVisitor createValueMigrationVisitor(DataObjectMigrationContext ctx, List<IDoValueMigrationHandler<?>> valueMigrationHandlers) {
+    return new DoValueMigrationDataObjectVisitor(ctx, valueMigrationHandlers);
+  }
+
+  protected boolean isValueMigrationEnabled(DataObjectMigrationContext ctx) {
+    // Applied value migration IDs should be explicitly set to an empty set, if all value migrations actually should be applied.
+    // A null value indicates a caller which is unaware of value migrations - skip value migrations.
+    return ctx.getGlobal(DoValueMigrationIdsContextData.class).getAppliedValueMigrationIds() != null;
+  }
+
+  // ---------------- bulk migration ----------------
+
+  /**
+   * Migrates many data objects in parallel, e.g. all data objects stored in a database table.
+   * <p>
+   * Uses latest version to migrate to.
+   *
+   * @see #migrateDataObjects(DataObjectMigrationContext, Iterator, Function, Class, NamespaceVersion, BiConsumer)
+   */
+  public <S, T extends IDataObject> void migrateDataObjects(
+      DataObjectMigrationContext ctx,
+      Iterator<S> sources,
+      Function<S, IDataObject> rawDataObjectFunction,
+      Class<T> valueType,
+      BiConsumer<List<S>, List<DataObjectMigratorResult<T>>> batchConsumer) {
+    migrateDataObjects(ctx, sources, rawDataObjectFunction, valueType, null /* latest version */, batchConsumer);
+  }
+
+  /**
+   * Migrates many data objects in parallel, e.g. all data objects stored in a database table.
+   * <p>
+   * The sources are read by the calling thread and split into batches of {@link #getBulkMigrationBatchSize()}
+   * elements. Each batch is migrated by a job (see {@link Jobs}) in a new transaction; at most
+   * {@link #getBulkMigrationParallelism()} batches are in progress at the same time, hence the memory used does not
+   * depend on the number of sources. The value migration handlers are resolved only once for all data objects. Data
+   * objects whose type versions are already up-to-date are returned unchanged (or only converted to the value type) if
+   * neither value nor intermediate migrations are to be applied (see {@link DataObjectMigrationStatsContextData#getDataObjectsUpToDateCount()}).
+   * <p>
+   * This method returns after all batches are migrated. If the migration of a data object fails, batches not yet
+   * started are cancelled and the exception is propagated.
+   *
+   * @param sources
+   *          Sources of data objects (e.g. rows of a database table), iterated by the calling thread.
+   * @param rawDataObjectFunction
+   *          Provides the raw data object of a source, called by the migration jobs (e.g. parses a JSON string).
+   * @param batchConsumer
+   *          Called for each migrated batch with the sources and the corresponding results in the same order. Called
+   *          concurrently by the migration jobs within their transaction (e.g. to store migrated data objects).
+   */
+  public <S, T extends IDataObject> void migrateDataObjects(
+      DataObjectMigrationContext ctx,
+      Iterator<S> sources,
+      Function<S, IDataObject> rawDataObjectFunction,
+      Class<T> valueType,
+      NamespaceVersion toVersion,
+      BiConsumer<List<S>, List<DataObjectMigratorResult<T>>> batchConsumer) {
+    assertNotNull(ctx, "ctx is required");
+    assertNotNull(sources, "sources is required");
+    assertNotNull(rawDataObjectFunction, "rawDataObjectFunction is required");
+    assertNotNull(valueType, "valueType is required");
+    assertNotNull(batchConsumer, "batchConsumer is required");
+
+    ctx.getStats().start();
+    List<IDoValueMigrationHandler<?>> valueMigrationHandlers = isValueMigrationEnabled(ctx)
+        ? BEANS.get(DataObjectMigrationInventory.class).getValueMigrationHandlers(ctx)
+        : Collections.emptyList();
+    int batchSize = Math.max(1, getBulkMigrationBatchSize());
+    int parallelism = Math.max(1, getBulkMigrationParallelism());
+
+    Deque<IFuture<Void>> futures = new ArrayDeque<>(parallelism);
+    try {
+      while (sources.hasNext()) {
+        List<S> batch = new ArrayList<>(batchSize);
+        while (batch.size() < batchSize && sources.hasNext()) {
+          batch.add(sources.next());
+        }
+        if (futures.size() >= parallelism) {
+          futures.removeFirst().awaitDoneAndGet(); // bounds the number of batches in memory
+        }
+        futures.addLast(scheduleMigrationBatch(() -> {
+          List<DataObjectMigratorResult<T>> results = new ArrayList<>(batch.size());
+          for (S source : batch) {
+            results.add(migrateDataObjectInBulk(ctx, rawDataObjectFunction.apply(source), valueType, toVersion, valueMigrationHandlers));
+          }
+          batchConsumer.accept(batch, results);
+          DataObjectMigrationStatsContextData stats = ctx.getStats();
+          ctx.getLogger().debug("Migrated batch of {} data objects, {} processed so far ({} changed, {} up-to-date)",
+              batch.size(), stats.getDataObjectsProcessedCount(), stats.getDataObjectsChangedCount(), stats.getDataObjectsUpToDateCount());
+        }));
+      }
+      while (!futures.isEmpty()) {
+        futures.removeFirst().awaitDoneAndGet();
+      }
+    }
+    finally {
+      // only non-empty if a batch failed
+      futures.forEach(future -> future.cancel(true));
+    }
+  }
+
+  /**
+   * Schedules the migration of a batch of data objects.
+   */
+  protected IFuture<Void> scheduleMigrationBatch(IRunnable migration) {
+    return Jobs.schedule(migration, Jobs.newInput()
+        .withName("Data object migration batch")
+        .withRunContext(RunContexts.copyCurrent(true).withTransactionScope(TransactionScope.REQUIRES_NEW)));
+  }
+
+  /**
+   * Migrates a single data object of a bulk migration. Data objects without any applicable migration are returned as
+   * they are if they are already an instance of the value type, otherwise they are only converted to the value type.
+   */
+  protected <T extends IDataObject> DataObjectMigratorResult<T> migrateDataObjectInBulk(
+      DataObjectMigrationContext ctx,
+      IDataObject dataObject,
+      Class<T> valueType,
+      NamespaceVersion toVersion,
+      List<IDoValueMigrationHandler<?>> valueMigrationHandlers) {
+    assertNotNull(dataObject, "dataObject is required");
+    if (!valueMigrationHandlers.isEmpty() || !ctx.getIntermediateMigrations().all(valueType).isEmpty() || isStructureMigrationRequired(dataObject, toVersion)) {
+      return migrateDataObjectInternal(ctx, dataObject, valueType, toVersion, Collections.emptyList(), Collections.emptyList(), valueMigrationHandlers);
+    }
+
+    DataObjectMigrationStatsContextData stats = ctx.getStats();
+    long start = System.nanoTime();
+    stats.incrementDataObjectsProcessed();
+    stats.incrementDataObjectsUpToDate();
+    T typedDataObject;
+    if (valueType.isInstance(dataObject)) {
+      typedDataObject = valueType.cast(dataObject);
+    }
+    else {
+      IDataObjectMapper dataObjectMapper = BEANS.get(IDataObjectMapper.class);
+      typedDataObject = dataObjectMapper.readValue(dataObjectMapper.writeValue(dataObject), valueType);
+    }
+    stats.addMigrationDuration(start);
+    return DataObjectMigratorResult.of(typedDataObject, false);
+  }
+
+  /**
+   * @return <code>true</code> if the type versions of the raw entities within the given data object require at least one
+   *         structure migration
+   */
+  protected boolean isStructureMigrationRequired(IDataObject dataObject, NamespaceVersion toVersion) {
+    Map<String, NamespaceVersion> typeVersions = BEANS.get(DoStructureMigrationHelper.class).collectRawDataObjectTypeVersions(dataObject);
+    return !typeVersions.isEmpty() && !BEANS.get(DataObjectMigrationInventory.class).getVersions(typeVersions, toVersion).isEmpty();
+  }
+
+  /**
+   * @return Number of data objects migrated by one job of a bulk migration.
+   */
+  protected int getBulkMigrationBatchSize() {
+    return 500;
+  }
+
+  /**
+   * @return Maximum number of jobs of a bulk migration running at the same time.
+   */
+  protected int getBulkMigrationParallelism() {
+    return Runtime.getRuntime().availableProcessors();
+  }
+
   public static final class DataObjectMigratorResult<T extends IDataObject> {
 
     private T m_dataObject;
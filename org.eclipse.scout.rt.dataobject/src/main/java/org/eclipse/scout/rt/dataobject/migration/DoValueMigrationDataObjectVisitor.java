@@ -12,8 +12,6 @@ package org.eclipse.scout.rt.dataobject.migration;
 import static org.eclipse.scout.rt.platform.util.Assertions.assertNotNull;
 
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 import org.eclipse.scout.rt.dataobject.AbstractReplacingDataObjectVisitor;
 import org.eclipse.scout.rt.dataobject.IDataObject;
@@ -34,14 +32,19 @@ public class DoValueMigrationDataObjectVisitor extends AbstractReplacingDataObje
   protected boolean m_changed = false;
 
   public DoValueMigrationDataObjectVisitor(DataObjectMigrationContext ctx) {
+    this(ctx, BEANS.get(DataObjectMigrationInventory.class).getValueMigrationHandlers(ctx));
+  }
+
+  /**
+   * @param valueMigrationHandlers
+   *          Value migration handlers accepted for the given context (see
+   *          {@link DataObjectMigrationInventory#getValueMigrationHandlers(DataObjectMigrationContext)}), may be resolved
+   *          once and reused for many data objects migrated with the same global context data.
+   */
+  public DoValueMigrationDataObjectVisitor(DataObjectMigrationContext ctx, List<IDoValueMigrationHandler<?>> valueMigrationHandlers) {
     m_inventory = BEANS.get(DataObjectMigrationInventory.class);
     m_ctx = ctx;
-
-    Set<DoValueMigrationId> appliedValueMigrationIds = m_ctx.getGlobal(DoValueMigrationIdsContextData.class).getAppliedValueMigrationIds();
-    assertNotNull(appliedValueMigrationIds, "Applied value migration IDs on context required.");
-    m_valueMigrationHandlers = m_inventory.getValueMigrationHandlers().stream()
-        .filter(handler -> handler.accept(ctx))
-        .collect(Collectors.toList());
+    m_valueMigrationHandlers = assertNotNull(valueMigrationHandlers, "valueMigrationHandlers is required");
   }
 
   public boolean isChanged() {
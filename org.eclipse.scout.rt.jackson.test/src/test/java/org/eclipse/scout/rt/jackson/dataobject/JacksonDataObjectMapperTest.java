@@ -18,7 +18,9 @@ import java.io.InputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
@@ -27,11 +29,13 @@ import java.util.UUID;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.eclipse.scout.rt.dataobject.DataObjectHelper;
 import org.eclipse.scout.rt.dataobject.DoEntity;
 import org.eclipse.scout.rt.dataobject.DoEntityBuilder;
 import org.eclipse.scout.rt.dataobject.DoEntityHolder;
+import org.eclipse.scout.rt.dataobject.DoList;
 import org.eclipse.scout.rt.dataobject.IDataObjectMapper;
 import org.eclipse.scout.rt.dataobject.IDoEntity;
 import org.eclipse.scout.rt.dataobject.testing.TestingDataObjectHelper;
@@ -41,6 +45,7 @@ import org.eclipse.scout.rt.jackson.dataobject.fixture.ITestBaseEntityDo;
 import org.eclipse.scout.rt.jackson.dataobject.fixture.TestComplexEntityDo;
 import org.eclipse.scout.rt.jackson.dataobject.fixture.TestCustomImplementedEntityDo;
 import org.eclipse.scout.rt.jackson.dataobject.fixture.TestEntityWithInterface1Do;
+import org.eclipse.scout.rt.jackson.dataobject.fixture.TestItemDo;
 import org.eclipse.scout.rt.jackson.testing.DataObjectSerializationTestHelper;
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.BeanMetaData;
@@ -129,6 +134,42 @@ public class JacksonDataObjectMapperTest {
     assertArrayEquals(expected.toByteArray(), actual.toByteArray());
   }
 
+  @Test
+  public void testReadWriteValues() {
+    List<TestItemDo> items = IntStream.range(0, 100)
+        .mapToObj(i -> BEANS.get(TestItemDo.class).withId("id-" + i).withStringAttribute("value-" + i))
+        .collect(Collectors.toList());
+
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    m_mapper.writeValues(bos, items.stream());
+
+    // streamed array is compatible with DoList
+    DoList<TestItemDo> list = m_mapper.readValue(new ByteArrayInputStream(bos.toByteArray()), DoList.class);
+    assertEquals(items, list.get());
+
+    try (Stream<TestItemDo> stream = m_mapper.readValues(new ByteArrayInputStream(bos.toByteArray()), TestItemDo.class)) {
+      assertEquals(items, stream.collect(Collectors.toList()));
+    }
+  }
+
+  @Test
+  public void testReadWriteValuesEmpty() {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    m_mapper.writeValues(bos, Collections.emptyIterator());
+    assertEquals("[]", bos.toString(StandardCharsets.UTF_8));
+
+    try (Stream<IDoEntity> stream = m_mapper.readValues(new ByteArrayInputStream(bos.toByteArray()), IDoEntity.class)) {
+      assertEquals(0, stream.count());
+    }
+  }
+
+  @Test(expected = PlatformException.class)
+  public void testReadValuesException() {
+    try (Stream<TestItemDo> stream = m_mapper.readValues(new ByteArrayInputStream("[{\"id\" : \"1\"}, {\"id\"".getBytes(StandardCharsets.UTF_8)), TestItemDo.class)) {
+      stream.forEach(item -> assertEquals("1", item.getId()));
+    }
+  }
+
   @Test(expected = PlatformException.class)
   public void testWriteValueException() {
     m_mapper.writeValue(new Object());
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.jackson.dataobject;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Map;
+
+import org.eclipse.scout.rt.dataobject.DoEntity;
+import org.eclipse.scout.rt.dataobject.IBinaryDataObjectMapper;
+import org.eclipse.scout.rt.dataobject.IDataObject;
+import org.eclipse.scout.rt.dataobject.IDataObjectMapper;
+import org.eclipse.scout.rt.dataobject.IDoEntity;
+import org.eclipse.scout.rt.dataobject.fixture.FixtureEnum;
+import org.eclipse.scout.rt.dataobject.fixture.FixtureStringId;
+import org.eclipse.scout.rt.jackson.dataobject.fixture.TestEntityWithEnumDo;
+import org.eclipse.scout.rt.jackson.dataobject.fixture.TestEntityWithVariousIdsDo;
+import org.eclipse.scout.rt.jackson.dataobject.fixture.TestItemDo;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.util.CollectionUtility;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Round-trip tests for {@link JacksonSmileDataObjectMapper}, comparing with {@link JacksonDataObjectMapper}.
+ */
+public class JacksonSmileDataObjectMapperTest {
+
+  protected IBinaryDataObjectMapper m_binaryMapper;
+  protected IDataObjectMapper m_jsonMapper;
+
+  @Before
+  public void before() {
+    m_binaryMapper = BEANS.get(IBinaryDataObjectMapper.class);
+    m_jsonMapper = BEANS.get(IDataObjectMapper.class);
+  }
+
+  @Test
+  public void testBeans() {
+    assertTrue(m_binaryMapper instanceof JacksonSmileDataObjectMapper);
+    assertFalse(m_jsonMapper instanceof IBinaryDataObjectMapper);
+    assertEquals(JacksonSmileDataObjectMapper.MEDIA_TYPE, m_binaryMapper.getMediaType());
+  }
+
+  @Test
+  public void testNull() {
+    assertNull(m_binaryMapper.writeValueAsBytes(null));
+    assertNull(m_binaryMapper.writeValue(null));
+    assertNull(m_binaryMapper.readValue((byte[]) null, IDataObject.class));
+    assertNull(m_binaryMapper.readValue((String) null, IDataObject.class));
+    assertNull(m_binaryMapper.readValueRaw((String) null));
+  }
+
+  @Test
+  public void testRoundTripRawEntity() {
+    DoEntity entity = BEANS.get(DoEntity.class);
+    entity.put("foo", "bar");
+    entity.put("baz", 42);
+    entity.putList("list", CollectionUtility.arrayList("a", "b"));
+    assertRoundTrip(entity, DoEntity.class);
+  }
+
+  @Test
+  public void testRoundTripTypedEntity() {
+    assertRoundTrip(BEANS.get(TestItemDo.class).withId("1").withStringAttribute("foo"), IDoEntity.class);
+    assertRoundTrip(BEANS.get(TestEntityWithEnumDo.class).withValue(FixtureEnum.ONE), IDoEntity.class);
+  }
+
+  @Test
+  public void testRoundTripIds() {
+    TestEntityWithVariousIdsDo entity = BEANS.get(TestEntityWithVariousIdsDo.class)
+        .withStringId(FixtureStringId.of("string-id"))
+        .withIId(FixtureStringId.of("i-id"))
+        .withStringIds(FixtureStringId.of("string-id-1"), FixtureStringId.of("string-id-2"))
+        .withStringIdKeyMap(Map.of(FixtureStringId.of("key-id"), "value"));
+    assertRoundTrip(entity, TestEntityWithVariousIdsDo.class);
+  }
+
+  @Test
+  public void testStringRepresentation() {
+    TestItemDo entity = BEANS.get(TestItemDo.class).withId("1").withStringAttribute("foo");
+    String base64 = m_binaryMapper.writeValue(entity);
+    assertEquals(entity, m_binaryMapper.readValue(base64, TestItemDo.class));
+    assertEquals(m_jsonMapper.readValueRaw(m_jsonMapper.writeValue(entity)), m_binaryMapper.readValueRaw(base64));
+  }
+
+  @Test
+  public void testSmallerThanJson() {
+    DoEntity entity = BEANS.get(DoEntity.class);
+    for (int i = 0; i < 100; i++) {
+      entity.getList("items", TestItemDo.class).add(BEANS.get(TestItemDo.class).withId("id-" + i).withStringAttribute("value-" + i));
+    }
+    ByteArrayOutputStream json = new ByteArrayOutputStream();
+    m_jsonMapper.writeValue(json, entity);
+    assertTrue(m_binaryMapper.writeValueAsBytes(entity).length < json.size());
+  }
+
+  protected <T extends IDataObject> void assertRoundTrip(T entity, Class<T> valueType) {
+    byte[] bytes = m_binaryMapper.writeValueAsBytes(entity);
+    T binaryResult = m_binaryMapper.readValue(bytes, valueType);
+    T jsonResult = m_jsonMapper.readValue(m_jsonMapper.writeValue(entity), valueType);
+    assertEquals(entity, binaryResult);
+    assertEquals(jsonResult, binaryResult);
+  }
+}
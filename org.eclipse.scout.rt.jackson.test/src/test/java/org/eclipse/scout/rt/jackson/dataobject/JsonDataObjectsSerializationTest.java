@@ -267,6 +267,28 @@ public class JsonDataObjectsSerializationTest {
     assertJsonEquals("TestBigIntegerDo.json", json);
   }
 
+  /**
+   * Serializes entities of the same type with different sets of attributes (attribute order is cached per type).
+   */
+  @Test
+  public void testSerialize_TestBigIntegerDoWithChangingAttributes() throws Exception {
+    TestBigIntegerDo testDo = BEANS.get(TestBigIntegerDo.class);
+    testDo.bigIntegerAttribute().set(new BigInteger("123456"));
+    assertJsonEquals("TestBigIntegerDo.json", s_dataObjectMapper.writeValueAsString(testDo));
+
+    TestBigIntegerDo testDo2 = BEANS.get(TestBigIntegerDo.class);
+    testDo2.bigIntegerAttribute().set(new BigInteger("123456"));
+    testDo2.put("zCustomAttribute", "z");
+    testDo2.put("aCustomAttribute", "a");
+    String json = s_dataObjectMapper.writeValueAsString(testDo2);
+    assertTrue(json.indexOf("aCustomAttribute") < json.indexOf("bigIntegerAttribute"));
+    assertTrue(json.indexOf("bigIntegerAttribute") < json.indexOf("zCustomAttribute"));
+    assertEquals(testDo2, s_dataObjectMapper.readValue(json, TestBigIntegerDo.class));
+
+    // same set of attributes as first entity again
+    assertJsonEquals("TestBigIntegerDo.json", s_dataObjectMapper.writeValueAsString(testDo));
+  }
+
   @Test
   public void testDeserialize_TestEntityWithVariousIds() throws Exception {
     String inputJson = readResourceAsString("TestEntityWithVariousIdsDo.json");
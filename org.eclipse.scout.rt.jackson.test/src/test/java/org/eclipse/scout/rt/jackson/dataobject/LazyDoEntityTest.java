@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.jackson.dataobject;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.dataobject.DoEntity;
+import org.eclipse.scout.rt.dataobject.IBinaryDataObjectMapper;
+import org.eclipse.scout.rt.dataobject.IDataObjectMapper;
+import org.eclipse.scout.rt.dataobject.IDoEntity;
+import org.eclipse.scout.rt.dataobject.LazyDoEntity;
+import org.eclipse.scout.rt.jackson.dataobject.fixture.TestItemDo;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Tests for {@link LazyDoEntity} and {@link LazyDoEntityDeserializer}.
+ */
+public class LazyDoEntityTest {
+
+  protected static final String JSON = "{\"b\":1,\"a\":\"foo\",\"list\":[1,2],\"nested\":{\"_type\":\"TestItem\",\"id\":\"1\"}}";
+
+  protected IDataObjectMapper m_mapper;
+
+  @Before
+  public void before() {
+    m_mapper = BEANS.get(IDataObjectMapper.class);
+  }
+
+  @Test
+  public void testPassThrough() {
+    LazyDoEntity entity = m_mapper.readValue(JSON, LazyDoEntity.class);
+    assertFalse(entity.isMaterialized());
+    assertEquals(JSON, entity.getJson());
+
+    // written as is (not sorted), without parsing
+    assertEquals(JSON, m_mapper.writeValue(entity));
+    assertFalse(entity.isMaterialized());
+
+    // within another data object
+    DoEntity wrapper = new DoEntity();
+    wrapper.put("payload", entity);
+    assertEquals("{\"payload\":" + JSON + "}", m_mapper.writeValue(wrapper));
+    assertFalse(entity.isMaterialized());
+  }
+
+  @Test
+  public void testMaterialize() {
+    LazyDoEntity entity = m_mapper.readValue(JSON, LazyDoEntity.class);
+    assertEquals("foo", entity.get("a"));
+    assertTrue(entity.isMaterialized());
+    assertNull(entity.getJson());
+    assertEquals(Arrays.asList(1, 2), entity.getList("list"));
+    assertTrue(entity.get("nested") instanceof IDoEntity); // raw entity
+
+    entity.put("a", "bar");
+    IDoEntity expected = (IDoEntity) m_mapper.readValueRaw(JSON);
+    expected.put("a", "bar");
+    assertEquals(m_mapper.writeValue(expected), m_mapper.writeValue(entity));
+  }
+
+  @Test
+  public void testOfInvalidJson() {
+    assertThrows(PlatformException.class, () -> LazyDoEntity.of("{\"a\":"));
+    assertThrows(PlatformException.class, () -> LazyDoEntity.of("[1,2]"));
+    assertThrows(PlatformException.class, () -> LazyDoEntity.of(null));
+  }
+
+  @Test
+  public void testMaterializeFailureRetainsJson() {
+    LazyDoEntity entity = LazyDoEntity.ofUnchecked("{\"a\":");
+    assertThrows(PlatformException.class, entity::materialize);
+    assertFalse(entity.isMaterialized());
+    assertEquals("{\"a\":", entity.getJson());
+  }
+
+  @Test
+  public void testConcurrentMaterialize() {
+    LazyDoEntity entity = LazyDoEntity.of(JSON);
+    CountDownLatch start = new CountDownLatch(1);
+    List<IFuture<Object>> futures = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      futures.add(Jobs.schedule(() -> {
+        start.await(30, TimeUnit.SECONDS);
+        return entity.get("a");
+      }, Jobs.newInput()));
+    }
+    start.countDown();
+    futures.forEach(future -> assertEquals("foo", future.awaitDoneAndGet(30, TimeUnit.SECONDS)));
+    assertEquals(4, entity.allNodes().size());
+  }
+
+  @Test
+  public void testEquals() {
+    LazyDoEntity entity1 = LazyDoEntity.of(JSON);
+    LazyDoEntity entity2 = LazyDoEntity.of("{\"a\":\"foo\",\"b\":1,\"nested\":{\"id\":\"1\",\"_type\":\"TestItem\"},\"list\":[1,2]}");
+    assertEquals(entity1, entity2);
+    assertEquals(entity1.hashCode(), entity2.hashCode());
+    assertNotEquals(entity1, LazyDoEntity.of("{\"a\":\"bar\"}"));
+  }
+
+  @Test
+  public void testReadAsTyped() {
+    LazyDoEntity entity = LazyDoEntity.of("{\"_type\":\"TestItem\",\"id\":\"1\"}");
+    TestItemDo item = m_mapper.readValue(m_mapper.writeValue(entity), TestItemDo.class);
+    assertEquals("1", item.getId());
+  }
+
+  @Test
+  public void testBinaryMapper() {
+    IBinaryDataObjectMapper binaryMapper = BEANS.get(IBinaryDataObjectMapper.class);
+    LazyDoEntity entity = LazyDoEntity.of(JSON);
+    byte[] bytes = binaryMapper.writeValueAsBytes(entity); // no raw JSON in binary format, entity is materialized
+    assertTrue(entity.isMaterialized());
+
+    LazyDoEntity copy = binaryMapper.readValue(bytes, LazyDoEntity.class);
+    assertFalse(copy.isMaterialized());
+    assertEquals(entity, copy);
+  }
+
+  @Test
+  public void testJsonFactoryOfMapper() throws Exception {
+    ObjectMapper objectMapper = BEANS.get(JacksonDataObjectMapper.class).getObjectMapper();
+    try (JsonParser parser = objectMapper.createParser(JSON)) {
+      assertSame(objectMapper.getFactory(), new LazyDoEntityDeserializer().getJsonFactory(parser));
+    }
+
+    // binary format: JSON text with the same stream read constraints
+    ObjectMapper smileMapper = BEANS.get(JacksonSmileDataObjectMapper.class).getObjectMapper();
+    try (JsonParser parser = smileMapper.createParser(smileMapper.writeValueAsBytes(new DoEntity()))) {
+      JsonFactory factory = new LazyDoEntityDeserializer().getJsonFactory(parser);
+      assertEquals(JsonFactory.FORMAT_NAME_JSON, factory.getFormatName());
+      assertEquals(smileMapper.getFactory().streamReadConstraints().getMaxStringLength(), factory.streamReadConstraints().getMaxStringLength());
+      assertEquals(smileMapper.getFactory().streamReadConstraints().getMaxNestingDepth(), factory.streamReadConstraints().getMaxNestingDepth());
+    }
+  }
+}
@@ -12,6 +12,9 @@ package org.eclipse.scout.rt.jackson.dataobject;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.eclipse.scout.rt.dataobject.AbstractDoCollection;
 import org.eclipse.scout.rt.dataobject.DoEntity;
@@ -47,11 +50,20 @@ public class DoEntityDeserializer extends StdDeserializer<IDoEntity> {
 
   private static final Logger LOG = LoggerFactory.getLogger(DoEntityDeserializer.class);
 
+  protected static final AttributeType TYPE_VERSION_ATTRIBUTE_TYPE = AttributeType.ofDoValue(TypeFactory.defaultInstance().constructType(String.class));
+
   protected final ScoutDataObjectModuleContext m_moduleContext;
   protected final JavaType m_handledType;
   protected final Class<? extends IDoEntity> m_handledClass;
   protected final IDoEntityDeserializerTypeStrategy m_doEntityDeserializerTypeStrategy;
 
+  /**
+   * Attribute types resolved by the {@link IDoEntityDeserializerTypeStrategy} per entity class and attribute name. The
+   * resolved type of a {@code DoValue<Object>} attribute depends on whether its value is an array, hence two maps
+   * (index 0: any other token, index 1: {@link JsonToken#START_ARRAY}).
+   */
+  protected final ConcurrentMap<Class<? extends IDoEntity>, ConcurrentMap<String, Optional<AttributeType>>[]> m_resolvedAttributeTypes = new ConcurrentHashMap<>();
+
   public DoEntityDeserializer(ScoutDataObjectModuleContext moduleContext, JavaType type) {
     super(type);
     m_moduleContext = moduleContext;
@@ -147,8 +159,7 @@ public class DoEntityDeserializer extends StdDeserializer<IDoEntity> {
 
       // check if reading the 'type version' property
       if (m_moduleContext.getTypeVersionAttributeName().equals(attributeName)) {
-        AttributeType at = AttributeType.ofDoValue(TypeFactory.defaultInstance().constructType(String.class));
-        Object value = readAttributeValue(p, at, attributeName);
+        Object value = readAttributeValue(p, TYPE_VERSION_ATTRIBUTE_TYPE, attributeName);
         deserializeDoEntityVersionAttribute(entity, attributeName, value);
       }
       else {
@@ -247,10 +258,28 @@ public class DoEntityDeserializer extends StdDeserializer<IDoEntity> {
   }
 
   protected AttributeType findResolvedAttributeType(IDoEntity entityInstance, String attributeName, JsonToken currentToken) {
-    return m_doEntityDeserializerTypeStrategy.resolveAttributeType(entityInstance.getClass(), attributeName, currentToken)
+    return resolveAttributeType(entityInstance.getClass(), attributeName, currentToken)
         .orElseGet(() -> findResolvedFallbackAttributeType(entityInstance, attributeName, currentToken));
   }
 
+  /**
+   * Resolves the attribute type using the {@link IDoEntityDeserializerTypeStrategy}. Attributes declared by the entity
+   * class are cached, undeclared attributes (e.g. of raw {@link DoEntity} instances) are resolved on each call.
+   */
+  @SuppressWarnings("unchecked")
+  protected Optional<AttributeType> resolveAttributeType(Class<? extends IDoEntity> entityClass, String attributeName, JsonToken currentToken) {
+    ConcurrentMap<String, Optional<AttributeType>>[] cache = m_resolvedAttributeTypes.computeIfAbsent(entityClass, c -> new ConcurrentMap[]{new ConcurrentHashMap<>(), new ConcurrentHashMap<>()});
+    ConcurrentMap<String, Optional<AttributeType>> attributeTypes = cache[currentToken == JsonToken.START_ARRAY ? 1 : 0];
+    Optional<AttributeType> attributeType = attributeTypes.get(attributeName);
+    if (attributeType == null) {
+      attributeType = m_doEntityDeserializerTypeStrategy.resolveAttributeType(entityClass, attributeName, currentToken);
+      if (attributeType.isPresent()) {
+        attributeTypes.putIfAbsent(attributeName, attributeType);
+      }
+    }
+    return attributeType;
+  }
+
   protected AttributeType findResolvedFallbackAttributeType(IDoEntity entityInstance, String attributeName, JsonToken currentToken) {
     if (DoMapEntity.class.isAssignableFrom(m_handledClass)) {
       // try to resolve DoMap generic type
@@ -12,12 +12,14 @@ package org.eclipse.scout.rt.jackson.dataobject;
 import static org.eclipse.scout.rt.platform.util.Assertions.assertTrue;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
-import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.eclipse.scout.rt.dataobject.DataObjectInventory;
 import org.eclipse.scout.rt.dataobject.DoEntity;
@@ -27,11 +29,14 @@ import org.eclipse.scout.rt.dataobject.IDataObject;
 import org.eclipse.scout.rt.dataobject.IDoCollection;
 import org.eclipse.scout.rt.dataobject.IDoEntity;
 import org.eclipse.scout.rt.dataobject.IDoEntityContribution;
+import org.eclipse.scout.rt.dataobject.LazyDoEntity;
 import org.eclipse.scout.rt.platform.namespace.NamespaceVersion;
 import org.eclipse.scout.rt.platform.util.LazyValue;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
 import com.fasterxml.jackson.core.type.WritableTypeId;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonSerializer;
@@ -39,9 +44,14 @@ import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import com.fasterxml.jackson.databind.type.MapType;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 
 /**
  * Serializer for {@link IDoEntity} and all sub-classes.
+ * <p>
+ * Jackson creates one serializer instance per entity type. Attributes declared by that type are resolved only once
+ * (attribute type and serialized attribute name) and the sorted attribute order of the last serialized entity is
+ * reused as long as the entity has the same set of attributes.
  */
 public class DoEntitySerializer extends StdSerializer<IDoEntity> {
   private static final long serialVersionUID = 1L;
@@ -50,6 +60,13 @@ public class DoEntitySerializer extends StdSerializer<IDoEntity> {
 
   protected final ScoutDataObjectModuleContext m_context;
 
+  /**
+   * Resolved declared attributes, undeclared attributes (e.g. of raw {@link DoEntity} instances) are not cached.
+   */
+  protected final ConcurrentMap<String, DeclaredAttribute> m_declaredAttributes = new ConcurrentHashMap<>();
+
+  protected volatile String[] m_sortedAttributeNames = new String[0];
+
   public DoEntitySerializer(ScoutDataObjectModuleContext context, JavaType type) {
     super(type);
     m_context = context;
@@ -57,6 +74,9 @@ public class DoEntitySerializer extends StdSerializer<IDoEntity> {
 
   @Override
   public void serialize(IDoEntity entity, JsonGenerator gen, SerializerProvider provider) throws IOException {
+    if (serializeLazyEntity(entity, gen)) {
+      return;
+    }
     gen.writeStartObject();
     serializeAttributes(entity, gen, provider);
     gen.writeEndObject();
@@ -64,25 +84,69 @@ public class DoEntitySerializer extends StdSerializer<IDoEntity> {
 
   @Override
   public void serializeWithType(IDoEntity entity, JsonGenerator gen, SerializerProvider provider, TypeSerializer typeSer) throws IOException {
+    if (serializeLazyEntity(entity, gen)) {
+      return; // a lazy entity has no type name annotation, hence no type id is written, see DataObjectTypeResolverBuilder
+    }
     WritableTypeId typeIdDef = typeSer.writeTypePrefix(gen, typeSer.typeId(entity, JsonToken.START_OBJECT));
     serializeAttributes(entity, gen, provider);
     typeSer.writeTypeSuffix(gen, typeIdDef);
   }
 
+  /**
+   * Writes the JSON representation of a {@link LazyDoEntity} which was not materialized yet as is using
+   * {@link JsonGenerator#writeRawValue(String)}. Not applicable for binary formats (e.g. Smile), which cannot embed JSON
+   * text, and for a {@link TokenBuffer}, which would keep the JSON text as embedded object instead of its tokens.
+   *
+   * @return {@code true} if the entity was written
+   */
+  protected boolean serializeLazyEntity(IDoEntity entity, JsonGenerator gen) throws IOException {
+    if (!(entity instanceof LazyDoEntity) || gen.canWriteBinaryNatively() || gen instanceof TokenBuffer) {
+      return false;
+    }
+    String json = ((LazyDoEntity) entity).getJson();
+    if (json == null) {
+      return false;
+    }
+    gen.writeRawValue(json);
+    return true;
+  }
+
   /**
    * Serialize all fields of specified {@link IDoEntity} sorted alphabetically.
    */
   protected void serializeAttributes(IDoEntity entity, JsonGenerator gen, SerializerProvider provider) throws IOException {
     serializeTypeVersion(gen, entity);
-    TreeMap<String, DoNode<?>> sortedMap = new TreeMap<>(m_context.getComparator());
-    sortedMap.putAll(entity.allNodes());
-    for (Map.Entry<String, DoNode<?>> e : sortedMap.entrySet()) {
+    Map<String, DoNode<?>> nodes = entity.allNodes();
+    for (String attributeName : getSortedAttributeNames(nodes)) {
       gen.setCurrentValue(entity);
-      serializeAttribute(e.getKey(), e.getValue(), gen, provider);
+      serializeAttribute(attributeName, nodes.get(attributeName), gen, provider);
     }
     serializeContributions(gen, entity, provider);
   }
 
+  /**
+   * @return attribute names of given nodes sorted according to {@link ScoutDataObjectModuleContext#getComparator()}
+   */
+  protected String[] getSortedAttributeNames(Map<String, DoNode<?>> nodes) {
+    String[] sortedAttributeNames = m_sortedAttributeNames;
+    if (sortedAttributeNames.length == nodes.size() && containsAll(nodes, sortedAttributeNames)) {
+      return sortedAttributeNames;
+    }
+    sortedAttributeNames = nodes.keySet().toArray(new String[0]);
+    Arrays.sort(sortedAttributeNames, m_context.getComparator());
+    m_sortedAttributeNames = sortedAttributeNames;
+    return sortedAttributeNames;
+  }
+
+  protected boolean containsAll(Map<String, DoNode<?>> nodes, String[] attributeNames) {
+    for (String attributeName : attributeNames) {
+      if (!nodes.containsKey(attributeName)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   protected void serializeTypeVersion(JsonGenerator gen, IDoEntity entity) throws IOException {
     NamespaceVersion typeVersion = m_dataObjectInventory.get().getTypeVersion(entity.getClass());
     if (typeVersion != null) {
@@ -106,10 +170,12 @@ public class DoEntitySerializer extends StdSerializer<IDoEntity> {
     }
 
     if (obj == null) {
-      gen.writeObjectField(attributeName, null);
+      writeFieldName(attributeName, gen);
+      gen.writeObject(null);
     }
     else if (obj instanceof Collection || obj instanceof IDoCollection) {
-      gen.writeObjectField(attributeName, obj);
+      writeFieldName(attributeName, gen);
+      gen.writeObject(obj);
     }
     else if (obj instanceof Map) {
       serializeMap(attributeName, (Map<?, ?>) obj, gen, provider);
@@ -118,7 +184,8 @@ public class DoEntitySerializer extends StdSerializer<IDoEntity> {
       // DoEntity exclusion: in special circumstances (e.g. migration scenarios) where a typed DO entity might contain an untyped DO entity,
       // the typed DoEntitySerializer must not be used because expecting different instances of the attributes
       // (e.g. an attribute with type IId results in QualifiedIdSerializer, expecting a IId and not a String as present in the untyped DO entity).
-      gen.writeObjectField(attributeName, obj);
+      writeFieldName(attributeName, gen);
+      gen.writeObject(obj);
     }
     else {
       JavaType declaredAttributeType = getAttributeType(attributeName).map(AttributeType::getJavaType).orElse(null);
@@ -127,7 +194,8 @@ public class DoEntitySerializer extends StdSerializer<IDoEntity> {
       }
       else {
         // use serialization by value
-        gen.writeObjectField(attributeName, obj);
+        writeFieldName(attributeName, gen);
+        gen.writeObject(obj);
       }
     }
   }
@@ -159,7 +227,7 @@ public class DoEntitySerializer extends StdSerializer<IDoEntity> {
 
     // This "raw" map serialization forces Jackson to include type information by using the appropriate serializer if a type is available
     // or use the default serialization via key serializer/JsonGenerator#writeObject otherwise.
-    gen.writeFieldName(attributeName);
+    writeFieldName(attributeName, gen);
     gen.writeStartObject();
     gen.setCurrentValue(map);
     for (Entry<?, ?> entry : map.entrySet()) {
@@ -225,14 +293,44 @@ public class DoEntitySerializer extends StdSerializer<IDoEntity> {
    */
   protected void serializeTypedAttribute(String attributeName, Object obj, JsonGenerator gen, SerializerProvider provider, JavaType type) throws IOException {
     JsonSerializer<Object> ser = provider.findTypedValueSerializer(type, true, null);
-    gen.writeFieldName(attributeName);
+    writeFieldName(attributeName, gen);
     ser.serialize(obj, gen, provider);
   }
 
+  /**
+   * Writes the attribute name using its pre-encoded form if the attribute is declared by the handled entity type.
+   */
+  protected void writeFieldName(String attributeName, JsonGenerator gen) throws IOException {
+    DeclaredAttribute attribute = getDeclaredAttribute(attributeName);
+    if (attribute != null) {
+      gen.writeFieldName(attribute.getSerializedName());
+    }
+    else {
+      gen.writeFieldName(attributeName);
+    }
+  }
+
   protected Optional<AttributeType> getAttributeType(String attributeName) {
-    return m_dataObjectInventory.get().getAttributeDescription(handledType(), attributeName)
-        .map(a -> TypeFactoryUtility.toAttributeType(a.getType()))
-        .filter(AttributeType::isKnown); // filter completely unknown types, forcing to use the default behavior for unknown types
+    DeclaredAttribute attribute = getDeclaredAttribute(attributeName);
+    return attribute == null ? Optional.empty() : attribute.getAttributeType();
+  }
+
+  /**
+   * @return resolved attribute declared by the handled entity type or {@code null} if there is no such attribute.
+   */
+  protected DeclaredAttribute getDeclaredAttribute(String attributeName) {
+    DeclaredAttribute attribute = m_declaredAttributes.get(attributeName);
+    if (attribute != null) {
+      return attribute;
+    }
+    attribute = m_dataObjectInventory.get().getAttributeDescription(handledType(), attributeName)
+        .map(a -> new DeclaredAttribute(attributeName, Optional.of(TypeFactoryUtility.toAttributeType(a.getType()))
+            .filter(AttributeType::isKnown))) // filter completely unknown types, forcing to use the default behavior for unknown types
+        .orElse(null);
+    if (attribute != null) {
+      m_declaredAttributes.putIfAbsent(attributeName, attribute);
+    }
+    return attribute;
   }
 
   protected void validateContributions(IDoEntity doEntity, Collection<IDoEntityContribution> contributions) {
@@ -242,4 +340,25 @@ public class DoEntitySerializer extends StdSerializer<IDoEntity> {
       assertTrue(containerClasses.stream().anyMatch(containerClass -> containerClass.isInstance(doEntity)), "{} is not a valid container class of {}", doEntity.getClass().getSimpleName(), contributionClass.getSimpleName());
     }
   }
+
+  /**
+   * Attribute declared by the handled entity type with its resolved type and pre-encoded name.
+   */
+  protected static class DeclaredAttribute {
+    private final SerializableString m_serializedName;
+    private final Optional<AttributeType> m_attributeType;
+
+    public DeclaredAttribute(String attributeName, Optional<AttributeType> attributeType) {
+      m_serializedName = new SerializedString(attributeName);
+      m_attributeType = attributeType;
+    }
+
+    public SerializableString getSerializedName() {
+      return m_serializedName;
+    }
+
+    public Optional<AttributeType> getAttributeType() {
+      return m_attributeType;
+    }
+  }
 }
@@ -16,8 +16,13 @@ import java.text.SimpleDateFormat;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.eclipse.scout.rt.dataobject.IDataObject;
 import org.eclipse.scout.rt.dataobject.IDataObjectMapper;
@@ -39,8 +44,10 @@ import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.StreamReadConstraints;
 import com.fasterxml.jackson.core.StreamWriteConstraints;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
 
 /**
  * {@link IDataObjectMapper} implementation based on Jackson databind {@link ObjectMapper}.
@@ -126,6 +133,46 @@ public class JacksonDataObjectMapper implements IDataObjectMapper {
     }
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Elements are read using a Jackson {@link MappingIterator}, which parses the next element on demand.
+   */
+  @Override
+  public <T> Stream<T> readValues(InputStream inputStream, Class<T> elementType) {
+    Assertions.assertNotNull(inputStream, "Input stream must not be null");
+    MappingIterator<T> iterator;
+    try {
+      iterator = m_objectMapper.get().readerFor(elementType).readValues(inputStream);
+    }
+    catch (IOException e) {
+      throw BEANS.get(PlatformExceptionTranslator.class).translate(e);
+    }
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(new MappingIteratorAdapter<>(iterator), Spliterator.ORDERED | Spliterator.NONNULL), false)
+        .onClose(() -> {
+          try {
+            iterator.close();
+          }
+          catch (IOException e) {
+            throw BEANS.get(PlatformExceptionTranslator.class).translate(e);
+          }
+        });
+  }
+
+  @Override
+  public void writeValues(OutputStream outputStream, Iterator<?> values) {
+    Assertions.assertNotNull(outputStream, "Output stream must not be null");
+    Assertions.assertNotNull(values, "Values must not be null");
+    try (SequenceWriter writer = m_objectMapper.get().writer().writeValuesAsArray(outputStream)) {
+      while (values.hasNext()) {
+        writer.write(values.next());
+      }
+    }
+    catch (IOException e) {
+      throw BEANS.get(PlatformExceptionTranslator.class).translate(e);
+    }
+  }
+
   /**
    * <b>Note</b> This method is exposed only for internal framework usage. It is recommended to use the
    * {@link IDataObjectMapper} representation of the object mapper and not to use {@link ObjectMapper} instances
@@ -143,12 +190,7 @@ public class JacksonDataObjectMapper implements IDataObjectMapper {
    * Creates new {@link ObjectMapper} instance configured to be used with {@link IDoEntity}.
    */
   protected ObjectMapper createObjectMapperInstance(boolean ignoreTypeAttribute) {
-    // setup custom-configured JsonFactory used for ObjectMapper
-    JsonFactory jsonFactory = JsonFactory.builder()
-        .streamReadConstraints(CONFIG.getPropertyValue(StreamReadConstraintsConfigProperty.class))
-        .streamWriteConstraints(CONFIG.getPropertyValue(StreamWriteConstraintsConfigProperty.class))
-        .build();
-    ObjectMapper om = new ObjectMapper(jsonFactory);
+    ObjectMapper om = new ObjectMapper(createJsonFactory());
     ScoutDataObjectModule scoutDataObjectModule = BEANS.get(ScoutDataObjectModule.class).withIgnoreTypeAttribute(ignoreTypeAttribute);
     prepareScoutDataModuleContext(scoutDataObjectModule.getModuleContext());
     om.registerModule(scoutDataObjectModule);
@@ -159,6 +201,16 @@ public class JacksonDataObjectMapper implements IDataObjectMapper {
     return om;
   }
 
+  /**
+   * Creates the custom-configured {@link JsonFactory} used for the {@link ObjectMapper}.
+   */
+  protected JsonFactory createJsonFactory() {
+    return JsonFactory.builder()
+        .streamReadConstraints(CONFIG.getPropertyValue(StreamReadConstraintsConfigProperty.class))
+        .streamWriteConstraints(CONFIG.getPropertyValue(StreamWriteConstraintsConfigProperty.class))
+        .build();
+  }
+
   /**
    * Override this method to add custom properties to {@code moduleContext}.
    */
@@ -166,6 +218,38 @@ public class JacksonDataObjectMapper implements IDataObjectMapper {
     // nop
   }
 
+  /**
+   * Adapts a {@link MappingIterator}, translating its checked exceptions.
+   */
+  protected static class MappingIteratorAdapter<T> implements Iterator<T> {
+
+    private final MappingIterator<T> m_iterator;
+
+    public MappingIteratorAdapter(MappingIterator<T> iterator) {
+      m_iterator = iterator;
+    }
+
+    @Override
+    public boolean hasNext() {
+      try {
+        return m_iterator.hasNextValue();
+      }
+      catch (IOException e) {
+        throw BEANS.get(PlatformExceptionTranslator.class).translate(e);
+      }
+    }
+
+    @Override
+    public T next() {
+      try {
+        return m_iterator.nextValue();
+      }
+      catch (IOException e) {
+        throw BEANS.get(PlatformExceptionTranslator.class).translate(e);
+      }
+    }
+  }
+
   /**
    * {@link StreamReadConstraints} for {@link JsonFactory}.
    */
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.jackson.dataobject;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+import org.eclipse.scout.rt.dataobject.IBinaryDataObjectMapper;
+import org.eclipse.scout.rt.dataobject.IDataObject;
+import org.eclipse.scout.rt.dataobject.IDataObjectMapper;
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.util.Base64Utility;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * {@link IDataObjectMapper} implementation based on jackson {@link ObjectMapper} using the binary
+ * <a href="https://github.com/FasterXML/smile-format-specification">Smile</a> format instead of JSON text.
+ * <p>
+ * Uses the same {@link ScoutDataObjectModule} as {@link JacksonDataObjectMapper}, hence type names, type versions, ids
+ * and enums are handled the same way and a data object read back is equal to the one read from the JSON
+ * representation. Smile back-references repeated attribute names, which makes the representation of lists of data
+ * objects considerably smaller than JSON.
+ */
+@Order(IBean.DEFAULT_BEAN_ORDER + 100)
+public class JacksonSmileDataObjectMapper extends JacksonDataObjectMapper implements IBinaryDataObjectMapper {
+
+  public static final String MEDIA_TYPE = "application/x-jackson-smile";
+
+  @Override
+  protected JsonFactory createJsonFactory() {
+    return SmileFactory.builder()
+        .streamReadConstraints(CONFIG.getPropertyValue(StreamReadConstraintsConfigProperty.class))
+        .streamWriteConstraints(CONFIG.getPropertyValue(StreamWriteConstraintsConfigProperty.class))
+        .build();
+  }
+
+  @Override
+  public String getMediaType() {
+    return MEDIA_TYPE;
+  }
+
+  @Override
+  public <T> T readValue(byte[] value, Class<T> valueType) {
+    if (value == null) {
+      return null;
+    }
+    return readValue(new ByteArrayInputStream(value), valueType);
+  }
+
+  @Override
+  public byte[] writeValueAsBytes(Object value) {
+    if (value == null) {
+      return null;
+    }
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    writeValue(out, value);
+    return out.toByteArray();
+  }
+
+  /**
+   * @param value
+   *          Base64 encoded Smile representation
+   */
+  @Override
+  public <T> T readValue(String value, Class<T> valueType) {
+    if (value == null) {
+      return null;
+    }
+    return readValue(Base64Utility.decode(value), valueType);
+  }
+
+  /**
+   * @param value
+   *          Base64 encoded Smile representation
+   */
+  @Override
+  public IDataObject readValueRaw(String value) {
+    if (value == null) {
+      return null;
+    }
+    return readValueRaw(new ByteArrayInputStream(Base64Utility.decode(value)));
+  }
+
+  /**
+   * @return Base64 encoded Smile representation
+   */
+  @Override
+  public String writeValue(Object value) {
+    if (value == null) {
+      return null;
+    }
+    return Base64Utility.encode(writeValueAsBytes(value));
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.jackson.dataobject;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import org.eclipse.scout.rt.dataobject.LazyDoEntity;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+/**
+ * Deserializer for {@link LazyDoEntity}: copies the tokens of the JSON object into its JSON representation without
+ * creating any attribute nodes. Data objects within the object are not resolved.
+ * <p>
+ * The JSON representation is always JSON text, also if read from a binary format.
+ */
+public class LazyDoEntityDeserializer extends StdDeserializer<LazyDoEntity> {
+  private static final long serialVersionUID = 1L;
+
+  public LazyDoEntityDeserializer() {
+    super(LazyDoEntity.class);
+  }
+
+  @Override
+  public LazyDoEntity deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+    if (p.currentToken() != JsonToken.START_OBJECT) {
+      return (LazyDoEntity) ctxt.handleUnexpectedToken(LazyDoEntity.class, p);
+    }
+    StringWriter json = new StringWriter();
+    try (JsonGenerator generator = getJsonFactory(p).createGenerator(json)) {
+      generator.copyCurrentStructure(p);
+    }
+    return LazyDoEntity.ofUnchecked(json.toString()); // well-formed, copied by the parser
+  }
+
+  /**
+   * @return the factory of the mapper reading the object if it writes JSON text, otherwise a JSON factory with the same
+   *         stream read constraints
+   */
+  protected JsonFactory getJsonFactory(JsonParser p) {
+    ObjectCodec codec = p.getCodec();
+    JsonFactory factory = codec != null ? codec.getFactory() : null;
+    if (factory == null) {
+      return new JsonFactory();
+    }
+    if (JsonFactory.FORMAT_NAME_JSON.equals(factory.getFormatName())) {
+      return factory;
+    }
+    return JsonFactory.builder()
+        .streamReadConstraints(factory.streamReadConstraints())
+        .build();
+  }
+}
@@ -20,6 +20,7 @@ import org.eclipse.scout.rt.dataobject.DoSet;
 import org.eclipse.scout.rt.dataobject.DoValue;
 import org.eclipse.scout.rt.dataobject.IDataObject;
 import org.eclipse.scout.rt.dataobject.IDoEntity;
+import org.eclipse.scout.rt.dataobject.LazyDoEntity;
 import org.eclipse.scout.rt.dataobject.enumeration.IEnum;
 import org.eclipse.scout.rt.dataobject.id.IId;
 import org.eclipse.scout.rt.dataobject.id.TypedId;
@@ -93,7 +94,10 @@ public class ScoutDataObjectSerializerProvider implements IDataObjectSerializerP
   @Override
   public JsonDeserializer<?> findDeserializer(ScoutDataObjectModuleContext moduleContext, JavaType type, DeserializationConfig config, BeanDescription beanDesc) {
     Class<?> rawClass = type.getRawClass();
-    if (IDoEntity.class.isAssignableFrom(rawClass)) {
+    if (LazyDoEntity.class.isAssignableFrom(rawClass)) {
+      return new LazyDoEntityDeserializer();
+    }
+    else if (IDoEntity.class.isAssignableFrom(rawClass)) {
       return new DoEntityDeserializer(moduleContext, type);
     }
     else if (DoList.class.isAssignableFrom(rawClass)) {
@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.mom.api;
+
+import static org.junit.Assert.*;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.scout.rt.mom.api.IDestination.DestinationType;
+import org.eclipse.scout.rt.mom.api.IDestination.ResolveMethod;
+import org.eclipse.scout.rt.mom.api.marshaller.ObjectMarshaller;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.transaction.ITransaction;
+import org.eclipse.scout.rt.platform.transaction.TransactionScope;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests for {@link InMemoryMomImplementor}
+ */
+@RunWith(PlatformTestRunner.class)
+public class InMemoryMomImplementorTest {
+
+  private InMemoryMomImplementor m_mom;
+
+  @After
+  public void after() {
+    if (m_mom != null) {
+      m_mom.destroy();
+    }
+  }
+
+  @Test
+  public void testTopic() throws Exception {
+    m_mom = createMom(true);
+    IDestination<TestObject> topic = MOM.newDestination("test/topic", DestinationType.TOPIC, ResolveMethod.DEFINE, null);
+    BlockingQueue<IMessage<TestObject>> received1 = new ArrayBlockingQueue<>(10);
+    BlockingQueue<IMessage<TestObject>> received2 = new ArrayBlockingQueue<>(10);
+    m_mom.subscribe(topic, received1::add, MOM.newSubscribeInput());
+    m_mom.subscribe(topic, received2::add, MOM.newSubscribeInput().withAcknowledgementMode(SubscribeInput.ACKNOWLEDGE_AUTO_SINGLE_THREADED));
+
+    TestObject published = new TestObject("hello");
+    m_mom.publish(topic, published, MOM.newPublishInput().withProperty("prop", "value"));
+
+    IMessage<TestObject> message1 = received1.poll(30, TimeUnit.SECONDS);
+    IMessage<TestObject> message2 = received2.poll(30, TimeUnit.SECONDS);
+    assertEquals(published, message1.getTransferObject());
+    assertEquals(published, message2.getTransferObject());
+    assertNotSame(published, message1.getTransferObject());
+    assertNotSame(message1.getTransferObject(), message2.getTransferObject());
+    assertEquals("value", message1.getProperty("prop"));
+  }
+
+  @Test
+  public void testQueue() throws Exception {
+    m_mom = createMom(true);
+    IDestination<String> queue = MOM.newDestination("test/queue", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+
+    // published before any subscriber is present
+    m_mom.publish(queue, "message1", MOM.newPublishInput());
+
+    BlockingQueue<String> received = new ArrayBlockingQueue<>(10);
+    m_mom.subscribe(queue, message -> received.add(message.getTransferObject()), MOM.newSubscribeInput().withAcknowledgementMode(SubscribeInput.ACKNOWLEDGE_AUTO_SINGLE_THREADED));
+    m_mom.subscribe(queue, message -> received.add(message.getTransferObject()), MOM.newSubscribeInput().withAcknowledgementMode(SubscribeInput.ACKNOWLEDGE_AUTO_SINGLE_THREADED));
+    m_mom.publish(queue, "message2", MOM.newPublishInput());
+    m_mom.publish(queue, "message3", MOM.newPublishInput());
+
+    assertEquals("message1", received.poll(30, TimeUnit.SECONDS));
+    assertNotNull(received.poll(30, TimeUnit.SECONDS));
+    assertNotNull(received.poll(30, TimeUnit.SECONDS));
+    // each message is delivered to one subscriber only
+    assertNull(received.poll(100, TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  public void testQueueWithoutLocalReceipt() throws Exception {
+    m_mom = createMom(true);
+    IDestination<String> queue = MOM.newDestination("test/queue", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+    BlockingQueue<String> received = new ArrayBlockingQueue<>(10);
+    BlockingQueue<String> receivedWithoutLocalReceipt = new ArrayBlockingQueue<>(10);
+    m_mom.subscribe(queue, message -> receivedWithoutLocalReceipt.add(message.getTransferObject()), MOM.newSubscribeInput().withLocalReceipt(false));
+    m_mom.subscribe(queue, message -> received.add(message.getTransferObject()), MOM.newSubscribeInput().withAcknowledgementMode(SubscribeInput.ACKNOWLEDGE_AUTO_SINGLE_THREADED));
+
+    // each message is delivered to the subscription which receives local messages
+    for (int i = 0; i < 4; i++) {
+      m_mom.publish(queue, "message" + i, MOM.newPublishInput());
+    }
+    for (int i = 0; i < 4; i++) {
+      assertEquals("message" + i, received.poll(30, TimeUnit.SECONDS));
+    }
+    assertNull(receivedWithoutLocalReceipt.poll(100, TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  public void testQueueDisposeWhilePublishing() throws Exception {
+    m_mom = createMom(true);
+    IDestination<Integer> queue = MOM.newDestination("test/queue", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+    int messageCount = 1000;
+    Set<Integer> received = ConcurrentHashMap.newKeySet();
+    CountDownLatch allReceived = new CountDownLatch(messageCount);
+    IMessageListener<Integer> listener = message -> {
+      if (received.add(message.getTransferObject())) {
+        allReceived.countDown();
+      }
+    };
+    ISubscription subscription1 = m_mom.subscribe(queue, listener, MOM.newSubscribeInput().withAcknowledgementMode(SubscribeInput.ACKNOWLEDGE_AUTO_SINGLE_THREADED));
+    m_mom.subscribe(queue, listener, MOM.newSubscribeInput().withAcknowledgementMode(SubscribeInput.ACKNOWLEDGE_AUTO_SINGLE_THREADED));
+
+    // messages dispatched to the first subscription while it is disposed are handed over to the second one
+    IFuture<Void> publisher = Jobs.schedule(() -> {
+      for (int i = 0; i < messageCount; i++) {
+        m_mom.publish(queue, i, MOM.newPublishInput());
+      }
+    }, Jobs.newInput());
+    subscription1.dispose();
+    publisher.awaitDoneAndGet(30, TimeUnit.SECONDS);
+
+    assertTrue("all messages expected to be received", allReceived.await(30, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void testMarshallingDisabled() throws Exception {
+    m_mom = createMom(false);
+    IDestination<TestObject> topic = MOM.newDestination("test/topic", DestinationType.TOPIC, ResolveMethod.DEFINE, null);
+    BlockingQueue<TestObject> received = new ArrayBlockingQueue<>(10);
+    m_mom.subscribe(topic, message -> received.add(message.getTransferObject()), MOM.newSubscribeInput());
+
+    TestObject published = new TestObject("hello");
+    m_mom.publish(topic, published, MOM.newPublishInput());
+    assertSame(published, received.poll(30, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void testTransactionalPublish() throws Exception {
+    m_mom = createMom(true);
+    IDestination<String> queue = MOM.newDestination("test/queue", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+    BlockingQueue<String> received = new ArrayBlockingQueue<>(10);
+    m_mom.subscribe(queue, message -> received.add(message.getTransferObject()), MOM.newSubscribeInput());
+
+    RunContexts.empty().withTransactionScope(TransactionScope.REQUIRES_NEW).run(() -> {
+      m_mom.publish(queue, "message", MOM.newPublishInput().withTransactional(true));
+      assertNull(received.poll(100, TimeUnit.MILLISECONDS));
+    });
+    assertEquals("message", received.poll(30, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void testTransactedRedelivery() throws Exception {
+    m_mom = createMom(true);
+    IDestination<String> queue = MOM.newDestination("test/queue", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+    AtomicInteger deliveries = new AtomicInteger();
+    BlockingQueue<String> received = new ArrayBlockingQueue<>(10);
+    m_mom.subscribe(queue, message -> {
+      if (deliveries.incrementAndGet() == 1) {
+        ITransaction.CURRENT.get().addFailure(new ProcessingException("expected failure"));
+        return;
+      }
+      received.add(message.getTransferObject());
+    }, MOM.newSubscribeInput().withAcknowledgementMode(SubscribeInput.ACKNOWLEDGE_TRANSACTED));
+
+    m_mom.publish(queue, "message", MOM.newPublishInput());
+    assertEquals("message", received.poll(30, TimeUnit.SECONDS));
+    assertEquals(2, deliveries.get());
+  }
+
+  @Test
+  public void testTransactedMaxRedeliveries() throws Exception {
+    Map<Object, Object> properties = new HashMap<>();
+    properties.put(InMemoryMomImplementor.MAX_REDELIVERIES, 2);
+    m_mom = createMom(true, properties);
+    IDestination<String> queue = MOM.newDestination("test/queue", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+    BlockingQueue<String> received = new ArrayBlockingQueue<>(10);
+    m_mom.subscribe(queue, message -> {
+      received.add(message.getTransferObject());
+      ITransaction.CURRENT.get().addFailure(new ProcessingException("expected failure"));
+    }, MOM.newSubscribeInput().withAcknowledgementMode(SubscribeInput.ACKNOWLEDGE_TRANSACTED));
+
+    m_mom.publish(queue, "message1", MOM.newPublishInput());
+    m_mom.publish(queue, "message2", MOM.newPublishInput());
+
+    // initial delivery and two redeliveries, then the message is discarded
+    for (int i = 0; i < 3; i++) {
+      assertEquals("message1", received.poll(30, TimeUnit.SECONDS));
+    }
+    assertEquals("message2", received.poll(30, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void testRequestReply() {
+    m_mom = createMom(true);
+    IBiDestination<String, String> queue = MOM.newBiDestination("test/requestReply", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+    m_mom.reply(queue, request -> {
+      if ("fail".equals(request.getTransferObject())) {
+        throw new ProcessingException("expected failure");
+      }
+      return request.getTransferObject().toUpperCase();
+    }, MOM.newSubscribeInput());
+
+    assertEquals("HELLO", m_mom.request(queue, "hello", MOM.newPublishInput()));
+    try {
+      m_mom.request(queue, "fail", MOM.newPublishInput());
+      fail("ProcessingException expected");
+    }
+    catch (ProcessingException e) {
+      assertEquals("expected failure", e.getDisplayMessage());
+    }
+  }
+
+  protected InMemoryMomImplementor createMom(boolean marshallingEnabled) {
+    return createMom(marshallingEnabled, new HashMap<>());
+  }
+
+  protected InMemoryMomImplementor createMom(boolean marshallingEnabled, Map<Object, Object> properties) {
+    properties.put(IMomImplementor.MARSHALLER, BEANS.get(ObjectMarshaller.class));
+    properties.put(InMemoryMomImplementor.MARSHALLING_ENABLED, marshallingEnabled);
+    InMemoryMomImplementor mom = new InMemoryMomImplementor();
+    try {
+      mom.init(properties);
+    }
+    catch (Exception e) {
+      throw new ProcessingException("Failed to initialize MOM", e);
+    }
+    return mom;
+  }
+
+  public static class TestObject implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final String m_text;
+
+    public TestObject(String text) {
+      m_text = text;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof TestObject && m_text.equals(((TestObject) obj).m_text);
+    }
+
+    @Override
+    public int hashCode() {
+      return m_text.hashCode();
+    }
+  }
+}
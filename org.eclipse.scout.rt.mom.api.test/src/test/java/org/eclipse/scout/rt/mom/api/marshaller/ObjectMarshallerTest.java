@@ -14,6 +14,8 @@ import static org.hamcrest.core.IsEqual.equalTo;
 import static org.hamcrest.core.IsInstanceOf.instanceOf;
 import static org.junit.Assert.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.NotSerializableException;
 import java.io.Serializable;
 import java.util.HashMap;
@@ -71,6 +73,23 @@ public class ObjectMarshallerTest {
     assertNull(marshaller.unmarshall(bytes, context));
   }
 
+  @Test
+  public void testStreaming() {
+    ObjectMarshaller marshaller = BEANS.get(ObjectMarshaller.class);
+    TestObject testee = new TestObject().withField1("abc").withField2(42);
+
+    Map<String, String> context = new HashMap<>();
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    marshaller.marshall(testee, out, context);
+    assertEquals(testee, marshaller.unmarshall(new ByteArrayInputStream(out.toByteArray()), context));
+
+    // compatible with the array based methods
+    assertEquals(testee, marshaller.unmarshall(out.toByteArray(), context));
+    context = new HashMap<>();
+    byte[] bytes = (byte[]) marshaller.marshall(testee, context);
+    assertEquals(testee, marshaller.unmarshall(new ByteArrayInputStream(bytes), context));
+  }
+
   public static class TestObject implements Serializable {
 
     private static final long serialVersionUID = 1L;
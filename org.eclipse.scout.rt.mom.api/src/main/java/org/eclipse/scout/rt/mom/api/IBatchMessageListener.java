@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.mom.api;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.scout.rt.platform.context.RunContext;
+
+/**
+ * Listener to receive messages in batches, see {@link SubscribeInput#withMaxBatchSize(int)}.
+ * <p>
+ * If batching is not enabled or not supported by the implementor, {@link #onMessage(IMessage)} passes each message as
+ * batch of one message.
+ *
+ * @see IMom#subscribe(IDestination, IMessageListener, SubscribeInput)
+ */
+@FunctionalInterface
+public interface IBatchMessageListener<DTO> extends IMessageListener<DTO> {
+
+  /**
+   * Method invoked upon the receive of a batch of messages, and is invoked in the {@link RunContext} as specified at
+   * registration. All messages of the batch are processed in the same {@link RunContext}.
+   */
+  void onMessages(List<IMessage<DTO>> messages);
+
+  @Override
+  default void onMessage(IMessage<DTO> message) {
+    onMessages(Collections.singletonList(message));
+  }
+}
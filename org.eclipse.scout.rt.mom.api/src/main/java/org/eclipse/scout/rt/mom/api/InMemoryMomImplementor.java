@@ -0,0 +1,838 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.mom.api;
+
+import static org.eclipse.scout.rt.platform.util.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.scout.rt.mom.api.IDestination.DestinationType;
+import org.eclipse.scout.rt.mom.api.IMom.DefaultMarshallerProperty;
+import org.eclipse.scout.rt.mom.api.IMom.RequestReplyEnabledProperty;
+import org.eclipse.scout.rt.mom.api.marshaller.IMarshaller;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.ApplicationNameProperty;
+import org.eclipse.scout.rt.platform.context.CorrelationId;
+import org.eclipse.scout.rt.platform.context.RunContext;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.exception.DefaultRuntimeExceptionTranslator;
+import org.eclipse.scout.rt.platform.exception.ExceptionHandler;
+import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
+import org.eclipse.scout.rt.platform.job.JobInput;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.transaction.AbstractTransactionMember;
+import org.eclipse.scout.rt.platform.transaction.ITransaction;
+import org.eclipse.scout.rt.platform.transaction.TransactionScope;
+import org.eclipse.scout.rt.platform.util.BooleanUtility;
+import org.eclipse.scout.rt.platform.util.IRegistrationHandle;
+import org.eclipse.scout.rt.platform.util.NumberUtility;
+import org.eclipse.scout.rt.platform.util.ObjectUtility;
+import org.eclipse.scout.rt.platform.util.StringUtility;
+import org.eclipse.scout.rt.platform.util.TypeCastUtility;
+import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
+import org.eclipse.scout.rt.platform.util.concurrent.TimedOutError;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * MOM which delivers messages within the JVM without a broker. This is useful for single-node installations and for
+ * testing.
+ * <p>
+ * Queues deliver each message to exactly one subscriber and keep messages published while no subscriber is present.
+ * Topics deliver each message to all subscribers present at publish time. Each subscription has its own lock-free inbox:
+ * messages of subscriptions with {@link SubscribeInput#ACKNOWLEDGE_AUTO_SINGLE_THREADED},
+ * {@link SubscribeInput#ACKNOWLEDGE_TRANSACTED} or an {@link IBatchMessageListener} are consumed one after the other by
+ * a single job, messages of subscriptions with {@link SubscribeInput#ACKNOWLEDGE_AUTO} are consumed concurrently.
+ * <p>
+ * By default, transfer objects are marshalled at publish time and unmarshalled for every consumer, so publisher and
+ * consumers never share instances, exactly like a networked MOM. Set {@link #MARSHALLING_ENABLED} to
+ * <code>false</code> to pass the transfer objects by reference instead.
+ * <p>
+ * Messages of subscriptions with {@link SubscribeInput#ACKNOWLEDGE_TRANSACTED} are consumed within a transaction. If
+ * the transaction is rolled back, e.g. because the listener failed, the message is delivered to the same listener again
+ * before any other message, at most {@link #MAX_REDELIVERIES} times. Afterwards it is discarded.
+ * <p>
+ * Not supported are message selectors, persistence, durable subscriptions (they behave like non-durable ones) and
+ * destinations shared with other JVMs. All messages are local, hence subscriptions without
+ * {@link SubscribeInput#isLocalReceipt()} never receive a message.
+ */
+public class InMemoryMomImplementor implements IMomImplementor {
+
+  private static final Logger LOG = LoggerFactory.getLogger(InMemoryMomImplementor.class);
+
+  /**
+   * Property to enable or disable marshalling of the transfer objects. The default is <code>true</code>. When
+   * disabled, consumers receive the very instances that were published.
+   * <p>
+   * <b>Value type:</b> {@link Boolean} or {@link String} (<code>"true"</code> or <code>"false"</code>)
+   */
+  public static final String MARSHALLING_ENABLED = "scout.mom.inmemory.marshallingEnabled";
+
+  /**
+   * Property to set the maximum number of redeliveries of a message whose transaction was rolled back by a
+   * subscription with {@link SubscribeInput#ACKNOWLEDGE_TRANSACTED}. The default is 6.
+   * <p>
+   * <b>Value type:</b> {@link Integer} or {@link String}
+   */
+  public static final String MAX_REDELIVERIES = "scout.mom.inmemory.maxRedeliveries";
+
+  protected final String m_momUid = UUID.randomUUID().toString();
+  protected final Map<IDestination<?>, P_Destination> m_destinations = new ConcurrentHashMap<>();
+  protected final Map<IDestination, IMarshaller> m_marshallers = new ConcurrentHashMap<>();
+  protected final List<ISubscription> m_subscriptions = new CopyOnWriteArrayList<>();
+  protected final Map<String, CompletableFuture<Object>> m_pendingRequests = new ConcurrentHashMap<>();
+
+  protected String m_symbolicName;
+  protected IMarshaller m_defaultMarshaller;
+  protected boolean m_marshallingEnabled;
+  protected int m_maxRedeliveries;
+  protected boolean m_requestReplyEnabled;
+
+  @Override
+  public void init(final Map<Object, Object> properties) throws Exception {
+    m_symbolicName = Objects.toString(properties.get(SYMBOLIC_NAME), StringUtility.join(" ", CONFIG.getPropertyValue(ApplicationNameProperty.class), "MOM"));
+    m_defaultMarshaller = createDefaultMarshaller(properties);
+    m_marshallingEnabled = BooleanUtility.nvl(TypeCastUtility.castValue(properties.get(MARSHALLING_ENABLED), Boolean.class), true);
+    m_maxRedeliveries = NumberUtility.nvl(TypeCastUtility.castValue(properties.get(MAX_REDELIVERIES), Integer.class), 6);
+    m_requestReplyEnabled = BooleanUtility.nvl(
+        TypeCastUtility.castValue(properties.get(REQUEST_REPLY_ENABLED), Boolean.class),
+        CONFIG.getPropertyValue(RequestReplyEnabledProperty.class));
+    LOG.info("{} initialized [marshalling={}, requestReply={}]", m_symbolicName, m_marshallingEnabled, m_requestReplyEnabled);
+  }
+
+  @SuppressWarnings("unchecked")
+  protected IMarshaller createDefaultMarshaller(final Map<Object, Object> properties) {
+    Object prop = properties.get(MARSHALLER);
+    if (prop instanceof IMarshaller) {
+      return (IMarshaller) prop;
+    }
+    Class<? extends IMarshaller> marshallerClass;
+    String marshallerClassName = ObjectUtility.toString(prop);
+    if (marshallerClassName != null) {
+      try {
+        marshallerClass = (Class<? extends IMarshaller>) Class.forName(marshallerClassName);
+      }
+      catch (final ClassNotFoundException | ClassCastException e) {
+        throw new PlatformException("Failed to load class specified by environment property '{}' [value={}]", MARSHALLER, marshallerClassName, e);
+      }
+    }
+    else {
+      marshallerClass = CONFIG.getPropertyValue(DefaultMarshallerProperty.class);
+    }
+    return BEANS.get(marshallerClass);
+  }
+
+  @Override
+  public String getId() {
+    return m_momUid;
+  }
+
+  @Override
+  public String getName() {
+    return m_symbolicName;
+  }
+
+  @Override
+  public List<ISubscription> getSubscriptions() {
+    return new ArrayList<>(m_subscriptions);
+  }
+
+  @Override
+  public <DTO> void publish(final IDestination<DTO> destination, final DTO transferObject, final PublishInput input) {
+    assertNotNull(destination, "destination not specified");
+    assertNotNull(input, "publishInput not specified");
+
+    final P_Message message = createMessage(destination, transferObject, input, null);
+    if (!input.isTransactional()) {
+      getDestination(destination).dispatch(message);
+      return;
+    }
+
+    final ITransaction currentTransaction = assertNotNull(ITransaction.CURRENT.get(), "Transaction required for transactional messaging");
+    currentTransaction.registerMemberIfAbsent(m_momUid, P_TransactionMember::new).add(destination, message);
+  }
+
+  @Override
+  public <DTO> ISubscription subscribe(final IDestination<DTO> destination, final IMessageListener<DTO> listener, final SubscribeInput input) {
+    assertNotNull(destination, "destination not specified");
+    assertNotNull(listener, "messageListener not specified");
+    assertNotNull(input, "input not specified");
+    return subscribeImpl(new P_Subscription(destination, listener, null, input));
+  }
+
+  @Override
+  public <REQUEST, REPLY> REPLY request(final IBiDestination<REQUEST, REPLY> destination, final REQUEST requestObject, final PublishInput input) {
+    assertTrue(m_requestReplyEnabled, "'request-reply' messaging is not enabled for this MOM");
+    assertNotNull(destination, "destination not specified");
+    assertNotNull(input, "publishInput not specified");
+    assertFalse(input.isTransactional(), "transactional mode not supported for 'request-reply' communication");
+
+    final String replyId = String.format("scout.mom.requestreply.uid-%s", UUID.randomUUID());
+    final CompletableFuture<Object> replyFuture = new CompletableFuture<>();
+    m_pendingRequests.put(replyId, replyFuture);
+    try {
+      getDestination(destination).dispatch(createMessage(destination, requestObject, input, replyId));
+
+      long timeout = input.getRequestReplyTimeout();
+      Object reply = (timeout == PublishInput.INFINITELY ? replyFuture.get() : replyFuture.get(timeout, TimeUnit.MILLISECONDS));
+      return unmarshall(destination, reply);
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      cancelRequest(replyId);
+      throw new ThreadInterruptedError("Interrupted while waiting for the reply on {}", destination.getName(), e);
+    }
+    catch (TimeoutException e) {
+      cancelRequest(replyId);
+      throw new TimedOutError("Timed out while waiting for the reply on {}", destination.getName(), e);
+    }
+    catch (ExecutionException e) {
+      throw BEANS.get(DefaultRuntimeExceptionTranslator.class).translate(e.getCause());
+    }
+    finally {
+      m_pendingRequests.remove(replyId);
+    }
+  }
+
+  /**
+   * Cancels the request and the job handling it, if already started.
+   */
+  protected void cancelRequest(final String replyId) {
+    CompletableFuture<Object> replyFuture = m_pendingRequests.get(replyId);
+    if (replyFuture != null) {
+      replyFuture.cancel(false);
+    }
+    Jobs.getJobManager().cancel(Jobs.newFutureFilterBuilder()
+        .andMatchExecutionHint(replyId)
+        .toFilter(), true);
+  }
+
+  @Override
+  public <REQUEST, REPLY> ISubscription reply(final IBiDestination<REQUEST, REPLY> destination, final IRequestListener<REQUEST, REPLY> listener, final SubscribeInput input) {
+    assertTrue(m_requestReplyEnabled, "'request-reply' messaging is not enabled for this MOM");
+    assertNotNull(destination, "destination not specified");
+    assertNotNull(listener, "messageListener not specified");
+    assertNotNull(input, "input not specified");
+    return subscribeImpl(new P_Subscription(destination, null, listener, input));
+  }
+
+  protected ISubscription subscribeImpl(final P_Subscription subscription) {
+    assertNull(subscription.getSubscribeInput().getSelector(), "message selectors are not supported by {}", getClass().getSimpleName());
+    m_subscriptions.add(subscription);
+    getDestination(subscription.getDestination()).addSubscription(subscription);
+    return subscription;
+  }
+
+  @Override
+  public void cancelDurableSubscription(final String durableSubscriptionName) {
+    // NOOP: durable subscriptions are not supported
+  }
+
+  @Override
+  public IRegistrationHandle registerMarshaller(final IDestination<?> destination, final IMarshaller marshaller) {
+    m_marshallers.put(destination, marshaller);
+    return () -> m_marshallers.remove(destination);
+  }
+
+  /**
+   * Returns the {@link IMarshaller} registered for the given destination, and is never <code>null</code>.
+   */
+  public IMarshaller resolveMarshaller(final IDestination<?> destination) {
+    IMarshaller marshaller = m_marshallers.get(destination);
+    return marshaller != null ? marshaller : m_defaultMarshaller;
+  }
+
+  @Override
+  public void destroy() {
+    for (ISubscription subscription : getSubscriptions()) {
+      subscription.dispose();
+    }
+    Jobs.getJobManager().cancel(Jobs.newFutureFilterBuilder()
+        .andMatchExecutionHint(m_momUid)
+        .toFilter(), true);
+    PlatformException destroyed = new PlatformException("{} destroyed", m_symbolicName);
+    m_pendingRequests.values().forEach(replyFuture -> replyFuture.completeExceptionally(destroyed));
+    m_destinations.clear();
+  }
+
+  protected P_Destination getDestination(final IDestination<?> destination) {
+    return m_destinations.computeIfAbsent(destination, P_Destination::new);
+  }
+
+  protected JobInput newJobInput() {
+    return Jobs.newInput()
+        .withExecutionHint(m_momUid);
+  }
+
+  protected P_Message createMessage(final IDestination<?> destination, final Object transferObject, final PublishInput input, final String replyId) {
+    long expiration = input.getTimeToLive() > 0 ? System.currentTimeMillis() + input.getTimeToLive() : 0;
+    return new P_Message(marshall(destination, transferObject), input.getProperties(), CorrelationId.CURRENT.get(), expiration, replyId);
+  }
+
+  /**
+   * @return the transfer object as passed to the consumers, i.e. the marshalled data and the marshaller context if
+   *         marshalling is enabled.
+   */
+  protected Object marshall(final IDestination<?> destination, final Object transferObject) {
+    if (!m_marshallingEnabled || transferObject == null) {
+      return transferObject;
+    }
+    Map<String, String> context = new HashMap<>();
+    Object data = resolveMarshaller(destination).marshall(transferObject, context);
+    return new P_MarshalledObject(data, context);
+  }
+
+  @SuppressWarnings("unchecked")
+  protected <DTO> DTO unmarshall(final IDestination<?> destination, final Object payload) {
+    if (payload instanceof P_MarshalledObject) {
+      P_MarshalledObject marshalledObject = (P_MarshalledObject) payload;
+      return (DTO) resolveMarshaller(destination).unmarshall(marshalledObject.getData(), new HashMap<>(marshalledObject.getContext()));
+    }
+    return (DTO) payload;
+  }
+
+  /**
+   * Routes the messages of a destination to its subscriptions.
+   */
+  protected class P_Destination {
+
+    private final IDestination<?> m_destination;
+    private final List<P_Subscription> m_destinationSubscriptions = new CopyOnWriteArrayList<>();
+    /**
+     * Messages of a queue published while no subscription was present.
+     */
+    private final Queue<P_Message> m_pendingMessages = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger m_nextSubscription = new AtomicInteger();
+
+    P_Destination(IDestination<?> destination) {
+      m_destination = destination;
+    }
+
+    protected boolean isQueue() {
+      return m_destination.getType() == DestinationType.QUEUE;
+    }
+
+    public void dispatch(P_Message message) {
+      if (!isQueue()) {
+        for (P_Subscription subscription : m_destinationSubscriptions) {
+          subscription.deliver(message);
+        }
+        return;
+      }
+      synchronized (this) {
+        // round-robin, skipping subscriptions which cannot receive the message
+        List<P_Subscription> subscriptions = m_destinationSubscriptions;
+        int start = m_nextSubscription.getAndIncrement();
+        for (int i = 0; i < subscriptions.size(); i++) {
+          if (subscriptions.get(Math.floorMod(start + i, subscriptions.size())).deliver(message)) {
+            return;
+          }
+        }
+        m_pendingMessages.add(message);
+      }
+    }
+
+    public void addSubscription(P_Subscription subscription) {
+      if (!isQueue()) {
+        m_destinationSubscriptions.add(subscription);
+        return;
+      }
+      synchronized (this) {
+        m_destinationSubscriptions.add(subscription);
+        if (!subscription.canReceive()) {
+          return;
+        }
+        P_Message message;
+        while ((message = m_pendingMessages.poll()) != null) {
+          subscription.deliver(message);
+        }
+      }
+    }
+
+    /**
+     * Removes a disposed subscription. A queue hands the messages received but not yet consumed by the subscription over
+     * to another subscription.
+     */
+    public void removeSubscription(P_Subscription subscription) {
+      if (!isQueue()) {
+        m_destinationSubscriptions.remove(subscription);
+        return;
+      }
+      synchronized (this) {
+        m_destinationSubscriptions.remove(subscription);
+        // polled while holding the lock, so that no message is delivered to the subscription in the meantime
+        subscription.pollInbox().forEach(this::dispatch);
+      }
+    }
+  }
+
+  /**
+   * Subscription with its own inbox of messages not yet consumed.
+   */
+  protected class P_Subscription implements ISubscription {
+
+    private final IDestination<?> m_destination;
+    private final IMessageListener<?> m_messageListener;
+    private final IRequestListener<?, ?> m_requestListener;
+    private final SubscribeInput m_input;
+    private final P_SubscriptionStats m_stats = new P_SubscriptionStats();
+    private final Queue<P_Message> m_inbox = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean m_draining = new AtomicBoolean();
+    private final IExecutionSemaphore m_executionSemaphore;
+    private volatile boolean m_disposed;
+
+    P_Subscription(IDestination<?> destination, IMessageListener<?> messageListener, IRequestListener<?, ?> requestListener, SubscribeInput input) {
+      m_destination = destination;
+      m_messageListener = messageListener;
+      m_requestListener = requestListener;
+      m_input = input;
+      m_executionSemaphore = input.getMaxConcurrentConsumerJobs() > 0 ? Jobs.newExecutionSemaphore(input.getMaxConcurrentConsumerJobs()).seal() : null;
+    }
+
+    protected boolean isConcurrent() {
+      return m_input.getAcknowledgementMode() == SubscribeInput.ACKNOWLEDGE_AUTO && getBatchSize() == 1;
+    }
+
+    protected int getBatchSize() {
+      return m_messageListener instanceof IBatchMessageListener && m_input.getMaxBatchSize() > 1 ? m_input.getMaxBatchSize() : 1;
+    }
+
+    /**
+     * @return <code>false</code> if the subscription is disposed or does not receive messages published by this MOM
+     */
+    public boolean canReceive() {
+      return !m_disposed && m_input.isLocalReceipt();
+    }
+
+    /**
+     * @return <code>true</code> if the message was accepted, <code>false</code> if the subscription
+     *         {@link #canReceive() cannot receive} it
+     */
+    public boolean deliver(P_Message message) {
+      if (!canReceive()) {
+        return false;
+      }
+      if (isConcurrent()) {
+        Jobs.schedule(() -> consume(Collections.singletonList(message)), newJobInput()
+            .withName("Receiving message [dest={}]", m_destination)
+            .withExecutionSemaphore(m_executionSemaphore));
+        return true;
+      }
+      m_inbox.add(message);
+      if (m_draining.compareAndSet(false, true)) {
+        Jobs.schedule(this::drain, newJobInput()
+            .withName("Receiving messages [dest={}]", m_destination));
+      }
+      return true;
+    }
+
+    /**
+     * @return messages received but not yet consumed, which are removed from the inbox
+     */
+    protected List<P_Message> pollInbox() {
+      List<P_Message> messages = new ArrayList<>();
+      P_Message message;
+      while ((message = m_inbox.poll()) != null) {
+        messages.add(message);
+      }
+      return messages;
+    }
+
+    /**
+     * Consumes the messages in the inbox one after the other until it is empty.
+     */
+    protected void drain() {
+      do {
+        List<P_Message> messages = new ArrayList<>();
+        P_Message message;
+        while (!m_disposed && (message = m_inbox.poll()) != null) {
+          messages.add(message);
+          if (messages.size() == getBatchSize()) {
+            consume(messages);
+            messages = new ArrayList<>();
+          }
+        }
+        if (!messages.isEmpty()) {
+          consume(messages);
+        }
+        m_draining.set(false);
+      }
+      // a message added after the last poll did not schedule a new job because this job was still draining
+      while (!m_disposed && !m_inbox.isEmpty() && m_draining.compareAndSet(false, true));
+    }
+
+    protected void consume(List<P_Message> messages) {
+      List<P_Message> accepted = new ArrayList<>(messages.size());
+      List<IMessage<Object>> received = new ArrayList<>(messages.size());
+      for (P_Message message : messages) {
+        if (message.isExpired()) {
+          LOG.debug("Discarding expired message [dest={}]", m_destination);
+          continue;
+        }
+        if (message.getReplyId() != null) {
+          CompletableFuture<Object> replyFuture = m_pendingRequests.get(message.getReplyId());
+          if (replyFuture == null || replyFuture.isDone()) {
+            continue; // request already cancelled or answered
+          }
+        }
+        try {
+          received.add(new P_InMemoryMessage<>(unmarshall(m_destination, message.getPayload()), message.getProperties()));
+          accepted.add(message);
+          m_stats.received(message.getPayload() != null);
+        }
+        catch (RuntimeException e) {
+          m_stats.error();
+          BEANS.get(ExceptionHandler.class).handle(e);
+        }
+      }
+      if (received.isEmpty()) {
+        return;
+      }
+
+      if (m_requestListener != null) {
+        try {
+          for (int i = 0; i < received.size(); i++) {
+            reply(received.get(i), accepted.get(i));
+          }
+        }
+        catch (RuntimeException e) {
+          m_stats.error();
+          BEANS.get(ExceptionHandler.class).handle(e);
+        }
+        return;
+      }
+
+      for (int redeliveries = 0;; redeliveries++) {
+        P_RollbackListener rollbackListener = new P_RollbackListener();
+        try {
+          onMessages(accepted, received, rollbackListener);
+        }
+        catch (RuntimeException e) {
+          m_stats.error();
+          BEANS.get(ExceptionHandler.class).handle(e);
+        }
+        if (m_input.getAcknowledgementMode() != SubscribeInput.ACKNOWLEDGE_TRANSACTED || !rollbackListener.isRolledBack() || m_disposed) {
+          return;
+        }
+        if (redeliveries >= m_maxRedeliveries) {
+          LOG.warn("Discarding {} message(s) after {} redeliveries [dest={}]", received.size(), redeliveries, m_destination);
+          return;
+        }
+        LOG.debug("Redelivering {} message(s) of rolled back transaction [dest={}]", received.size(), m_destination);
+      }
+    }
+
+    /**
+     * Passes the messages to the listener. {@code rollbackListener} is registered with the transaction of the listener.
+     */
+    protected void onMessages(List<P_Message> accepted, List<IMessage<Object>> received, P_RollbackListener rollbackListener) {
+      if (getBatchSize() > 1) {
+        createRunContext(accepted.get(accepted.size() - 1), null).run(() -> {
+          ITransaction.CURRENT.get().registerMember(rollbackListener);
+          castBatchListener().onMessages(received);
+        });
+      }
+      else {
+        IMessage<Object> message = received.get(0);
+        createRunContext(accepted.get(0), message).run(() -> {
+          ITransaction.CURRENT.get().registerMember(rollbackListener);
+          castListener().onMessage(message);
+        });
+      }
+    }
+
+    protected void reply(IMessage<Object> request, P_Message message) {
+      CompletableFuture<Object> replyFuture = m_pendingRequests.get(message.getReplyId());
+      if (replyFuture == null) {
+        return;
+      }
+      Jobs.schedule(() -> {
+        try {
+          Object reply = createRunContext(message, request).call(() -> castRequestListener().onRequest(request));
+          replyFuture.complete(marshall(m_destination, reply));
+        }
+        catch (RuntimeException | Error e) { // NOSONAR
+          replyFuture.completeExceptionally(e);
+        }
+      }, newJobInput()
+          .withName("Replying to request [dest={}]", m_destination)
+          .withExecutionHint(message.getReplyId()))
+          .awaitDone();
+    }
+
+    protected RunContext createRunContext(P_Message message, IMessage<?> currentMessage) {
+      return (m_input.getRunContext() != null ? m_input.getRunContext().copy() : RunContexts.empty())
+          .withCorrelationId(message.getCorrelationId())
+          .withTransactionScope(TransactionScope.REQUIRES_NEW)
+          .withThreadLocal(IMessage.CURRENT, currentMessage);
+    }
+
+    @SuppressWarnings("unchecked")
+    protected IMessageListener<Object> castListener() {
+      return (IMessageListener<Object>) m_messageListener;
+    }
+
+    @SuppressWarnings("unchecked")
+    protected IBatchMessageListener<Object> castBatchListener() {
+      return (IBatchMessageListener<Object>) m_messageListener;
+    }
+
+    @SuppressWarnings("unchecked")
+    protected IRequestListener<Object, Object> castRequestListener() {
+      return (IRequestListener<Object, Object>) m_requestListener;
+    }
+
+    @Override
+    public IDestination<?> getDestination() {
+      return m_destination;
+    }
+
+    @Override
+    public IMessageListener<?> getMessageListener() {
+      return m_messageListener;
+    }
+
+    @Override
+    public IRequestListener<?, ?> getRequestListener() {
+      return m_requestListener;
+    }
+
+    @Override
+    public SubscribeInput getSubscribeInput() {
+      return m_input;
+    }
+
+    @Override
+    public void dispose() {
+      if (m_disposed) {
+        return;
+      }
+      m_disposed = true;
+      m_subscriptions.remove(this);
+      P_Destination destination = m_destinations.get(m_destination);
+      if (destination != null) {
+        destination.removeSubscription(this);
+      }
+    }
+
+    @Override
+    public boolean isDisposed() {
+      return m_disposed;
+    }
+
+    @Override
+    public ISubscriptionStats getStats() {
+      return m_stats;
+    }
+  }
+
+  protected static class P_SubscriptionStats implements ISubscriptionStats {
+
+    private final AtomicLong m_messageCount = new AtomicLong();
+    private final AtomicLong m_messageNonNullCount = new AtomicLong();
+    private final AtomicLong m_errorCount = new AtomicLong();
+    private volatile Date m_lastMessageReceivedTimestamp;
+
+    void received(boolean nonNull) {
+      m_messageCount.incrementAndGet();
+      if (nonNull) {
+        m_messageNonNullCount.incrementAndGet();
+      }
+      m_lastMessageReceivedTimestamp = new Date();
+    }
+
+    void error() {
+      m_errorCount.incrementAndGet();
+    }
+
+    @Override
+    public long receivedMessages() {
+      return m_messageCount.get();
+    }
+
+    @Override
+    public long receivedNonNullMessages() {
+      return m_messageNonNullCount.get();
+    }
+
+    @Override
+    public long receivedErrors() {
+      return m_errorCount.get();
+    }
+
+    @Override
+    public Date lastMessageReceivedTimestamp() {
+      return m_lastMessageReceivedTimestamp;
+    }
+  }
+
+  /**
+   * Message as passed from the publisher to the subscriptions.
+   */
+  protected static class P_Message {
+
+    private final Object m_payload;
+    private final Map<String, String> m_properties;
+    private final String m_correlationId;
+    private final long m_expiration;
+    private final String m_replyId;
+
+    P_Message(Object payload, Map<String, String> properties, String correlationId, long expiration, String replyId) {
+      m_payload = payload;
+      m_properties = properties;
+      m_correlationId = correlationId;
+      m_expiration = expiration;
+      m_replyId = replyId;
+    }
+
+    public Object getPayload() {
+      return m_payload;
+    }
+
+    public Map<String, String> getProperties() {
+      return m_properties;
+    }
+
+    public String getCorrelationId() {
+      return m_correlationId;
+    }
+
+    public boolean isExpired() {
+      return m_expiration > 0 && System.currentTimeMillis() > m_expiration;
+    }
+
+    public String getReplyId() {
+      return m_replyId;
+    }
+  }
+
+  protected static class P_MarshalledObject {
+
+    private final Object m_data;
+    private final Map<String, String> m_context;
+
+    P_MarshalledObject(Object data, Map<String, String> context) {
+      m_data = data;
+      m_context = context;
+    }
+
+    public Object getData() {
+      return m_data;
+    }
+
+    public Map<String, String> getContext() {
+      return m_context;
+    }
+  }
+
+  protected static class P_InMemoryMessage<DTO> implements IMessage<DTO> {
+
+    private final DTO m_transferObject;
+    private final Map<String, String> m_properties;
+
+    P_InMemoryMessage(DTO transferObject, Map<String, String> properties) {
+      m_transferObject = transferObject;
+      m_properties = properties;
+    }
+
+    @Override
+    public DTO getTransferObject() {
+      return m_transferObject;
+    }
+
+    @Override
+    public String getProperty(String property) {
+      return m_properties.get(property);
+    }
+
+    @Override
+    public <T> T getAdapter(Class<T> type) {
+      return null;
+    }
+  }
+
+  /**
+   * Dispatches the messages published within a transaction after the commit.
+   */
+  protected class P_TransactionMember extends AbstractTransactionMember {
+
+    private final List<Runnable> m_dispatches = new ArrayList<>();
+
+    P_TransactionMember(String memberId) {
+      super(memberId);
+    }
+
+    public synchronized void add(IDestination<?> destination, P_Message message) {
+      m_dispatches.add(() -> getDestination(destination).dispatch(message));
+    }
+
+    @Override
+    public boolean needsCommit() {
+      return true;
+    }
+
+    @Override
+    public synchronized void commitPhase2() {
+      m_dispatches.forEach(Runnable::run);
+      m_dispatches.clear();
+    }
+
+    @Override
+    public synchronized void rollback() {
+      m_dispatches.clear();
+    }
+  }
+
+  /**
+   * Records whether the transaction of a listener was rolled back, so that its messages are redelivered.
+   */
+  protected static class P_RollbackListener extends AbstractTransactionMember {
+
+    private volatile boolean m_rolledBack;
+
+    P_RollbackListener() {
+      super(UUID.randomUUID().toString());
+    }
+
+    public boolean isRolledBack() {
+      return m_rolledBack;
+    }
+
+    @Override
+    public boolean needsCommit() {
+      return true; // otherwise rollback is not called
+    }
+
+    @Override
+    public void rollback() {
+      m_rolledBack = true;
+    }
+  }
+}
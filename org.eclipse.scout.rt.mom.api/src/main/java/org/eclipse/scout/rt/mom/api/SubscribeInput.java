@@ -56,6 +56,9 @@ public class SubscribeInput {
   private boolean m_localReceipt = true;
   private String m_durableSubscriptionName;
   private int m_maxConcurrentConsumerJobs = -1;
+  private int m_minConcurrentConsumerJobs = -1;
+  private int m_maxBatchSize = 1;
+  private long m_maxBatchWaitMillis = 100L;
 
   public int getAcknowledgementMode() {
     return m_acknowledgementMode;
@@ -165,4 +168,67 @@ public class SubscribeInput {
     m_maxConcurrentConsumerJobs = maxConcurrentConsumerJobs;
     return this;
   }
+
+  /**
+   * @return the minimum number of concurrently running scout jobs consuming messages. Any values lower or equals to 0
+   *         means the number of concurrent jobs is not adaptive.
+   * @see {@link #withMinConcurrentConsumerJobs(int)}
+   */
+  public int getMinConcurrentConsumerJobs() {
+    return m_minConcurrentConsumerJobs;
+  }
+
+  /**
+   * Specifies how many messages are at least concurrently processed. If greater than 0 and lower than
+   * {@link #getMaxConcurrentConsumerJobs()}, the number of concurrently processed messages adapts between the minimum
+   * and the maximum: it increases while messages are waiting in the destination and decreases while consumers are
+   * idle.
+   * <p>
+   * This only makes sense for {@link #ACKNOWLEDGE_AUTO}
+   */
+  public SubscribeInput withMinConcurrentConsumerJobs(int minConcurrentConsumerJobs) {
+    m_minConcurrentConsumerJobs = minConcurrentConsumerJobs;
+    return this;
+  }
+
+  /**
+   * @return the maximum number of messages passed at once to an {@link IBatchMessageListener}. A value of 1 (default)
+   *         disables batching.
+   * @see {@link #withMaxBatchSize(int)}
+   */
+  public int getMaxBatchSize() {
+    return m_maxBatchSize;
+  }
+
+  /**
+   * Specifies how many messages are at most received and passed at once to an {@link IBatchMessageListener}. All
+   * messages of a batch are processed in the same {@link RunContext} and, for {@link #ACKNOWLEDGE_TRANSACTED}, are
+   * committed by the same transaction.
+   * <p>
+   * This only has an effect if the subscribed listener is an {@link IBatchMessageListener} and if the implementor
+   * supports batching, otherwise the listener is called for each message.
+   */
+  public SubscribeInput withMaxBatchSize(int maxBatchSize) {
+    m_maxBatchSize = maxBatchSize;
+    return this;
+  }
+
+  /**
+   * @return the maximum time in milliseconds to wait for further messages of a batch after its first message was
+   *         received.
+   * @see {@link #withMaxBatchWaitMillis(long)}
+   */
+  public long getMaxBatchWaitMillis() {
+    return m_maxBatchWaitMillis;
+  }
+
+  /**
+   * Specifies how long to wait at most for further messages after the first message of a batch was received. A batch is
+   * passed to the listener as soon as it contains {@link #getMaxBatchSize()} messages or this time has elapsed. The
+   * default is 100 milliseconds.
+   */
+  public SubscribeInput withMaxBatchWaitMillis(long maxBatchWaitMillis) {
+    m_maxBatchWaitMillis = maxBatchWaitMillis;
+    return this;
+  }
 }
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.mom.api.marshaller;
+
+import static org.eclipse.scout.rt.platform.util.Assertions.assertType;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+
+import org.eclipse.scout.rt.dataobject.IBinaryDataObjectMapper;
+import org.eclipse.scout.rt.dataobject.IDataObject;
+import org.eclipse.scout.rt.dataobject.TypeName;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.Bean;
+import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
+
+/**
+ * This marshaller allows to transport an {@link IDataObject} in a binary form across the network. It uses the Scout
+ * {@link IBinaryDataObjectMapper} to serialize/deserialize the content to/from its binary representation, which is
+ * smaller and faster to parse than the JSON text used by {@link JsonDataObjectMarshaller}.
+ * <p>
+ * Both, the publisher and the subscriber of a destination must use this marshaller.
+ * <p>
+ * <b>Important:</b> The content data <i>must</i> be an instance of {@link IDataObject} annotated with a
+ * &#64;{@link TypeName}.
+ *
+ * @see IMarshaller#MESSAGE_TYPE_BYTES
+ * @see JsonDataObjectMarshaller
+ */
+@Bean
+public class BinaryDataObjectMarshaller implements IStreamingMarshaller {
+
+  protected final IBinaryDataObjectMapper m_dataObjectMapper;
+
+  public BinaryDataObjectMarshaller() {
+    m_dataObjectMapper = createDataObjectMapper();
+  }
+
+  /**
+   * @param transferObject
+   *          object to marshal, must be of type {@code IDataObject} (or {@code null})
+   * @throws AssertionException
+   *           if the given object is not of the expected type
+   */
+  @Override
+  public Object marshall(final Object transferObject, final Map<String, String> context) {
+    return m_dataObjectMapper.writeValueAsBytes(assertType(transferObject, IDataObject.class));
+  }
+
+  @Override
+  public Object unmarshall(final Object data, final Map<String, String> context) {
+    return m_dataObjectMapper.readValue(assertType(data, byte[].class), IDataObject.class);
+  }
+
+  @Override
+  public void marshall(final Object transferObject, final OutputStream out, final Map<String, String> context) {
+    m_dataObjectMapper.writeValue(out, assertType(transferObject, IDataObject.class));
+  }
+
+  @Override
+  public Object unmarshall(final InputStream in, final Map<String, String> context) {
+    return m_dataObjectMapper.readValue(in, IDataObject.class);
+  }
+
+  @Override
+  public int getMessageType() {
+    return MESSAGE_TYPE_BYTES;
+  }
+
+  protected IBinaryDataObjectMapper createDataObjectMapper() {
+    return BEANS.get(IBinaryDataObjectMapper.class);
+  }
+}
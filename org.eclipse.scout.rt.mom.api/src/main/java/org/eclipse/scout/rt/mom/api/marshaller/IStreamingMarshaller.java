@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.mom.api.marshaller;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+
+/**
+ * {@link IMarshaller} of {@link #MESSAGE_TYPE_BYTES} which can write its transport data directly to the message body
+ * and read it directly from there, without building the whole transport data as byte array first.
+ * <p>
+ * Both ways must be compatible: data written by {@link #marshall(Object, OutputStream, Map)} can be read by
+ * {@link #unmarshall(Object, Map)} and vice versa.
+ *
+ * @see IMarshaller#MESSAGE_TYPE_BYTES
+ */
+public interface IStreamingMarshaller extends IMarshaller {
+
+  /**
+   * Marshalls the given transfer object into the given stream. Nothing is written if the transfer object is
+   * <code>null</code>.
+   */
+  void marshall(Object transferObject, OutputStream out, Map<String, String> context);
+
+  /**
+   * Unmarshalls the transport data read from the given stream into its object type.
+   */
+  Object unmarshall(InputStream in, Map<String, String> context);
+}
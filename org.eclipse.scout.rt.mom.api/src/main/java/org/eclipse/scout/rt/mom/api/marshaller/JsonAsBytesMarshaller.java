@@ -9,10 +9,14 @@
  */
 package org.eclipse.scout.rt.mom.api.marshaller;
 
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
+import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Bean;
+import org.eclipse.scout.rt.platform.exception.DefaultRuntimeExceptionTranslator;
 
 /**
  * This marshaller allows to transport an object's JSON representation as binary data across the network.
@@ -21,7 +25,7 @@ import org.eclipse.scout.rt.platform.Bean;
  * @since 6.1
  */
 @Bean
-public class JsonAsBytesMarshaller extends JsonMarshaller {
+public class JsonAsBytesMarshaller extends JsonMarshaller implements IStreamingMarshaller {
 
   @Override
   public Object marshall(final Object transferObject, final Map<String, String> context) {
@@ -44,6 +48,26 @@ public class JsonAsBytesMarshaller extends JsonMarshaller {
     return super.unmarshall(jsonText, context);
   }
 
+  @Override
+  public void marshall(final Object transferObject, final OutputStream out, final Map<String, String> context) {
+    if (transferObject == null) {
+      return;
+    }
+    context.put(CTX_PROP_OBJECT_TYPE, transferObject.getClass().getName());
+    m_dataObjectMapper.writeValue(out, transferObject);
+  }
+
+  @Override
+  public Object unmarshall(final InputStream in, final Map<String, String> context) {
+    try {
+      final Class<?> objectType = Class.forName(context.get(CTX_PROP_OBJECT_TYPE));
+      return m_dataObjectMapper.readValue(in, objectType);
+    }
+    catch (final ClassNotFoundException e) {
+      throw BEANS.get(DefaultRuntimeExceptionTranslator.class).translate(e);
+    }
+  }
+
   @Override
   public int getMessageType() {
     return MESSAGE_TYPE_BYTES;
@@ -10,6 +10,8 @@
 package org.eclipse.scout.rt.mom.api.marshaller;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Map;
 
 import org.eclipse.scout.rt.platform.BEANS;
@@ -20,12 +22,14 @@ import org.eclipse.scout.rt.platform.serialization.SerializationUtility;
 
 /**
  * This marshaller allows to transport an object's serialized representation as binary data across the network.
+ * <p>
+ * The object is serialized directly into the message body if the transport supports {@link IStreamingMarshaller}.
  *
  * @see IMarshaller#MESSAGE_TYPE_BYTES
  * @since 6.1
  */
 @Bean
-public class ObjectMarshaller implements IMarshaller {
+public class ObjectMarshaller implements IStreamingMarshaller {
 
   protected static final String CTX_PROP_OBJECT_TYPE = "x-scout.mom.object.objecttype";
 
@@ -47,6 +51,21 @@ public class ObjectMarshaller implements IMarshaller {
     }
   }
 
+  @Override
+  public void marshall(final Object transferObject, final OutputStream out, final Map<String, String> context) {
+    if (transferObject == null) {
+      return;
+    }
+
+    try {
+      SerializationUtility.createObjectSerializer().serialize(out, transferObject);
+      context.put(CTX_PROP_OBJECT_TYPE, transferObject.getClass().getName());
+    }
+    catch (final IOException e) {
+      throw BEANS.get(DefaultRuntimeExceptionTranslator.class).translate(e);
+    }
+  }
+
   @Override
   public Object unmarshall(final Object data, final Map<String, String> context) {
     final byte[] bytes = (byte[]) data;
@@ -64,6 +83,17 @@ public class ObjectMarshaller implements IMarshaller {
     }
   }
 
+  @Override
+  public Object unmarshall(final InputStream in, final Map<String, String> context) {
+    try {
+      final Class<?> objectType = Class.forName(context.get(CTX_PROP_OBJECT_TYPE));
+      return SerializationUtility.createObjectSerializer().deserialize(in, objectType);
+    }
+    catch (final IOException | ClassNotFoundException e) {
+      throw BEANS.get(DefaultRuntimeExceptionTranslator.class).translate(e);
+    }
+  }
+
   @Override
   public int getMessageType() {
     return MESSAGE_TYPE_BYTES;
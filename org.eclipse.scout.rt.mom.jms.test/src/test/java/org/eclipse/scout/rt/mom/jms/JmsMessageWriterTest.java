@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.mom.jms;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Map;
+
+import jakarta.jms.BytesMessage;
+import jakarta.jms.Session;
+
+import org.eclipse.scout.rt.mom.api.marshaller.IMarshaller;
+import org.eclipse.scout.rt.mom.api.marshaller.ObjectMarshaller;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+/**
+ * Tests for {@link JmsMessageWriter} and {@link JmsMessageReader} with streaming marshallers.
+ */
+public class JmsMessageWriterTest {
+
+  private static final int PAYLOAD_SIZE = 1024 * 1024;
+
+  @Test
+  public void testStreamingRoundTrip() throws Exception {
+    ByteArrayOutputStream body = new ByteArrayOutputStream();
+    BytesMessage message = createWrittenBytesMessage(body);
+
+    byte[] payload = createPayload();
+    JmsMessageWriter.newInstance(createSession(message), BEANS.get(ObjectMarshaller.class))
+        .writeTransferObject(payload)
+        .build();
+
+    ArgumentCaptor<String> context = ArgumentCaptor.forClass(String.class);
+    Mockito.verify(message).setStringProperty(Mockito.eq(IJmsMomProperties.JMS_PROP_MARSHALLER_CONTEXT), context.capture());
+    BytesMessage receivedMessage = createReceivedBytesMessage(body.toByteArray());
+    Mockito.when(receivedMessage.getStringProperty(IJmsMomProperties.JMS_PROP_MARSHALLER_CONTEXT)).thenReturn(context.getValue());
+    JmsMessageReader<byte[]> reader = JmsMessageReader.newInstance(receivedMessage, BEANS.get(ObjectMarshaller.class));
+    assertArrayEquals(payload, reader.readTransferObject());
+
+    // the body is never written as a whole
+    Mockito.verify(message, Mockito.never()).writeBytes(any(byte[].class));
+  }
+
+  /**
+   * Writes a message of {@value #PAYLOAD_SIZE} bytes with and without streaming and checks the buffers passed to the
+   * message: only the array based marshaller materializes the serialized payload as a whole.
+   */
+  @Test
+  public void testNoPayloadSizedBuffer() throws Exception {
+    byte[] payload = createPayload();
+    IMarshaller streamingMarshaller = BEANS.get(ObjectMarshaller.class);
+
+    P_BufferCounter streamingBuffers = writeMessage(streamingMarshaller, payload);
+    assertTrue(streamingBuffers.getWrittenBytes() > PAYLOAD_SIZE);
+    assertTrue("payload is not expected to be copied into a new buffer", streamingBuffers.getMaxCopiedBufferLength() < PAYLOAD_SIZE);
+
+    P_BufferCounter arrayBuffers = writeMessage(new ArrayMarshaller(streamingMarshaller), payload);
+    assertEquals(streamingBuffers.getWrittenBytes(), arrayBuffers.getWrittenBytes());
+    assertTrue(arrayBuffers.getMaxCopiedBufferLength() > PAYLOAD_SIZE);
+  }
+
+  protected P_BufferCounter writeMessage(IMarshaller marshaller, byte[] payload) throws Exception {
+    P_BufferCounter counter = new P_BufferCounter(payload);
+    BytesMessage message = Mockito.mock(BytesMessage.class);
+    Mockito.doAnswer(invocation -> {
+      byte[] buffer = invocation.getArgument(0);
+      counter.onWrite(buffer, buffer.length);
+      return null;
+    }).when(message).writeBytes(any(byte[].class));
+    Mockito.doAnswer(invocation -> {
+      counter.onWrite(invocation.getArgument(0), invocation.<Integer> getArgument(2));
+      return null;
+    }).when(message).writeBytes(any(byte[].class), Mockito.anyInt(), Mockito.anyInt());
+    Mockito.doAnswer(invocation -> {
+      counter.onWrite(null, 1);
+      return null;
+    }).when(message).writeByte(Mockito.anyByte());
+
+    JmsMessageWriter.newInstance(createSession(message), marshaller).writeTransferObject(payload);
+    return counter;
+  }
+
+  protected byte[] createPayload() {
+    byte[] payload = new byte[PAYLOAD_SIZE];
+    Arrays.fill(payload, (byte) 'x');
+    return payload;
+  }
+
+  protected Session createSession(BytesMessage message) throws Exception {
+    Session session = Mockito.mock(Session.class);
+    Mockito.when(session.createBytesMessage()).thenReturn(message);
+    return session;
+  }
+
+  /**
+   * Mocked message writing its body to the given stream.
+   */
+  protected BytesMessage createWrittenBytesMessage(ByteArrayOutputStream body) throws Exception {
+    BytesMessage message = Mockito.mock(BytesMessage.class);
+    Mockito.doAnswer(invocation -> {
+      body.write(invocation.<byte[]> getArgument(0), invocation.<Integer> getArgument(1), invocation.<Integer> getArgument(2));
+      return null;
+    }).when(message).writeBytes(any(byte[].class), Mockito.anyInt(), Mockito.anyInt());
+    Mockito.doAnswer(invocation -> {
+      body.write(invocation.<Byte> getArgument(0));
+      return null;
+    }).when(message).writeByte(Mockito.anyByte());
+    return message;
+  }
+
+  /**
+   * Mocked message with the given body.
+   */
+  protected BytesMessage createReceivedBytesMessage(byte[] body) throws Exception {
+    BytesMessage message = Mockito.mock(BytesMessage.class);
+    int[] position = new int[1];
+    Mockito.when(message.readBytes(any(byte[].class), Mockito.anyInt())).thenAnswer(invocation -> {
+      int n = Math.min(invocation.<Integer> getArgument(1), body.length - position[0]);
+      if (n <= 0) {
+        return -1;
+      }
+      System.arraycopy(body, position[0], invocation.<byte[]> getArgument(0), 0, n);
+      position[0] += n;
+      return n;
+    });
+    return message;
+  }
+
+  /**
+   * Marshaller not supporting streaming.
+   */
+  protected static class ArrayMarshaller implements IMarshaller {
+
+    private final IMarshaller m_delegate;
+
+    public ArrayMarshaller(IMarshaller delegate) {
+      m_delegate = delegate;
+    }
+
+    @Override
+    public Object marshall(Object transferObject, Map<String, String> context) {
+      return m_delegate.marshall(transferObject, context);
+    }
+
+    @Override
+    public Object unmarshall(Object data, Map<String, String> context) {
+      return m_delegate.unmarshall(data, context);
+    }
+
+    @Override
+    public int getMessageType() {
+      return m_delegate.getMessageType();
+    }
+  }
+
+  /**
+   * Counts the bytes written to a message and the size of the largest buffer passed which is not the payload itself.
+   */
+  protected static class P_BufferCounter {
+
+    private final byte[] m_payload;
+    private long m_writtenBytes;
+    private int m_maxCopiedBufferLength;
+
+    public P_BufferCounter(byte[] payload) {
+      m_payload = payload;
+    }
+
+    public void onWrite(byte[] buffer, int length) {
+      m_writtenBytes += length;
+      if (buffer != null && buffer != m_payload) {
+        m_maxCopiedBufferLength = Math.max(m_maxCopiedBufferLength, buffer.length);
+      }
+    }
+
+    public long getWrittenBytes() {
+      return m_writtenBytes;
+    }
+
+    public int getMaxCopiedBufferLength() {
+      return m_maxCopiedBufferLength;
+    }
+  }
+}
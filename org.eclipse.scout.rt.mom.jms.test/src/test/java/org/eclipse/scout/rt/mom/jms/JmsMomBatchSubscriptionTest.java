@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.mom.jms;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.scout.rt.mom.api.IBatchMessageListener;
+import org.eclipse.scout.rt.mom.api.IDestination;
+import org.eclipse.scout.rt.mom.api.IDestination.DestinationType;
+import org.eclipse.scout.rt.mom.api.IDestination.ResolveMethod;
+import org.eclipse.scout.rt.mom.api.IMessage;
+import org.eclipse.scout.rt.mom.api.MOM;
+import org.eclipse.scout.rt.mom.api.SubscribeInput;
+import org.eclipse.scout.rt.platform.transaction.ITransaction;
+import org.eclipse.scout.rt.testing.platform.testcategory.SlowTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+@Category(SlowTest.class)
+public class JmsMomBatchSubscriptionTest extends AbstractJmsMomTest {
+  private static final Logger LOG = LoggerFactory.getLogger(JmsMomBatchSubscriptionTest.class);
+
+  public JmsMomBatchSubscriptionTest(AbstractJmsMomTestParameter parameter) {
+    super(parameter);
+  }
+
+  @Test
+  public void testBatchSubscriptionAuto() throws InterruptedException {
+    testBatchSubscription("test/mom/testBatchSubscriptionAuto", SubscribeInput.ACKNOWLEDGE_AUTO);
+  }
+
+  @Test
+  public void testBatchSubscriptionTransacted() throws InterruptedException {
+    testBatchSubscription("test/mom/testBatchSubscriptionTransacted", SubscribeInput.ACKNOWLEDGE_TRANSACTED);
+  }
+
+  protected void testBatchSubscription(String queueName, int acknowledgementMode) throws InterruptedException {
+    installMom();
+    IDestination<String> queue = MOM.newDestination(queueName, DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+
+    int msgCount = 200;
+    IntStream.range(0, msgCount).forEach(i -> MOM.publish(FixtureMom.class, queue, "message-" + i));
+
+    List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+    List<String> received = new CopyOnWriteArrayList<>();
+    CountDownLatch latch = new CountDownLatch(msgCount);
+    long start = System.nanoTime();
+    m_disposables.add(MOM.subscribe(FixtureMom.class, queue, (IBatchMessageListener<String>) messages -> {
+      batchSizes.add(messages.size());
+      messages.stream().map(IMessage::getTransferObject).forEach(received::add);
+      messages.forEach(m -> latch.countDown());
+    }, MOM.newSubscribeInput()
+        .withAcknowledgementMode(acknowledgementMode)
+        .withMaxBatchSize(50)
+        .withMaxBatchWaitMillis(500)));
+
+    assertTrue("messages expected to be received", latch.await(30, TimeUnit.SECONDS));
+    LOG.info("Received {} messages in {} batches within {} ms", msgCount, batchSizes.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+    assertEquals(msgCount, received.size());
+    assertEquals(IntStream.range(0, msgCount).mapToObj(i -> "message-" + i).collect(Collectors.toSet()), received.stream().collect(Collectors.toSet()));
+    assertTrue(batchSizes.stream().allMatch(size -> size <= 50));
+    assertTrue("messages expected to be received in batches", batchSizes.size() < msgCount);
+  }
+
+  @Test
+  public void testBatchSubscriptionTransactedRollback() throws InterruptedException {
+    installMom();
+    IDestination<String> queue = MOM.newDestination("test/mom/testBatchSubscriptionTransactedRollback", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+    IntStream.range(0, 5).forEach(i -> MOM.publish(FixtureMom.class, queue, "message-" + i));
+
+    AtomicBoolean failed = new AtomicBoolean();
+    List<String> received = new CopyOnWriteArrayList<>();
+    CountDownLatch latch = new CountDownLatch(5);
+    m_disposables.add(MOM.subscribe(FixtureMom.class, queue, (IBatchMessageListener<String>) messages -> {
+      if (failed.compareAndSet(false, true)) {
+        ITransaction.CURRENT.get().rollback(); // whole batch is redelivered
+        return;
+      }
+      messages.stream().map(IMessage::getTransferObject).forEach(received::add);
+      messages.forEach(m -> latch.countDown());
+    }, MOM.newSubscribeInput()
+        .withAcknowledgementMode(SubscribeInput.ACKNOWLEDGE_TRANSACTED)
+        .withMaxBatchSize(10)
+        .withMaxBatchWaitMillis(500)));
+
+    assertTrue("messages expected to be redelivered", latch.await(30, TimeUnit.SECONDS));
+    assertEquals(5, received.size());
+  }
+
+  @Test
+  public void testBatchListenerWithoutBatching() throws InterruptedException {
+    installMom();
+    IDestination<String> queue = MOM.newDestination("test/mom/testBatchListenerWithoutBatching", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+    IntStream.range(0, 3).forEach(i -> MOM.publish(FixtureMom.class, queue, "message-" + i));
+
+    List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+    CountDownLatch latch = new CountDownLatch(3);
+    m_disposables.add(MOM.subscribe(FixtureMom.class, queue, (IBatchMessageListener<String>) messages -> {
+      batchSizes.add(messages.size());
+      latch.countDown();
+    }, MOM.newSubscribeInput().withAcknowledgementMode(SubscribeInput.ACKNOWLEDGE_AUTO_SINGLE_THREADED)));
+
+    assertTrue("messages expected to be received", latch.await(30, TimeUnit.SECONDS));
+    assertEquals(List.of(1, 1, 1), batchSizes);
+  }
+}
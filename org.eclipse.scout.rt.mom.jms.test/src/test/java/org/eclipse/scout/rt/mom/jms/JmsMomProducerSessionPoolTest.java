@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.mom.jms;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import jakarta.jms.CompletionListener;
+import jakarta.jms.Message;
+
+import org.eclipse.scout.rt.mom.api.IDestination;
+import org.eclipse.scout.rt.mom.api.IDestination.DestinationType;
+import org.eclipse.scout.rt.mom.api.IDestination.ResolveMethod;
+import org.eclipse.scout.rt.mom.api.MOM;
+import org.eclipse.scout.rt.mom.jms.internal.JmsProducerSessionPool;
+import org.eclipse.scout.rt.testing.platform.testcategory.SlowTest;
+import org.junit.Assume;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(SlowTest.class)
+public class JmsMomProducerSessionPoolTest extends AbstractJmsMomTest {
+
+  public JmsMomProducerSessionPoolTest(AbstractJmsMomTestParameter parameter) {
+    super(parameter);
+  }
+
+  @Test
+  public void testPublishWithPool() throws InterruptedException {
+    Assume.assumeFalse(J2eeJmsMomImplementor.class.isAssignableFrom(m_testParameter.getImplementor()));
+    FixtureMomWithProducerSessionPool mom = installMom(FixtureMomWithProducerSessionPool.class);
+    JmsProducerSessionPool pool = ((JmsMomImplementor) mom.getImplementor()).getProducerSessionPool();
+    assertNotNull(pool);
+
+    IDestination<String> queue1 = MOM.newDestination("test/mom/testPublishWithPool1", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+    IDestination<String> queue2 = MOM.newDestination("test/mom/testPublishWithPool2", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+
+    int msgCount = 50;
+    List<String> received = new CopyOnWriteArrayList<>();
+    CountDownLatch latch = new CountDownLatch(2 * msgCount);
+    m_disposables.add(MOM.subscribe(FixtureMomWithProducerSessionPool.class, queue1, message -> {
+      received.add(message.getTransferObject());
+      latch.countDown();
+    }));
+    m_disposables.add(MOM.subscribe(FixtureMomWithProducerSessionPool.class, queue2, message -> {
+      received.add(message.getTransferObject());
+      latch.countDown();
+    }));
+
+    // sequential publishing to different destinations uses the same pooled session
+    IntStream.range(0, msgCount).forEach(i -> {
+      MOM.publish(FixtureMomWithProducerSessionPool.class, queue1, "queue1-" + i);
+      MOM.publish(FixtureMomWithProducerSessionPool.class, queue2, "queue2-" + i);
+    });
+
+    assertTrue("messages expected to be received", latch.await(30, TimeUnit.SECONDS));
+    assertEquals(2 * msgCount, received.size());
+    assertEquals(1, pool.getCreatedCount());
+    assertEquals(2 * msgCount - 1, pool.getReusedCount());
+    assertEquals(0, pool.getLeasedCount());
+    assertEquals(1, pool.getIdleCount());
+  }
+
+  @Test
+  public void testPublishAsync() throws InterruptedException {
+    Assume.assumeFalse(J2eeJmsMomImplementor.class.isAssignableFrom(m_testParameter.getImplementor()));
+    FixtureMomWithProducerSessionPool mom = installMom(FixtureMomWithProducerSessionPool.class);
+    JmsMomImplementor implementor = (JmsMomImplementor) mom.getImplementor();
+
+    IDestination<String> queue = MOM.newDestination("test/mom/testPublishAsync", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+    int msgCount = 20;
+    List<String> received = new CopyOnWriteArrayList<>();
+    CountDownLatch receivedLatch = new CountDownLatch(msgCount);
+    m_disposables.add(MOM.subscribe(FixtureMomWithProducerSessionPool.class, queue, message -> {
+      received.add(message.getTransferObject());
+      receivedLatch.countDown();
+    }));
+
+    CountDownLatch completedLatch = new CountDownLatch(msgCount);
+    List<Exception> failures = new CopyOnWriteArrayList<>();
+    CompletionListener completionListener = new CompletionListener() {
+      @Override
+      public void onCompletion(Message message) {
+        completedLatch.countDown();
+      }
+
+      @Override
+      public void onException(Message message, Exception exception) {
+        failures.add(exception);
+        completedLatch.countDown();
+      }
+    };
+    IntStream.range(0, msgCount).forEach(i -> implementor.publishAsync(queue, "message-" + i, MOM.newPublishInput(), completionListener));
+
+    assertTrue("completion expected to be notified", completedLatch.await(30, TimeUnit.SECONDS));
+    assertTrue(failures.isEmpty());
+    assertTrue("messages expected to be received", receivedLatch.await(30, TimeUnit.SECONDS));
+    assertEquals(IntStream.range(0, msgCount).mapToObj(i -> "message-" + i).collect(Collectors.toSet()), received.stream().collect(Collectors.toSet()));
+  }
+
+  /**
+   * Without pool, each message is sent by its own session, which is closed once the completion was notified. The J2EE
+   * implementor publishes synchronously and notifies the listener before {@code publishAsync} returns.
+   */
+  @Test
+  public void testPublishAsyncWithoutPool() throws InterruptedException {
+    installMom();
+    JmsMomImplementor implementor = (JmsMomImplementor) m_mom.getImplementor();
+    assertNull(implementor.getProducerSessionPool());
+
+    IDestination<String> queue = MOM.newDestination("test/mom/testPublishAsyncWithoutPool", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+    int msgCount = 5;
+    CountDownLatch receivedLatch = new CountDownLatch(msgCount);
+    m_disposables.add(MOM.subscribe(FixtureMom.class, queue, message -> receivedLatch.countDown()));
+
+    CountDownLatch completedLatch = new CountDownLatch(msgCount);
+    List<Exception> failures = new CopyOnWriteArrayList<>();
+    CompletionListener completionListener = new CompletionListener() {
+      @Override
+      public void onCompletion(Message message) {
+        completedLatch.countDown();
+      }
+
+      @Override
+      public void onException(Message message, Exception exception) {
+        failures.add(exception);
+        completedLatch.countDown();
+      }
+    };
+    IntStream.range(0, msgCount).forEach(i -> implementor.publishAsync(queue, "message-" + i, MOM.newPublishInput(), completionListener));
+    if (J2eeJmsMomImplementor.class.isAssignableFrom(m_testParameter.getImplementor())) {
+      assertEquals(0, completedLatch.getCount());
+    }
+
+    assertTrue("completion expected to be notified", completedLatch.await(30, TimeUnit.SECONDS));
+    assertTrue(failures.isEmpty());
+    assertTrue("messages expected to be received", receivedLatch.await(30, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void testPublishWithoutPool() throws InterruptedException {
+    installMom();
+    assertNull(((JmsMomImplementor) m_mom.getImplementor()).getProducerSessionPool());
+
+    IDestination<String> queue = MOM.newDestination("test/mom/testPublishWithoutPool", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+    Capturer<String> capturer = new Capturer<>();
+    m_disposables.add(MOM.subscribe(FixtureMom.class, queue, new CapturerListener<>(capturer)));
+    MOM.publish(FixtureMom.class, queue, "hello world");
+    assertEquals("hello world", capturer.get());
+  }
+
+  public static class FixtureMomWithProducerSessionPool extends FixtureMom {
+
+    public FixtureMomWithProducerSessionPool(AbstractJmsMomTestParameter parameter) {
+      super(parameter);
+    }
+
+    @Override
+    protected Map<Object, Object> lookupEnvironment() {
+      Map<Object, Object> env = super.lookupEnvironment();
+      env.put(JmsMomImplementor.JMS_PRODUCER_SESSION_POOL_SIZE, 4);
+      return env;
+    }
+  }
+}
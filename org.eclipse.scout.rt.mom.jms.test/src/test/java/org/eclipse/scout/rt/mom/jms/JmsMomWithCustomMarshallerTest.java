@@ -9,16 +9,20 @@
  */
 package org.eclipse.scout.rt.mom.jms;
 
-import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.*;
 
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.scout.rt.mom.api.IDestination;
 import org.eclipse.scout.rt.mom.api.IDestination.DestinationType;
 import org.eclipse.scout.rt.mom.api.IDestination.ResolveMethod;
 import org.eclipse.scout.rt.mom.api.IMomImplementor;
 import org.eclipse.scout.rt.mom.api.MOM;
+import org.eclipse.scout.rt.mom.api.SubscribeInput;
 import org.eclipse.scout.rt.mom.api.marshaller.IMarshaller;
 import org.eclipse.scout.rt.mom.api.marshaller.ObjectMarshaller;
 import org.eclipse.scout.rt.mom.api.marshaller.TextMarshaller;
@@ -26,6 +30,7 @@ import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.IgnoreBean;
 import org.eclipse.scout.rt.platform.Replace;
 import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
 import org.eclipse.scout.rt.platform.holders.StringHolder;
 import org.junit.Test;
 
@@ -72,6 +77,42 @@ public class JmsMomWithCustomMarshallerTest extends AbstractJmsMomTest {
     assertEquals("!MOM olleH", received);
   }
 
+  @Test
+  public void testFailingMarshallerReleasesPermit() throws InterruptedException {
+    testFailingMarshallerReleasesPermit("test/mom/testFailingMarshallerAuto", SubscribeInput.ACKNOWLEDGE_AUTO);
+  }
+
+  @Test
+  public void testFailingMarshallerReleasesPermitSingleThreaded() throws InterruptedException {
+    testFailingMarshallerReleasesPermit("test/mom/testFailingMarshallerSingleThreaded", SubscribeInput.ACKNOWLEDGE_AUTO_SINGLE_THREADED);
+  }
+
+  protected void testFailingMarshallerReleasesPermit(String queueName, int acknowledgementMode) throws InterruptedException {
+    installMom();
+    IDestination<String> queue = MOM.newDestination(queueName, DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+    m_disposables.add(MOM.registerMarshaller(FixtureMom.class, queue, new TextMarshaller() {
+      @Override
+      public Object unmarshall(Object data, Map<String, String> context) {
+        if ("poison".equals(data)) {
+          throw new ProcessingException("expected unmarshalling failure");
+        }
+        return super.unmarshall(data, context);
+      }
+    }));
+
+    MOM.publish(FixtureMom.class, queue, "poison");
+    MOM.publish(FixtureMom.class, queue, "poison");
+    MOM.publish(FixtureMom.class, queue, "Hello MOM!");
+
+    // only one message at a time, i.e. a permit not released by a poison message stalls the subscription
+    BlockingQueue<String> received = new ArrayBlockingQueue<>(10);
+    m_disposables.add(MOM.subscribe(FixtureMom.class, queue, message -> received.add(message.getTransferObject()), MOM.newSubscribeInput()
+        .withAcknowledgementMode(acknowledgementMode)
+        .withMaxConcurrentConsumerJobs(1)));
+
+    assertEquals("Hello MOM!", received.poll(30, TimeUnit.SECONDS));
+  }
+
   @Test(expected = PlatformException.class)
   public void testMomEnvironmentWithInvalidMarshaller() {
     installMom(FixtureMomWithInvalidMarshaller.class);
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.mom.jms;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import org.eclipse.scout.rt.mom.jms.internal.ConsumerConcurrencyLimit;
+import org.eclipse.scout.rt.mom.jms.internal.JmsSubscriptionStats;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableLongMeasurement;
+
+/**
+ * Tests for {@link JmsSubscriptionMetricProvider}
+ */
+public class JmsSubscriptionMetricProviderTest {
+
+  private static final Attributes QUEUE_ATTRIBUTES = Attributes.of(AttributeKey.stringKey("mom.name"), "mom", AttributeKey.stringKey("mom.destination"), "queue");
+  private static final Attributes TOPIC_ATTRIBUTES = Attributes.of(AttributeKey.stringKey("mom.name"), "mom", AttributeKey.stringKey("mom.destination"), "topic");
+
+  private JmsSubscriptionMetricProvider m_provider;
+  private DoubleHistogram m_processingDuration;
+  private ObservableLongMeasurement m_inFlight;
+  private ObservableLongMeasurement m_concurrencyLimit;
+  private ObservableLongMeasurement m_immediateReceives;
+  private Runnable m_callback;
+
+  @Before
+  public void before() {
+    Meter meter = mock(Meter.class, RETURNS_DEEP_STUBS);
+    OpenTelemetry openTelemetry = mock(OpenTelemetry.class);
+    when(openTelemetry.getMeter(anyString())).thenReturn(meter);
+    m_processingDuration = mock(DoubleHistogram.class);
+    m_inFlight = mock(ObservableLongMeasurement.class);
+    m_concurrencyLimit = mock(ObservableLongMeasurement.class);
+    m_immediateReceives = mock(ObservableLongMeasurement.class);
+    when(meter.histogramBuilder("scout.mom.jms.subscription.processing.duration").setDescription(anyString()).setUnit(anyString()).build()).thenReturn(m_processingDuration);
+    when(meter.upDownCounterBuilder("scout.mom.jms.subscription.messages.inflight").setDescription(anyString()).setUnit(anyString()).buildObserver()).thenReturn(m_inFlight);
+    when(meter.upDownCounterBuilder("scout.mom.jms.subscription.concurrency.limit").setDescription(anyString()).setUnit(anyString()).buildObserver()).thenReturn(m_concurrencyLimit);
+    when(meter.upDownCounterBuilder("scout.mom.jms.subscription.receives.immediate").setDescription(anyString()).setUnit(anyString()).buildObserver()).thenReturn(m_immediateReceives);
+
+    m_provider = new JmsSubscriptionMetricProvider();
+    m_provider.register(openTelemetry);
+
+    ArgumentCaptor<Runnable> callback = ArgumentCaptor.forClass(Runnable.class);
+    verify(meter).batchCallback(callback.capture(), any(), any(), any());
+    m_callback = callback.getValue();
+  }
+
+  @After
+  public void after() {
+    m_provider.close();
+  }
+
+  @Test
+  public void testSubscriptionsSummedUpPerDestination() throws Exception {
+    IJmsSessionProvider queue1 = mockSessionProvider(2, 3, 1);
+    IJmsSessionProvider queue2 = mockSessionProvider(1, 3, 0);
+    IJmsSessionProvider topic = mockSessionProvider(1, 1, 0);
+    m_provider.register(queue1, "mom", "queue");
+    m_provider.register(queue2, "mom", "queue");
+    m_provider.register(topic, "mom", "topic");
+
+    m_callback.run();
+    verify(m_inFlight).record(3, QUEUE_ATTRIBUTES);
+    verify(m_concurrencyLimit).record(6, QUEUE_ATTRIBUTES);
+    verify(m_immediateReceives).record(1, QUEUE_ATTRIBUTES);
+    verify(m_inFlight).record(1, TOPIC_ATTRIBUTES);
+    verify(m_concurrencyLimit).record(1, TOPIC_ATTRIBUTES);
+    verify(m_immediateReceives).record(0, TOPIC_ATTRIBUTES);
+    verifyNoMoreInteractions(m_inFlight, m_concurrencyLimit, m_immediateReceives);
+
+    m_provider.recordProcessingDuration(queue1, 2_000_000L);
+    verify(m_processingDuration).record(2d, QUEUE_ATTRIBUTES);
+
+    // unregistered subscriptions are not reported anymore
+    m_provider.unregister(queue2);
+    m_provider.unregister(topic);
+    m_callback.run();
+    verify(m_inFlight).record(2, QUEUE_ATTRIBUTES);
+    verify(m_concurrencyLimit).record(3, QUEUE_ATTRIBUTES);
+    verify(m_immediateReceives, times(2)).record(1, QUEUE_ATTRIBUTES);
+    verifyNoMoreInteractions(m_inFlight, m_concurrencyLimit, m_immediateReceives);
+
+    m_provider.recordProcessingDuration(topic, 1_000_000L);
+    verifyNoMoreInteractions(m_processingDuration);
+  }
+
+  @Test
+  public void testSubscriptionWithoutStats() {
+    m_provider.register(mock(IJmsSessionProvider.class), "mom", "queue");
+    m_callback.run();
+    verifyNoInteractions(m_inFlight, m_concurrencyLimit, m_immediateReceives);
+  }
+
+  /**
+   * @return session provider whose statistics report the given values
+   */
+  protected IJmsSessionProvider mockSessionProvider(int inFlight, int limit, int immediateReceives) throws InterruptedException {
+    ConsumerConcurrencyLimit concurrencyLimit = new ConsumerConcurrencyLimit(-1, limit);
+    for (int i = 0; i < inFlight; i++) {
+      concurrencyLimit.acquire();
+    }
+    for (int i = 0; i < immediateReceives; i++) {
+      concurrencyLimit.onReceive(0L);
+    }
+    JmsSubscriptionStats stats = new JmsSubscriptionStats();
+    stats.setConcurrencyLimit(concurrencyLimit);
+    IJmsSessionProvider sessionProvider = mock(IJmsSessionProvider.class);
+    when(sessionProvider.getStats()).thenReturn(stats);
+    return sessionProvider;
+  }
+}
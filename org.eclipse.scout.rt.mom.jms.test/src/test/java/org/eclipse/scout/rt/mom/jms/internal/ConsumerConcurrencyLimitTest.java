@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.mom.jms.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link ConsumerConcurrencyLimit}
+ */
+public class ConsumerConcurrencyLimitTest {
+
+  private static final long IMMEDIATE = 0L;
+  private static final long IDLE = TimeUnit.SECONDS.toNanos(1);
+
+  @Test
+  public void testUnlimited() throws Exception {
+    ConsumerConcurrencyLimit limit = new ConsumerConcurrencyLimit(-1, -1);
+    assertFalse(limit.isLimited());
+    assertFalse(limit.isAdaptive());
+    for (int i = 0; i < 100; i++) {
+      limit.acquire();
+    }
+    assertEquals(100, limit.getInFlight());
+  }
+
+  @Test
+  public void testFixed() throws Exception {
+    ConsumerConcurrencyLimit limit = new ConsumerConcurrencyLimit(-1, 2);
+    assertTrue(limit.isLimited());
+    assertFalse(limit.isAdaptive());
+    limit.acquire();
+    limit.acquire();
+    limit.onReceive(IMMEDIATE);
+    assertEquals(2, limit.getLimit());
+    assertEquals(1, limit.getImmediateReceives());
+  }
+
+  @Test
+  public void testAdaptive() throws Exception {
+    ConsumerConcurrencyLimit limit = new ConsumerConcurrencyLimit(1, 3);
+    assertTrue(limit.isAdaptive());
+    assertEquals(1, limit.getLimit());
+
+    // messages waiting while all permits are in use
+    limit.acquire();
+    limit.onReceive(IMMEDIATE);
+    assertEquals(2, limit.getLimit());
+    limit.acquire();
+    limit.onReceive(IMMEDIATE);
+    assertEquals(3, limit.getLimit());
+    limit.acquire();
+    limit.onReceive(IMMEDIATE);
+    assertEquals(3, limit.getLimit());
+    assertEquals(3, limit.getImmediateReceives());
+
+    limit.release(TimeUnit.MILLISECONDS.toNanos(10));
+    limit.release(TimeUnit.MILLISECONDS.toNanos(10));
+    limit.release(TimeUnit.MILLISECONDS.toNanos(10));
+    assertEquals(0, limit.getInFlight());
+
+    // consumers waiting longer than processing a message takes
+    limit.acquire();
+    limit.onReceive(IDLE);
+    assertEquals(2, limit.getLimit());
+    assertEquals(0, limit.getImmediateReceives());
+    limit.onReceive(IDLE);
+    limit.onReceive(IDLE);
+    assertEquals(1, limit.getLimit());
+  }
+
+  @Test
+  public void testAdaptiveNotIncreasedIfPermitsAvailable() throws Exception {
+    ConsumerConcurrencyLimit limit = new ConsumerConcurrencyLimit(2, 4);
+    limit.acquire();
+    limit.onReceive(IMMEDIATE);
+    assertEquals(2, limit.getLimit());
+  }
+}
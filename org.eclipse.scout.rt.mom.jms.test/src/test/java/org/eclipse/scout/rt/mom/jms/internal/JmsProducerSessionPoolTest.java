@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.mom.jms.internal;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import org.eclipse.scout.rt.mom.jms.IJmsSessionProvider;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link JmsProducerSessionPool}
+ */
+public class JmsProducerSessionPoolTest {
+
+  private JmsProducerSessionPool m_pool;
+
+  @Before
+  public void before() {
+    m_pool = new JmsProducerSessionPool("test", 2, () -> mock(IJmsSessionProvider.class));
+  }
+
+  @After
+  public void after() {
+    m_pool.close();
+  }
+
+  @Test
+  public void testReuse() throws Exception {
+    IJmsSessionProvider sessionProvider = m_pool.lease();
+    m_pool.release(sessionProvider, true);
+    assertSame(sessionProvider, m_pool.lease());
+    assertEquals(1, m_pool.getCreatedCount());
+    assertEquals(1, m_pool.getReusedCount());
+  }
+
+  @Test
+  public void testBrokenWhileIdle() throws Exception {
+    IJmsSessionProvider sessionProvider = m_pool.lease();
+    m_pool.release(sessionProvider, true);
+
+    // e.g. asynchronous sending failed after the session provider was released
+    m_pool.markBroken(sessionProvider);
+    assertEquals(1, m_pool.getIdleCount());
+    verify(sessionProvider, never()).close();
+
+    assertNotSame(sessionProvider, m_pool.lease());
+    verify(sessionProvider).close();
+    assertEquals(1, m_pool.getDiscardedCount());
+    assertEquals(0, m_pool.getIdleCount());
+  }
+
+  @Test
+  public void testBrokenWhileLeased() throws Exception {
+    IJmsSessionProvider sessionProvider = m_pool.lease();
+    m_pool.markBroken(sessionProvider);
+    m_pool.release(sessionProvider, true);
+
+    verify(sessionProvider).close();
+    assertEquals(1, m_pool.getDiscardedCount());
+    assertEquals(0, m_pool.getIdleCount());
+    assertNotSame(sessionProvider, m_pool.lease());
+  }
+}
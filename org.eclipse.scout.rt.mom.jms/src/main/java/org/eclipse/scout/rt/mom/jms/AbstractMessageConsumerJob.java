@@ -10,7 +10,7 @@
 package org.eclipse.scout.rt.mom.jms;
 
 import java.util.UUID;
-import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import jakarta.jms.JMSException;
 import jakarta.jms.Message;
@@ -20,11 +20,16 @@ import org.eclipse.scout.rt.mom.api.IDestination;
 import org.eclipse.scout.rt.mom.api.SubscribeInput;
 import org.eclipse.scout.rt.mom.api.marshaller.IMarshaller;
 import org.eclipse.scout.rt.mom.jms.JmsMomImplementor.MomExceptionHandler;
+import org.eclipse.scout.rt.mom.jms.internal.ConsumerConcurrencyLimit;
+import org.eclipse.scout.rt.mom.jms.internal.ISubscriptionStats;
+import org.eclipse.scout.rt.mom.jms.internal.JmsSubscriptionStats;
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.context.RunContext;
 import org.eclipse.scout.rt.platform.context.RunContexts;
 import org.eclipse.scout.rt.platform.exception.PlatformException;
 import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.JobInput;
+import org.eclipse.scout.rt.platform.job.Jobs;
 import org.eclipse.scout.rt.platform.transaction.ITransaction;
 import org.eclipse.scout.rt.platform.transaction.TransactionScope;
 import org.eclipse.scout.rt.platform.util.concurrent.IRunnable;
@@ -43,10 +48,9 @@ public abstract class AbstractMessageConsumerJob<DTO> implements IRunnable {
   protected final IMarshaller m_marshaller;
   protected final long m_receiveTimeoutMillis;
   /**
-   * Semaphore controlling number of message being consumed concurrently.
-   * It is nonfair, but for this usecase we only have 1 thread trying to acquire.
+   * Limit controlling number of message being consumed concurrently. Only 1 thread is trying to acquire.
    */
-  protected final Semaphore m_semaphore;
+  protected final ConsumerConcurrencyLimit m_concurrencyLimit;
 
   /**
    * @param mom
@@ -73,13 +77,16 @@ public abstract class AbstractMessageConsumerJob<DTO> implements IRunnable {
     m_subscribeInput = input;
     m_marshaller = mom.resolveMarshaller(destination);
     m_receiveTimeoutMillis = receiveTimeoutMillis;
-    if (input.getMaxConcurrentConsumerJobs() > 0) {
-      m_semaphore = new Semaphore(input.getMaxConcurrentConsumerJobs());
-    }
-    else {
-      // unlimited concurrent jobs allowed
-      m_semaphore = null;
-    }
+    m_concurrencyLimit = createConcurrencyLimit();
+  }
+
+  /**
+   * The limit is only adaptive for {@link SubscribeInput#ACKNOWLEDGE_AUTO} because the other modes process one message
+   * after the other.
+   */
+  protected ConsumerConcurrencyLimit createConcurrencyLimit() {
+    int min = SubscribeInput.ACKNOWLEDGE_AUTO == m_subscribeInput.getAcknowledgementMode() ? m_subscribeInput.getMinConcurrentConsumerJobs() : -1;
+    return new ConsumerConcurrencyLimit(min, m_subscribeInput.getMaxConcurrentConsumerJobs());
   }
 
   protected boolean isSingleThreaded() {
@@ -92,6 +99,16 @@ public abstract class AbstractMessageConsumerJob<DTO> implements IRunnable {
 
   @Override
   public void run() throws Exception {
+    BEANS.get(JmsSubscriptionMetricProvider.class).register(m_sessionProvider, m_mom.getName(), m_destination.getName());
+    try {
+      runConsumerLoop();
+    }
+    finally {
+      BEANS.get(JmsSubscriptionMetricProvider.class).unregister(m_sessionProvider);
+    }
+  }
+
+  protected void runConsumerLoop() throws Exception {
     while (true) {
       if (IFuture.CURRENT.get().isCancelled() || m_sessionProvider.isClosing()) {
         LOG.debug("JMS MessageConsumer for {} was closed", m_destination);
@@ -100,20 +117,24 @@ public abstract class AbstractMessageConsumerJob<DTO> implements IRunnable {
 
       final Session transactedSession;
       final Message message;
+      boolean acquired = false;
       try {
         transactedSession = m_sessionProvider.getSession();
-        if (m_semaphore != null) {
-          m_semaphore.acquire();
-        }
-        message = m_sessionProvider.receive(m_subscribeInput, m_receiveTimeoutMillis);
+        m_concurrencyLimit.acquire();
+        acquired = true;
+        message = receive();
         if (message == null) {
           // consumer closed or connection failure, go to start of while loop
+          m_concurrencyLimit.release();
           continue;
         }
       }
       catch (Exception | ThreadInterruptedError e) {
         //not catching ThreadInterruptedError would exit the event loop in case of accidential thread interruption
         Thread.interrupted();
+        if (acquired) {
+          m_concurrencyLimit.release();
+        }
         if (IFuture.CURRENT.get().isCancelled() || m_sessionProvider.isClosing()) {
           LOG.debug("JMS MessageConsumer for {} was closed", m_destination);
           break;
@@ -122,13 +143,18 @@ public abstract class AbstractMessageConsumerJob<DTO> implements IRunnable {
         continue;
       }
 
+      boolean handedOff = false;
       try {
         m_mom.getMessageHandler().handleIncoming(m_destination, message, m_marshaller);
+        handedOff = true;
         onJmsMessage(message);
       }
       catch (Exception | ThreadInterruptedError e) {
         //not catching ThreadInterruptedError would exit the event loop in case of accidential thread interruption in the downstream call to handleIncoming
         Thread.interrupted();
+        if (!handedOff) {
+          onMessageConsumptionComplete();
+        }
         if (isRollbackNecessary(e)) {
           try {
             transactedSession.rollback();
@@ -166,11 +192,72 @@ public abstract class AbstractMessageConsumerJob<DTO> implements IRunnable {
         .withDiagnostics(BEANS.all(IJmsRunContextDiagnostics.class));
   }
 
+  /**
+   * Receives the next message and adapts the concurrency limit to the time waited for it.
+   */
+  protected Message receive() throws JMSException {
+    long start = System.nanoTime();
+    Message message = m_sessionProvider.receive(m_subscribeInput, m_receiveTimeoutMillis);
+    m_concurrencyLimit.onReceive(System.nanoTime() - start);
+    // attached on each receive because the statistics are replaced together with the session on a failover
+    ISubscriptionStats stats = m_sessionProvider.getStats();
+    if (stats instanceof JmsSubscriptionStats) {
+      ((JmsSubscriptionStats) stats).setConcurrencyLimit(m_concurrencyLimit);
+    }
+    return message;
+  }
+
+  /**
+   * Processes a received message. The implementor is responsible to release the permit of the message exactly once by
+   * {@link #onMessageConsumptionComplete()} or {@link #onMessageConsumptionComplete(long)}, also if this method or the
+   * processing fails.
+   */
   protected abstract void onJmsMessage(Message jmsMessage) throws JMSException;
 
-  protected void onMessageConsumptionComplete() {
-    if (m_semaphore != null) {
-      m_semaphore.release();
+  /**
+   * Schedules a job to process a received message and releases the permit of the message once the job is done. The
+   * permit is also released if the job is rejected or cancelled before it runs.
+   */
+  protected IFuture<Void> scheduleMessageConsumption(IRunnable runnable, JobInput input) {
+    final AtomicBoolean started = new AtomicBoolean();
+    final IFuture<Void> future;
+    try {
+      future = Jobs.schedule(() -> {
+        if (!started.compareAndSet(false, true)) {
+          return; // cancelled before running
+        }
+        long processingStart = System.nanoTime();
+        try {
+          runnable.run();
+        }
+        finally {
+          onMessageConsumptionComplete(processingStart);
+        }
+      }, input);
+    }
+    catch (RuntimeException | Error e) {
+      onMessageConsumptionComplete();
+      throw e;
     }
+    future.whenDone(event -> {
+      if (started.compareAndSet(false, true)) {
+        onMessageConsumptionComplete();
+      }
+    }, null);
+    return future;
+  }
+
+  protected void onMessageConsumptionComplete() {
+    m_concurrencyLimit.release();
+  }
+
+  /**
+   * @param processingStartNanos
+   *          {@link System#nanoTime()} when the processing of the message started
+   */
+  protected void onMessageConsumptionComplete(long processingStartNanos) {
+    long processingNanos = System.nanoTime() - processingStartNanos;
+    BEANS.get(JmsSubscriptionMetricProvider.class).recordProcessingDuration(m_sessionProvider, processingNanos);
+    m_concurrencyLimit.release(processingNanos);
   }
 }
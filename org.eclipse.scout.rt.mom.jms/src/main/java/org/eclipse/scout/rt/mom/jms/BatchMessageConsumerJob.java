@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.mom.jms;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.Session;
+
+import org.eclipse.scout.rt.mom.api.IBatchMessageListener;
+import org.eclipse.scout.rt.mom.api.IDestination;
+import org.eclipse.scout.rt.mom.api.IMessage;
+import org.eclipse.scout.rt.mom.api.SubscribeInput;
+import org.eclipse.scout.rt.mom.jms.JmsMomImplementor.MomExceptionHandler;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.exception.PlatformExceptionTranslator;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Receives up to {@link SubscribeInput#getMaxBatchSize()} messages, waiting at most
+ * {@link SubscribeInput#getMaxBatchWaitMillis()} for further messages after the first one, and passes them at once to
+ * an {@link IBatchMessageListener}. All messages of a batch are processed in one {@link #createRunContext() run
+ * context}, i.e. in transacted mode they are committed or rolled back together.
+ */
+public class BatchMessageConsumerJob<DTO> extends AbstractMessageConsumerJob<DTO> {
+
+  private static final Logger LOG = LoggerFactory.getLogger(BatchMessageConsumerJob.class);
+
+  protected final IBatchMessageListener<DTO> m_listener;
+
+  public BatchMessageConsumerJob(JmsMomImplementor mom, IJmsSessionProvider sessionProvider, IDestination<DTO> destination, IBatchMessageListener<DTO> listener, SubscribeInput input, long receiveTimeout) {
+    super(mom, sessionProvider, destination, input, receiveTimeout);
+    m_listener = listener;
+  }
+
+  @Override
+  protected void runConsumerLoop() throws Exception {
+    while (true) {
+      if (IFuture.CURRENT.get().isCancelled() || m_sessionProvider.isClosing()) {
+        break;
+      }
+
+      final Session transactedSession;
+      final List<Message> messages;
+      boolean acquired = false;
+      try {
+        transactedSession = m_sessionProvider.getSession();
+        m_concurrencyLimit.acquire();
+        acquired = true;
+        messages = receiveBatch();
+        if (messages.isEmpty()) {
+          // consumer closed or connection failure, go to start of while loop
+          onMessageConsumptionComplete();
+          continue;
+        }
+      }
+      catch (Exception | ThreadInterruptedError e) {
+        //not catching ThreadInterruptedError would exit the event loop in case of accidential thread interruption
+        Thread.interrupted();
+        if (acquired) {
+          m_concurrencyLimit.release();
+        }
+        if (IFuture.CURRENT.get().isCancelled() || m_sessionProvider.isClosing()) {
+          break;
+        }
+        LOG.warn("JMS MessageConsumer for {} is still idle after several retry attempts", m_destination, e);
+        continue;
+      }
+
+      boolean handedOff = false;
+      try {
+        for (Message message : messages) {
+          m_mom.getMessageHandler().handleIncoming(m_destination, message, m_marshaller);
+        }
+        handedOff = true;
+        onJmsMessages(messages);
+      }
+      catch (Exception | ThreadInterruptedError e) {
+        //not catching ThreadInterruptedError would exit the event loop in case of accidential thread interruption in the downstream call to handleIncoming
+        Thread.interrupted();
+        if (!handedOff) {
+          onMessageConsumptionComplete();
+        }
+        if (isRollbackNecessary(e)) {
+          try {
+            transactedSession.rollback();
+          }
+          catch (final JMSException ex) {
+            LOG.error("Failed to rollback transacted session [session={}]", transactedSession, ex);
+          }
+        }
+        BEANS.get(MomExceptionHandler.class).handle(e);
+      }
+    }
+    LOG.debug("JMS MessageConsumer for {} was closed", m_destination);
+  }
+
+  /**
+   * Blocks until the first message is received, then collects further messages until the batch is full or the batch
+   * wait time has elapsed.
+   *
+   * @return received messages, empty if the consumer was closed
+   */
+  protected List<Message> receiveBatch() throws JMSException {
+    List<Message> messages = new ArrayList<>();
+    Message message = receive();
+    if (message == null) {
+      return messages;
+    }
+    messages.add(message);
+
+    long deadline = System.currentTimeMillis() + m_subscribeInput.getMaxBatchWaitMillis();
+    while (messages.size() < m_subscribeInput.getMaxBatchSize()) {
+      long remainingMillis = deadline - System.currentTimeMillis();
+      if (remainingMillis <= 0L) {
+        break;
+      }
+      message = m_sessionProvider.receive(m_subscribeInput, remainingMillis);
+      if (message == null) {
+        break;
+      }
+      messages.add(message);
+    }
+    return messages;
+  }
+
+  @Override
+  protected void onJmsMessage(Message jmsMessage) throws JMSException {
+    onJmsMessages(List.of(jmsMessage));
+  }
+
+  /**
+   * Processes received messages, see {@link #onJmsMessage(Message)} for the release of the permit.
+   */
+  protected void onJmsMessages(final List<Message> jmsMessages) throws JMSException {
+    if (isSingleThreaded() || isTransacted()) {
+      long processingStart = System.nanoTime();
+      try {
+        handleMessagesInRunContext(jmsMessages);
+      }
+      finally {
+        onMessageConsumptionComplete(processingStart);
+      }
+    }
+    else {
+      scheduleMessageConsumption(() -> handleMessagesInRunContext(jmsMessages), m_mom.newJobInput().withName("Receiving JMS messages [dest={}, count={}]", m_destination, jmsMessages.size()));
+    }
+  }
+
+  protected void handleMessagesInRunContext(final List<Message> jmsMessages) throws JMSException {
+    final List<IMessage<DTO>> messages = new ArrayList<>(jmsMessages.size());
+    for (Message jmsMessage : jmsMessages) {
+      messages.add(JmsMessageReader.newInstance(jmsMessage, m_marshaller).readMessage());
+    }
+
+    createRunContext()
+        .run(() -> {
+          try {
+            m_listener.onMessages(messages);
+          }
+          catch (Exception e) {
+            throw BEANS.get(PlatformExceptionTranslator.class).translate(e)
+                .withContextInfo("messages", messages.size());
+          }
+        });
+  }
+}
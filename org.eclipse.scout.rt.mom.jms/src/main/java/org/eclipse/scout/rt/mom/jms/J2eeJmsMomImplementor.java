@@ -9,17 +9,25 @@
  */
 package org.eclipse.scout.rt.mom.jms;
 
+import static org.eclipse.scout.rt.platform.util.Assertions.*;
+
 import java.util.Map;
 
+import jakarta.jms.CompletionListener;
 import jakarta.jms.Connection;
 import jakarta.jms.Destination;
 import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.MessageProducer;
 import jakarta.jms.Session;
 
 import org.eclipse.scout.rt.mom.api.IDestination;
 import org.eclipse.scout.rt.mom.api.IMom;
 import org.eclipse.scout.rt.mom.api.PublishInput;
 import org.eclipse.scout.rt.mom.jms.internal.JmsConnectionWrapper;
+import org.eclipse.scout.rt.mom.jms.internal.JmsProducerSessionPool;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.exception.DefaultRuntimeExceptionTranslator;
 
 /**
  * Implementation of 'instance-scoped' {@link IMom} based on JMS (Java Messaging Standard).
@@ -32,7 +40,8 @@ import org.eclipse.scout.rt.mom.jms.internal.JmsConnectionWrapper;
  * <li>Each {@link Session} requires its own {@link Connection}
  * <li>ClientId should not be set on {@link Connection}
  * <li>ExceptionListener should not be set with {@link Connection#setExceptionListener(jakarta.jms.ExceptionListener)}
- * <li>Async send (CompletionListener) is not supported
+ * <li>Async send (CompletionListener) is not supported: {@link #publishAsync(IDestination, Object, PublishInput,
+ * CompletionListener)} publishes synchronously and notifies the listener before it returns
  * <li>Async receive (MessageListener) is not supported
  * </ul>
  *
@@ -59,13 +68,13 @@ public class J2eeJmsMomImplementor extends JmsMomImplementor {
   }
 
   @Override
-  protected <DTO> void publishNonTransactional(final IDestination<DTO> destination, final DTO transferObject, final PublishInput input) throws JMSException {
+  protected <DTO> void publishNonTransactional(final IDestination<DTO> destination, final ISendFunction sendFunction) throws JMSException {
     // this publish method uses the shared connection
     synchronized (m_connectionWrapper) {
       // use lock on this connection until session is closed
       IJmsSessionProvider sessionProvider = super.createSessionProvider(destination, false);
       try {
-        send(sessionProvider, destination, transferObject, input);
+        sendFunction.send(sessionProvider);
       }
       finally {
         sessionProvider.close();
@@ -73,6 +82,48 @@ public class J2eeJmsMomImplementor extends JmsMomImplementor {
     }
   }
 
+  @Override
+  protected JmsProducerSessionPool createProducerSessionPool(Map<Object, Object> properties) {
+    // sessions of the shared connection must not be kept open (see publishNonTransactional)
+    return null;
+  }
+
+  /**
+   * Async send (CompletionListener) is not supported: the message is published synchronously like
+   * {@link #publish(IDestination, Object, PublishInput)} and {@code completionListener} is notified by the calling thread
+   * before this method returns. A failure while sending is reported to the listener and not thrown.
+   */
+  @Override
+  public <DTO> void publishAsync(IDestination<DTO> destination, DTO transferObject, PublishInput input, CompletionListener completionListener) {
+    assertNotNull(destination, "destination not specified");
+    assertNotNull(input, "publishInput not specified");
+    assertNotNull(completionListener, "completionListener not specified");
+    assertFalse(input.isTransactional(), "transactional mode not supported for asynchronous publishing");
+
+    try {
+      publishNonTransactional(destination, sessionProvider -> sendAsync(sessionProvider, destination, transferObject, input, completionListener));
+    }
+    catch (JMSException e) {
+      throw BEANS.get(DefaultRuntimeExceptionTranslator.class).translate(e);
+    }
+  }
+
+  @Override
+  protected void sendMessage(MessageProducer producer, Destination destination, Message message, int deliveryMode, int priority, long timeToLive, CompletionListener completionListener) throws JMSException {
+    if (completionListener == null) {
+      super.sendMessage(producer, destination, message, deliveryMode, priority, timeToLive, null);
+      return;
+    }
+    try {
+      super.sendMessage(producer, destination, message, deliveryMode, priority, timeToLive, null);
+    }
+    catch (JMSException | RuntimeException e) {
+      completionListener.onException(message, e);
+      return;
+    }
+    completionListener.onCompletion(message);
+  }
+
   @Override
   protected void postCreateConnection(Connection connection) {
     // We do not set client id nor exception handler and  we do NOT start the shared connection.
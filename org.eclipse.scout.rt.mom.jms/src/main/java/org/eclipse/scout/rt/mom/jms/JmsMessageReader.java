@@ -26,6 +26,8 @@ import jakarta.jms.TextMessage;
 import org.eclipse.scout.rt.dataobject.IDataObjectMapper;
 import org.eclipse.scout.rt.mom.api.IMessage;
 import org.eclipse.scout.rt.mom.api.marshaller.IMarshaller;
+import org.eclipse.scout.rt.mom.api.marshaller.IStreamingMarshaller;
+import org.eclipse.scout.rt.mom.jms.internal.BytesMessageInputStream;
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Bean;
 import org.eclipse.scout.rt.platform.context.CorrelationId;
@@ -90,6 +92,9 @@ public class JmsMessageReader<DTO> {
         transferData = readTextMessage((TextMessage) m_message);
         break;
       case MESSAGE_TYPE_BYTES:
+        if (m_marshaller instanceof IStreamingMarshaller) {
+          return (DTO) ((IStreamingMarshaller) m_marshaller).unmarshall(new BytesMessageInputStream((BytesMessage) m_message), m_marshallerContext);
+        }
         transferData = readBytesMessage((BytesMessage) m_message);
         break;
       case MESSAGE_TYPE_NO_PAYLOAD:
@@ -26,6 +26,8 @@ import jakarta.jms.TextMessage;
 
 import org.eclipse.scout.rt.dataobject.IDataObjectMapper;
 import org.eclipse.scout.rt.mom.api.marshaller.IMarshaller;
+import org.eclipse.scout.rt.mom.api.marshaller.IStreamingMarshaller;
+import org.eclipse.scout.rt.mom.jms.internal.BytesMessageOutputStream;
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Bean;
 import org.eclipse.scout.rt.platform.exception.PlatformException;
@@ -81,11 +83,17 @@ public class JmsMessageWriter {
 
   /**
    * Writes the given transfer object, and uses the writer's {@link IMarshaller} to transform the object into its
-   * transport type.
+   * transport type. An {@link IStreamingMarshaller} writes directly to the body of the message.
    *
    * @see JmsMessageReader#readTransferObject()
    */
   public JmsMessageWriter writeTransferObject(final Object transferObject) throws JMSException {
+    if (m_marshaller instanceof IStreamingMarshaller && m_marshaller.getMessageType() == MESSAGE_TYPE_BYTES) {
+      ((IStreamingMarshaller) m_marshaller).marshall(transferObject, new BytesMessageOutputStream((BytesMessage) m_message), m_marshallerContext);
+      m_marshallerContext.put(CTX_PROP_NULL_OBJECT, Boolean.valueOf(transferObject == null).toString());
+      return this;
+    }
+
     final Object transportObject = m_marshaller.marshall(transferObject, m_marshallerContext);
     m_marshallerContext.put(CTX_PROP_NULL_OBJECT, Boolean.valueOf(transferObject == null).toString());
 
@@ -25,6 +25,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 
+import jakarta.jms.CompletionListener;
 import jakarta.jms.Connection;
 import jakarta.jms.ConnectionFactory;
 import jakarta.jms.DeliveryMode;
@@ -44,6 +45,7 @@ import javax.naming.NamingException;
 import org.eclipse.scout.rt.dataobject.id.IIds;
 import org.eclipse.scout.rt.dataobject.id.NodeId;
 import org.eclipse.scout.rt.mom.api.DestinationConfigPropertyParser;
+import org.eclipse.scout.rt.mom.api.IBatchMessageListener;
 import org.eclipse.scout.rt.mom.api.IBiDestination;
 import org.eclipse.scout.rt.mom.api.IDestination;
 import org.eclipse.scout.rt.mom.api.IDestination.DestinationType;
@@ -59,6 +61,7 @@ import org.eclipse.scout.rt.mom.api.SubscribeInput;
 import org.eclipse.scout.rt.mom.api.marshaller.IMarshaller;
 import org.eclipse.scout.rt.mom.api.marshaller.TextMarshaller;
 import org.eclipse.scout.rt.mom.jms.internal.JmsConnectionWrapper;
+import org.eclipse.scout.rt.mom.jms.internal.JmsProducerSessionPool;
 import org.eclipse.scout.rt.mom.jms.internal.JmsSessionProviderWrapper;
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Bean;
@@ -66,6 +69,7 @@ import org.eclipse.scout.rt.platform.Platform;
 import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.ApplicationNameProperty;
 import org.eclipse.scout.rt.platform.context.CorrelationId;
+import org.eclipse.scout.rt.platform.context.RunContext;
 import org.eclipse.scout.rt.platform.context.RunContexts;
 import org.eclipse.scout.rt.platform.exception.DefaultRuntimeExceptionTranslator;
 import org.eclipse.scout.rt.platform.exception.ExceptionHandler;
@@ -142,6 +146,12 @@ public class JmsMomImplementor implements IMomImplementor {
    */
   public static final int WAIT_TIME_INFINITE = -1;
 
+  /**
+   * Key to set the maximum number of idle sessions kept in the {@link JmsProducerSessionPool} used for non-transactional
+   * publishing. If not set or 0, no pool is used and each publish creates and closes its own session.
+   */
+  public static final String JMS_PRODUCER_SESSION_POOL_SIZE = "scout.mom.jms.producerSessionPoolSize";
+
   protected final String m_momUid = UUID.randomUUID().toString();
 
   // init -> thread-safety: only set in init method
@@ -156,6 +166,7 @@ public class JmsMomImplementor implements IMomImplementor {
   protected IDestination<?> m_requestReplyCancellationTopic;
   protected IMarshaller m_defaultMarshaller;
   protected IJmsMessageHandler m_messageHandler;
+  protected JmsProducerSessionPool m_producerSessionPool; // may be null
   // end init
 
   protected ISubscription m_requestCancellationSubscription;
@@ -184,6 +195,7 @@ public class JmsMomImplementor implements IMomImplementor {
       m_connectionFactory = createConnectionFactory(properties);
       m_clientId = computeClientId(properties);
       m_connectionWrapper = createConnectionWrapper(properties);
+      m_producerSessionPool = createProducerSessionPool(properties);
 
       m_defaultMarshaller = createDefaultMarshaller(properties);
       m_messageHandler = createMessageHandler(properties);
@@ -348,12 +360,118 @@ public class JmsMomImplementor implements IMomImplementor {
   }
 
   protected <DTO> void publishNonTransactional(final IDestination<DTO> destination, final DTO transferObject, final PublishInput input) throws JMSException {
-    IJmsSessionProvider sessionProvider = createSessionProvider(destination, false);
+    publishNonTransactional(destination, sessionProvider -> send(sessionProvider, destination, transferObject, input));
+  }
+
+  protected <DTO> void publishNonTransactional(final IDestination<DTO> destination, final ISendFunction sendFunction) throws JMSException {
+    if (m_producerSessionPool == null) {
+      IJmsSessionProvider sessionProvider = createSessionProvider(destination, false);
+      try {
+        sendFunction.send(sessionProvider);
+      }
+      finally {
+        sessionProvider.close();
+      }
+      return;
+    }
+
+    IJmsSessionProvider sessionProvider = m_producerSessionPool.lease();
+    boolean reusable = false;
     try {
-      send(sessionProvider, destination, transferObject, input);
+      sendFunction.send(sessionProvider);
+      reusable = true;
     }
     finally {
-      sessionProvider.close();
+      m_producerSessionPool.release(sessionProvider, reusable);
+    }
+  }
+
+  /**
+   * Publishes a message asynchronously (see {@link MessageProducer#send(Destination, Message, CompletionListener)}):
+   * this method returns as soon as the message is handed to the JMS provider, {@code completionListener} is notified by
+   * the JMS provider once the message was acknowledged by the broker or sending failed.
+   * <p>
+   * Transactional publishing is not supported. The completion listener is called by a thread of the JMS provider
+   * without any {@link RunContext}, it must not block and must not use the JMS session.
+   * <p>
+   * A pooled session (see {@link #JMS_PRODUCER_SESSION_POOL_SIZE}) is returned to the pool as soon as the message is
+   * handed to the JMS provider. It is discarded if the JMS provider reports a failure to the completion listener.
+   * Without pool, a session is created for the message and closed by a separate job once the completion listener was
+   * notified, because closing a session waits for its pending completions.
+   */
+  public <DTO> void publishAsync(final IDestination<DTO> destination, final DTO transferObject, final PublishInput input, final CompletionListener completionListener) {
+    assertNotNull(destination, "destination not specified");
+    assertNotNull(input, "publishInput not specified");
+    assertNotNull(completionListener, "completionListener not specified");
+    assertFalse(input.isTransactional(), "transactional mode not supported for asynchronous publishing");
+
+    try {
+      JmsProducerSessionPool pool = m_producerSessionPool;
+      IJmsSessionProvider sessionProvider = pool != null ? pool.lease() : createSessionProvider(destination, false);
+      boolean sent = false;
+      try {
+        sendAsync(sessionProvider, destination, transferObject, input, wrapCompletionListener(sessionProvider, pool, completionListener));
+        sent = true;
+      }
+      finally {
+        if (pool != null) {
+          pool.release(sessionProvider, sent);
+        }
+        else if (!sent) {
+          sessionProvider.close();
+        }
+      }
+    }
+    catch (JMSException e) {
+      throw BEANS.get(DefaultRuntimeExceptionTranslator.class).translate(e);
+    }
+  }
+
+  protected <DTO> void sendAsync(IJmsSessionProvider sessionProvider, IDestination<DTO> destination, DTO transferObject, PublishInput input, CompletionListener completionListener) throws JMSException {
+    Session session = sessionProvider.getSession();
+    JmsMessageWriter messageWriter = JmsMessageWriter.newInstance(session, resolveMarshaller(destination))
+        .writeTransferObject(transferObject)
+        .writeReplyTo(resolveJmsDestination(input.getReplyTo(), session))
+        .writeProperties(input.getProperties());
+    send(sessionProvider.getProducer(), resolveJmsDestination(destination, session), messageWriter, toJmsDeliveryMode(input), toJmsPriority(input), toJmsTimeToLive(input), completionListener);
+  }
+
+  /**
+   * @return listener which notifies {@code completionListener} and afterwards marks a pooled session provider as broken
+   *         if sending failed, or closes an unpooled session provider. The session provider is closed by a separate job
+   *         because a session must not be closed by its own completion listener.
+   */
+  protected CompletionListener wrapCompletionListener(IJmsSessionProvider sessionProvider, JmsProducerSessionPool pool, CompletionListener completionListener) {
+    return new CompletionListener() {
+
+      @Override
+      public void onCompletion(Message message) {
+        try {
+          completionListener.onCompletion(message);
+        }
+        finally {
+          afterAsyncSend(sessionProvider, pool, false);
+        }
+      }
+
+      @Override
+      public void onException(Message message, Exception exception) {
+        try {
+          completionListener.onException(message, exception);
+        }
+        finally {
+          afterAsyncSend(sessionProvider, pool, true);
+        }
+      }
+    };
+  }
+
+  protected void afterAsyncSend(IJmsSessionProvider sessionProvider, JmsProducerSessionPool pool, boolean failed) {
+    if (pool == null) {
+      Jobs.schedule(sessionProvider::close, newJobInput().withName("Close JMS session"));
+    }
+    else if (failed) {
+      pool.markBroken(sessionProvider);
     }
   }
 
@@ -399,6 +517,9 @@ public class JmsMomImplementor implements IMomImplementor {
   }
 
   protected <DTO> IRunnable createMessageConsumerJob(IJmsSessionProvider sessionProvider, IDestination<DTO> destination, IMessageListener<DTO> listener, SubscribeInput input) {
+    if (listener instanceof IBatchMessageListener && input.getMaxBatchSize() > 1) {
+      return new BatchMessageConsumerJob<>(this, sessionProvider, destination, (IBatchMessageListener<DTO>) listener, input, m_messageConsumerJobReceiveTimeout);
+    }
     return new MessageConsumerJob<>(this, sessionProvider, destination, listener, input, m_messageConsumerJobReceiveTimeout);
   }
 
@@ -606,6 +727,11 @@ public class JmsMomImplementor implements IMomImplementor {
             .toFilter(), false);
       }
 
+      // close pooled sessions
+      if (m_producerSessionPool != null) {
+        m_producerSessionPool.close();
+      }
+
       // close connection
       if (m_connectionWrapper != null) {
         try {
@@ -689,12 +815,45 @@ public class JmsMomImplementor implements IMomImplementor {
   }
 
   public void send(MessageProducer producer, Destination destination, JmsMessageWriter messageWriter, int deliveryMode, int priority, long timeToLive) throws JMSException {
+    send(producer, destination, messageWriter, deliveryMode, priority, timeToLive, null);
+  }
+
+  /**
+   * @param completionListener
+   *          if not {@code null}, the message is sent asynchronously and the listener is notified upon completion
+   */
+  public void send(MessageProducer producer, Destination destination, JmsMessageWriter messageWriter, int deliveryMode, int priority, long timeToLive, CompletionListener completionListener) throws JMSException {
     Message message = messageWriter
         .writeCorrelationId(CorrelationId.CURRENT.get())
         .build();
     IDestination<?> momDestination = resolveMomDestination(destination);
     getMessageHandler().handleOutgoing(momDestination, message, messageWriter.getMarshaller());
-    producer.send(destination, message, deliveryMode, priority, timeToLive);
+    sendMessage(producer, destination, message, deliveryMode, priority, timeToLive, completionListener);
+  }
+
+  protected void sendMessage(MessageProducer producer, Destination destination, Message message, int deliveryMode, int priority, long timeToLive, CompletionListener completionListener) throws JMSException {
+    if (completionListener == null) {
+      producer.send(destination, message, deliveryMode, priority, timeToLive);
+    }
+    else {
+      producer.send(destination, message, deliveryMode, priority, timeToLive, completionListener);
+    }
+  }
+
+  protected JmsProducerSessionPool createProducerSessionPool(Map<Object, Object> properties) {
+    int poolSize = NumberUtility.nvl(TypeCastUtility.castValue(properties.get(JMS_PRODUCER_SESSION_POOL_SIZE), Integer.class), 0);
+    if (poolSize <= 0) {
+      return null;
+    }
+    return new JmsProducerSessionPool(m_symbolicName, poolSize, () -> createSessionProvider(null, false));
+  }
+
+  /**
+   * @return pool used for non-transactional publishing or {@code null} if pooling is disabled (see
+   *         {@link #JMS_PRODUCER_SESSION_POOL_SIZE})
+   */
+  public JmsProducerSessionPool getProducerSessionPool() {
+    return m_producerSessionPool;
   }
 
   protected Context createContext() throws NamingException {
@@ -862,4 +1021,13 @@ public class JmsMomImplementor implements IMomImplementor {
    */
   public static class MomExceptionHandler extends ExceptionHandler {
   }
+
+  /**
+   * Sends a message using the given session provider.
+   */
+  @FunctionalInterface
+  protected interface ISendFunction {
+
+    void send(IJmsSessionProvider sessionProvider) throws JMSException;
+  }
 }
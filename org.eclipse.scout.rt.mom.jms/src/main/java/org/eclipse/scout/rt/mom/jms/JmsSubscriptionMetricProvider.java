@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.mom.jms;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.scout.rt.mom.jms.internal.ISubscriptionStats;
+import org.eclipse.scout.rt.mom.jms.internal.JmsSubscriptionStats;
+import org.eclipse.scout.rt.platform.opentelemetry.IMetricProvider;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.BatchCallback;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableLongMeasurement;
+
+/**
+ * {@link IMetricProvider} which serves the metrics of the JMS subscriptions per MOM and destination: processing
+ * duration, messages in flight, concurrency limit and immediate receives. The values of several subscriptions on the
+ * same destination are summed up. The gauges are read from the {@link JmsSubscriptionStats} of the subscriptions.
+ */
+public class JmsSubscriptionMetricProvider implements IMetricProvider {
+
+  private static final AttributeKey<String> MOM_NAME = AttributeKey.stringKey("mom.name");
+  private static final AttributeKey<String> DESTINATION_NAME = AttributeKey.stringKey("mom.destination");
+
+  private final Map<IJmsSessionProvider, Attributes> m_subscriptions = new ConcurrentHashMap<>();
+  private volatile DoubleHistogram m_processingDuration;
+  private BatchCallback m_metricsCallback;
+
+  @Override
+  public void register(OpenTelemetry openTelemetry) {
+    Meter meter = openTelemetry.getMeter(getClass().getName());
+    m_processingDuration = meter.histogramBuilder("scout.mom.jms.subscription.processing.duration")
+        .setDescription("The time a subscription took to process a received message.")
+        .setUnit("ms")
+        .build();
+    ObservableLongMeasurement inFlight = meter.upDownCounterBuilder("scout.mom.jms.subscription.messages.inflight")
+        .setDescription("The number of messages a subscription is currently receiving or processing.")
+        .setUnit("{message}")
+        .buildObserver();
+    ObservableLongMeasurement concurrencyLimit = meter.upDownCounterBuilder("scout.mom.jms.subscription.concurrency.limit")
+        .setDescription("The number of messages a subscription may currently process concurrently, 0 if not limited.")
+        .setUnit("{message}")
+        .buildObserver();
+    ObservableLongMeasurement immediateReceives = meter.upDownCounterBuilder("scout.mom.jms.subscription.receives.immediate")
+        .setDescription("The number of messages a subscription received in a row without waiting, i.e. messages which were already waiting in the destination. "
+            + "Messages still waiting are not counted because JMS does not expose their number.")
+        .setUnit("{message}")
+        .buildObserver();
+    m_metricsCallback = meter.batchCallback(() -> {
+      Map<Attributes, long[]> values = new HashMap<>();
+      m_subscriptions.forEach((sessionProvider, attributes) -> {
+        ISubscriptionStats stats = sessionProvider.getStats();
+        if (stats instanceof JmsSubscriptionStats) {
+          JmsSubscriptionStats jmsStats = (JmsSubscriptionStats) stats;
+          long[] sums = values.computeIfAbsent(attributes, k -> new long[3]);
+          sums[0] += jmsStats.messagesInFlight();
+          sums[1] += jmsStats.concurrencyLimit();
+          sums[2] += jmsStats.immediateReceives();
+        }
+      });
+      values.forEach((attributes, sums) -> {
+        inFlight.record(sums[0], attributes);
+        concurrencyLimit.record(sums[1], attributes);
+        immediateReceives.record(sums[2], attributes);
+      });
+    },
+        inFlight,
+        concurrencyLimit,
+        immediateReceives);
+  }
+
+  /**
+   * Registers the subscription receiving with the given session provider until
+   * {@link #unregister(IJmsSessionProvider)} is called.
+   */
+  public void register(IJmsSessionProvider sessionProvider, String momName, String destinationName) {
+    m_subscriptions.put(sessionProvider, Attributes.of(MOM_NAME, momName, DESTINATION_NAME, destinationName));
+  }
+
+  public void unregister(IJmsSessionProvider sessionProvider) {
+    m_subscriptions.remove(sessionProvider);
+  }
+
+  public void recordProcessingDuration(IJmsSessionProvider sessionProvider, long processingNanos) {
+    DoubleHistogram processingDuration = m_processingDuration;
+    Attributes attributes = m_subscriptions.get(sessionProvider);
+    if (processingDuration != null && attributes != null) {
+      processingDuration.record(processingNanos / 1_000_000d, attributes);
+    }
+  }
+
+  @Override
+  public void close() {
+    if (m_metricsCallback != null) {
+      m_metricsCallback.close();
+      m_metricsCallback = null;
+    }
+    m_processingDuration = null;
+  }
+}
@@ -18,7 +18,6 @@ import org.eclipse.scout.rt.mom.api.IMessageListener;
 import org.eclipse.scout.rt.mom.api.SubscribeInput;
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.exception.PlatformExceptionTranslator;
-import org.eclipse.scout.rt.platform.job.Jobs;
 
 public class MessageConsumerJob<DTO> extends AbstractMessageConsumerJob<DTO> {
   protected final IMessageListener<DTO> m_listener;
@@ -35,10 +34,16 @@ public class MessageConsumerJob<DTO> extends AbstractMessageConsumerJob<DTO> {
   @Override
   protected void onJmsMessage(final Message jmsMessage) throws JMSException {
     if (isSingleThreaded() || isTransacted()) {
-      handleMessageInRunContext(jmsMessage);
+      long processingStart = System.nanoTime();
+      try {
+        handleMessageInRunContext(jmsMessage);
+      }
+      finally {
+        onMessageConsumptionComplete(processingStart);
+      }
     }
     else {
-      Jobs.schedule(() -> handleMessageInRunContext(jmsMessage), m_mom.newJobInput().withName("Receiving JMS message [dest={}]", m_destination));
+      scheduleMessageConsumption(() -> handleMessageInRunContext(jmsMessage), m_mom.newJobInput().withName("Receiving JMS message [dest={}]", m_destination));
     }
   }
 
@@ -57,8 +62,6 @@ public class MessageConsumerJob<DTO> extends AbstractMessageConsumerJob<DTO> {
           catch (Exception e) {
             throw BEANS.get(PlatformExceptionTranslator.class).translate(e)
                 .withContextInfo("correlationId", correlationId);
-          } finally {
-            onMessageConsumptionComplete();
           }
         });
   }
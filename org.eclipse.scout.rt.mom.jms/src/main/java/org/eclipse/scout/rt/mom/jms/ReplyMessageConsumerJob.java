@@ -27,7 +27,6 @@ import org.eclipse.scout.rt.platform.exception.ExceptionHandler;
 import org.eclipse.scout.rt.platform.exception.PlatformException;
 import org.eclipse.scout.rt.platform.exception.PlatformExceptionTranslator;
 import org.eclipse.scout.rt.platform.job.IFuture;
-import org.eclipse.scout.rt.platform.job.Jobs;
 import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruption;
 import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruption.IRestorer;
 
@@ -45,11 +44,18 @@ public class ReplyMessageConsumerJob<REQUEST, REPLY> extends AbstractMessageCons
 
   @Override
   protected void onJmsMessage(final Message jmsRequest) throws JMSException {
-    final String replyId = assertNotNull(jmsRequest.getStringProperty(JMS_PROP_REPLY_ID), "missing 'replyId' [msg={}]", jmsRequest);
+    final String replyId;
+    try {
+      replyId = assertNotNull(jmsRequest.getStringProperty(JMS_PROP_REPLY_ID), "missing 'replyId' [msg={}]", jmsRequest);
+    }
+    catch (JMSException | RuntimeException e) {
+      onMessageConsumptionComplete();
+      throw e;
+    }
 
     // Read and process the message asynchronously because JMS session is single-threaded. This allows concurrent message processing.
     // Unlike AutoAcknowledgeSubscriptionStrategy, a job is scheduled for 'single-threaded' mode to support cancellation (execution hint).
-    final IFuture<Void> future = Jobs.schedule(() -> handleMessageInRunContext(jmsRequest, replyId), m_mom.newJobInput()
+    final IFuture<Void> future = scheduleMessageConsumption(() -> handleMessageInRunContext(jmsRequest, replyId), m_mom.newJobInput()
         .withName("Receiving JMS message [dest={}]", m_destination)
         .withExecutionHint(replyId)); // Register for cancellation
 
@@ -80,8 +86,6 @@ public class ReplyMessageConsumerJob<REQUEST, REPLY> extends AbstractMessageCons
           catch (Exception e) {
             throw BEANS.get(PlatformExceptionTranslator.class).translate(e)
                 .withContextInfo("correlationId", correlationId);
-          } finally {
-            onMessageConsumptionComplete();
           }
         });
   }
@@ -30,9 +30,13 @@ public class RequestCancellationMessageConsumerJob<DTO> extends AbstractMessageC
 
   @Override
   protected void onJmsMessage(Message jmsMessage) throws JMSException {
-    Jobs.getJobManager().cancel(Jobs.newFutureFilterBuilder()
-        .andMatchExecutionHint(jmsMessage.getStringProperty(JMS_PROP_REPLY_ID))
-        .toFilter(), true);
-    onMessageConsumptionComplete();
+    try {
+      Jobs.getJobManager().cancel(Jobs.newFutureFilterBuilder()
+          .andMatchExecutionHint(jmsMessage.getStringProperty(JMS_PROP_REPLY_ID))
+          .toFilter(), true);
+    }
+    finally {
+      onMessageConsumptionComplete();
+    }
   }
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.mom.jms.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import jakarta.jms.BytesMessage;
+import jakarta.jms.JMSException;
+
+import org.eclipse.scout.rt.mom.api.marshaller.IStreamingMarshaller;
+
+/**
+ * {@link InputStream} reading directly from the body of a {@link BytesMessage}. Used to pass the body to
+ * {@link IStreamingMarshaller}s.
+ * <p>
+ * Closing this stream does not affect the message.
+ */
+public class BytesMessageInputStream extends InputStream {
+
+  private final BytesMessage m_message;
+  private final byte[] m_singleByte = new byte[1];
+  /**
+   * Only used if the caller reads into an array at an offset other than 0, which {@link BytesMessage} does not support.
+   */
+  private byte[] m_buffer;
+
+  public BytesMessageInputStream(BytesMessage message) {
+    m_message = message;
+  }
+
+  @Override
+  public int read() throws IOException {
+    return read(m_singleByte, 0, 1) == -1 ? -1 : m_singleByte[0] & 0xff;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    if (len == 0) {
+      return 0;
+    }
+    try {
+      if (off == 0) {
+        return m_message.readBytes(b, len);
+      }
+      if (m_buffer == null || m_buffer.length < len) {
+        m_buffer = new byte[len];
+      }
+      int n = m_message.readBytes(m_buffer, len);
+      if (n > 0) {
+        System.arraycopy(m_buffer, 0, b, off, n);
+      }
+      return n;
+    }
+    catch (JMSException e) {
+      throw new IOException(e);
+    }
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.mom.jms.internal;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import jakarta.jms.BytesMessage;
+import jakarta.jms.JMSException;
+
+import org.eclipse.scout.rt.mom.api.marshaller.IStreamingMarshaller;
+
+/**
+ * {@link OutputStream} writing directly to the body of a {@link BytesMessage}. Used to pass the body to
+ * {@link IStreamingMarshaller}s.
+ * <p>
+ * Closing this stream does not affect the message.
+ */
+public class BytesMessageOutputStream extends OutputStream {
+
+  private final BytesMessage m_message;
+
+  public BytesMessageOutputStream(BytesMessage message) {
+    m_message = message;
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    try {
+      m_message.writeByte((byte) b);
+    }
+    catch (JMSException e) {
+      throw new IOException(e);
+    }
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    try {
+      m_message.writeBytes(b, off, len);
+    }
+    catch (JMSException e) {
+      throw new IOException(e);
+    }
+  }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.mom.jms.internal;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.mom.api.SubscribeInput;
+
+/**
+ * Limits the number of messages a subscription receives and processes concurrently.
+ * <p>
+ * If the limit is adaptive ({@link SubscribeInput#getMinConcurrentConsumerJobs()} greater than 0 and lower than
+ * {@link SubscribeInput#getMaxConcurrentConsumerJobs()}), it starts at the minimum and is
+ * <ul>
+ * <li>increased by one if all permits are in use and a message was already waiting in the destination (the receive
+ * returned immediately),</li>
+ * <li>decreased by one if a receive waited longer than the average processing time of a message, i.e. there are more
+ * consumers than messages.</li>
+ * </ul>
+ * <p>
+ * This class is thread safe
+ */
+public class ConsumerConcurrencyLimit {
+
+  /**
+   * A receive returning faster than this found a message already waiting in the destination.
+   */
+  protected static final long IMMEDIATE_RECEIVE_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+  /**
+   * Weight of a new sample in the moving average of the processing time.
+   */
+  protected static final double PROCESSING_TIME_WEIGHT = 0.2;
+
+  private final int m_min;
+  private final int m_max;
+  private int m_limit;
+  private int m_inFlight;
+  private long m_immediateReceives;
+  private double m_averageProcessingNanos;
+
+  /**
+   * @param min
+   *          minimum limit, adaptive if greater than 0 and lower than max
+   * @param max
+   *          maximum limit, 0 or lower for no limit
+   */
+  public ConsumerConcurrencyLimit(int min, int max) {
+    m_max = max;
+    m_min = isLimited() && min > 0 && min < max ? min : max;
+    m_limit = m_min;
+  }
+
+  public boolean isLimited() {
+    return m_max > 0;
+  }
+
+  public boolean isAdaptive() {
+    return isLimited() && m_min < m_max;
+  }
+
+  /**
+   * Blocks until a message may be received.
+   */
+  public synchronized void acquire() throws InterruptedException {
+    while (isLimited() && m_inFlight >= m_limit) {
+      wait();
+    }
+    m_inFlight++;
+  }
+
+  /**
+   * Releases the permit acquired by {@link #acquire()} without a processed message.
+   */
+  public synchronized void release() {
+    m_inFlight--;
+    notifyAll();
+  }
+
+  /**
+   * Releases the permit acquired by {@link #acquire()} after a message was processed.
+   */
+  public synchronized void release(long processingNanos) {
+    m_averageProcessingNanos = m_averageProcessingNanos == 0 ? processingNanos : PROCESSING_TIME_WEIGHT * processingNanos + (1 - PROCESSING_TIME_WEIGHT) * m_averageProcessingNanos;
+    release();
+  }
+
+  /**
+   * Adapts the limit after a receive.
+   *
+   * @param receiveNanos
+   *          time the receive waited for a message
+   */
+  public synchronized void onReceive(long receiveNanos) {
+    if (receiveNanos <= IMMEDIATE_RECEIVE_NANOS) {
+      m_immediateReceives++;
+      if (isAdaptive() && m_inFlight >= m_limit && m_limit < m_max) {
+        m_limit++;
+        notifyAll();
+      }
+    }
+    else {
+      m_immediateReceives = 0;
+      if (isAdaptive() && receiveNanos > m_averageProcessingNanos && m_limit > m_min) {
+        m_limit--;
+      }
+    }
+  }
+
+  /**
+   * @return current limit, 0 or lower if not limited
+   */
+  public synchronized int getLimit() {
+    return m_limit;
+  }
+
+  /**
+   * @return number of messages being received or processed
+   */
+  public synchronized int getInFlight() {
+    return m_inFlight;
+  }
+
+  /**
+   * @return number of messages received in a row without waiting since a receive last waited for a message. These
+   *         messages were already waiting in the destination, but messages still waiting are not counted: JMS does not
+   *         expose their number.
+   */
+  public synchronized long getImmediateReceives() {
+    return m_immediateReceives;
+  }
+
+  /**
+   * @return moving average of the processing time of a message in nanoseconds
+   */
+  public synchronized double getAverageProcessingNanos() {
+    return m_averageProcessingNanos;
+  }
+}
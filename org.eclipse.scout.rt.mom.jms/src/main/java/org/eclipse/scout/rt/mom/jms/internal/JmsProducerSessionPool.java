@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.mom.jms.internal;
+
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.jms.JMSException;
+
+import org.eclipse.scout.rt.mom.jms.IJmsSessionProvider;
+import org.eclipse.scout.rt.mom.jms.JmsMomImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.BatchCallback;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableLongMeasurement;
+
+/**
+ * Pool of non-transacted session providers used by {@link JmsMomImplementor} to publish messages. A pooled session
+ * provider keeps its JMS session and its (anonymous) message producer, so publishing does not create and close a JMS
+ * session per message.
+ * <p>
+ * A session provider is leased exclusively by one thread at a time (JMS sessions are not thread-safe). Pooled session
+ * providers survive a failover because the {@link JmsSessionProviderWrapper} recreates its session lazily. A session
+ * provider reported as broken by {@link #markBroken(IJmsSessionProvider)} (e.g. asynchronous sending failed after it was
+ * released) is not leased anymore and closed on its next lease or release.
+ */
+public class JmsProducerSessionPool {
+
+  private static final Logger LOG = LoggerFactory.getLogger(JmsProducerSessionPool.class);
+
+  private static final AttributeKey<String> MOM_NAME = AttributeKey.stringKey("mom.name");
+  private static final AttributeKey<String> SESSION_STATE = AttributeKey.stringKey("state");
+
+  protected final String m_name;
+  protected final int m_maxIdle;
+  protected final ISessionProviderFactory m_sessionProviderFactory;
+
+  protected final BlockingDeque<IJmsSessionProvider> m_idle = new LinkedBlockingDeque<>();
+  protected final Set<IJmsSessionProvider> m_broken = ConcurrentHashMap.newKeySet();
+  protected final AtomicInteger m_leased = new AtomicInteger();
+  protected final AtomicLong m_created = new AtomicLong();
+  protected final AtomicLong m_reused = new AtomicLong();
+  protected final AtomicLong m_discarded = new AtomicLong();
+  protected volatile boolean m_closed;
+  protected BatchCallback m_metricsCallback;
+
+  /**
+   * @param name
+   *          name of the MOM, used for metrics
+   * @param maxIdle
+   *          maximum number of idle session providers kept in the pool
+   */
+  public JmsProducerSessionPool(String name, int maxIdle, ISessionProviderFactory sessionProviderFactory) {
+    m_name = name;
+    m_maxIdle = maxIdle;
+    m_sessionProviderFactory = sessionProviderFactory;
+    initMetrics();
+  }
+
+  protected void initMetrics() {
+    Meter meter = GlobalOpenTelemetry.get().getMeter("scout.mom.jms.JmsProducerSessionPool");
+    ObservableLongMeasurement sessionsUsage = meter.upDownCounterBuilder("scout.mom.jms.producer.sessions.usage")
+        .setDescription("The number of pooled producer sessions that are currently in state described by the state attribute.")
+        .setUnit("{session}")
+        .buildObserver();
+    ObservableLongMeasurement sessionsCreated = meter.counterBuilder("scout.mom.jms.producer.sessions.created")
+        .setDescription("The number of producer sessions created by the pool.")
+        .setUnit("{session}")
+        .buildObserver();
+    ObservableLongMeasurement sessionsReused = meter.counterBuilder("scout.mom.jms.producer.sessions.reused")
+        .setDescription("The number of leases served by an idle producer session of the pool.")
+        .setUnit("{session}")
+        .buildObserver();
+
+    Attributes defaultAttributes = Attributes.of(MOM_NAME, m_name);
+    Attributes idleAttributes = defaultAttributes.toBuilder().put(SESSION_STATE, "idle").build();
+    Attributes usedAttributes = defaultAttributes.toBuilder().put(SESSION_STATE, "used").build();
+    m_metricsCallback = meter.batchCallback(() -> {
+      sessionsUsage.record(getIdleCount(), idleAttributes);
+      sessionsUsage.record(getLeasedCount(), usedAttributes);
+      sessionsCreated.record(getCreatedCount(), defaultAttributes);
+      sessionsReused.record(getReusedCount(), defaultAttributes);
+    },
+        sessionsUsage,
+        sessionsCreated,
+        sessionsReused);
+  }
+
+  /**
+   * Leases an idle session provider or creates a new one. It must be returned using
+   * {@link #release(IJmsSessionProvider, boolean)}.
+   */
+  public IJmsSessionProvider lease() throws JMSException {
+    IJmsSessionProvider sessionProvider = m_idle.pollFirst();
+    while (sessionProvider != null && m_broken.contains(sessionProvider)) {
+      m_discarded.incrementAndGet();
+      closeSessionProvider(sessionProvider);
+      sessionProvider = m_idle.pollFirst();
+    }
+    if (sessionProvider == null) {
+      sessionProvider = m_sessionProviderFactory.create();
+      m_created.incrementAndGet();
+    }
+    else {
+      m_reused.incrementAndGet();
+    }
+    m_leased.incrementAndGet();
+    return sessionProvider;
+  }
+
+  /**
+   * Returns a leased session provider to the pool.
+   *
+   * @param reusable
+   *          {@code false} if the session provider must not be used anymore (e.g. because sending failed), it is closed
+   */
+  public void release(IJmsSessionProvider sessionProvider, boolean reusable) {
+    m_leased.decrementAndGet();
+    if (reusable && !m_broken.contains(sessionProvider) && !m_closed && !sessionProvider.isClosing() && m_idle.size() < m_maxIdle) {
+      m_idle.offerFirst(sessionProvider);
+      if (!m_closed || !m_idle.remove(sessionProvider)) {
+        return;
+      }
+    }
+    m_discarded.incrementAndGet();
+    closeSessionProvider(sessionProvider);
+  }
+
+  /**
+   * Marks a session provider of this pool as broken. It may be idle or leased at this time, it is closed on its next
+   * lease or release. This method does not close the session provider itself, so it may be called by a JMS completion
+   * listener.
+   */
+  public void markBroken(IJmsSessionProvider sessionProvider) {
+    m_broken.add(sessionProvider);
+  }
+
+  /**
+   * Closes all idle session providers. Session providers leased at this time are closed when released.
+   */
+  public void close() {
+    m_closed = true;
+    IJmsSessionProvider sessionProvider;
+    while ((sessionProvider = m_idle.pollFirst()) != null) {
+      closeSessionProvider(sessionProvider);
+    }
+    if (m_metricsCallback != null) {
+      m_metricsCallback.close();
+      m_metricsCallback = null;
+    }
+  }
+
+  protected void closeSessionProvider(IJmsSessionProvider sessionProvider) {
+    try {
+      sessionProvider.close();
+    }
+    catch (RuntimeException e) {
+      LOG.warn("Failed to close pooled session provider {}", sessionProvider, e);
+    }
+    finally {
+      // pending completions are finished when close returns, the session provider cannot be marked broken anymore
+      m_broken.remove(sessionProvider);
+    }
+  }
+
+  public int getIdleCount() {
+    return m_idle.size();
+  }
+
+  public int getLeasedCount() {
+    return m_leased.get();
+  }
+
+  public long getCreatedCount() {
+    return m_created.get();
+  }
+
+  public long getReusedCount() {
+    return m_reused.get();
+  }
+
+  public long getDiscardedCount() {
+    return m_discarded.get();
+  }
+
+  @Override
+  public String toString() {
+    return JmsProducerSessionPool.class.getSimpleName() + "[name=" + m_name + ", idle=" + getIdleCount() + ", leased=" + getLeasedCount() + ", created=" + getCreatedCount() + ", reused=" + getReusedCount() + "]";
+  }
+
+  @FunctionalInterface
+  public interface ISessionProviderFactory {
+
+    IJmsSessionProvider create() throws JMSException;
+  }
+}
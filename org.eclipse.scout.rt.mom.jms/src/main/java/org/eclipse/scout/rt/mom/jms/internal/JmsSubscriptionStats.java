@@ -28,6 +28,7 @@ public class JmsSubscriptionStats implements ISubscriptionStats {
   private final AtomicLong m_messageNonNullCount = new AtomicLong();
   private final AtomicLong m_errorCount = new AtomicLong();
   private volatile Date m_lastMessageReceivedTimestamp;
+  private volatile ConsumerConcurrencyLimit m_concurrencyLimit;
 
   @Override
   public boolean invokingReceive() {
@@ -54,6 +55,37 @@ public class JmsSubscriptionStats implements ISubscriptionStats {
     return m_lastMessageReceivedTimestamp;
   }
 
+  /**
+   * @return number of messages being received or processed, 0 if no {@link ConsumerConcurrencyLimit} is attached
+   */
+  public int messagesInFlight() {
+    ConsumerConcurrencyLimit limit = m_concurrencyLimit;
+    return limit != null ? limit.getInFlight() : 0;
+  }
+
+  /**
+   * @return number of messages which may currently be processed concurrently, 0 if not limited
+   */
+  public int concurrencyLimit() {
+    ConsumerConcurrencyLimit limit = m_concurrencyLimit;
+    return limit != null ? Math.max(limit.getLimit(), 0) : 0;
+  }
+
+  /**
+   * @see ConsumerConcurrencyLimit#getImmediateReceives()
+   */
+  public long immediateReceives() {
+    ConsumerConcurrencyLimit limit = m_concurrencyLimit;
+    return limit != null ? limit.getImmediateReceives() : 0L;
+  }
+
+  /**
+   * Attaches the limit of the consumer receiving on this session, which provides the concurrency statistics.
+   */
+  public void setConcurrencyLimit(ConsumerConcurrencyLimit concurrencyLimit) {
+    m_concurrencyLimit = concurrencyLimit;
+  }
+
   public void notifyBeforeReceive() {
     m_invokeCount.incrementAndGet();
   }
@@ -13,8 +13,10 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
@@ -46,9 +48,63 @@ public class TextsTest {
     assertEquals("value DEF", TEXTS.getWithFallback("anyKey", TEXTS.getWithFallback("key6", "fallback", "DEF"), "ABC"));
   }
 
+  @Test
+  public void testGetAfterInvalidateTextTables() {
+    ScoutTexts texts = BEANS.get(ScoutTexts.class);
+    assertEquals("Value 3", texts.getText(Locale.GERMAN, "key3"));
+    texts.invalidateTextTables();
+    assertEquals("Value 3", texts.getText(Locale.GERMAN, "key3"));
+    assertEquals("value X", texts.getText(Locale.GERMAN, "key6", "X"));
+    assertEquals("{undefined text anyKey}", texts.getText(Locale.GERMAN, "anyKey"));
+  }
+
+  @Test
+  public void testTextTablesBounded() {
+    P_CountingScoutTexts texts = new P_CountingScoutTexts();
+    for (int i = 0; i < ScoutTexts.MAX_TEXT_TABLES + 10; i++) {
+      assertEquals("Value 3", texts.getText(new Locale("de", "CH", "v" + i), "key3"));
+    }
+    assertEquals(ScoutTexts.MAX_TEXT_TABLES, texts.m_createCount.get());
+  }
+
+  @Test
+  public void testTextTableBuiltBeforeInvalidationDiscarded() {
+    P_CountingScoutTexts texts = new P_CountingScoutTexts() {
+      @Override
+      protected TextTable createTextTable(Locale locale, List<? extends ITextProviderService> providers, long generation) {
+        TextTable table = super.createTextTable(locale, providers, generation);
+        if (m_createCount.get() == 1) {
+          // invalidation while the first table is built
+          invalidateTextTables();
+        }
+        return table;
+      }
+    };
+    assertEquals("Value 3", texts.getText(Locale.GERMAN, "key3"));
+    assertEquals("Value 3", texts.getText(Locale.GERMAN, "key3"));
+    assertEquals(2, texts.m_createCount.get());
+    assertEquals("Value 3", texts.getText(Locale.GERMAN, "key3"));
+    assertEquals(2, texts.m_createCount.get());
+  }
+
   @Test
   public void testGetTextMap() {
     Map<String, String> textMap = BEANS.get(ScoutTexts.class).getTextMap(Locale.ENGLISH);
     assertNotNull(textMap);
   }
+
+  private static class P_CountingScoutTexts extends ScoutTexts {
+    final AtomicInteger m_createCount = new AtomicInteger();
+
+    @Override
+    protected void watchTextFiles() {
+      // not required
+    }
+
+    @Override
+    protected TextTable createTextTable(Locale locale, List<? extends ITextProviderService> providers, long generation) {
+      m_createCount.incrementAndGet();
+      return super.createTextTable(locale, providers, generation);
+    }
+  }
 }
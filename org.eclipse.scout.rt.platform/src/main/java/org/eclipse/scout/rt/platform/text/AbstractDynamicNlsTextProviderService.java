@@ -50,6 +50,17 @@ public abstract class AbstractDynamicNlsTextProviderService implements ITextProv
     getDynamicNls().registerResourceBundle(getDynamicNlsBaseName(), getClass());
   }
 
+  /**
+   * Specifies whether {@link ScoutTexts} may merge the texts of this provider into its precompiled per-locale text
+   * table. This requires that {@link #getText(Locale, String, String...)} is equivalent to a lookup in
+   * {@link #getTextMap(Locale)} followed by the {@link ITextPostProcessor}s of {@link #getDynamicNls()}.
+   * <p>
+   * Subclasses which resolve texts dynamically must override this method and return {@code false}.
+   */
+  public boolean isPrecompilable() {
+    return true;
+  }
+
   @Override
   public String getText(Locale locale, String key, String... messageArguments) {
     return getDynamicNls().getText(locale, key, messageArguments);
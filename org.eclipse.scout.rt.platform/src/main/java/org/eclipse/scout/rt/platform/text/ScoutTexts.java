@@ -9,13 +9,28 @@
  */
 package org.eclipse.scout.rt.platform.text;
 
+import java.io.IOException;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.scout.rt.platform.ApplicationScoped;
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.Platform;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.DevelopmentTextsFileWatcherEnabledProperty;
+import org.eclipse.scout.rt.platform.nls.ITextPostProcessor;
+import org.eclipse.scout.rt.platform.nls.NlsFileWatcher;
+import org.eclipse.scout.rt.platform.nls.NlsLocale;
+import org.eclipse.scout.rt.platform.nls.NlsUtility;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * ScoutTexts provides support for text translations.
@@ -27,24 +42,74 @@ import org.eclipse.scout.rt.platform.BEANS;
  * This implementation caches all available {@link ITextProviderService}s for better performance (otherwise 2/3 of a
  * {@link #getText(String, String...)} invocation would be spend for collecting {@link ITextProviderService}s). Invoke
  * {@link #reloadTextProviders()} after modifying the set of text provider services.
+ * <p>
+ * The texts of the leading {@link AbstractDynamicNlsTextProviderService}s which are
+ * {@link AbstractDynamicNlsTextProviderService#isPrecompilable() precompilable} are merged into one immutable table per
+ * locale, with locale fallbacks and {@link ITextPostProcessor}s already applied. A lookup without message arguments is a
+ * single hash probe. Only keys missing in that table are passed to the remaining providers.
  *
  * @see TEXTS
  * @see ITextProviderService
  */
 @ApplicationScoped
 public class ScoutTexts {
+  private static final Logger LOG = LoggerFactory.getLogger(ScoutTexts.class);
+
+  private static final String[] NO_ARGUMENTS = new String[0];
+  /**
+   * Maximum number of cached text tables. Texts of further locales are resolved by the providers directly.
+   */
+  protected static final int MAX_TEXT_TABLES = 64;
 
   /**
    * Cached list of ordered {@link ITextProviderService}s
    */
   private volatile List<? extends ITextProviderService> m_textProviders;
+  /**
+   * Precompiled text tables by locale, rebuilt lazily after {@link #invalidateTextTables()}
+   */
+  private final ConcurrentMap<Locale, TextTable> m_textTables = new ConcurrentHashMap<>();
+  /**
+   * Incremented by {@link #invalidateTextTables()}. Tables built under an older generation are not used anymore.
+   */
+  private final AtomicLong m_generation = new AtomicLong();
 
   public ScoutTexts() {
     reloadTextProviders();
+    watchTextFiles();
   }
 
   public void reloadTextProviders() {
     m_textProviders = BEANS.all(ITextProviderService.class);
+    invalidateTextTables();
+  }
+
+  /**
+   * Discards all precompiled text tables. They are rebuilt on the next access to a text of the corresponding locale.
+   */
+  public void invalidateTextTables() {
+    m_generation.incrementAndGet();
+    m_textTables.clear();
+  }
+
+  /**
+   * In development mode the text tables are discarded whenever a text file of a precompiled provider changes.
+   */
+  protected void watchTextFiles() {
+    if (!Platform.get().inDevelopmentMode() || !CONFIG.getPropertyValue(DevelopmentTextsFileWatcherEnabledProperty.class)) {
+      return;
+    }
+    for (ITextProviderService provider : getTextProviders()) {
+      if (provider instanceof AbstractDynamicNlsTextProviderService) {
+        AbstractDynamicNlsTextProviderService nlsProvider = (AbstractDynamicNlsTextProviderService) provider;
+        try {
+          BEANS.get(NlsFileWatcher.class).watch(nlsProvider.getDynamicNlsBaseName(), path -> invalidateTextTables(), nlsProvider.getClass().getClassLoader());
+        }
+        catch (IOException e) {
+          LOG.warn("Could not create nls file watcher", e);
+        }
+      }
+    }
   }
 
   public final String getText(@NlsKey String key, String... messageArguments) {
@@ -69,8 +134,26 @@ public class ScoutTexts {
   }
 
   protected String getTextInternal(Locale locale, @NlsKey String key, String fallback, String... messageArguments) {
-    for (ITextProviderService provider : getTextProviders()) {
-      String result = provider.getText(locale, key, messageArguments);
+    if (key == null) {
+      return fallback;
+    }
+    TextTable table = getTextTable(locale != null ? locale : NlsLocale.get());
+    List<? extends ITextProviderService> providers;
+    int firstProvider;
+    if (table == null) {
+      providers = getTextProviders();
+      firstProvider = 0;
+    }
+    else {
+      String result = table.getText(key, messageArguments);
+      if (result != null) {
+        return result;
+      }
+      providers = table.getProviders();
+      firstProvider = table.getCompiledProviderCount();
+    }
+    for (int i = firstProvider; i < providers.size(); i++) {
+      String result = providers.get(i).getText(locale, key, messageArguments);
       if (result != null) {
         return result;
       }
@@ -78,6 +161,66 @@ public class ScoutTexts {
     return fallback;
   }
 
+  /**
+   * @return the text table of the given locale or {@code null} if {@link #MAX_TEXT_TABLES} tables of other locales are
+   *         already cached
+   */
+  protected TextTable getTextTable(Locale locale) {
+    // read the generation before the providers, reloadTextProviders() replaces them before it invalidates the tables
+    long generation = m_generation.get();
+    TextTable table = m_textTables.get(locale);
+    if (table != null && table.getGeneration() == generation) {
+      return table;
+    }
+    if (table == null && m_textTables.size() >= MAX_TEXT_TABLES) {
+      return null;
+    }
+    table = createTextTable(locale, getTextProviders(), generation);
+    // a table stored after a concurrent invalidation has an older generation and is replaced on the next access
+    m_textTables.put(locale, table);
+    return table;
+  }
+
+  /**
+   * Merges the texts of all leading precompilable providers. The first provider which is not precompilable and all
+   * providers after it are queried on each lookup of a key not contained in the table.
+   */
+  protected TextTable createTextTable(Locale locale, List<? extends ITextProviderService> providers, long generation) {
+    Map<String, TextEntry> entries = new HashMap<>();
+    int compiledProviderCount = 0;
+    for (ITextProviderService provider : providers) {
+      if (!(provider instanceof AbstractDynamicNlsTextProviderService) || !((AbstractDynamicNlsTextProviderService) provider).isPrecompilable()) {
+        break;
+      }
+      Collection<ITextPostProcessor> postProcessors = ((AbstractDynamicNlsTextProviderService) provider).getDynamicNls().getTextPostProcessors();
+      for (Entry<String, String> text : provider.getTextMap(locale).entrySet()) {
+        if (!entries.containsKey(text.getKey())) {
+          String processedText = NlsUtility.postProcessText(locale, text.getKey(), text.getValue(), postProcessors, NO_ARGUMENTS);
+          entries.put(text.getKey(), new TextEntry(text.getValue(), processedText, postProcessors));
+        }
+      }
+      compiledProviderCount++;
+    }
+    return new TextTable(locale, generation, providers, compiledProviderCount, entries);
+  }
+
+  /**
+   * @return the text of the given key if it is contained in the precompiled text table of the given locale,
+   *         {@code null} otherwise. Such texts do not depend on the calling context and may be cached by the caller
+   *         until {@link #getGeneration()} changes.
+   */
+  public String getPrecompiledText(Locale locale, @NlsKey String key) {
+    TextTable table = getTextTable(locale != null ? locale : NlsLocale.get());
+    return table != null && key != null ? table.getText(key, NO_ARGUMENTS) : null;
+  }
+
+  /**
+   * @return a number which changes whenever the text providers are reloaded or the text tables are invalidated
+   */
+  public long getGeneration() {
+    return m_generation.get();
+  }
+
   protected String getDefaultFallback(String key) {
     return "{undefined text " + key + "}";
   }
@@ -85,4 +228,71 @@ public class ScoutTexts {
   public String getTextWithFallback(Locale locale, @NlsKey String key, String fallback, String... messageArguments) {
     return getTextInternal(locale, key, fallback, messageArguments);
   }
+
+  /**
+   * Immutable text table of one locale.
+   */
+  protected static final class TextTable {
+    private final Locale m_locale;
+    private final long m_generation;
+    private final List<? extends ITextProviderService> m_providers;
+    private final int m_compiledProviderCount;
+    private final Map<String, TextEntry> m_entries;
+
+    public TextTable(Locale locale, long generation, List<? extends ITextProviderService> providers, int compiledProviderCount, Map<String, TextEntry> entries) {
+      m_locale = locale;
+      m_generation = generation;
+      m_providers = providers;
+      m_compiledProviderCount = compiledProviderCount;
+      m_entries = entries;
+    }
+
+    public String getText(String key, String... messageArguments) {
+      TextEntry entry = m_entries.get(key);
+      if (entry == null) {
+        return null;
+      }
+      if (messageArguments == null || messageArguments.length == 0) {
+        return entry.getProcessedText();
+      }
+      String text = NlsUtility.bindText(entry.getRawText(), messageArguments);
+      return NlsUtility.postProcessText(m_locale, key, text, entry.getPostProcessors(), messageArguments);
+    }
+
+    public long getGeneration() {
+      return m_generation;
+    }
+
+    public List<? extends ITextProviderService> getProviders() {
+      return m_providers;
+    }
+
+    public int getCompiledProviderCount() {
+      return m_compiledProviderCount;
+    }
+  }
+
+  protected static final class TextEntry {
+    private final String m_rawText;
+    private final String m_processedText;
+    private final Collection<ITextPostProcessor> m_postProcessors;
+
+    public TextEntry(String rawText, String processedText, Collection<ITextPostProcessor> postProcessors) {
+      m_rawText = rawText;
+      m_processedText = processedText;
+      m_postProcessors = postProcessors;
+    }
+
+    public String getRawText() {
+      return m_rawText;
+    }
+
+    public String getProcessedText() {
+      return m_processedText;
+    }
+
+    public Collection<ITextPostProcessor> getPostProcessors() {
+      return m_postProcessors;
+    }
+  }
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.rest.jackson;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Set;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyReader;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+
+import org.eclipse.scout.rt.dataobject.IBinaryDataObjectMapper;
+import org.eclipse.scout.rt.dataobject.IDataObject;
+import org.eclipse.scout.rt.jackson.dataobject.JacksonSmileDataObjectMapper;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.rest.RestApplication;
+import org.eclipse.scout.rt.rest.RestApplication.IRestApplicationClassesContributor;
+import org.eclipse.scout.rt.rest.client.IGlobalRestClientConfigurator;
+
+/**
+ * {@link MessageBodyReader} and {@link MessageBodyWriter} for {@link IDataObject} entities using the binary
+ * representation of the {@link IBinaryDataObjectMapper} (media type {@value JacksonSmileDataObjectMapper#MEDIA_TYPE}).
+ * <p>
+ * The binary representation is used per resource method and per request: a resource method opts in by declaring
+ * {@code @Produces}/{@code @Consumes} with {@link #MEDIA_TYPE}, a REST client by using this media type for the request
+ * entity and the accept header. All other requests still use JSON.
+ *
+ * @see RestApplication
+ */
+@Produces(JacksonSmileDataObjectMapper.MEDIA_TYPE)
+@Consumes(JacksonSmileDataObjectMapper.MEDIA_TYPE)
+public class BinaryDataObjectMessageBodyProvider implements MessageBodyReader<IDataObject>, MessageBodyWriter<IDataObject> {
+
+  public static final MediaType MEDIA_TYPE = MediaType.valueOf(JacksonSmileDataObjectMapper.MEDIA_TYPE);
+
+  @Override
+  public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+    return IDataObject.class.isAssignableFrom(type) && MEDIA_TYPE.isCompatible(mediaType);
+  }
+
+  @Override
+  public IDataObject readFrom(Class<IDataObject> type, Type genericType, Annotation[] annotations, MediaType mediaType, MultivaluedMap<String, String> httpHeaders, InputStream entityStream) {
+    return BEANS.get(IBinaryDataObjectMapper.class).readValue(entityStream, type);
+  }
+
+  @Override
+  public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+    return IDataObject.class.isAssignableFrom(type) && MEDIA_TYPE.isCompatible(mediaType);
+  }
+
+  @Override
+  public void writeTo(IDataObject t, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream) {
+    BEANS.get(IBinaryDataObjectMapper.class).writeValue(entityStream, t);
+  }
+
+  /**
+   * Registers {@link BinaryDataObjectMessageBodyProvider} in REST applications (server side).
+   */
+  public static class BinaryDataObjectMessageBodyProviderContributor implements IRestApplicationClassesContributor {
+
+    @Override
+    public Set<Class<?>> contribute() {
+      return Set.of(BinaryDataObjectMessageBodyProvider.class);
+    }
+  }
+
+  /**
+   * Registers {@link BinaryDataObjectMessageBodyProvider} in REST clients.
+   */
+  public static class BinaryDataObjectMessageBodyProviderClientConfigurator implements IGlobalRestClientConfigurator {
+
+    @Override
+    public void configure(ClientBuilder clientBuilder) {
+      clientBuilder.register(BinaryDataObjectMessageBodyProvider.class);
+    }
+  }
+}
@@ -0,0 +1,378 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.rest.jackson;
+
+import java.io.Closeable;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyReader;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+
+import org.eclipse.scout.rt.dataobject.DoList;
+import org.eclipse.scout.rt.dataobject.IDataObject;
+import org.eclipse.scout.rt.dataobject.IDataObjectMapper;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.rest.RestApplication;
+import org.eclipse.scout.rt.rest.RestApplication.IRestApplicationClassesContributor;
+import org.eclipse.scout.rt.rest.client.IGlobalRestClientConfigurator;
+
+/**
+ * {@link MessageBodyReader} and {@link MessageBodyWriter} for {@link Stream} entities of data objects, represented as
+ * JSON array (e.g. compatible with a {@link DoList}).
+ * <p>
+ * Uses {@link IDataObjectMapper#readValues(InputStream, Class)} and
+ * {@link IDataObjectMapper#writeValues(OutputStream, Stream)}: elements are read and written one at a time, so bulk
+ * payloads with many elements do not have to be materialized. A resource method declares a parameter or return type
+ * {@code Stream<SomeDo>}, the element type is taken from the generic type argument.
+ * <p>
+ * A stream read from an entity is backed by the entity input stream, which stays open until the stream is closed. The
+ * consumer must therefore close the stream (e.g. using try-with-resources), a resource method may as well return it
+ * (it is closed once it was written).
+ *
+ * @see RestApplication
+ */
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+public class DataObjectStreamMessageBodyProvider implements MessageBodyReader<Stream<?>>, MessageBodyWriter<Stream<?>> {
+
+  @Override
+  public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+    return isDataObjectStream(type, genericType, mediaType);
+  }
+
+  @Override
+  public Stream<?> readFrom(Class<Stream<?>> type, Type genericType, Annotation[] annotations, MediaType mediaType, MultivaluedMap<String, String> httpHeaders, InputStream entityStream) {
+    // the JAX-RS runtime closes the entity stream as soon as this method returns unless the entity is Closeable
+    return new CloseableStream<>(BEANS.get(IDataObjectMapper.class).readValues(entityStream, getElementType(genericType)));
+  }
+
+  @Override
+  public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+    return isDataObjectStream(type, genericType, mediaType);
+  }
+
+  @Override
+  public void writeTo(Stream<?> t, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream) {
+    // the entity stream is closed by the JAX-RS runtime
+    BEANS.get(IDataObjectMapper.class).writeValues(new NonClosingOutputStream(entityStream), t);
+  }
+
+  protected boolean isDataObjectStream(Class<?> type, Type genericType, MediaType mediaType) {
+    return Stream.class.isAssignableFrom(type)
+        && MediaType.APPLICATION_JSON_TYPE.isCompatible(mediaType)
+        && IDataObject.class.isAssignableFrom(getElementType(genericType));
+  }
+
+  /**
+   * @return element type of {@code Stream<T>} or {@link IDataObject} if it cannot be resolved
+   */
+  protected Class<?> getElementType(Type genericType) {
+    if (genericType instanceof ParameterizedType) {
+      Type[] typeArguments = ((ParameterizedType) genericType).getActualTypeArguments();
+      if (typeArguments.length == 1) {
+        Type elementType = typeArguments[0];
+        if (elementType instanceof ParameterizedType) {
+          elementType = ((ParameterizedType) elementType).getRawType();
+        }
+        if (elementType instanceof Class) {
+          return (Class<?>) elementType;
+        }
+      }
+    }
+    return IDataObject.class;
+  }
+
+  /**
+   * Flushes instead of closing the wrapped stream.
+   */
+  protected static class NonClosingOutputStream extends FilterOutputStream {
+
+    public NonClosingOutputStream(OutputStream out) {
+      super(out);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      out.write(b, off, len);
+    }
+
+    @Override
+    public void close() throws IOException {
+      flush();
+    }
+  }
+
+  /**
+   * {@link Stream} delegate implementing {@link Closeable}, which keeps the JAX-RS runtime from closing the entity
+   * stream before the elements are read. Closing the stream closes the entity stream.
+   */
+  protected static class CloseableStream<T> implements Stream<T>, Closeable {
+
+    private final Stream<T> m_delegate;
+
+    public CloseableStream(Stream<T> delegate) {
+      m_delegate = delegate;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+      return m_delegate.iterator();
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+      return m_delegate.spliterator();
+    }
+
+    @Override
+    public boolean isParallel() {
+      return m_delegate.isParallel();
+    }
+
+    @Override
+    public Stream<T> sequential() {
+      return m_delegate.sequential();
+    }
+
+    @Override
+    public Stream<T> parallel() {
+      return m_delegate.parallel();
+    }
+
+    @Override
+    public Stream<T> unordered() {
+      return m_delegate.unordered();
+    }
+
+    @Override
+    public Stream<T> onClose(Runnable closeHandler) {
+      return m_delegate.onClose(closeHandler);
+    }
+
+    @Override
+    public void close() {
+      m_delegate.close();
+    }
+
+    @Override
+    public Stream<T> filter(Predicate<? super T> predicate) {
+      return m_delegate.filter(predicate);
+    }
+
+    @Override
+    public <R> Stream<R> map(Function<? super T, ? extends R> mapper) {
+      return m_delegate.map(mapper);
+    }
+
+    @Override
+    public IntStream mapToInt(ToIntFunction<? super T> mapper) {
+      return m_delegate.mapToInt(mapper);
+    }
+
+    @Override
+    public LongStream mapToLong(ToLongFunction<? super T> mapper) {
+      return m_delegate.mapToLong(mapper);
+    }
+
+    @Override
+    public DoubleStream mapToDouble(ToDoubleFunction<? super T> mapper) {
+      return m_delegate.mapToDouble(mapper);
+    }
+
+    @Override
+    public <R> Stream<R> flatMap(Function<? super T, ? extends Stream<? extends R>> mapper) {
+      return m_delegate.flatMap(mapper);
+    }
+
+    @Override
+    public IntStream flatMapToInt(Function<? super T, ? extends IntStream> mapper) {
+      return m_delegate.flatMapToInt(mapper);
+    }
+
+    @Override
+    public LongStream flatMapToLong(Function<? super T, ? extends LongStream> mapper) {
+      return m_delegate.flatMapToLong(mapper);
+    }
+
+    @Override
+    public DoubleStream flatMapToDouble(Function<? super T, ? extends DoubleStream> mapper) {
+      return m_delegate.flatMapToDouble(mapper);
+    }
+
+    @Override
+    public Stream<T> distinct() {
+      return m_delegate.distinct();
+    }
+
+    @Override
+    public Stream<T> sorted() {
+      return m_delegate.sorted();
+    }
+
+    @Override
+    public Stream<T> sorted(Comparator<? super T> comparator) {
+      return m_delegate.sorted(comparator);
+    }
+
+    @Override
+    public Stream<T> peek(Consumer<? super T> action) {
+      return m_delegate.peek(action);
+    }
+
+    @Override
+    public Stream<T> limit(long maxSize) {
+      return m_delegate.limit(maxSize);
+    }
+
+    @Override
+    public Stream<T> skip(long n) {
+      return m_delegate.skip(n);
+    }
+
+    @Override
+    public void forEach(Consumer<? super T> action) {
+      m_delegate.forEach(action);
+    }
+
+    @Override
+    public void forEachOrdered(Consumer<? super T> action) {
+      m_delegate.forEachOrdered(action);
+    }
+
+    @Override
+    public Object[] toArray() {
+      return m_delegate.toArray();
+    }
+
+    @Override
+    public <A> A[] toArray(IntFunction<A[]> generator) {
+      return m_delegate.toArray(generator);
+    }
+
+    @Override
+    public T reduce(T identity, BinaryOperator<T> accumulator) {
+      return m_delegate.reduce(identity, accumulator);
+    }
+
+    @Override
+    public Optional<T> reduce(BinaryOperator<T> accumulator) {
+      return m_delegate.reduce(accumulator);
+    }
+
+    @Override
+    public <U> U reduce(U identity, BiFunction<U, ? super T, U> accumulator, BinaryOperator<U> combiner) {
+      return m_delegate.reduce(identity, accumulator, combiner);
+    }
+
+    @Override
+    public <R> R collect(Supplier<R> supplier, BiConsumer<R, ? super T> accumulator, BiConsumer<R, R> combiner) {
+      return m_delegate.collect(supplier, accumulator, combiner);
+    }
+
+    @Override
+    public <R, A> R collect(Collector<? super T, A, R> collector) {
+      return m_delegate.collect(collector);
+    }
+
+    @Override
+    public Optional<T> min(Comparator<? super T> comparator) {
+      return m_delegate.min(comparator);
+    }
+
+    @Override
+    public Optional<T> max(Comparator<? super T> comparator) {
+      return m_delegate.max(comparator);
+    }
+
+    @Override
+    public long count() {
+      return m_delegate.count();
+    }
+
+    @Override
+    public boolean anyMatch(Predicate<? super T> predicate) {
+      return m_delegate.anyMatch(predicate);
+    }
+
+    @Override
+    public boolean allMatch(Predicate<? super T> predicate) {
+      return m_delegate.allMatch(predicate);
+    }
+
+    @Override
+    public boolean noneMatch(Predicate<? super T> predicate) {
+      return m_delegate.noneMatch(predicate);
+    }
+
+    @Override
+    public Optional<T> findFirst() {
+      return m_delegate.findFirst();
+    }
+
+    @Override
+    public Optional<T> findAny() {
+      return m_delegate.findAny();
+    }
+  }
+
+  /**
+   * Registers {@link DataObjectStreamMessageBodyProvider} in REST applications (server side).
+   */
+  public static class DataObjectStreamMessageBodyProviderContributor implements IRestApplicationClassesContributor {
+
+    @Override
+    public Set<Class<?>> contribute() {
+      return Set.of(DataObjectStreamMessageBodyProvider.class);
+    }
+  }
+
+  /**
+   * Registers {@link DataObjectStreamMessageBodyProvider} in REST clients.
+   */
+  public static class DataObjectStreamMessageBodyProviderClientConfigurator implements IGlobalRestClientConfigurator {
+
+    @Override
+    public void configure(ClientBuilder clientBuilder) {
+      clientBuilder.register(DataObjectStreamMessageBodyProvider.class);
+    }
+  }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.rest.jersey.fixture;
+
+import java.util.stream.Stream;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+import org.eclipse.scout.rt.rest.IRestResource;
+import org.eclipse.scout.rt.rest.jersey.RestClientTestEchoDo;
+
+@Path("dataObjectStream")
+public class DataObjectStreamResource implements IRestResource {
+
+  /**
+   * Echoes the received data objects while they are read, marking each of them with info {@code "echo"}.
+   */
+  @POST
+  @Consumes(MediaType.APPLICATION_JSON)
+  @Produces(MediaType.APPLICATION_JSON)
+  public Stream<RestClientTestEchoDo> echo(Stream<RestClientTestEchoDo> items) {
+    return items.map(item -> item.withInfo("echo"));
+  }
+}
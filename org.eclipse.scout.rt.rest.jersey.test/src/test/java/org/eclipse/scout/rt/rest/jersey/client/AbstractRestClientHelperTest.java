@@ -29,6 +29,8 @@ import org.eclipse.scout.rt.rest.client.AbstractRestClientHelper;
 import org.eclipse.scout.rt.rest.client.AntiCsrfClientFilter;
 import org.eclipse.scout.rt.rest.client.HttpHeadersRequestFilter;
 import org.eclipse.scout.rt.rest.client.proxy.RestClientProxyFactory;
+import org.eclipse.scout.rt.rest.jackson.BinaryDataObjectMessageBodyProvider;
+import org.eclipse.scout.rt.rest.jackson.DataObjectStreamMessageBodyProvider;
 import org.eclipse.scout.rt.rest.jackson.ObjectMapperResolver;
 import org.eclipse.scout.rt.rest.jersey.JerseyTestRestClientHelper;
 import org.eclipse.scout.rt.rest.jersey.LanguageAndCorrelationIdRestRequestFilter;
@@ -53,7 +55,7 @@ public class AbstractRestClientHelperTest {
   public void testBuildClient() {
     JerseyTestRestClientHelper restClientHelper = BEANS.get(JerseyTestRestClientHelper.class);
     Set<Class<?>> actualClasses = restClientHelper.rawClient().getConfiguration().getClasses();
-    Set<Class<?>> expectedClasses = Set.of(ScoutInvocationBuilderListener.class, ScoutJobExecutorServiceProvider.class, MultipartMessageBodyWriter.class);
+    Set<Class<?>> expectedClasses = Set.of(ScoutInvocationBuilderListener.class, ScoutJobExecutorServiceProvider.class, MultipartMessageBodyWriter.class, BinaryDataObjectMessageBodyProvider.class, DataObjectStreamMessageBodyProvider.class);
     assertEquals(expectedClasses, actualClasses);
 
     Set<Class<?>> actualInstances = restClientHelper.rawClient().getConfiguration().getInstances().stream().map(Object::getClass).collect(Collectors.toSet());
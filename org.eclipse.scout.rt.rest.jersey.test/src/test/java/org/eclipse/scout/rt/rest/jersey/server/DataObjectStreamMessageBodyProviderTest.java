@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.rest.jersey.server;
+
+import static org.junit.Assert.*;
+
+import java.util.Iterator;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.core.GenericEntity;
+import jakarta.ws.rs.core.GenericType;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.util.StringUtility;
+import org.eclipse.scout.rt.rest.jackson.DataObjectStreamMessageBodyProvider;
+import org.eclipse.scout.rt.rest.jersey.JerseyTestApplication;
+import org.eclipse.scout.rt.rest.jersey.JerseyTestRestClientHelper;
+import org.eclipse.scout.rt.rest.jersey.RestClientTestEchoDo;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests for {@link DataObjectStreamMessageBodyProvider} on both the client and the server side.
+ */
+@RunWith(PlatformTestRunner.class)
+public class DataObjectStreamMessageBodyProviderTest {
+
+  /**
+   * Number of elements sent, resulting in a payload of several megabytes, which is much larger than the buffers of the
+   * JSON parser and the HTTP connection.
+   */
+  private static final int ITEM_COUNT = 20_000;
+  private static final String DATA = StringUtility.repeat("x", 100);
+
+  @BeforeClass
+  public static void beforeClass() {
+    BEANS.get(JerseyTestApplication.class).ensureStarted();
+  }
+
+  @Test
+  public void testRoundTrip() {
+    Stream<RestClientTestEchoDo> items = IntStream.range(0, ITEM_COUNT)
+        .mapToObj(i -> BEANS.get(RestClientTestEchoDo.class).withCode(i).withData(DATA));
+
+    Response response = BEANS.get(JerseyTestRestClientHelper.class)
+        .target("api/dataObjectStream")
+        .request()
+        .accept(MediaType.APPLICATION_JSON)
+        .post(Entity.json(new GenericEntity<Stream<RestClientTestEchoDo>>(items) {
+        }));
+
+    int count = 0;
+    try (Stream<RestClientTestEchoDo> echoedItems = response.readEntity(new GenericType<Stream<RestClientTestEchoDo>>() {
+    })) {
+      Iterator<RestClientTestEchoDo> it = echoedItems.iterator();
+      while (it.hasNext()) {
+        RestClientTestEchoDo item = it.next();
+        assertEquals(Integer.valueOf(count), item.getCode());
+        assertEquals(DATA, item.getData());
+        assertEquals("echo", item.getInfo());
+        count++;
+      }
+    }
+    assertEquals(ITEM_COUNT, count);
+  }
+}
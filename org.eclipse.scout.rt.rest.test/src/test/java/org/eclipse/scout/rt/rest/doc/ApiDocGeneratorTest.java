@@ -9,12 +9,30 @@
  */
 package org.eclipse.scout.rt.rest.doc;
 
-import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.lang.annotation.Annotation;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Response.ResponseBuilder;
+
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.html.IHtmlDocument;
+import org.eclipse.scout.rt.platform.nls.NlsLocale;
+import org.eclipse.scout.rt.rest.doc.ApiDocGenerator.ApiDocContent;
 import org.eclipse.scout.rt.rest.doc.ApiDocGenerator.DescriptionDescriptor;
+import org.eclipse.scout.rt.rest.doc.ApiDocGenerator.ResourceDescriptor;
 import org.junit.Test;
 
 public class ApiDocGeneratorTest {
@@ -34,6 +52,126 @@ public class ApiDocGeneratorTest {
     assertDescription(generator.toDescriptionDescriptor(createDescription("<b>plain text</b><br><p>second line</p>", true)), false, "plain text\nsecond line", "<b>plain text</b><br><p>second line</p>");
   }
 
+  @Test
+  public void testContentCache() {
+    ApiDocGenerator generator = new ApiDocGenerator();
+    AtomicInteger counter = new AtomicInteger();
+
+    ApiDocContent content = generator.getContent("text", null, MediaType.TEXT_PLAIN_TYPE, () -> "content-" + counter.incrementAndGet());
+    assertSame(content, generator.getContent("text", null, MediaType.TEXT_PLAIN_TYPE, () -> "content-" + counter.incrementAndGet()));
+    assertEquals(1, counter.get());
+    assertEquals("content-1", new String(content.getContent(), StandardCharsets.UTF_8));
+    assertEquals(StandardCharsets.UTF_8.name(), content.getMediaType().getParameters().get(MediaType.CHARSET_PARAMETER));
+
+    ApiDocContent otherScopeContent = generator.getContent("text", "*", MediaType.TEXT_PLAIN_TYPE, () -> "content-" + counter.incrementAndGet());
+    assertEquals(2, counter.get());
+    assertNotEquals(content.getEntityTag(), otherScopeContent.getEntityTag());
+
+    generator.clearCache();
+    ApiDocContent recreatedContent = generator.getContent("text", null, MediaType.TEXT_PLAIN_TYPE, () -> "content-1");
+    assertNotSame(content, recreatedContent);
+    assertEquals(content.getEntityTag(), recreatedContent.getEntityTag());
+  }
+
+  @Test
+  public void testContentCacheUnknownScope() {
+    ApiDocGenerator generator = new ApiDocGenerator();
+    AtomicInteger counter = new AtomicInteger();
+
+    ApiDocContent content = generator.getContent("text", "unknown", MediaType.TEXT_PLAIN_TYPE, () -> "content-" + counter.incrementAndGet());
+    assertNotSame(content, generator.getContent("text", "unknown", MediaType.TEXT_PLAIN_TYPE, () -> "content-" + counter.incrementAndGet()));
+    assertEquals(2, counter.get());
+    assertTrue(generator.getContentCache().getContents().isEmpty());
+  }
+
+  @Test
+  public void testContentCacheSupportedLocale() {
+    ApiDocGenerator generator = new ApiDocGenerator();
+    assertEquals(Locale.GERMAN, generator.getSupportedLocale(Locale.forLanguageTag("de-CH-x-unknown")));
+    assertEquals(Locale.ROOT, generator.getSupportedLocale(Locale.forLanguageTag("xx-YY")));
+
+    ApiDocContent content = RunContexts.empty()
+        .withLocale(Locale.forLanguageTag("de-CH-x-unknown"))
+        .call(() -> generator.getContent("text", null, MediaType.TEXT_PLAIN_TYPE, () -> NlsLocale.get().toLanguageTag()));
+    assertEquals("de", new String(content.getContent(), StandardCharsets.UTF_8));
+    assertSame(content, RunContexts.empty()
+        .withLocale(Locale.GERMAN)
+        .call(() -> generator.getContent("text", null, MediaType.TEXT_PLAIN_TYPE, () -> "other")));
+  }
+
+  @Test
+  public void testContentGeneratedDate() throws IOException {
+    ApiDocGenerator generator = new ApiDocGenerator() {
+      @Override
+      protected String formatGeneratedDate() {
+        return "<now>";
+      }
+    };
+
+    ApiDocContent content = generator.getContent("html", null, MediaType.TEXT_HTML_TYPE, () -> "before " + ApiDocGenerator.GENERATED_DATE_PLACEHOLDER + " after");
+    assertEquals("before  after", new String(content.getContent(), StandardCharsets.UTF_8));
+    assertTrue(content.getEntityTag().isWeak());
+    assertEquals("before &lt;now&gt; after", writeEntity(generator, content));
+
+    ApiDocContent textContent = generator.getContent("text", null, MediaType.TEXT_PLAIN_TYPE, () -> "text");
+    assertFalse(textContent.getEntityTag().isWeak());
+    assertEquals("text", writeEntity(generator, textContent));
+  }
+
+  @Test
+  public void testContentCreatedByHooks() {
+    AtomicInteger resourceDescriptorsCalls = new AtomicInteger();
+    AtomicInteger toHtmlCalls = new AtomicInteger();
+    ApiDocGenerator generator = new ApiDocGenerator() {
+      @Override
+      public List<ResourceDescriptor> getResourceDescriptors(String scope) {
+        resourceDescriptorsCalls.incrementAndGet();
+        return super.getResourceDescriptors(scope);
+      }
+
+      @Override
+      protected IHtmlDocument toHtml(String scope, List<ResourceDescriptor> resourceDescriptors) {
+        toHtmlCalls.incrementAndGet();
+        return super.toHtml(scope, resourceDescriptors);
+      }
+
+      @Override
+      protected Response toResponse(ApiDocContent content, Request request) {
+        return null; // response builder is not available in this test
+      }
+    };
+
+    // outside of a run context, hooks are called once per cached content
+    generator.getTextContent(null);
+    generator.getTextContent(null);
+    generator.getJsonContent(null);
+    assertEquals(2, resourceDescriptorsCalls.get());
+    generator.getWebContent(null, null);
+    generator.getWebContent(null, null);
+    assertEquals(1, toHtmlCalls.get());
+  }
+
+  @Test
+  public void testNotModified() {
+    ApiDocGenerator generator = new ApiDocGenerator();
+    ApiDocContent content = generator.getContent("text", null, MediaType.TEXT_PLAIN_TYPE, () -> "content");
+
+    Response notModified = mock(Response.class);
+    ResponseBuilder responseBuilder = mock(ResponseBuilder.class);
+    when(responseBuilder.build()).thenReturn(notModified);
+    Request request = mock(Request.class);
+    when(request.evaluatePreconditions(any(EntityTag.class))).thenReturn(responseBuilder);
+
+    assertSame(notModified, generator.toResponse(content, request));
+    verify(request).evaluatePreconditions(content.getEntityTag());
+  }
+
+  protected String writeEntity(ApiDocGenerator generator, ApiDocContent content) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    generator.writeEntity(content, out);
+    return new String(out.toByteArray(), StandardCharsets.UTF_8);
+  }
+
   protected ApiDocDescription createDescription(String text, boolean htmlEnabled) {
     return new ApiDocDescription() {
 
@@ -10,6 +10,7 @@
 package org.eclipse.scout.rt.rest.doc;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
@@ -23,12 +24,19 @@ import java.time.format.FormatStyle;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -45,18 +53,25 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Response.ResponseBuilder;
 import jakarta.ws.rs.core.Response.Status;
+import jakarta.ws.rs.core.StreamingOutput;
 
 import org.eclipse.scout.rt.dataobject.DoEntityBuilder;
 import org.eclipse.scout.rt.dataobject.IDoEntity;
 import org.eclipse.scout.rt.dataobject.IPrettyPrintDataObjectMapper;
 import org.eclipse.scout.rt.platform.ApplicationScoped;
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.IBean;
 import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.ApplicationNameProperty;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.ApplicationVersionProperty;
+import org.eclipse.scout.rt.platform.context.RunContexts;
 import org.eclipse.scout.rt.platform.exception.DefaultRuntimeExceptionTranslator;
 import org.eclipse.scout.rt.platform.holders.StringHolder;
 import org.eclipse.scout.rt.platform.html.HTML;
@@ -65,9 +80,11 @@ import org.eclipse.scout.rt.platform.html.IHtmlContent;
 import org.eclipse.scout.rt.platform.html.IHtmlDocument;
 import org.eclipse.scout.rt.platform.html.IHtmlElement;
 import org.eclipse.scout.rt.platform.nls.NlsLocale;
+import org.eclipse.scout.rt.platform.security.SecurityUtility;
 import org.eclipse.scout.rt.platform.text.TEXTS;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
 import org.eclipse.scout.rt.platform.util.FileUtility;
+import org.eclipse.scout.rt.platform.util.HexUtility;
 import org.eclipse.scout.rt.platform.util.IOUtility;
 import org.eclipse.scout.rt.platform.util.ObjectUtility;
 import org.eclipse.scout.rt.platform.util.StringUtility;
@@ -83,26 +100,35 @@ import org.eclipse.scout.rt.rest.RestApplicationScopes;
  * &#64;GET
  * &#64;Path("doc")
  * &#64;ApiDocIgnore
- * public Response getDocAsHtml(@QueryParam(ApiDocGenerator.STATIC_RESOURCE_PARAM) String staticResource, @QueryParam(ApiDocGenerator.SCOPE_PARAM) String scope) {
- *   return BEANS.get(ApiDocGenerator.class).getWebContent(staticResource, scope);
+ * public Response getDocAsHtml(@QueryParam(ApiDocGenerator.STATIC_RESOURCE_PARAM) String staticResource, @QueryParam(ApiDocGenerator.SCOPE_PARAM) String scope, @Context Request request) {
+ *   return BEANS.get(ApiDocGenerator.class).getWebContent(staticResource, scope, request);
  * }
  *
  * &#64;GET
  * &#64;Path("doc/csv")
  * &#64;ApiDocIgnore
  * &#64;Produces(MediaType.TEXT_PLAIN)
- * public Response getDocAsText(@QueryParam(ApiDocGenerator.SCOPE_PARAM) String scope) {
- *   return BEANS.get(ApiDocGenerator.class).getTextContent(scope);
+ * public Response getDocAsText(@QueryParam(ApiDocGenerator.SCOPE_PARAM) String scope, @Context Request request) {
+ *   return BEANS.get(ApiDocGenerator.class).getTextContent(scope, request);
  * }
  *
  * &#64;GET
  * &#64;Path("doc/json")
  * &#64;ApiDocIgnore
  * &#64;Produces(MediaType.APPLICATION_JSON)
- * public Response getDocAsJson(@QueryParam(ApiDocGenerator.SCOPE_PARAM) String scope) {
- *   return BEANS.get(ApiDocGenerator.class).getJsonContent(scope);
+ * public Response getDocAsJson(@QueryParam(ApiDocGenerator.SCOPE_PARAM) String scope, @Context Request request) {
+ *   return BEANS.get(ApiDocGenerator.class).getJsonContent(scope, request);
  * }
  * </pre>
+ * <p>
+ * The generated content is cached per scope and locale and served with an {@link EntityTag}. If the {@link Request} is
+ * passed, a request with a matching {@code If-None-Match} header is answered with <i>304 Not Modified</i>. The cache is
+ * discarded as soon as the registered {@link IRestResource} beans change.
+ * <p>
+ * Only scopes of registered resources are cached, contents of other scopes are generated on each request. Contents are
+ * generated for the closest locale supported by the JVM (see {@link #getSupportedLocale(Locale)}) and the number of
+ * cached entries is limited. The generation date in the HTML footer is inserted on each request, therefore the
+ * HTML content is served with a weak {@link EntityTag}.
  */
 @ApplicationScoped
 public class ApiDocGenerator {
@@ -120,6 +146,23 @@ public class ApiDocGenerator {
   protected static final String TEXT_ELEMENT_SEPARATOR = "\t";
   protected static final String TEXT_LINE_SEPARATOR = "\n";
 
+  /**
+   * Placeholder for the generation date in cached HTML content, replaced on each request.
+   */
+  protected static final String GENERATED_DATE_PLACEHOLDER = "@@generatedDate@@";
+  /**
+   * Maximum number of cached contents. Further contents are generated on each request.
+   */
+  protected static final int MAX_CACHED_CONTENTS = 64;
+  /**
+   * Maximum number of locales for which resource descriptors are cached.
+   */
+  protected static final int MAX_CACHED_LOCALES = 16;
+
+  private static final Set<Locale> AVAILABLE_LOCALES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(Locale.getAvailableLocales())));
+
+  private volatile ApiDocContentCache m_contentCache;
+
   public List<ResourceDescriptor> getResourceDescriptors() {
     return getResourceDescriptorsInternal(BEANS.all(IRestResource.class));
   }
@@ -132,7 +175,11 @@ public class ApiDocGenerator {
    *          resources, pass {@code ""} or {@code "*"}.
    */
   public List<ResourceDescriptor> getResourceDescriptors(String scope) {
-    List<ResourceDescriptor> descriptors = getResourceDescriptors();
+    return filterByScope(getResourceDescriptors(), scope);
+  }
+
+  protected List<ResourceDescriptor> filterByScope(List<ResourceDescriptor> resourceDescriptors, String scope) {
+    List<ResourceDescriptor> descriptors = resourceDescriptors;
     String currentScope = ObjectUtility.nvl(scope, RestApplicationScopes.API); // default scope
     if (StringUtility.hasText(currentScope) && ObjectUtility.notEquals(currentScope, "*")) {
       descriptors = descriptors.stream()
@@ -418,20 +465,35 @@ public class ApiDocGenerator {
    *          resources, pass {@code ""} or {@code "*"}.
    */
   public Response getWebContent(String resourceFilename, String scope) {
+    return getWebContent(resourceFilename, scope, null);
+  }
+
+  /**
+   * Same as {@link #getWebContent(String, String)}, but answers with <i>304 Not Modified</i> if the entity tag of the
+   * cached content matches the preconditions of {@code request}.
+   *
+   * @param request
+   *          Optional request (e.g. injected using &#64;{@link Context}), may be {@code null}.
+   */
+  public Response getWebContent(String resourceFilename, String scope, Request request) {
     // Static resources
     if (resourceFilename != null) {
       return getStaticResource(resourceFilename);
     }
 
     // Main HTML content
-    final IHtmlDocument html = toHtml(scope, getResourceDescriptors());
-    return Response.ok()
-        .type(MediaType.TEXT_HTML)
-        .entity(html.toHtml())
-        .build();
+    return toResponse(getContent("html", scope, MediaType.TEXT_HTML_TYPE, () -> toHtml(scope, getCachedResourceDescriptors()).toHtml()), request);
   }
 
+  /**
+   * Creates the HTML document to be cached. The generation date is {@link #GENERATED_DATE_PLACEHOLDER}, which is
+   * replaced by the current date whenever the document is served.
+   */
   protected IHtmlDocument toHtml(String scope, List<ResourceDescriptor> resourceDescriptors) {
+    return toHtml(scope, resourceDescriptors, GENERATED_DATE_PLACEHOLDER);
+  }
+
+  protected IHtmlDocument toHtml(String scope, List<ResourceDescriptor> resourceDescriptors, String generatedDate) {
     final List<IHtmlElement> tocElements = new ArrayList<>();
     final List<IHtmlElement> elements = new ArrayList<>();
     final StringHolder currentBasePath = new StringHolder();
@@ -519,11 +581,16 @@ public class ApiDocGenerator {
         ? HTML.div("No resources available.")
         : HTML.fragment(elements);
 
-    final String generatedDate = DateUtility.format(new Date(), DateTimeFormatterBuilder
+    return buildHtmlDocument(title, scopeLinks, toc, mainContent, generatedDate);
+  }
+
+  /**
+   * @return Current date and time formatted for the current locale.
+   */
+  protected String formatGeneratedDate() {
+    return DateUtility.format(new Date(), DateTimeFormatterBuilder
         .getLocalizedDateTimePattern(FormatStyle.SHORT, FormatStyle.MEDIUM, IsoChronology.INSTANCE, NlsLocale.get())
         .replaceAll("y+", "yyyy"));
-
-    return buildHtmlDocument(title, scopeLinks, toc, mainContent, generatedDate);
   }
 
   protected IHtmlDocument buildHtmlDocument(String title, IHtmlElement scopeLinks, IHtmlElement toc, IHtmlContent mainContent, String generatedDate) {
@@ -620,11 +687,18 @@ public class ApiDocGenerator {
    *          resources, pass {@code ""} or {@code "*"}.
    */
   public Response getTextContent(String scope) {
-    final String content = toText(getResourceDescriptors(scope));
-    return Response.ok()
-        .type(MediaType.TEXT_PLAIN)
-        .entity(content)
-        .build();
+    return getTextContent(scope, null);
+  }
+
+  /**
+   * Same as {@link #getTextContent(String)}, but answers with <i>304 Not Modified</i> if the entity tag of the cached
+   * content matches the preconditions of {@code request}.
+   *
+   * @param request
+   *          Optional request (e.g. injected using &#64;{@link Context}), may be {@code null}.
+   */
+  public Response getTextContent(String scope, Request request) {
+    return toResponse(getContent("text", scope, MediaType.TEXT_PLAIN_TYPE, () -> toText(getResourceDescriptors(scope))), request);
   }
 
   protected String toText(List<ResourceDescriptor> resourceDescriptors) {
@@ -696,11 +770,18 @@ public class ApiDocGenerator {
    *          resources, pass {@code ""} or {@code "*"}.
    */
   public Response getJsonContent(String scope) {
-    final String content = toJsonString(getResourceDescriptors(scope));
-    return Response.ok()
-        .type(MediaType.APPLICATION_JSON)
-        .entity(content)
-        .build();
+    return getJsonContent(scope, null);
+  }
+
+  /**
+   * Same as {@link #getJsonContent(String)}, but answers with <i>304 Not Modified</i> if the entity tag of the cached
+   * content matches the preconditions of {@code request}.
+   *
+   * @param request
+   *          Optional request (e.g. injected using &#64;{@link Context}), may be {@code null}.
+   */
+  public Response getJsonContent(String scope, Request request) {
+    return toResponse(getContent("json", scope, MediaType.APPLICATION_JSON_TYPE, () -> toJsonString(getResourceDescriptors(scope))), request);
   }
 
   protected String toJsonString(List<ResourceDescriptor> resourceDescriptors) {
@@ -720,6 +801,212 @@ public class ApiDocGenerator {
     return BEANS.get(IPrettyPrintDataObjectMapper.class).writeValue(jsonMethods);
   }
 
+  /**
+   * @return Cached result of {@link #getResourceDescriptors()} for the current locale (descriptions may be translated
+   *         texts).
+   */
+  protected List<ResourceDescriptor> getCachedResourceDescriptors() {
+    Map<Locale, List<ResourceDescriptor>> resourceDescriptors = getContentCache().getResourceDescriptors();
+    Locale locale = NlsLocale.get();
+    List<ResourceDescriptor> descriptors = resourceDescriptors.get(locale);
+    if (descriptors != null) {
+      return descriptors;
+    }
+    if (resourceDescriptors.size() >= MAX_CACHED_LOCALES) {
+      return getResourceDescriptors();
+    }
+    return resourceDescriptors.computeIfAbsent(locale, l -> getResourceDescriptors());
+  }
+
+  /**
+   * @return Cached content of the given format for the scope and the current locale, created by {@code contentSupplier}
+   *         if not cached yet. The content is created for the locale returned by {@link #getSupportedLocale(Locale)}.
+   *         Contents of scopes not declared by any registered resource are not cached.
+   */
+  protected ApiDocContent getContent(String format, String scope, MediaType mediaType, Supplier<String> contentSupplier) {
+    Locale locale = getSupportedLocale(NlsLocale.get());
+    return RunContexts.copyCurrent(true)
+        .withLocale(locale)
+        .call(() -> getContentInternal(format, scope, locale, mediaType, contentSupplier));
+  }
+
+  protected ApiDocContent getContentInternal(String format, String scope, Locale locale, MediaType mediaType, Supplier<String> contentSupplier) {
+    if (!isKnownScope(scope)) {
+      return createContent(contentSupplier.get(), mediaType);
+    }
+    Map<String, ApiDocContent> contents = getContentCache().getContents();
+    String key = StringUtility.join(":", format, ObjectUtility.nvl(scope, RestApplicationScopes.API), locale.toLanguageTag());
+    ApiDocContent content = contents.get(key);
+    if (content != null) {
+      return content;
+    }
+    if (contents.size() >= MAX_CACHED_CONTENTS) {
+      return createContent(contentSupplier.get(), mediaType);
+    }
+    return contents.computeIfAbsent(key, k -> createContent(contentSupplier.get(), mediaType));
+  }
+
+  /**
+   * @return {@code true} if {@code scope} is the default scope, disables the scope filter or is declared by at least one
+   *         registered resource.
+   */
+  protected boolean isKnownScope(String scope) {
+    if (!StringUtility.hasText(scope) || "*".equals(scope) || RestApplicationScopes.API.equals(scope)) {
+      return true;
+    }
+    return getCachedResourceDescriptors().stream().anyMatch(desc -> desc.getScopes().contains(scope));
+  }
+
+  /**
+   * @return {@code locale} if it is supported by the JVM, otherwise the locale of its language if supported, otherwise
+   *         {@link Locale#ROOT}.
+   */
+  protected Locale getSupportedLocale(Locale locale) {
+    if (locale == null) {
+      return Locale.ROOT;
+    }
+    if (AVAILABLE_LOCALES.contains(locale)) {
+      return locale;
+    }
+    Locale languageLocale = Locale.forLanguageTag(locale.getLanguage());
+    if (AVAILABLE_LOCALES.contains(languageLocale)) {
+      return languageLocale;
+    }
+    return Locale.ROOT;
+  }
+
+  /**
+   * Creates the content to be cached. The last occurrence of {@link #GENERATED_DATE_PLACEHOLDER} is removed and replaced
+   * by the current date on each request (see {@link #writeEntity(ApiDocContent, OutputStream)}). Such contents get a weak
+   * {@link EntityTag}.
+   */
+  protected ApiDocContent createContent(String content, MediaType mediaType) {
+    int generatedDateOffset = -1;
+    int placeholderIndex = content.lastIndexOf(GENERATED_DATE_PLACEHOLDER);
+    if (placeholderIndex >= 0) {
+      generatedDateOffset = content.substring(0, placeholderIndex).getBytes(StandardCharsets.UTF_8).length;
+      content = content.substring(0, placeholderIndex) + content.substring(placeholderIndex + GENERATED_DATE_PLACEHOLDER.length());
+    }
+    byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+    EntityTag entityTag = new EntityTag(HexUtility.encode(SecurityUtility.hash(bytes)), generatedDateOffset >= 0);
+    return new ApiDocContent(bytes, generatedDateOffset, mediaType.withCharset(StandardCharsets.UTF_8.name()), entityTag);
+  }
+
+  /**
+   * Streams the cached content to the response, inserting the current date if the content has a generation date. The
+   * cached bytes are written as they are, without copying them.
+   */
+  protected void writeEntity(ApiDocContent content, OutputStream out) throws IOException {
+    byte[] bytes = content.getContent();
+    int generatedDateOffset = content.getGeneratedDateOffset();
+    if (generatedDateOffset < 0) {
+      out.write(bytes);
+      return;
+    }
+    out.write(bytes, 0, generatedDateOffset);
+    out.write(BEANS.get(HtmlHelper.class).escape(formatGeneratedDate()).getBytes(StandardCharsets.UTF_8));
+    out.write(bytes, generatedDateOffset, bytes.length - generatedDateOffset);
+  }
+
+  /**
+   * @return Content cache, a new (empty) cache is created if the registered {@link IRestResource} beans changed.
+   */
+  protected ApiDocContentCache getContentCache() {
+    List<IBean<IRestResource>> beans = BEANS.getBeanManager().getBeans(IRestResource.class);
+    ApiDocContentCache cache = m_contentCache;
+    if (cache == null || !cache.getBeans().equals(beans)) {
+      cache = new ApiDocContentCache(beans);
+      m_contentCache = cache;
+    }
+    return cache;
+  }
+
+  /**
+   * Discards all cached descriptors and contents.
+   */
+  public void clearCache() {
+    m_contentCache = null;
+  }
+
+  protected Response toResponse(ApiDocContent content, Request request) {
+    if (request != null) {
+      ResponseBuilder responseBuilder = request.evaluatePreconditions(content.getEntityTag());
+      if (responseBuilder != null) {
+        // 304 Not Modified (client's cached version is still up-to-date)
+        return responseBuilder.build();
+      }
+    }
+    return Response.ok()
+        .type(content.getMediaType())
+        .entity((StreamingOutput) out -> writeEntity(content, out))
+        .tag(content.getEntityTag())
+        .build();
+  }
+
+  /**
+   * Generated content in its encoded form, written as is to the response.
+   */
+  public static class ApiDocContent {
+
+    private final byte[] m_content;
+    private final int m_generatedDateOffset;
+    private final MediaType m_mediaType;
+    private final EntityTag m_entityTag;
+
+    public ApiDocContent(byte[] content, int generatedDateOffset, MediaType mediaType, EntityTag entityTag) {
+      m_content = content;
+      m_generatedDateOffset = generatedDateOffset;
+      m_mediaType = mediaType;
+      m_entityTag = entityTag;
+    }
+
+    public byte[] getContent() {
+      return m_content;
+    }
+
+    /**
+     * @return Offset in {@link #getContent()} at which the generation date is inserted, {@code -1} if the content has no
+     *         generation date.
+     */
+    public int getGeneratedDateOffset() {
+      return m_generatedDateOffset;
+    }
+
+    public MediaType getMediaType() {
+      return m_mediaType;
+    }
+
+    public EntityTag getEntityTag() {
+      return m_entityTag;
+    }
+  }
+
+  /**
+   * Resource descriptors and generated contents for a specific set of {@link IRestResource} beans.
+   */
+  protected static class ApiDocContentCache {
+
+    private final List<IBean<IRestResource>> m_beans;
+    private final Map<Locale, List<ResourceDescriptor>> m_resourceDescriptors = new ConcurrentHashMap<>();
+    private final Map<String, ApiDocContent> m_contents = new ConcurrentHashMap<>();
+
+    public ApiDocContentCache(List<IBean<IRestResource>> beans) {
+      m_beans = beans;
+    }
+
+    public List<IBean<IRestResource>> getBeans() {
+      return m_beans;
+    }
+
+    public Map<Locale, List<ResourceDescriptor>> getResourceDescriptors() {
+      return m_resourceDescriptors;
+    }
+
+    public Map<String, ApiDocContent> getContents() {
+      return m_contents;
+    }
+  }
+
   public static class ResourceDescriptor {
 
     private IRestResource m_resource;
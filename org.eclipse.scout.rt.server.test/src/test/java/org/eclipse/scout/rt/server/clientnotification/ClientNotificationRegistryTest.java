@@ -11,6 +11,7 @@ package org.eclipse.scout.rt.server.clientnotification;
 
 import static org.junit.Assert.*;
 
+import java.io.Serializable;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
@@ -27,6 +28,7 @@ import org.eclipse.scout.rt.testing.platform.BeanTestingHelper;
 import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 /**
@@ -267,6 +269,144 @@ public class ClientNotificationRegistryTest {
     });
   }
 
+  @Test
+  public void testRouteByAddress() {
+    NodeId otherNode = NodeId.of("Node2");
+    ClientNotificationRegistry reg = new ClientNotificationRegistry(TEST_QUEUE_EXPIRE_TIMEOUT, true, 0L);
+    reg.registerNode(TEST_NODE);
+    reg.registerNode(otherNode);
+    reg.registerSession(TEST_NODE, "session1", TEST_USER);
+    reg.registerSession(otherNode, "session2", "User2");
+
+    reg.putForUser(TEST_USER, TEST_NOTIFICATION);
+    reg.putForSession("session2", "notification2");
+    reg.putForAllSessions("notification3");
+
+    List<ClientNotificationMessage> notificationsNode1 = reg.consume(TEST_NODE, 10, 1, TimeUnit.MILLISECONDS);
+    assertEquals(2, notificationsNode1.size());
+    assertEquals(TEST_NOTIFICATION, notificationsNode1.get(0).getNotification());
+    assertEquals("notification3", notificationsNode1.get(1).getNotification());
+
+    List<ClientNotificationMessage> notificationsNode2 = reg.consume(otherNode, 10, 1, TimeUnit.MILLISECONDS);
+    assertEquals(2, notificationsNode2.size());
+    assertEquals("notification2", notificationsNode2.get(0).getNotification());
+    assertEquals("notification3", notificationsNode2.get(1).getNotification());
+  }
+
+  /**
+   * Notifications for sessions or users not registered on any node are put into the queues of all nodes.
+   */
+  @Test
+  public void testRouteByAddressUnknownUser() {
+    NodeId otherNode = NodeId.of("Node2");
+    ClientNotificationRegistry reg = new ClientNotificationRegistry(TEST_QUEUE_EXPIRE_TIMEOUT, true, 0L);
+    reg.registerNode(TEST_NODE);
+    reg.registerNode(otherNode);
+    reg.registerSession(TEST_NODE, "session1", "User2");
+
+    reg.putForUser(TEST_USER, TEST_NOTIFICATION);
+    assertSingleTestNotification(consumeNoWait(reg, TEST_NODE));
+    assertSingleTestNotification(consumeNoWait(reg, otherNode));
+  }
+
+  @Test
+  public void testRouteByAddressAfterUnregisterSession() {
+    NodeId otherNode = NodeId.of("Node2");
+    ClientNotificationRegistry reg = new ClientNotificationRegistry(TEST_QUEUE_EXPIRE_TIMEOUT, true, 0L);
+    reg.registerNode(TEST_NODE);
+    reg.registerNode(otherNode);
+    reg.registerSession(TEST_NODE, "session1", TEST_USER);
+    reg.registerSession(otherNode, "session2", TEST_USER);
+
+    reg.putForUser(TEST_USER, TEST_NOTIFICATION);
+    assertSingleTestNotification(consumeNoWait(reg, TEST_NODE));
+    assertSingleTestNotification(consumeNoWait(reg, otherNode));
+
+    reg.unregisterSession("session2");
+    assertNull(reg.getSessionIndex().getNodeId("session2"));
+    reg.putForUser(TEST_USER, TEST_NOTIFICATION);
+    assertSingleTestNotification(consumeNoWait(reg, TEST_NODE));
+    assertTrue(consumeNoWait(reg, otherNode).isEmpty());
+  }
+
+  /**
+   * A session and a user known to the index while it is not authoritative: the user may have further sessions on other
+   * nodes which are not known yet.
+   */
+  @Test
+  public void testRouteByAddressPartialIndex() {
+    NodeId otherNode = NodeId.of("Node2");
+    ClientNotificationRegistry reg = new ClientNotificationRegistry(TEST_QUEUE_EXPIRE_TIMEOUT, true, TimeUnit.HOURS.toMillis(1));
+    reg.registerNode(TEST_NODE);
+    reg.registerNode(otherNode);
+    reg.registerSession(TEST_NODE, "session1", TEST_USER);
+    assertFalse(reg.getSessionIndex().isAuthoritative());
+
+    reg.putForUser(TEST_USER, TEST_NOTIFICATION);
+    assertSingleTestNotification(consumeNoWait(reg, TEST_NODE));
+    assertSingleTestNotification(consumeNoWait(reg, otherNode));
+
+    reg.putForSession("session1", TEST_NOTIFICATION);
+    assertSingleTestNotification(consumeNoWait(reg, TEST_NODE));
+    assertSingleTestNotification(consumeNoWait(reg, otherNode));
+  }
+
+  @Test
+  public void testRouteByAddressResync() {
+    final IClusterSynchronizationService mockClusterSyncService = Mockito.mock(IClusterSynchronizationService.class);
+    Mockito.when(mockClusterSyncService.isEnabled()).thenReturn(true);
+    final IBean<?> bean = BeanTestingHelper.get().registerBean(new BeanMetaData(IClusterSynchronizationService.class)
+        .withInitialInstance(mockClusterSyncService)
+        .withApplicationScoped(true));
+    try {
+      ClientNotificationRegistry reg = new ClientNotificationRegistry(TEST_QUEUE_EXPIRE_TIMEOUT, true, TimeUnit.HOURS.toMillis(1));
+      reg.registerSession(TEST_NODE, "session1", TEST_USER);
+      ArgumentCaptor<Serializable> captor = ArgumentCaptor.forClass(Serializable.class);
+      Mockito.verify(mockClusterSyncService, Mockito.times(2)).publish(captor.capture());
+      assertTrue(((ClientNotificationSessionIndexClusterNotification) captor.getAllValues().get(0)).isResyncRequest());
+      assertEquals("session1", ((ClientNotificationSessionClusterNotification) captor.getAllValues().get(1)).getSessionId());
+
+      // answer to the resync request of another node
+      Mockito.clearInvocations(mockClusterSyncService);
+      reg.publishSessionIndex();
+      Mockito.verify(mockClusterSyncService).publish(captor.capture());
+      ClientNotificationSessionIndexClusterNotification index = (ClientNotificationSessionIndexClusterNotification) captor.getValue();
+      assertFalse(index.isResyncRequest());
+      assertEquals(1, index.getRegistrations().size());
+      assertEquals(TEST_NODE, index.getRegistrations().get(0).getNodeId());
+      assertEquals(TEST_USER, index.getRegistrations().get(0).getUserId());
+    }
+    finally {
+      BeanTestingHelper.get().unregisterBean(bean);
+    }
+  }
+
+  @Test
+  public void testSessionIndexExpiredRegistration() throws InterruptedException {
+    ClientNotificationSessionIndex index = new ClientNotificationSessionIndex(0L, 200L);
+    assertTrue(index.register(TEST_NODE, "session1", TEST_USER));
+    assertFalse(index.register(TEST_NODE, "session1", TEST_USER));
+    assertTrue(index.register(TEST_NODE, "session2", TEST_USER));
+
+    // refreshed registration is distributed again after half of the TTL
+    Thread.sleep(120);
+    assertTrue(index.register(TEST_NODE, "session1", TEST_USER));
+
+    // session2 expired without being unregistered
+    Thread.sleep(120);
+    index.purgeExpired();
+    assertEquals(TEST_NODE, index.getNodeId("session1"));
+    assertNull(index.getNodeId("session2"));
+    assertEquals(1, index.getSessionCount());
+  }
+
+  @Test
+  public void testRegisterSessionWithoutRouteByAddress() {
+    ClientNotificationRegistry reg = new ClientNotificationRegistry(TEST_QUEUE_EXPIRE_TIMEOUT);
+    reg.registerSession(TEST_NODE, "session1", TEST_USER);
+    assertEquals(0, reg.getSessionIndex().getSessionCount());
+  }
+
   private void commit() {
     ITransaction transaction = ITransaction.CURRENT.get();
     transaction.commitPhase1();
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.services.common.clustersync;
+
+import static org.junit.Assert.*;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.util.SleepUtil;
+import org.eclipse.scout.rt.shared.notification.INotificationHandler;
+import org.eclipse.scout.rt.shared.notification.NotificationHandlerRegistry;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests for {@link ClusterNotificationDispatcher}
+ */
+@RunWith(PlatformTestRunner.class)
+public class ClusterNotificationDispatcherTest {
+
+  @Test
+  public void testSynchronousDispatch() {
+    RecordingHandler handler = new RecordingHandler(null);
+    ClusterNotificationDispatcher dispatcher = createDispatcher(0, handler);
+    assertFalse(dispatcher.isConcurrent());
+
+    dispatcher.dispatch(Arrays.asList("notification1", "notification2"), RunContexts.empty());
+    assertEquals(Arrays.asList("notification1", "notification2"), handler.getNotifications());
+  }
+
+  @Test
+  public void testConcurrentDispatch() {
+    CountDownLatch slowHandlerLatch = new CountDownLatch(1);
+    RecordingHandler slowHandler = new RecordingHandler(slowHandlerLatch);
+    RecordingHandler fastHandler = new RecordingHandler(null);
+    ClusterNotificationDispatcher dispatcher = createDispatcher(10, slowHandler, fastHandler);
+    assertTrue(dispatcher.isConcurrent());
+
+    List<String> notifications = Arrays.asList("notification1", "notification2", "notification3");
+    dispatcher.dispatch(notifications, RunContexts.empty());
+
+    // fast handler is not delayed by the blocked slow handler
+    fastHandler.awaitNotifications(3);
+    assertEquals(notifications, fastHandler.getNotifications());
+    assertTrue(slowHandler.getNotifications().isEmpty());
+    assertTrue(dispatcher.getQueueDepth(String.class) > 0);
+
+    slowHandlerLatch.countDown();
+    slowHandler.awaitNotifications(3);
+    assertEquals(notifications, slowHandler.getNotifications());
+  }
+
+  protected ClusterNotificationDispatcher createDispatcher(int queueCapacity, INotificationHandler<?>... handlers) {
+    NotificationHandlerRegistry registry = new NotificationHandlerRegistry() {
+      @Override
+      public List<INotificationHandler> getNotificationHandlers(Serializable notification) {
+        return Arrays.<INotificationHandler> asList(handlers);
+      }
+    };
+    return new ClusterNotificationDispatcher() {
+      @Override
+      protected int getQueueCapacity() {
+        return queueCapacity;
+      }
+
+      @Override
+      protected NotificationHandlerRegistry getNotificationHandlerRegistry() {
+        return registry;
+      }
+    };
+  }
+
+  private static class RecordingHandler implements INotificationHandler<String> {
+    private final CountDownLatch m_latch;
+    private final List<String> m_notifications = new CopyOnWriteArrayList<>();
+
+    RecordingHandler(CountDownLatch latch) {
+      m_latch = latch;
+    }
+
+    @Override
+    public void handleNotification(String notification) {
+      if (m_latch != null) {
+        try {
+          assertTrue(m_latch.await(30, TimeUnit.SECONDS));
+        }
+        catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+      m_notifications.add(notification);
+    }
+
+    List<String> getNotifications() {
+      return m_notifications;
+    }
+
+    void awaitNotifications(int count) {
+      long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(30);
+      while (m_notifications.size() < count && System.currentTimeMillis() < deadline) {
+        SleepUtil.sleepSafe(10, TimeUnit.MILLISECONDS);
+      }
+    }
+  }
+}
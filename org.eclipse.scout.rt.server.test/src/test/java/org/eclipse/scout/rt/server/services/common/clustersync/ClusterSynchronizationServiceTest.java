@@ -14,7 +14,9 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.scout.rt.dataobject.id.NodeId;
 import org.eclipse.scout.rt.mom.api.ClusterMom;
@@ -33,6 +35,7 @@ import org.eclipse.scout.rt.platform.cache.InvalidateCacheNotification;
 import org.eclipse.scout.rt.platform.transaction.ITransaction;
 import org.eclipse.scout.rt.server.TestServerSession;
 import org.eclipse.scout.rt.server.mom.IClusterMomDestinations;
+import org.eclipse.scout.rt.server.services.common.clustersync.internal.ClusterNotificationBatch;
 import org.eclipse.scout.rt.server.services.common.clustersync.internal.ClusterNotificationMessage;
 import org.eclipse.scout.rt.server.services.common.clustersync.internal.ClusterNotificationProperties;
 import org.eclipse.scout.rt.shared.services.common.bookmark.BookmarkChangedClientNotification;
@@ -192,6 +195,93 @@ public class ClusterSynchronizationServiceTest {
     assertEquals(InvalidateCacheNotification.class, messages.get(1).getNotification().getClass());
   }
 
+  @Test
+  public void testSendBatched() {
+    ArgumentCaptor<ClusterNotificationMessage> msgCaptor = ArgumentCaptor.forClass(ClusterNotificationMessage.class);
+    doNothing().when(m_nullMomImplementorSpy).publish(eq(IClusterMomDestinations.CLUSTER_NOTIFICATION_TOPIC), msgCaptor.capture(), any(PublishInput.class));
+
+    ClusterSynchronizationService svc = createBatchingService();
+    svc.publish("Testnotification1");
+    svc.publish("Testnotification2");
+    svc.publish("Testnotification3");
+    verify(m_nullMomImplementorSpy, never()).publish(eq(IClusterMomDestinations.CLUSTER_NOTIFICATION_TOPIC), any(IClusterNotificationMessage.class), any(PublishInput.class));
+
+    svc.flushPendingMessages();
+
+    verify(m_nullMomImplementorSpy, times(1)).publish(eq(IClusterMomDestinations.CLUSTER_NOTIFICATION_TOPIC), any(IClusterNotificationMessage.class), any(PublishInput.class));
+    ClusterNotificationBatch batch = (ClusterNotificationBatch) msgCaptor.getValue().getNotification();
+    assertEquals(3, batch.getMessageCount());
+    List<IClusterNotificationMessage> messages = batch.getMessages();
+    assertEquals("Testnotification1", messages.get(0).getNotification());
+    assertEquals("Testnotification2", messages.get(1).getNotification());
+    assertEquals("Testnotification3", messages.get(2).getNotification());
+    assertEquals("default", messages.get(0).getProperties().getOriginUser());
+
+    IClusterNodeStatusInfo statusInfo = svc.getStatusInfo();
+    assertEquals(3, statusInfo.getSentMessageCount());
+    assertEquals(1, statusInfo.getSentBatchCount());
+    assertEquals(3, svc.getStatusInfo(String.class).getReceivedMessageCount());
+  }
+
+  @Test
+  public void testSendBatchedSingleMessage() {
+    ArgumentCaptor<ClusterNotificationMessage> msgCaptor = ArgumentCaptor.forClass(ClusterNotificationMessage.class);
+    doNothing().when(m_nullMomImplementorSpy).publish(eq(IClusterMomDestinations.CLUSTER_NOTIFICATION_TOPIC), msgCaptor.capture(), any(PublishInput.class));
+
+    ClusterSynchronizationService svc = createBatchingService();
+    svc.publish("Testnotification");
+    svc.flushPendingMessages();
+
+    verify(m_nullMomImplementorSpy, times(1)).publish(eq(IClusterMomDestinations.CLUSTER_NOTIFICATION_TOPIC), any(IClusterNotificationMessage.class), any(PublishInput.class));
+    assertEquals("Testnotification", msgCaptor.getValue().getNotification());
+    assertEquals(1, svc.getStatusInfo().getSentMessageCount());
+    assertEquals(0, svc.getStatusInfo().getSentBatchCount());
+  }
+
+  @Test
+  public void testDisableSendsPendingMessages() {
+    ClusterSynchronizationService svc = createBatchingService();
+    svc.publish("Testnotification1");
+    svc.publish("Testnotification2");
+    svc.disable();
+
+    verify(m_nullMomImplementorSpy, times(1)).publish(eq(IClusterMomDestinations.CLUSTER_NOTIFICATION_TOPIC), any(IClusterNotificationMessage.class), any(PublishInput.class));
+    assertEquals(2, svc.getStatusInfo().getSentMessageCount());
+    assertEquals(1, svc.getStatusInfo().getSentBatchCount());
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  public void testReceiveBatch() {
+    ClusterNotificationProperties testProps = new ClusterNotificationProperties(TEST_NODE, TEST_USER);
+    ClusterNotificationBatch batch = ClusterNotificationBatch.of(Arrays.asList(
+        new ClusterNotificationMessage("notification1", testProps),
+        new ClusterNotificationMessage("notification2", testProps)));
+    IMessage<IClusterNotificationMessage> momMsg = mock(IMessage.class);
+    when(momMsg.getTransferObject()).thenReturn(new ClusterNotificationMessage(batch, new ClusterNotificationProperties(TEST_NODE, "")));
+    m_svc.onMessage(momMsg);
+
+    IClusterNodeStatusInfo nodeInfo = m_svc.getStatusInfo();
+    assertEquals(2, nodeInfo.getReceivedMessageCount());
+    assertEquals(1, nodeInfo.getReceivedBatchCount());
+    assertEquals(0, nodeInfo.getSentMessageCount());
+    assertEquals(TEST_NODE, nodeInfo.getLastChangedOriginNodeId());
+    assertEquals(TEST_USER, nodeInfo.getLastChangedUserId());
+    assertEquals(2, m_svc.getStatusInfo(String.class).getReceivedMessageCount());
+    assertEquals(0, m_svc.getStatusInfo(ClusterNotificationBatch.class).getReceivedMessageCount());
+  }
+
+  private ClusterSynchronizationService createBatchingService() {
+    ClusterSynchronizationService svc = new ClusterSynchronizationService() {
+      @Override
+      protected long getPublishBatchWindow() {
+        return TimeUnit.HOURS.toMillis(1);
+      }
+    };
+    svc.enable();
+    return svc;
+  }
+
   private void assertNoMessageSent() {
     verify(m_nullMomImplementorSpy, never()).publish(eq(IClusterMomDestinations.CLUSTER_NOTIFICATION_TOPIC), any(IClusterNotificationMessage.class), any(PublishInput.class));
     assertEmptyNodeInfo(m_svc.getStatusInfo());
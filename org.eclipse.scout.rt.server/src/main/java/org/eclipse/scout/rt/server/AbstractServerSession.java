@@ -250,6 +250,7 @@ public abstract class AbstractServerSession implements IServerSession, Serializa
 
       // remove from cache so that no stopped sessions remain in the cache even if the TTL is not expired
       BEANS.get(ServerSessionProviderWithCache.class).remove(this);
+      BEANS.get(ClientNotificationRegistry.class).unregisterSession(getId());
 
       cancelRunningJobs();
     }
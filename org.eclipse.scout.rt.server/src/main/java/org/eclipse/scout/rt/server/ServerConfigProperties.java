@@ -11,8 +11,13 @@ package org.eclipse.scout.rt.server;
 
 import java.util.concurrent.TimeUnit;
 
+import javax.security.auth.Subject;
+
+import org.eclipse.scout.rt.platform.config.AbstractPositiveIntegerConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveLongConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractStringConfigProperty;
+import org.eclipse.scout.rt.platform.config.AbstractSubjectConfigProperty;
+import org.eclipse.scout.rt.server.services.common.code.CodeTypePreloadPlatformListener;
 import org.eclipse.scout.rt.server.services.common.file.RemoteFileService;
 
 public final class ServerConfigProperties {
@@ -40,6 +45,68 @@ public final class ServerConfigProperties {
     }
   }
 
+  public static class ClusterSyncPublishBatchWindowProperty extends AbstractPositiveLongConfigProperty {
+
+    @Override
+    public Long getDefaultValue() {
+      return 0L;
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.clustersync.publishBatchWindow";
+    }
+
+    @Override
+    public String description() {
+      return "Number of milliseconds during which cluster notifications published without a transaction are collected and then sent as one compressed message.\n"
+          + "Notifications published within a transaction are sent together after the commit regardless of this property.\n"
+          + "All nodes of the cluster must support batched notifications before this property is enabled. The default value is 0 which publishes each notification immediately.";
+    }
+  }
+
+  public static class ClusterSyncDispatchQueueCapacityProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public Integer getDefaultValue() {
+      return 0;
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.clustersync.dispatchQueueCapacity";
+    }
+
+    @Override
+    public String description() {
+      return "Maximum number of received cluster notifications queued per notification handler.\n"
+          + "If greater than 0, the notification handlers run concurrently in separate jobs, each handler receiving its notifications in the order they were received. "
+          + "Receiving further notifications blocks while the queue of a handler is full.\n"
+          + "The default value is 0 which notifies all handlers synchronously one after the other.";
+    }
+  }
+
+  public static class CodeTypePreloadSubjectProperty extends AbstractSubjectConfigProperty {
+
+    public static final String CODE_TYPE_PRELOAD_SUBJECT_NAME = "code-type-preloader";
+
+    @Override
+    public String getKey() {
+      return "scout.codeService.preloadSubject";
+    }
+
+    @Override
+    public String description() {
+      return String.format("Technical subject under which the '%s' loads the code types at startup. The default value is '%s'.",
+          CodeTypePreloadPlatformListener.class.getSimpleName(), CODE_TYPE_PRELOAD_SUBJECT_NAME);
+    }
+
+    @Override
+    public Subject getDefaultValue() {
+      return convertToSubject(CODE_TYPE_PRELOAD_SUBJECT_NAME);
+    }
+  }
+
   public static class ServerSessionCacheExpirationProperty extends AbstractPositiveLongConfigProperty {
 
     @Override
@@ -31,6 +31,7 @@ import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
 import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruption;
 import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruption.IRestorer;
 import org.eclipse.scout.rt.server.admin.html.AdminSession;
+import org.eclipse.scout.rt.server.clientnotification.ClientNotificationRegistry;
 import org.eclipse.scout.rt.server.commons.idempotent.DuplicateRequestException;
 import org.eclipse.scout.rt.server.commons.idempotent.SequenceNumberDuplicateDetector;
 import org.eclipse.scout.rt.server.commons.servlet.AbstractHttpServlet;
@@ -67,6 +68,7 @@ public class ServiceTunnelServlet extends AbstractHttpServlet {
   protected transient LazyValue<HttpCacheControl> m_httpCacheControl = new LazyValue<>(HttpCacheControl.class);
   protected transient LazyValue<ServiceOperationInvoker> m_svcInvoker = new LazyValue<>(ServiceOperationInvoker.class);
   protected transient LazyValue<RunMonitorCancelRegistry> m_runMonCancelRegistry = new LazyValue<>(RunMonitorCancelRegistry.class);
+  protected transient LazyValue<ClientNotificationRegistry> m_clientNotificationRegistry = new LazyValue<>(ClientNotificationRegistry.class);
 
   // === HTTP-GET ===
 
@@ -209,6 +211,7 @@ public class ServiceTunnelServlet extends AbstractHttpServlet {
       final HttpServletRequest req = IHttpServletRoundtrip.CURRENT_HTTP_SERVLET_REQUEST.get();
       final IServerSession session = m_serverRunContextProducer.get().getOrCreateScoutSession(req, serverRunContext, serviceRequest.getSessionId());
       serverRunContext.withSession(session);
+      m_clientNotificationRegistry.get().registerSession(serviceRequest.getClientNodeId(), session.getId(), session.getUserId());
 
       // duplicate detection
       LongPredicate duplicateRequestDetector = (LongPredicate) session
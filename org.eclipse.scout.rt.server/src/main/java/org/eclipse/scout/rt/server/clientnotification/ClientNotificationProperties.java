@@ -9,6 +9,7 @@
  */
 package org.eclipse.scout.rt.server.clientnotification;
 
+import org.eclipse.scout.rt.platform.config.AbstractBooleanConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveIntegerConfigProperty;
 
 /**
@@ -92,4 +93,43 @@ public final class ClientNotificationProperties {
       return "scout.clientnotification.notificationQueueExpireTime";
     }
   }
+
+  public static class RouteByAddress extends AbstractBooleanConfigProperty {
+
+    @Override
+    public Boolean getDefaultValue() {
+      return false;
+    }
+
+    @Override
+    public String description() {
+      return "If enabled, the sessions of each client node are tracked and notifications addressed to sessions or users are only put into the queues of the client nodes hosting them.\n"
+          + "Notifications for sessions or users unknown to the backend and all notifications during the grace period (see scout.clientnotification.routeByAddressGracePeriod) are still put into the queues of all client nodes.\n"
+          + "The default value is false which puts every notification into the queues of all client nodes.";
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.clientnotification.routeByAddress";
+    }
+  }
+
+  public static class RouteByAddressGracePeriod extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public Integer getDefaultValue() {
+      return 60 * 1000;
+    }
+
+    @Override
+    public String description() {
+      return "Only used if scout.clientnotification.routeByAddress is enabled. Number of milliseconds after startup or after joining the cluster during which notifications are still put into the queues of all client nodes.\n"
+          + "During this time the sessions registered on the other cluster nodes are received. The default value is 1 minute.";
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.clientnotification.routeByAddressGracePeriod";
+    }
+  }
 }
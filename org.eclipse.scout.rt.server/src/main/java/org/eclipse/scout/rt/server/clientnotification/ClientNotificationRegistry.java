@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -10,10 +10,12 @@
 package org.eclipse.scout.rt.server.clientnotification;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -28,7 +30,10 @@ import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.context.CorrelationId;
 import org.eclipse.scout.rt.platform.transaction.ITransaction;
 import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.server.ServerConfigProperties.ServerSessionCacheExpirationProperty;
 import org.eclipse.scout.rt.server.clientnotification.ClientNotificationProperties.NotificationQueueExpireTime;
+import org.eclipse.scout.rt.server.clientnotification.ClientNotificationProperties.RouteByAddress;
+import org.eclipse.scout.rt.server.clientnotification.ClientNotificationProperties.RouteByAddressGracePeriod;
 import org.eclipse.scout.rt.server.services.common.clustersync.IClusterSynchronizationService;
 import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationAddress;
 import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationMessage;
@@ -42,6 +47,13 @@ import org.slf4j.LoggerFactory;
  * a given timeout for notifications. If no notifications are scheduled within this timeout the lock will be released
  * and returns without any notifications. In case a notification gets scheduled during this timeout the request will be
  * released immediately.
+ * <p>
+ * If {@link RouteByAddress} is enabled, the registry keeps track of the client node each session lives on (see
+ * {@link #registerSession(NodeId, String, String)}) and puts session and user addressed notifications only into the
+ * queues of the client nodes hosting these sessions. Until the index is authoritative, i.e. during the
+ * {@link RouteByAddressGracePeriod} after startup or after a resync of the index has been requested from the other
+ * cluster nodes, all notifications are put into the queues of all nodes. Registrations expire after the
+ * {@link ServerSessionCacheExpirationProperty} unless they are refreshed.
  */
 @ApplicationScoped
 public class ClientNotificationRegistry {
@@ -54,12 +66,31 @@ public class ClientNotificationRegistry {
    */
   private final int m_queueExpireTime;
 
+  private final boolean m_routeByAddress;
+  private final ClientNotificationSessionIndex m_sessionIndex;
+  private volatile boolean m_sessionIndexResyncRequested;
+
   public ClientNotificationRegistry() {
-    this(Assertions.assertNotNull(CONFIG.getPropertyValue(NotificationQueueExpireTime.class)));
+    this(Assertions.assertNotNull(CONFIG.getPropertyValue(NotificationQueueExpireTime.class)), CONFIG.getPropertyValue(RouteByAddress.class));
   }
 
   public ClientNotificationRegistry(int queueRemoveTimeout) {
+    this(queueRemoveTimeout, false);
+  }
+
+  public ClientNotificationRegistry(int queueRemoveTimeout, boolean routeByAddress) {
+    this(queueRemoveTimeout, routeByAddress, CONFIG.getPropertyValue(RouteByAddressGracePeriod.class));
+  }
+
+  /**
+   * @param routeByAddressGracePeriod
+   *          milliseconds during which notifications are put into the queues of all nodes (see
+   *          {@link RouteByAddressGracePeriod})
+   */
+  public ClientNotificationRegistry(int queueRemoveTimeout, boolean routeByAddress, long routeByAddressGracePeriod) {
     m_queueExpireTime = queueRemoveTimeout;
+    m_routeByAddress = routeByAddress;
+    m_sessionIndex = new ClientNotificationSessionIndex(routeByAddressGracePeriod, CONFIG.getPropertyValue(ServerSessionCacheExpirationProperty.class));
   }
 
   /**
@@ -77,6 +108,93 @@ public class ClientNotificationRegistry {
       LOG.info("Removing queue of unregistered node [clientNodeId={}]", nodeId);
       m_notificationQueues.remove(nodeId);
     }
+    m_sessionIndex.unregisterNode(nodeId);
+  }
+
+  public boolean isRouteByAddress() {
+    return m_routeByAddress;
+  }
+
+  /**
+   * Registers the client node a session lives on or refreshes its registration. Has no effect unless
+   * {@link RouteByAddress} is enabled. Changed registrations are distributed over the cluster, unchanged ones again
+   * before they expire on the other nodes.
+   *
+   * @param clientNodeId
+   *          client node of the session, typically {@link IClientNodeId#CURRENT}
+   */
+  public void registerSession(NodeId clientNodeId, String sessionId, String userId) {
+    requestSessionIndexResyncIfRequired();
+    if (registerSessionWithoutClusterNotification(clientNodeId, sessionId, userId)) {
+      publishClusterNotification(new ClientNotificationSessionClusterNotification(clientNodeId, sessionId, userId));
+    }
+  }
+
+  /**
+   * Register session without triggering cluster notification
+   *
+   * @return <code>true</code> if the registration has to be distributed over the cluster
+   */
+  public boolean registerSessionWithoutClusterNotification(NodeId clientNodeId, String sessionId, String userId) {
+    if (!isRouteByAddress() || clientNodeId == null || sessionId == null) {
+      return false;
+    }
+    return m_sessionIndex.register(clientNodeId, sessionId, userId);
+  }
+
+  /**
+   * Removes the registration of a session. The unregistration is distributed over the cluster.
+   */
+  public void unregisterSession(String sessionId) {
+    if (unregisterSessionWithoutClusterNotification(sessionId)) {
+      publishClusterNotification(new ClientNotificationSessionClusterNotification(null, sessionId, null));
+    }
+  }
+
+  /**
+   * Unregister session without triggering cluster notification
+   *
+   * @return <code>true</code> if the session was registered
+   */
+  public boolean unregisterSessionWithoutClusterNotification(String sessionId) {
+    if (!isRouteByAddress() || sessionId == null) {
+      return false;
+    }
+    return m_sessionIndex.unregister(sessionId);
+  }
+
+  protected ClientNotificationSessionIndex getSessionIndex() {
+    return m_sessionIndex;
+  }
+
+  /**
+   * Requests the session registrations of all other cluster nodes once cluster synchronization is enabled. The index is
+   * not authoritative until the grace period has elapsed again.
+   */
+  protected void requestSessionIndexResyncIfRequired() {
+    if (!isRouteByAddress() || m_sessionIndexResyncRequested) {
+      return;
+    }
+    IClusterSynchronizationService service = BEANS.opt(IClusterSynchronizationService.class);
+    if (service == null || !service.isEnabled()) {
+      return;
+    }
+    m_sessionIndexResyncRequested = true;
+    m_sessionIndex.restartGracePeriod();
+    publishClusterNotification(new ClientNotificationSessionIndexClusterNotification(true, m_sessionIndex.getRegistrations()));
+  }
+
+  /**
+   * Publishes all session registrations of this node, e.g. to answer a resync request of another cluster node.
+   */
+  public void publishSessionIndex() {
+    if (!isRouteByAddress()) {
+      return;
+    }
+    List<ClientNotificationSessionClusterNotification> registrations = m_sessionIndex.getRegistrations();
+    if (!registrations.isEmpty()) {
+      publishClusterNotification(new ClientNotificationSessionIndexClusterNotification(false, registrations));
+    }
   }
 
   /**
@@ -221,19 +339,58 @@ public class ClientNotificationRegistry {
    *          may be <code>null</code>
    */
   public void publishWithoutClusterNotification(Collection<? extends ClientNotificationMessage> messages, NodeId excludedUiNodeId) {
+    Map<ClientNotificationMessage, Set<NodeId>> targetNodeIds = getTargetNodeIds(messages);
+    List<NodeId> expiredNodeIds = new ArrayList<>();
     synchronized (m_notificationQueues) {
       Iterator<ClientNotificationNodeQueue> iter = m_notificationQueues.values().iterator();
       while (iter.hasNext()) {
         ClientNotificationNodeQueue queue = iter.next();
         if (!queue.getNodeId().equals(excludedUiNodeId)) {
-          queue.put(messages);
+          putRouted(queue, messages, targetNodeIds);
           if (isQueueExpired(queue)) {
             LOG.info("Removing expired queue [clientNodeId={}, lastConsumeAccess={}]", queue.getNodeId(), queue.getLastConsumeAccessFormatted());
             iter.remove();
+            expiredNodeIds.add(queue.getNodeId());
           }
         }
       }
     }
+    expiredNodeIds.forEach(m_sessionIndex::unregisterNode);
+  }
+
+  /**
+   * @return message -> client nodes the message is to be put to, for messages not put into the queues of all nodes
+   */
+  protected Map<ClientNotificationMessage, Set<NodeId>> getTargetNodeIds(Collection<? extends ClientNotificationMessage> messages) {
+    Map<ClientNotificationMessage, Set<NodeId>> targetNodeIds = new IdentityHashMap<>();
+    if (!isRouteByAddress()) {
+      return targetNodeIds;
+    }
+    requestSessionIndexResyncIfRequired();
+    for (ClientNotificationMessage message : messages) {
+      Set<NodeId> nodeIds = m_sessionIndex.getNodeIds(message.getAddress());
+      if (nodeIds != null) {
+        targetNodeIds.put(message, nodeIds);
+      }
+    }
+    return targetNodeIds;
+  }
+
+  protected void putRouted(ClientNotificationNodeQueue queue, Collection<? extends ClientNotificationMessage> messages, Map<ClientNotificationMessage, Set<NodeId>> targetNodeIds) {
+    if (targetNodeIds.isEmpty()) {
+      queue.put(messages);
+      return;
+    }
+    List<ClientNotificationMessage> routedMessages = new ArrayList<>(messages.size());
+    for (ClientNotificationMessage message : messages) {
+      Set<NodeId> nodeIds = targetNodeIds.get(message);
+      if (nodeIds == null || nodeIds.contains(queue.getNodeId())) {
+        routedMessages.add(message);
+      }
+    }
+    if (!routedMessages.isEmpty()) {
+      queue.put(routedMessages);
+    }
   }
 
   protected boolean isQueueExpired(ClientNotificationNodeQueue queue) {
@@ -364,9 +521,13 @@ public class ClientNotificationRegistry {
     if (filteredMessages.isEmpty()) {
       return;
     }
+    publishClusterNotification(new ClientNotificationClusterNotification(filteredMessages));
+  }
+
+  protected void publishClusterNotification(Serializable notification) {
     try {
       IClusterSynchronizationService service = BEANS.get(IClusterSynchronizationService.class);
-      service.publish(new ClientNotificationClusterNotification(filteredMessages));
+      service.publish(notification);
     }
     catch (RuntimeException e) {
       LOG.error("Failed to publish client notification", e);
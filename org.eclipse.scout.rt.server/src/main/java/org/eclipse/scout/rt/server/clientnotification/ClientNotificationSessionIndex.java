@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.clientnotification;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.scout.rt.dataobject.id.NodeId;
+import org.eclipse.scout.rt.platform.util.CollectionUtility;
+import org.eclipse.scout.rt.shared.clientnotification.IClientNotificationAddress;
+
+/**
+ * Keeps track of the client node (UI server node) each session lives on. Used by {@link ClientNotificationRegistry}
+ * to put session and user addressed notifications only into the queues of the client nodes hosting these sessions.
+ * <p>
+ * The index is only authoritative once its grace period has elapsed: sessions registered on other backend nodes before
+ * this node joined the cluster are received by a resync (see {@link #restartGracePeriod()}). Registrations which have
+ * not been refreshed for the registration TTL are removed, e.g. sessions which expired without being stopped.
+ * <p>
+ * This class is thread safe
+ */
+public class ClientNotificationSessionIndex {
+
+  /**
+   * Maximum interval in milliseconds between two removals of expired registrations.
+   */
+  private static final long MAX_PURGE_INTERVAL = 60_000L;
+
+  private final long m_gracePeriod;
+  private final long m_registrationTtl;
+  private long m_authoritativeAfter;
+  private long m_nextPurge;
+
+  /**
+   * Session id -> registration
+   */
+  private final Map<String, SessionRegistration> m_sessions = new HashMap<>();
+  /**
+   * User id -> client node -> number of sessions of the user on this node
+   */
+  private final Map<String, Map<NodeId, Integer>> m_sessionCountByUser = new HashMap<>();
+
+  /**
+   * @param gracePeriod
+   *          milliseconds after creation or {@link #restartGracePeriod()} during which the index is not authoritative
+   * @param registrationTtl
+   *          milliseconds after which a registration which has not been refreshed is removed
+   */
+  public ClientNotificationSessionIndex(long gracePeriod, long registrationTtl) {
+    m_gracePeriod = gracePeriod;
+    m_registrationTtl = registrationTtl;
+    m_authoritativeAfter = System.currentTimeMillis() + gracePeriod;
+    m_nextPurge = System.currentTimeMillis() + getPurgeInterval();
+  }
+
+  /**
+   * Restarts the grace period, e.g. when a resync of the index has been requested from the other cluster nodes.
+   */
+  public synchronized void restartGracePeriod() {
+    m_authoritativeAfter = System.currentTimeMillis() + m_gracePeriod;
+  }
+
+  /**
+   * @return <code>true</code> if the grace period has elapsed and the index knows all sessions of the cluster
+   */
+  public synchronized boolean isAuthoritative() {
+    return System.currentTimeMillis() >= m_authoritativeAfter;
+  }
+
+  /**
+   * Registers a session or refreshes its registration.
+   *
+   * @return <code>true</code> if the registration has changed or has not been distributed for half of the registration
+   *         TTL, i.e. it has to be distributed over the cluster (again)
+   */
+  public synchronized boolean register(NodeId nodeId, String sessionId, String userId) {
+    long now = System.currentTimeMillis();
+    SessionRegistration registration = new SessionRegistration(nodeId, userId, now);
+    SessionRegistration oldRegistration = m_sessions.put(sessionId, registration);
+    if (registration.equals(oldRegistration)) {
+      if (now - oldRegistration.getPublished() < m_registrationTtl / 2) {
+        registration.setPublished(oldRegistration.getPublished());
+        return false;
+      }
+      return true;
+    }
+    if (oldRegistration != null) {
+      decrementSessionCount(oldRegistration);
+    }
+    if (userId != null) {
+      m_sessionCountByUser.computeIfAbsent(userId, u -> new HashMap<>()).merge(nodeId, 1, Integer::sum);
+    }
+    return true;
+  }
+
+  /**
+   * @return <code>true</code> if the session was registered
+   */
+  public synchronized boolean unregister(String sessionId) {
+    SessionRegistration registration = m_sessions.remove(sessionId);
+    if (registration == null) {
+      return false;
+    }
+    decrementSessionCount(registration);
+    return true;
+  }
+
+  /**
+   * Removes all sessions registered for the given client node.
+   */
+  public synchronized void unregisterNode(NodeId nodeId) {
+    Iterator<SessionRegistration> iter = m_sessions.values().iterator();
+    while (iter.hasNext()) {
+      SessionRegistration registration = iter.next();
+      if (registration.getNodeId().equals(nodeId)) {
+        iter.remove();
+        decrementSessionCount(registration);
+      }
+    }
+  }
+
+  private void decrementSessionCount(SessionRegistration registration) {
+    if (registration.getUserId() == null) {
+      return;
+    }
+    Map<NodeId, Integer> sessionCountByNode = m_sessionCountByUser.get(registration.getUserId());
+    if (sessionCountByNode == null) {
+      return;
+    }
+    sessionCountByNode.computeIfPresent(registration.getNodeId(), (node, count) -> count > 1 ? count - 1 : null);
+    if (sessionCountByNode.isEmpty()) {
+      m_sessionCountByUser.remove(registration.getUserId());
+    }
+  }
+
+  /**
+   * @return the client nodes hosting the sessions and users of the given address or <code>null</code> if the
+   *         notification has to be put into the queues of all nodes. This is the case for addresses not restricted to
+   *         sessions or users, while the index is not authoritative (see {@link #isAuthoritative()}) and for addresses
+   *         containing sessions or users not known to this index.
+   */
+  public synchronized Set<NodeId> getNodeIds(IClientNotificationAddress address) {
+    if (address.isNotifyAllNodes() || address.isNotifyAllSessions() || !isAuthoritative()) {
+      return null;
+    }
+    purgeExpiredIfRequired();
+    Set<NodeId> nodeIds = new HashSet<>();
+    for (String sessionId : CollectionUtility.arrayList(address.getSessionIds())) {
+      SessionRegistration registration = m_sessions.get(sessionId);
+      if (registration == null) {
+        return null;
+      }
+      nodeIds.add(registration.getNodeId());
+    }
+    for (String userId : CollectionUtility.arrayList(address.getUserIds())) {
+      Map<NodeId, Integer> sessionCountByNode = m_sessionCountByUser.get(userId);
+      if (sessionCountByNode == null) {
+        return null;
+      }
+      nodeIds.addAll(sessionCountByNode.keySet());
+    }
+    return nodeIds;
+  }
+
+  public synchronized NodeId getNodeId(String sessionId) {
+    purgeExpiredIfRequired();
+    SessionRegistration registration = m_sessions.get(sessionId);
+    return registration != null ? registration.getNodeId() : null;
+  }
+
+  public synchronized int getSessionCount() {
+    purgeExpiredIfRequired();
+    return m_sessions.size();
+  }
+
+  /**
+   * @return all registrations, e.g. to resync the index of another cluster node
+   */
+  public synchronized List<ClientNotificationSessionClusterNotification> getRegistrations() {
+    purgeExpiredIfRequired();
+    List<ClientNotificationSessionClusterNotification> registrations = new ArrayList<>(m_sessions.size());
+    for (Entry<String, SessionRegistration> entry : m_sessions.entrySet()) {
+      registrations.add(new ClientNotificationSessionClusterNotification(entry.getValue().getNodeId(), entry.getKey(), entry.getValue().getUserId()));
+    }
+    return registrations;
+  }
+
+  /**
+   * Removes all registrations which have not been refreshed for the registration TTL.
+   */
+  public synchronized void purgeExpired() {
+    long now = System.currentTimeMillis();
+    Iterator<SessionRegistration> iter = m_sessions.values().iterator();
+    while (iter.hasNext()) {
+      SessionRegistration registration = iter.next();
+      if (now - registration.getRefreshed() >= m_registrationTtl) {
+        iter.remove();
+        decrementSessionCount(registration);
+      }
+    }
+    m_nextPurge = now + getPurgeInterval();
+  }
+
+  private void purgeExpiredIfRequired() {
+    if (System.currentTimeMillis() >= m_nextPurge) {
+      purgeExpired();
+    }
+  }
+
+  private long getPurgeInterval() {
+    return Math.min(m_registrationTtl, MAX_PURGE_INTERVAL);
+  }
+
+  private static final class SessionRegistration {
+    private final NodeId m_nodeId;
+    private final String m_userId;
+    private final long m_refreshed;
+    private long m_published;
+
+    SessionRegistration(NodeId nodeId, String userId, long refreshed) {
+      m_nodeId = nodeId;
+      m_userId = userId;
+      m_refreshed = refreshed;
+      m_published = refreshed;
+    }
+
+    NodeId getNodeId() {
+      return m_nodeId;
+    }
+
+    String getUserId() {
+      return m_userId;
+    }
+
+    long getRefreshed() {
+      return m_refreshed;
+    }
+
+    long getPublished() {
+      return m_published;
+    }
+
+    void setPublished(long published) {
+      m_published = published;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (obj == null || getClass() != obj.getClass()) {
+        return false;
+      }
+      SessionRegistration other = (SessionRegistration) obj;
+      return Objects.equals(m_nodeId, other.m_nodeId) && Objects.equals(m_userId, other.m_userId);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(m_nodeId, m_userId);
+    }
+  }
+}
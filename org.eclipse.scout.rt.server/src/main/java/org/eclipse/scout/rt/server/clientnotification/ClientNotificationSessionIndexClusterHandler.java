@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.clientnotification;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.shared.notification.INotificationHandler;
+
+/**
+ * Applies the registrations of {@link ClientNotificationSessionIndexClusterNotification}s received via cluster
+ * synchronization to the session index of the local registry and answers resync requests.
+ */
+public class ClientNotificationSessionIndexClusterHandler implements INotificationHandler<ClientNotificationSessionIndexClusterNotification> {
+
+  @Override
+  public void handleNotification(ClientNotificationSessionIndexClusterNotification notification) {
+    ClientNotificationRegistry registry = BEANS.get(ClientNotificationRegistry.class);
+    for (ClientNotificationSessionClusterNotification registration : notification.getRegistrations()) {
+      registry.registerSessionWithoutClusterNotification(registration.getNodeId(), registration.getSessionId(), registration.getUserId());
+    }
+    if (notification.isResyncRequest()) {
+      registry.publishSessionIndex();
+    }
+  }
+}
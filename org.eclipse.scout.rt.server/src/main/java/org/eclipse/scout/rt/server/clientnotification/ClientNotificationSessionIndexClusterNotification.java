@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.clientnotification;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.scout.rt.platform.util.ToStringBuilder;
+
+/**
+ * Distributes all session registrations of a cluster node's {@link ClientNotificationSessionIndex}. Sent by a node
+ * joining the cluster to request the registrations of all other nodes, which answer with their own registrations.
+ */
+public class ClientNotificationSessionIndexClusterNotification implements Serializable {
+  private static final long serialVersionUID = 1L;
+  private final boolean m_resyncRequest;
+  private final ArrayList<ClientNotificationSessionClusterNotification> m_registrations;
+
+  /**
+   * @param resyncRequest
+   *          <code>true</code> if the receiving nodes have to publish their registrations
+   */
+  public ClientNotificationSessionIndexClusterNotification(boolean resyncRequest, List<ClientNotificationSessionClusterNotification> registrations) {
+    m_resyncRequest = resyncRequest;
+    m_registrations = new ArrayList<>(registrations);
+  }
+
+  public boolean isResyncRequest() {
+    return m_resyncRequest;
+  }
+
+  public List<ClientNotificationSessionClusterNotification> getRegistrations() {
+    return m_registrations;
+  }
+
+  @Override
+  public String toString() {
+    ToStringBuilder tsb = new ToStringBuilder(this);
+    tsb.attr("resyncRequest", m_resyncRequest);
+    tsb.attr("registrations", m_registrations.size());
+    return tsb.toString();
+  }
+}
@@ -58,6 +58,26 @@ public class ClusterNodeStatusInfo {
     }
   }
 
+  /**
+   * Update the status when a batch of messages is sent. The messages of the batch are counted separately using
+   * {@link #updateSentStatus(IClusterNotificationMessage)}.
+   */
+  public void updateSentBatchStatus() {
+    synchronized (m_lock) {
+      m_info.incSentBatchCount();
+    }
+  }
+
+  /**
+   * Update the status when a batch of messages is received. The messages of the batch are counted separately using
+   * {@link #updateReceiveStatus(IClusterNotificationMessage)}.
+   */
+  public void updateReceiveBatchStatus() {
+    synchronized (m_lock) {
+      m_info.incReceivedBatchCount();
+    }
+  }
+
   /**
    * Updates last changed node information
    */
@@ -79,6 +99,10 @@ public class ClusterNodeStatusInfo {
 
     private long m_receivedMessageCount;
 
+    private long m_sentBatchCount;
+
+    private long m_receivedBatchCount;
+
     private Date m_lastChangedDate;
     private String m_lastChangedUserId;
     private NodeId m_lastChangedOriginNodeId;
@@ -90,6 +114,8 @@ public class ClusterNodeStatusInfo {
     protected ClusterNodeStatusBean(ClusterNodeStatusBean other) {
       m_sentMessageCount = other.m_sentMessageCount;
       m_receivedMessageCount = other.m_receivedMessageCount;
+      m_sentBatchCount = other.m_sentBatchCount;
+      m_receivedBatchCount = other.m_receivedBatchCount;
       m_lastChangedDate = other.m_lastChangedDate;
       m_lastChangedUserId = other.m_lastChangedUserId;
       m_lastChangedOriginNodeId = other.m_lastChangedOriginNodeId;
@@ -113,6 +139,24 @@ public class ClusterNodeStatusInfo {
       m_receivedMessageCount++;
     }
 
+    @Override
+    public long getSentBatchCount() {
+      return m_sentBatchCount;
+    }
+
+    public void incSentBatchCount() {
+      m_sentBatchCount++;
+    }
+
+    @Override
+    public long getReceivedBatchCount() {
+      return m_receivedBatchCount;
+    }
+
+    public void incReceivedBatchCount() {
+      m_receivedBatchCount++;
+    }
+
     @Override
     public Date getLastChangedDate() {
       return m_lastChangedDate;
@@ -149,7 +193,8 @@ public class ClusterNodeStatusInfo {
 
     @Override
     public String toString() {
-      return "ClusterNodeStatusBean [sentMessageCount=" + m_sentMessageCount + ", receivedMessageCount=" + m_receivedMessageCount + ", lastChangedDate=" + m_lastChangedDate + ", lastChangedUserId=" + m_lastChangedUserId
+      return "ClusterNodeStatusBean [sentMessageCount=" + m_sentMessageCount + ", receivedMessageCount=" + m_receivedMessageCount + ", sentBatchCount=" + m_sentBatchCount + ", receivedBatchCount=" + m_receivedBatchCount
+          + ", lastChangedDate=" + m_lastChangedDate + ", lastChangedUserId=" + m_lastChangedUserId
           + ", lastChangedOriginNodeId=" + m_lastChangedOriginNodeId + "]";
     }
   }
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.services.common.clustersync;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.context.RunContext;
+import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
+import org.eclipse.scout.rt.server.ServerConfigProperties.ClusterSyncDispatchQueueCapacityProperty;
+import org.eclipse.scout.rt.shared.notification.INotificationHandler;
+import org.eclipse.scout.rt.shared.notification.NotificationHandlerRegistry;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableLongMeasurement;
+
+/**
+ * Notifies the {@link INotificationHandler}s of received cluster notifications.
+ * <p>
+ * If {@link ClusterSyncDispatchQueueCapacityProperty} is greater than 0, each handler gets its own queue and the
+ * handlers run concurrently in jobs: a slow handler does not delay the notifications of other handlers. A handler still
+ * receives its notifications one after the other in the order they were dispatched. Dispatching blocks while the queue
+ * of a handler is full. Otherwise, all handlers are notified synchronously.
+ */
+@ApplicationScoped
+public class ClusterNotificationDispatcher {
+
+  private static final AttributeKey<String> NOTIFICATION_TYPE = AttributeKey.stringKey("notification.type");
+
+  private final int m_queueCapacity;
+  private final ConcurrentMap<INotificationHandler, HandlerQueue> m_handlerQueues = new ConcurrentHashMap<>();
+  /**
+   * Notification type -> number of notifications queued or being handled
+   */
+  private final ConcurrentMap<String, AtomicInteger> m_queueDepths = new ConcurrentHashMap<>();
+  private DoubleHistogram m_dispatchLatency;
+
+  public ClusterNotificationDispatcher() {
+    m_queueCapacity = CONFIG.getPropertyValue(ClusterSyncDispatchQueueCapacityProperty.class);
+    initMetrics();
+  }
+
+  protected void initMetrics() {
+    Meter meter = GlobalOpenTelemetry.get().getMeter("scout.clustersync.ClusterNotificationDispatcher");
+    m_dispatchLatency = meter.histogramBuilder("scout.clustersync.notifications.dispatch.latency")
+        .setDescription("The time a received cluster notification waited until a notification handler started handling it.")
+        .setUnit("ms")
+        .build();
+    ObservableLongMeasurement queueDepth = meter.upDownCounterBuilder("scout.clustersync.notifications.queue.depth")
+        .setDescription("The number of received cluster notifications queued or being handled by the notification handlers.")
+        .setUnit("{notification}")
+        .buildObserver();
+    meter.batchCallback(() -> m_queueDepths.forEach((type, depth) -> queueDepth.record(depth.get(), Attributes.of(NOTIFICATION_TYPE, type))),
+        queueDepth);
+  }
+
+  /**
+   * @return maximum number of notifications queued per handler, 0 if the handlers are notified synchronously
+   */
+  protected int getQueueCapacity() {
+    return m_queueCapacity;
+  }
+
+  public boolean isConcurrent() {
+    return getQueueCapacity() > 0;
+  }
+
+  /**
+   * Notifies the handlers of the notifications in the given order.
+   *
+   * @param runContext
+   *          context the handlers run in
+   */
+  public void dispatch(List<? extends Serializable> notifications, RunContext runContext) {
+    if (!isConcurrent()) {
+      runContext.run(() -> {
+        for (Serializable notification : notifications) {
+          getNotificationHandlerRegistry().notifyNotificationHandlers(notification);
+        }
+      });
+      return;
+    }
+
+    for (Serializable notification : notifications) {
+      for (INotificationHandler handler : getNotificationHandlerRegistry().getNotificationHandlers(notification)) {
+        enqueue(handler, notification, runContext);
+      }
+    }
+  }
+
+  protected void enqueue(INotificationHandler handler, Serializable notification, RunContext runContext) {
+    HandlerQueue queue = m_handlerQueues.computeIfAbsent(handler, h -> new HandlerQueue(getQueueCapacity()));
+    queue.acquire(handler);
+
+    String notificationType = notification.getClass().getName();
+    AtomicInteger queueDepth = m_queueDepths.computeIfAbsent(notificationType, type -> new AtomicInteger());
+    queueDepth.incrementAndGet();
+    long enqueueTime = System.nanoTime();
+    Jobs.schedule(() -> {
+      m_dispatchLatency.record((System.nanoTime() - enqueueTime) / 1_000_000d, Attributes.of(NOTIFICATION_TYPE, notificationType));
+      getNotificationHandlerRegistry().notifyNotificationHandler(handler, notification);
+    }, Jobs.newInput()
+        .withName("Dispatching cluster notification to {}", handler.getClass().getName())
+        .withRunContext(runContext.copy())
+        .withExecutionSemaphore(queue.getExecutionSemaphore()))
+        .whenDone(event -> {
+          queueDepth.decrementAndGet();
+          queue.release();
+        }, null);
+  }
+
+  protected NotificationHandlerRegistry getNotificationHandlerRegistry() {
+    return BEANS.get(NotificationHandlerRegistry.class);
+  }
+
+  /**
+   * @return number of notifications of the given type queued or being handled
+   */
+  public int getQueueDepth(Class<? extends Serializable> notificationType) {
+    AtomicInteger queueDepth = m_queueDepths.get(notificationType.getName());
+    return queueDepth != null ? queueDepth.get() : 0;
+  }
+
+  /**
+   * Queue of a single handler: the execution semaphore runs its jobs one after the other in the order they were
+   * scheduled, the capacity limits the number of scheduled jobs.
+   */
+  protected static class HandlerQueue {
+    private final IExecutionSemaphore m_executionSemaphore = Jobs.newExecutionSemaphore(1).seal();
+    private final Semaphore m_capacity;
+
+    public HandlerQueue(int capacity) {
+      m_capacity = new Semaphore(capacity, true);
+    }
+
+    public IExecutionSemaphore getExecutionSemaphore() {
+      return m_executionSemaphore;
+    }
+
+    public void acquire(INotificationHandler handler) {
+      try {
+        m_capacity.acquire();
+      }
+      catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new ThreadInterruptedError("Interrupted while waiting for the notification queue of handler {}", handler, e);
+      }
+    }
+
+    public void release() {
+      m_capacity.release();
+    }
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 
 import javax.security.auth.Subject;
 
@@ -31,20 +32,23 @@ import org.eclipse.scout.rt.platform.IPlatformListener;
 import org.eclipse.scout.rt.platform.Order;
 import org.eclipse.scout.rt.platform.PlatformEvent;
 import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
 import org.eclipse.scout.rt.platform.security.SimplePrincipal;
 import org.eclipse.scout.rt.platform.transaction.AbstractTransactionMember;
 import org.eclipse.scout.rt.platform.transaction.ITransaction;
 import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
+import org.eclipse.scout.rt.server.ServerConfigProperties.ClusterSyncPublishBatchWindowProperty;
 import org.eclipse.scout.rt.server.ServerConfigProperties.ClusterSyncUserProperty;
 import org.eclipse.scout.rt.server.context.ServerRunContext;
 import org.eclipse.scout.rt.server.context.ServerRunContexts;
 import org.eclipse.scout.rt.server.mom.IClusterMomDestinations;
+import org.eclipse.scout.rt.server.services.common.clustersync.internal.ClusterNotificationBatch;
 import org.eclipse.scout.rt.server.services.common.clustersync.internal.ClusterNotificationMessage;
 import org.eclipse.scout.rt.server.services.common.clustersync.internal.ClusterNotificationProperties;
 import org.eclipse.scout.rt.server.session.ServerSessionProviderWithCache;
 import org.eclipse.scout.rt.shared.ISession;
-import org.eclipse.scout.rt.shared.notification.NotificationHandlerRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -63,10 +67,16 @@ public class ClusterSynchronizationService implements IClusterSynchronizationSer
 
   private final NodeId m_nodeId = NodeId.current();
 
+  private final long m_publishBatchWindow;
+  private final List<IClusterNotificationMessage> m_pendingMessages = new ArrayList<>();
+  private final Object m_pendingMessagesLock = new Object();
+  private IFuture<Void> m_flushFuture;
+
   public ClusterSynchronizationService() {
     m_subject = new Subject();
     m_subject.getPrincipals().add(new SimplePrincipal(CONFIG.getPropertyValue(ClusterSyncUserProperty.class)));
     m_subject.setReadOnly();
+    m_publishBatchWindow = CONFIG.getPropertyValue(ClusterSyncPublishBatchWindowProperty.class);
   }
 
   @Override
@@ -126,6 +136,8 @@ public class ClusterSynchronizationService implements IClusterSynchronizationSer
       return true;
     }
 
+    flushPendingMessages();
+
     final ISubscription subscription;
     synchronized (m_subscriptionLock) {
       subscription = m_subscription;
@@ -161,10 +173,71 @@ public class ClusterSynchronizationService implements IClusterSynchronizationSer
       for (Serializable n : notifications) {
         internalMessages.add(new ClusterNotificationMessage(n, getNotificationProperties()));
       }
-      publishInternal(internalMessages);
+      if (getPublishBatchWindow() > 0) {
+        addPendingMessages(internalMessages);
+      }
+      else {
+        publishInternal(internalMessages);
+      }
+    }
+  }
+
+  /**
+   * @return number of milliseconds during which notifications published without a transaction are collected before
+   *         they are sent as one {@link ClusterNotificationBatch}, {@code 0} to publish them immediately
+   */
+  protected long getPublishBatchWindow() {
+    return m_publishBatchWindow;
+  }
+
+  /**
+   * Queues the messages and schedules a job to publish them after the batch window unless one is already scheduled.
+   */
+  protected void addPendingMessages(List<IClusterNotificationMessage> messages) {
+    synchronized (m_pendingMessagesLock) {
+      m_pendingMessages.addAll(messages);
+      if (m_flushFuture == null) {
+        m_flushFuture = Jobs.schedule(this::flushPendingMessages, Jobs.newInput()
+            .withName("Publishing batched cluster notifications")
+            .withExecutionTrigger(Jobs.newExecutionTrigger()
+                .withStartIn(getPublishBatchWindow(), TimeUnit.MILLISECONDS)));
+      }
+    }
+  }
+
+  /**
+   * Publishes the queued messages. Several messages are sent as one {@link ClusterNotificationBatch}.
+   */
+  protected void flushPendingMessages() {
+    final List<IClusterNotificationMessage> messages;
+    synchronized (m_pendingMessagesLock) {
+      if (m_flushFuture != null) {
+        m_flushFuture.cancel(false);
+        m_flushFuture = null;
+      }
+      messages = new ArrayList<>(m_pendingMessages);
+      m_pendingMessages.clear();
+    }
+
+    if (messages.size() > 1) {
+      publishBatch(messages);
+    }
+    else if (!messages.isEmpty()) {
+      publishInternal(messages);
     }
   }
 
+  /**
+   * Publish the messages as one batch and update status.
+   */
+  private void publishBatch(List<IClusterNotificationMessage> messages) {
+    ClusterNotificationBatch batch = ClusterNotificationBatch.of(messages);
+    MOM.publish(ClusterMom.class, IClusterMomDestinations.CLUSTER_NOTIFICATION_TOPIC, new ClusterNotificationMessage(batch, new ClusterNotificationProperties(m_nodeId, "")));
+    LOG.debug("Published {} cluster notifications as one batch of {} bytes", batch.getMessageCount(), batch.getCompressedSize());
+    getStatusInfoInternal().updateSentBatchStatus();
+    updateSentStatus(messages);
+  }
+
   /**
    * Publish and update status.
    */
@@ -172,6 +245,10 @@ public class ClusterSynchronizationService implements IClusterSynchronizationSer
     for (IClusterNotificationMessage message : messages) {
       MOM.publish(ClusterMom.class, IClusterMomDestinations.CLUSTER_NOTIFICATION_TOPIC, message);
     }
+    updateSentStatus(messages);
+  }
+
+  private void updateSentStatus(List<IClusterNotificationMessage> messages) {
     for (IClusterNotificationMessage im : messages) {
       getStatusInfoInternal().updateSentStatus(im);
       getStatusInfoInternal(im.getNotification().getClass()).updateReceiveStatus(im);
@@ -196,16 +273,28 @@ public class ClusterSynchronizationService implements IClusterSynchronizationSer
         return;
       }
 
-      getStatusInfoInternal().updateReceiveStatus(notificationMessage);
-      getStatusInfoInternal(notificationMessage.getNotification().getClass()).updateReceiveStatus(notificationMessage);
+      final List<IClusterNotificationMessage> notificationMessages;
+      if (notificationMessage.getNotification() instanceof ClusterNotificationBatch) {
+        notificationMessages = ((ClusterNotificationBatch) notificationMessage.getNotification()).getMessages();
+        getStatusInfoInternal().updateReceiveBatchStatus();
+      }
+      else {
+        notificationMessages = CollectionUtility.arrayList(notificationMessage);
+      }
+
+      for (IClusterNotificationMessage im : notificationMessages) {
+        getStatusInfoInternal().updateReceiveStatus(im);
+        getStatusInfoInternal(im.getNotification().getClass()).updateReceiveStatus(im);
+      }
 
       ServerRunContext serverRunContext = ServerRunContexts.empty();
       serverRunContext.withSubject(m_subject);
       serverRunContext.withSession(BEANS.get(ServerSessionProviderWithCache.class).provide(serverRunContext.copy()));
-      serverRunContext.run(() -> {
-        NotificationHandlerRegistry reg = BEANS.get(NotificationHandlerRegistry.class);
-        reg.notifyNotificationHandlers(notificationMessage.getNotification());
-      });
+      List<Serializable> notifications = new ArrayList<>();
+      for (IClusterNotificationMessage im : notificationMessages) {
+        notifications.add(im.getNotification());
+      }
+      BEANS.get(ClusterNotificationDispatcher.class).dispatch(notifications, serverRunContext);
     }
   }
 
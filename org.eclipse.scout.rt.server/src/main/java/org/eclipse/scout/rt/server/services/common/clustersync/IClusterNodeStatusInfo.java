@@ -43,4 +43,14 @@ public interface IClusterNodeStatusInfo {
    */
   long getReceivedMessageCount();
 
+  /**
+   * @return number of sent batches, the messages of a batch are included in {@link #getSentMessageCount()}
+   */
+  long getSentBatchCount();
+
+  /**
+   * @return number of received batches, the messages of a batch are included in {@link #getReceivedMessageCount()}
+   */
+  long getReceivedBatchCount();
+
 }
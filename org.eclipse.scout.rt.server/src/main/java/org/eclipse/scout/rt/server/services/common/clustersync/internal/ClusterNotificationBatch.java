@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.services.common.clustersync.internal;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.serialization.SerializationUtility;
+import org.eclipse.scout.rt.platform.util.IOUtility;
+import org.eclipse.scout.rt.server.services.common.clustersync.IClusterNotificationMessage;
+
+/**
+ * Notification containing several {@link IClusterNotificationMessage}s that are published as one message. The messages
+ * are serialized and gzip compressed.
+ */
+public class ClusterNotificationBatch implements Serializable {
+  private static final long serialVersionUID = 1L;
+
+  private final int m_messageCount;
+  private final byte[] m_compressedMessages;
+
+  protected ClusterNotificationBatch(int messageCount, byte[] compressedMessages) {
+    m_messageCount = messageCount;
+    m_compressedMessages = compressedMessages;
+  }
+
+  public static ClusterNotificationBatch of(List<IClusterNotificationMessage> messages) {
+    try {
+      byte[] serializedMessages = SerializationUtility.createObjectSerializer().serialize(new ArrayList<>(messages));
+      return new ClusterNotificationBatch(messages.size(), IOUtility.compressGzip(serializedMessages));
+    }
+    catch (IOException e) {
+      throw new ProcessingException("Failed to create cluster notification batch", e);
+    }
+  }
+
+  /**
+   * @return the decompressed messages in the order they were published
+   */
+  @SuppressWarnings("unchecked")
+  public List<IClusterNotificationMessage> getMessages() {
+    try {
+      byte[] serializedMessages = IOUtility.uncompressGzip(m_compressedMessages);
+      return SerializationUtility.createObjectSerializer().deserialize(serializedMessages, List.class);
+    }
+    catch (IOException | ClassNotFoundException e) {
+      throw new ProcessingException("Failed to read cluster notification batch", e);
+    }
+  }
+
+  public int getMessageCount() {
+    return m_messageCount;
+  }
+
+  public int getCompressedSize() {
+    return m_compressedMessages.length;
+  }
+
+  @Override
+  public String toString() {
+    return "ClusterNotificationBatch [m_messageCount=" + m_messageCount + ", m_compressedSize=" + m_compressedMessages.length + "]";
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.services.common.code;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.IPlatform.State;
+import org.eclipse.scout.rt.platform.IPlatformListener;
+import org.eclipse.scout.rt.platform.PlatformEvent;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.util.CollectionUtility;
+import org.eclipse.scout.rt.platform.util.StringUtility;
+import org.eclipse.scout.rt.server.ServerConfigProperties.CodeTypePreloadSubjectProperty;
+import org.eclipse.scout.rt.server.context.ServerRunContext;
+import org.eclipse.scout.rt.server.context.ServerRunContexts;
+import org.eclipse.scout.rt.server.session.ServerSessionProviderWithCache;
+import org.eclipse.scout.rt.shared.SharedConfigProperties.CodeServicePreloadCodeTypesProperty;
+import org.eclipse.scout.rt.shared.SharedConfigProperties.CodeServicePreloadLocalesProperty;
+import org.eclipse.scout.rt.shared.services.common.code.CodeService;
+import org.eclipse.scout.rt.shared.services.common.code.ICodeType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Loads the code types configured in {@link CodeServicePreloadCodeTypesProperty} into the {@link CodeService} cache in
+ * a background job once the platform has started. Requests after startup then find them in the cache.
+ */
+public class CodeTypePreloadPlatformListener implements IPlatformListener {
+  private static final Logger LOG = LoggerFactory.getLogger(CodeTypePreloadPlatformListener.class);
+
+  public static final String ALL_CODE_TYPES = "*";
+
+  @Override
+  public void stateChanged(PlatformEvent event) {
+    if (event.getState() != State.PlatformStarted) {
+      return;
+    }
+    Set<Class<? extends ICodeType<?, ?>>> codeTypes = getCodeTypesToPreload();
+    if (codeTypes.isEmpty()) {
+      return;
+    }
+    List<Locale> locales = getLocalesToPreload();
+    Jobs.schedule(() -> preload(codeTypes, locales), Jobs.newInput()
+        .withRunContext(createRunContext())
+        .withName("Preloading code types [count={}]", codeTypes.size()));
+  }
+
+  protected void preload(Set<Class<? extends ICodeType<?, ?>>> codeTypes, List<Locale> locales) {
+    long start = System.nanoTime();
+    BEANS.get(CodeService.class).preloadCodeTypes(codeTypes, locales);
+    LOG.info("Preloaded {} code types for locales {} in {} ms", codeTypes.size(), locales, (System.nanoTime() - start) / 1_000_000L);
+  }
+
+  protected ServerRunContext createRunContext() {
+    ServerRunContext runContext = ServerRunContexts.empty().withSubject(CONFIG.getPropertyValue(CodeTypePreloadSubjectProperty.class));
+    return runContext.withSession(BEANS.get(ServerSessionProviderWithCache.class).provide(runContext.copy()));
+  }
+
+  protected Set<Class<? extends ICodeType<?, ?>>> getCodeTypesToPreload() {
+    List<String> classNames = CONFIG.getPropertyValue(CodeServicePreloadCodeTypesProperty.class);
+    if (CollectionUtility.isEmpty(classNames)) {
+      return new HashSet<>();
+    }
+    Set<Class<? extends ICodeType<?, ?>>> allCodeTypes = BEANS.get(CodeService.class).getAllCodeTypeClasses();
+    if (classNames.contains(ALL_CODE_TYPES)) {
+      return new HashSet<>(allCodeTypes);
+    }
+    Set<Class<? extends ICodeType<?, ?>>> result = new HashSet<>();
+    for (Class<? extends ICodeType<?, ?>> codeType : allCodeTypes) {
+      if (classNames.contains(codeType.getName())) {
+        result.add(codeType);
+      }
+    }
+    if (result.size() < classNames.size()) {
+      LOG.warn("Not all code types configured in '{}' could be found [configured={}, found={}]", BEANS.get(CodeServicePreloadCodeTypesProperty.class).getKey(), classNames, result);
+    }
+    return result;
+  }
+
+  protected List<Locale> getLocalesToPreload() {
+    List<String> languageTags = CONFIG.getPropertyValue(CodeServicePreloadLocalesProperty.class);
+    List<Locale> locales = new ArrayList<>();
+    if (languageTags != null) {
+      for (String languageTag : languageTags) {
+        if (StringUtility.hasText(languageTag)) {
+          locales.add(Locale.forLanguageTag(languageTag.trim()));
+        }
+      }
+    }
+    if (locales.isEmpty()) {
+      locales.add(Locale.getDefault());
+    }
+    return locales;
+  }
+}
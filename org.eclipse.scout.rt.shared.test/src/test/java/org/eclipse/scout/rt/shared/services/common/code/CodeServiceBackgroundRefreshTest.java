@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.services.common.code;
+
+import static org.junit.Assert.*;
+
+import java.util.Collections;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.platform.cache.BasicCache;
+import org.eclipse.scout.rt.platform.cache.KeyCacheEntryFilter;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.transaction.TransactionScope;
+import org.eclipse.scout.rt.shared.SharedConfigProperties.CodeServiceRefreshInBackgroundProperty;
+import org.eclipse.scout.rt.shared.services.common.code.CodeService.BackgroundRefreshWrapper;
+import org.eclipse.scout.rt.shared.services.common.code.fixture.TestCodeType3;
+import org.eclipse.scout.rt.testing.platform.BeanTestingHelper;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+
+/**
+ * Tests for {@link BackgroundRefreshWrapper}
+ */
+@RunWith(PlatformTestRunner.class)
+public class CodeServiceBackgroundRefreshTest {
+
+  private static final CodeTypeCacheKey KEY = new CodeTypeCacheKey(Locale.ENGLISH, TestCodeType3.class);
+
+  private final AtomicInteger m_loadCount = new AtomicInteger();
+  private final CountDownLatch m_backgroundLoadLatch = new CountDownLatch(1);
+  private Thread m_testThread;
+  private IBean<?> m_refreshInBackgroundProperty;
+  private BackgroundRefreshWrapper m_cache;
+
+  @Before
+  public void before() {
+    m_refreshInBackgroundProperty = BeanTestingHelper.get().mockConfigProperty(CodeServiceRefreshInBackgroundProperty.class, true);
+    m_testThread = Thread.currentThread();
+    m_cache = new BackgroundRefreshWrapper(new BasicCache<>("test", this::load, new ConcurrentHashMap<>()));
+  }
+
+  @After
+  public void after() {
+    m_backgroundLoadLatch.countDown();
+    BeanTestingHelper.get().unregisterBean(m_refreshInBackgroundProperty);
+  }
+
+  @Test
+  public void testStaleValueServedUntilReloaded() {
+    ICodeType<?, ?> codeType = m_cache.get(KEY);
+    invalidate(false);
+
+    // the reload is blocked, the previous instance is served
+    assertSame(codeType, m_cache.get(KEY));
+    assertEquals(1, m_loadCount.get());
+
+    m_backgroundLoadLatch.countDown();
+    awaitRefresh();
+
+    // the reloaded instance replaces the previous one without loading again
+    ICodeType<?, ?> reloadedCodeType = m_cache.get(KEY);
+    assertNotSame(codeType, reloadedCodeType);
+    assertSame(reloadedCodeType, m_cache.get(KEY));
+    assertEquals(2, m_loadCount.get());
+  }
+
+  @Test
+  public void testLocalInvalidationDropsStaleValue() {
+    ICodeType<?, ?> codeType = m_cache.get(KEY);
+    invalidate(false);
+    assertSame(codeType, m_cache.get(KEY));
+
+    // the node invalidating the code type itself must see the new instance immediately
+    invalidate(true);
+    ICodeType<?, ?> reloadedCodeType = m_cache.get(KEY);
+    assertNotSame(codeType, reloadedCodeType);
+
+    m_backgroundLoadLatch.countDown();
+    awaitRefresh();
+  }
+
+  @Test
+  public void testRemoteInvalidationWithoutBackgroundRefresh() {
+    BeanTestingHelper.get().unregisterBean(m_refreshInBackgroundProperty);
+    m_refreshInBackgroundProperty = BeanTestingHelper.get().mockConfigProperty(CodeServiceRefreshInBackgroundProperty.class, false);
+
+    ICodeType<?, ?> codeType = m_cache.get(KEY);
+    invalidate(false);
+    assertNotSame(codeType, m_cache.get(KEY));
+    assertEquals(2, m_loadCount.get());
+  }
+
+  protected void invalidate(boolean propagate) {
+    RunContexts.copyCurrent()
+        .withTransactionScope(TransactionScope.REQUIRES_NEW)
+        .run(() -> m_cache.invalidate(new KeyCacheEntryFilter<>(Collections.singleton(KEY)), propagate));
+  }
+
+  protected void awaitRefresh() {
+    Jobs.getJobManager().awaitDone(Jobs.newFutureFilterBuilder()
+        .andMatchExecutionHint(BackgroundRefreshWrapper.REFRESH_JOB_EXECUTION_HINT)
+        .toFilter(), 30, TimeUnit.SECONDS);
+  }
+
+  protected ICodeType<?, ?> load(CodeTypeCacheKey key) {
+    if (Thread.currentThread() != m_testThread) {
+      try {
+        assertTrue(m_backgroundLoadLatch.await(30, TimeUnit.SECONDS));
+      }
+      catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    m_loadCount.incrementAndGet();
+    return Mockito.mock(ICodeType.class);
+  }
+}
@@ -19,11 +19,13 @@ import org.eclipse.scout.rt.platform.config.AbstractBinaryConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractBooleanConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveLongConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractStringConfigProperty;
+import org.eclipse.scout.rt.platform.config.AbstractStringListConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractSubjectConfigProperty;
 import org.eclipse.scout.rt.platform.config.ConfigUtility;
 import org.eclipse.scout.rt.platform.security.SecurityUtility;
 import org.eclipse.scout.rt.platform.text.TEXTS;
 import org.eclipse.scout.rt.platform.util.StringUtility;
+import org.eclipse.scout.rt.shared.services.common.code.CodeService;
 import org.eclipse.scout.rt.shared.services.common.text.dev.TextKeyTextProviderService;
 
 public final class SharedConfigProperties {
@@ -270,4 +272,52 @@ public final class SharedConfigProperties {
       return false;
     }
   }
+
+  public static class CodeServicePreloadCodeTypesProperty extends AbstractStringListConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.codeService.preloadCodeTypes";
+    }
+
+    @Override
+    public String description() {
+      return String.format("Fully qualified class names of code types which are loaded into the cache of the '%s' in a background job after the platform has started. "
+          + "Use '*' to preload all code types. By default no code types are preloaded.", CodeService.class.getSimpleName());
+    }
+  }
+
+  public static class CodeServicePreloadLocalesProperty extends AbstractStringListConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.codeService.preloadLocales";
+    }
+
+    @Override
+    public String description() {
+      return String.format("Language tags (e.g. 'de-CH') of the locales for which the code types configured in '%s' are preloaded. "
+          + "By default the code types are preloaded for the default locale of the JVM only.", BEANS.get(CodeServicePreloadCodeTypesProperty.class).getKey());
+    }
+  }
+
+  public static class CodeServiceRefreshInBackgroundProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.codeService.refreshInBackground";
+    }
+
+    @Override
+    public String description() {
+      return "If this property is set to true, code types invalidated by another cluster node are reloaded in a background job. "
+          + "Until the reload has completed, the previous instances are returned instead of loading them on the calling thread. "
+          + "Invalidations triggered on the local node are not affected. By default this property is false.";
+    }
+
+    @Override
+    public Boolean getDefaultValue() {
+      return false;
+    }
+  }
 }
@@ -61,16 +61,29 @@ public class NotificationHandlerRegistry {
    * @param notification
    *          notification message
    */
-  @SuppressWarnings("unchecked")
   public void notifyNotificationHandlers(Serializable notification) {
-    final List<INotificationHandler> handlers = m_notificationHandlerRegistry.getBeans(notification.getClass());
-    for (INotificationHandler handler : handlers) {
-      try {
-        handler.handleNotification(notification);
-      }
-      catch (RuntimeException e) {
-        LOG.error("Handler '{}' notification with notification '{}' failed.", handler, notification, e);
-      }
+    for (INotificationHandler handler : getNotificationHandlers(notification)) {
+      notifyNotificationHandler(handler, notification);
+    }
+  }
+
+  /**
+   * @return all {@link INotificationHandler}s whose type matches the message type
+   */
+  public List<INotificationHandler> getNotificationHandlers(Serializable notification) {
+    return m_notificationHandlerRegistry.getBeans(notification.getClass());
+  }
+
+  /**
+   * Notify a single {@link INotificationHandler} with the message. Exceptions thrown by the handler are logged.
+   */
+  @SuppressWarnings("unchecked")
+  public void notifyNotificationHandler(INotificationHandler handler, Serializable notification) {
+    try {
+      handler.handleNotification(notification);
+    }
+    catch (RuntimeException e) {
+      LOG.error("Handler '{}' notification with notification '{}' failed.", handler, notification, e);
     }
   }
 
@@ -18,6 +18,8 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import jakarta.annotation.PostConstruct;
 
@@ -30,16 +32,23 @@ import org.eclipse.scout.rt.platform.cache.ICacheBuilder;
 import org.eclipse.scout.rt.platform.cache.ICacheEntryFilter;
 import org.eclipse.scout.rt.platform.cache.ICacheInvalidationListener;
 import org.eclipse.scout.rt.platform.cache.ICacheValueResolver;
+import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.context.RunContexts;
 import org.eclipse.scout.rt.platform.exception.ExceptionHandler;
 import org.eclipse.scout.rt.platform.exception.PlatformExceptionTranslator;
 import org.eclipse.scout.rt.platform.holders.Holder;
+import org.eclipse.scout.rt.platform.job.Jobs;
 import org.eclipse.scout.rt.platform.nls.NlsLocale;
+import org.eclipse.scout.rt.platform.transaction.AbstractTransactionMember;
+import org.eclipse.scout.rt.platform.transaction.ITransaction;
 import org.eclipse.scout.rt.platform.transaction.TransactionScope;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
 import org.eclipse.scout.rt.platform.util.ObjectUtility;
 import org.eclipse.scout.rt.platform.util.event.FastListenerList;
 import org.eclipse.scout.rt.platform.util.event.IFastListenerList;
+import org.eclipse.scout.rt.shared.SharedConfigProperties.CodeServiceRefreshInBackgroundProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Common logic for the {@link ICodeService} implementations. Uses {@link ICache} for caching.
@@ -49,6 +58,7 @@ import org.eclipse.scout.rt.platform.util.event.IFastListenerList;
 @Order(5100)
 @CreateImmediately
 public class CodeService implements ICodeService {
+  private static final Logger LOG = LoggerFactory.getLogger(CodeService.class);
 
   public static final String CODE_SERVICE_CACHE_ID = CodeService.class.getName();
 
@@ -76,6 +86,7 @@ public class CodeService implements ICodeService {
     return cacheBuilder.withCacheId(CODE_SERVICE_CACHE_ID).withValueResolver(createCacheValueResolver())
         .withShared(true)
         .withClusterEnabled(true)
+        .withAdditionalCustomWrapper(BackgroundRefreshWrapper.class)
         .withAdditionalCustomWrapper(InvalidationListenerWrapper.class)
         .withTransactional(true)
         .withTransactionalFastForward(true);
@@ -94,6 +105,144 @@ public class CodeService implements ICodeService {
     }
   }
 
+  /**
+   * Keeps returning the previous instances of code types which have been invalidated by another cluster node (remote
+   * invalidations are not propagated) while they are reloaded in a background job. Invalidations of the local node are
+   * passed through unchanged, so a transaction which modifies and reloads a code type still sees its own changes.
+   *
+   * @see CodeServiceRefreshInBackgroundProperty
+   */
+  protected static class BackgroundRefreshWrapper extends AbstractCacheWrapper<CodeTypeCacheKey, ICodeType<?, ?>> {
+
+    private static final String TRANSACTION_MEMBER_ID = BackgroundRefreshWrapper.class.getName();
+    static final String REFRESH_JOB_EXECUTION_HINT = BackgroundRefreshWrapper.class.getSimpleName() + "$REFRESH_JOB";
+
+    private final ConcurrentMap<CodeTypeCacheKey, ICodeType<?, ?>> m_staleValues = new ConcurrentHashMap<>();
+
+    public BackgroundRefreshWrapper(ICache<CodeTypeCacheKey, ICodeType<?, ?>> delegate) {
+      super(delegate);
+    }
+
+    @Override
+    public ICodeType<?, ?> get(CodeTypeCacheKey key) {
+      ICodeType<?, ?> staleValue = key != null ? m_staleValues.get(key) : null;
+      if (staleValue != null) {
+        return staleValue;
+      }
+      return super.get(key);
+    }
+
+    @Override
+    public Map<CodeTypeCacheKey, ICodeType<?, ?>> getAll(Collection<? extends CodeTypeCacheKey> keys) {
+      if (m_staleValues.isEmpty() || keys == null) {
+        return super.getAll(keys);
+      }
+      Map<CodeTypeCacheKey, ICodeType<?, ?>> result = new HashMap<>();
+      List<CodeTypeCacheKey> keysToResolve = new ArrayList<>();
+      for (CodeTypeCacheKey key : keys) {
+        ICodeType<?, ?> staleValue = key != null ? m_staleValues.get(key) : null;
+        if (staleValue != null) {
+          result.put(key, staleValue);
+        }
+        else {
+          keysToResolve.add(key);
+        }
+      }
+      if (!keysToResolve.isEmpty()) {
+        result.putAll(super.getAll(keysToResolve));
+      }
+      return result;
+    }
+
+    @Override
+    public void invalidate(ICacheEntryFilter<CodeTypeCacheKey, ICodeType<?, ?>> filter, boolean propagate) {
+      if (propagate || filter == null || !CONFIG.getPropertyValue(CodeServiceRefreshInBackgroundProperty.class)) {
+        // the local node must see its own changes, stale values of an earlier remote invalidation are no longer valid
+        removeStaleValues(filter);
+        super.invalidate(filter, propagate);
+        return;
+      }
+      Map<CodeTypeCacheKey, ICodeType<?, ?>> staleValues = new HashMap<>();
+      for (Entry<CodeTypeCacheKey, ICodeType<?, ?>> entry : getUnmodifiableMap().entrySet()) {
+        if (entry.getValue() != null && filter.accept(entry.getKey(), entry.getValue())) {
+          staleValues.put(entry.getKey(), entry.getValue());
+        }
+      }
+      m_staleValues.putAll(staleValues);
+      super.invalidate(filter, propagate);
+      if (staleValues.isEmpty()) {
+        return;
+      }
+
+      // reload after the invalidation has been committed, otherwise the reload would still see the previous value
+      ITransaction transaction = ITransaction.CURRENT.get();
+      RefreshTransactionMember member = transaction == null ? null : transaction.registerMemberIfAbsentAndNotCancelled(TRANSACTION_MEMBER_ID, RefreshTransactionMember::new);
+      if (member == null) {
+        scheduleRefresh(staleValues.keySet());
+      }
+      else {
+        member.addKeys(staleValues.keySet());
+      }
+    }
+
+    protected void removeStaleValues(ICacheEntryFilter<CodeTypeCacheKey, ICodeType<?, ?>> filter) {
+      if (filter != null && !m_staleValues.isEmpty()) {
+        m_staleValues.entrySet().removeIf(entry -> filter.accept(entry.getKey(), entry.getValue()));
+      }
+    }
+
+    protected void scheduleRefresh(Set<CodeTypeCacheKey> keys) {
+      Jobs.schedule(() -> {
+        try {
+          for (CodeTypeCacheKey key : keys) {
+            try {
+              super.get(key);
+            }
+            catch (RuntimeException e) {
+              LOG.warn("Could not refresh code type {}", key, e);
+            }
+          }
+        }
+        finally {
+          m_staleValues.keySet().removeAll(keys);
+        }
+      }, Jobs.newInput()
+          .withRunContext(RunContexts.copyCurrent(true).withTransactionScope(TransactionScope.REQUIRES_NEW))
+          .withName("Refreshing code types [count={}]", keys.size())
+          .withExecutionHint(REFRESH_JOB_EXECUTION_HINT));
+    }
+
+    protected class RefreshTransactionMember extends AbstractTransactionMember {
+
+      private final Set<CodeTypeCacheKey> m_keys = new HashSet<>();
+
+      public RefreshTransactionMember(String memberId) {
+        super(memberId);
+      }
+
+      public synchronized void addKeys(Set<CodeTypeCacheKey> keys) {
+        m_keys.addAll(keys);
+      }
+
+      @Override
+      public synchronized boolean needsCommit() {
+        return !m_keys.isEmpty();
+      }
+
+      @Override
+      public synchronized void commitPhase2() {
+        scheduleRefresh(new HashSet<>(m_keys));
+        m_keys.clear();
+      }
+
+      @Override
+      public synchronized void rollback() {
+        m_staleValues.keySet().removeAll(m_keys);
+        m_keys.clear();
+      }
+    }
+  }
+
   protected ICacheValueResolver<CodeTypeCacheKey, ICodeType<?, ?>> createCacheValueResolver() {
     return key -> RunContexts.copyCurrent(true)
         .withLocale(key.getLocale())
@@ -302,6 +451,22 @@ public class CodeService implements ICodeService {
     getCache().invalidate(filter, true);
   }
 
+  /**
+   * Loads the given code types into the cache for each of the given locales. Code types which are already cached are
+   * not reloaded.
+   */
+  public void preloadCodeTypes(Collection<Class<? extends ICodeType<?, ?>>> types, Collection<Locale> locales) {
+    if (CollectionUtility.isEmpty(types) || CollectionUtility.isEmpty(locales)) {
+      return;
+    }
+    List<Class<? extends ICodeType<?, ?>>> typeList = new ArrayList<>(types);
+    for (Locale locale : locales) {
+      RunContexts.copyCurrent(true)
+          .withLocale(locale)
+          .run(() -> getCodeTypes(typeList));
+    }
+  }
+
   @Override
   public Set<Class<? extends ICodeType<?, ?>>> getAllCodeTypeClasses() {
     return BEANS.get(CodeTypeClassInventory.class).getClasses();
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.ui.html;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeFalse;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.eclipse.scout.rt.platform.BeanMetaData;
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.platform.Platform;
+import org.eclipse.scout.rt.platform.text.ScoutTexts;
+import org.eclipse.scout.rt.testing.platform.BeanTestingHelper;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests for {@link UiTextMapCache}
+ */
+@RunWith(PlatformTestRunner.class)
+public class UiTextMapCacheTest {
+
+  private static final String STATIC_KEY = "UiTextMapCacheTest.static";
+  private static final String DYNAMIC_KEY = "UiTextMapCacheTest.dynamic";
+
+  private P_ScoutTexts m_texts;
+  private List<IBean<?>> m_beans;
+  private UiTextMapCache m_cache;
+
+  @Before
+  public void before() {
+    m_texts = new P_ScoutTexts();
+    IUiTextContributor contributor = textKeys -> {
+      textKeys.add(STATIC_KEY);
+      textKeys.add(DYNAMIC_KEY);
+    };
+    m_beans = BeanTestingHelper.get().registerBeans(
+        new BeanMetaData(ScoutTexts.class, m_texts),
+        new BeanMetaData(IUiTextContributor.class, contributor));
+    m_cache = new UiTextMapCache();
+  }
+
+  @After
+  public void after() {
+    BeanTestingHelper.get().unregisterBeans(m_beans);
+  }
+
+  @Test
+  public void testTextMapIsCopy() {
+    JSONObject textMap = m_cache.getTextMap(Locale.ENGLISH);
+    assertEquals("static 1", textMap.getString(STATIC_KEY));
+    textMap.put(STATIC_KEY, "modified");
+
+    assertEquals("static 1", m_cache.getTextMap(Locale.ENGLISH).getString(STATIC_KEY));
+  }
+
+  @Test
+  public void testStaticTextsCachedUntilReload() {
+    assumeFalse(Platform.get().inDevelopmentMode());
+    assertEquals("static 1", m_cache.getTextMap(Locale.ENGLISH).getString(STATIC_KEY));
+
+    m_texts.m_version = 2;
+    assertEquals("static 1", m_cache.getTextMap(Locale.ENGLISH).getString(STATIC_KEY));
+
+    m_texts.m_generation++;
+    assertEquals("static 2", m_cache.getTextMap(Locale.ENGLISH).getString(STATIC_KEY));
+  }
+
+  @Test
+  public void testDynamicTextsNotCached() {
+    assertEquals("dynamic 1", m_cache.getTextMap(Locale.ENGLISH).getString(DYNAMIC_KEY));
+    m_texts.m_version = 2;
+    assertEquals("dynamic 2", m_cache.getTextMap(Locale.ENGLISH).getString(DYNAMIC_KEY));
+  }
+
+  /**
+   * Provides {@link #STATIC_KEY} as precompiled text and all other keys dynamically.
+   */
+  private static class P_ScoutTexts extends ScoutTexts {
+    volatile int m_version = 1;
+    volatile long m_generation;
+
+    @Override
+    protected void watchTextFiles() {
+      // not required
+    }
+
+    @Override
+    public String getPrecompiledText(Locale locale, String key) {
+      return STATIC_KEY.equals(key) ? "static " + m_version : null;
+    }
+
+    @Override
+    public long getGeneration() {
+      return m_generation;
+    }
+
+    @Override
+    public String getTextWithFallback(Locale locale, String key, String fallback, String... messageArguments) {
+      return STATIC_KEY.equals(key) ? "static " + m_version : "dynamic " + m_version;
+    }
+  }
+}
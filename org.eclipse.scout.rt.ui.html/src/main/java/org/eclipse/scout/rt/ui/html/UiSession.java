@@ -16,8 +16,6 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Set;
-import java.util.TreeSet;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
@@ -1365,25 +1363,7 @@ public class UiSession implements IUiSession {
   }
 
   protected JSONObject getTextMap(Locale locale) {
-    // Collect textKeys
-    Set<String> textKeys = new TreeSet<>();
-    for (IUiTextContributor contributor : BEANS.all(IUiTextContributor.class)) {
-      contributor.contribute(textKeys);
-      LOG.debug("Gathered UI text keys from contributor {}", contributor);
-    }
-
-    // Resolve texts with the given locale
-    JSONObject map = new JSONObject();
-    for (String textKey : textKeys) {
-      String text = TEXTS.getWithFallback(locale, textKey, null);
-      if (text != null) {
-        map.put(textKey, text);
-      }
-      else {
-        LOG.warn("Could not find text for contributed UI text key '{}'", textKey);
-      }
-    }
-    return map;
+    return BEANS.get(UiTextMapCache.class).getTextMap(locale);
   }
 
   @Override
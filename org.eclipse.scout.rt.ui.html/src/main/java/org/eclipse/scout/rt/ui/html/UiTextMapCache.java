@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.ui.html;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.Platform;
+import org.eclipse.scout.rt.platform.text.ScoutTexts;
+import org.eclipse.scout.rt.platform.text.TEXTS;
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Provides the texts contributed by all {@link IUiTextContributor}s, which are sent to the browser when a UI session
+ * starts or its locale changes.
+ * <p>
+ * Only texts of the precompiled text tables of {@link ScoutTexts} are cached, at most once per node and locale. They do
+ * not depend on the session. All other texts are resolved on each call. The cached texts are discarded when
+ * {@link ScoutTexts} reloads its text providers. In development mode nothing is cached, so that changed text files are
+ * picked up.
+ */
+@ApplicationScoped
+public class UiTextMapCache {
+  private static final Logger LOG = LoggerFactory.getLogger(UiTextMapCache.class);
+
+  /**
+   * Maximum number of cached locales. The texts of further locales are resolved on each call.
+   */
+  protected static final int MAX_CACHED_LOCALES = 64;
+
+  private final ConcurrentMap<Locale, P_TextMap> m_textMaps = new ConcurrentHashMap<>();
+  private volatile Set<String> m_textKeys;
+
+  /**
+   * @return a new {@link JSONObject} with the texts of all contributed keys, which may be modified by the caller
+   */
+  public JSONObject getTextMap(Locale locale) {
+    if (Platform.get().inDevelopmentMode()) {
+      return resolveTexts(locale, collectTextKeys());
+    }
+    P_TextMap textMap = getCachedTextMap(locale);
+    if (textMap == null) {
+      return resolveTexts(locale, getTextKeys());
+    }
+    JSONObject map = resolveTexts(locale, textMap.getDynamicTextKeys());
+    for (Entry<String, String> entry : textMap.getStaticTexts().entrySet()) {
+      map.put(entry.getKey(), entry.getValue());
+    }
+    return map;
+  }
+
+  public void invalidate() {
+    m_textKeys = null;
+    m_textMaps.clear();
+  }
+
+  protected P_TextMap getCachedTextMap(Locale locale) {
+    long generation = BEANS.get(ScoutTexts.class).getGeneration();
+    P_TextMap textMap = m_textMaps.get(locale);
+    if (textMap != null && textMap.getGeneration() == generation) {
+      return textMap;
+    }
+    if (textMap == null && m_textMaps.size() >= MAX_CACHED_LOCALES) {
+      return null;
+    }
+    textMap = createTextMap(locale, getTextKeys(), generation);
+    m_textMaps.put(locale, textMap);
+    return textMap;
+  }
+
+  protected Set<String> getTextKeys() {
+    Set<String> textKeys = m_textKeys;
+    if (textKeys == null) {
+      textKeys = collectTextKeys();
+      m_textKeys = textKeys;
+    }
+    return textKeys;
+  }
+
+  protected Set<String> collectTextKeys() {
+    Set<String> textKeys = new TreeSet<>();
+    for (IUiTextContributor contributor : BEANS.all(IUiTextContributor.class)) {
+      contributor.contribute(textKeys);
+      LOG.debug("Gathered UI text keys from contributor {}", contributor);
+    }
+    return Collections.unmodifiableSet(textKeys);
+  }
+
+  /**
+   * Splits the given keys into texts of the precompiled text tables, which are cached, and keys which are resolved on
+   * each call.
+   */
+  protected P_TextMap createTextMap(Locale locale, Set<String> textKeys, long generation) {
+    ScoutTexts texts = BEANS.get(ScoutTexts.class);
+    Map<String, String> staticTexts = new LinkedHashMap<>();
+    List<String> dynamicTextKeys = new ArrayList<>();
+    for (String textKey : textKeys) {
+      String text = texts.getPrecompiledText(locale, textKey);
+      if (text != null) {
+        staticTexts.put(textKey, text);
+      }
+      else {
+        dynamicTextKeys.add(textKey);
+      }
+    }
+    return new P_TextMap(generation, Collections.unmodifiableMap(staticTexts), Collections.unmodifiableList(dynamicTextKeys));
+  }
+
+  protected JSONObject resolveTexts(Locale locale, Iterable<String> textKeys) {
+    JSONObject map = new JSONObject();
+    for (String textKey : textKeys) {
+      String text = TEXTS.getWithFallback(locale, textKey, null);
+      if (text != null) {
+        map.put(textKey, text);
+      }
+      else {
+        LOG.warn("Could not find text for contributed UI text key '{}'", textKey);
+      }
+    }
+    return map;
+  }
+
+  protected static final class P_TextMap {
+    private final long m_generation;
+    private final Map<String, String> m_staticTexts;
+    private final List<String> m_dynamicTextKeys;
+
+    public P_TextMap(long generation, Map<String, String> staticTexts, List<String> dynamicTextKeys) {
+      m_generation = generation;
+      m_staticTexts = staticTexts;
+      m_dynamicTextKeys = dynamicTextKeys;
+    }
+
+    public long getGeneration() {
+      return m_generation;
+    }
+
+    public Map<String, String> getStaticTexts() {
+      return m_staticTexts;
+    }
+
+    public List<String> getDynamicTextKeys() {
+      return m_dynamicTextKeys;
+    }
+  }
+}
@@ -101,4 +101,23 @@ public final class UiNotificationConfigProperties {
           + "The default is 30 requests per second.";
     }
   }
+
+  public static class UiNotificationStreamHeartbeatIntervalProperty extends AbstractLongConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.uinotification.stream.heartbeatInterval";
+    }
+
+    @Override
+    public String description() {
+      return "Configures in seconds how often a heartbeat is sent to the clients connected to the ui notification stream (server-sent events)."
+          + " The heartbeat keeps the connection open on proxies and detects disconnected clients. Default is 30 seconds.";
+    }
+
+    @Override
+    public Long getDefaultValue() {
+      return 30L;
+    }
+  }
 }
@@ -11,20 +11,29 @@ package org.eclipse.scout.rt.api.uinotification;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -49,7 +58,6 @@ import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.Base64Utility;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
 import org.eclipse.scout.rt.platform.util.ObjectUtility;
-import org.eclipse.scout.rt.platform.util.date.DateUtility;
 import org.eclipse.scout.rt.platform.util.event.FastListenerList;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -61,23 +69,19 @@ public class UiNotificationRegistry {
   public static final String SUBSCRIPTION_START_ID = "-1";
 
   private IdGenerator m_idGenerator = new IdGenerator();
-  private final ReadWriteLock m_lock = new ReentrantReadWriteLock();
   /**
    * Contains all notifications per topic including notifications that are created by other cluster nodes.
    * <p>
-   * The order is not relevant for the implementation, however, notifications created this registry are actually ordered
-   * by {@link UiNotificationDo#creationTime()} because only one notification can be inserted at a time, and it will be
-   * added to the end of the list. Notifications received from other cluster nodes are also added at the end of the
-   * list, but they may not arrive in the same order as inserted in the registry of the other cluster node.
-   * <p>
-   * The list will be cleaned up regularly by {@link #m_cleanupJob}.
+   * Each topic is guarded by its own lock (see {@link TopicNotifications}), so putting a notification for one topic
+   * does not block clients polling other topics. The entries will be cleaned up regularly by {@link #m_cleanupJob}.
    */
-  private Map<String, List<UiNotificationMessageDo>> m_notifications = new HashMap<>();
-  private final Map<String, FastListenerList<UiNotificationListener>> m_listeners = new HashMap<>();
-  private IFuture<Void> m_cleanupJob;
+  private final Map<String, TopicNotifications> m_notifications = new ConcurrentHashMap<>();
+  private final Map<String, FastListenerList<UiNotificationListener>> m_listeners = new ConcurrentHashMap<>();
+  private final Object m_cleanupJobLock = new Object();
+  private volatile IFuture<Void> m_cleanupJob;
   private long m_cleanupJobInterval = CONFIG.getPropertyValue(RegistryCleanupJobIntervalProperty.class);
   private IUiNotificationClusterService m_clusterService;
-  private Date m_lastCreationTime;
+  private final AtomicLong m_lastCreationTime = new AtomicLong();
 
   public UiNotificationRegistry() {
     m_clusterService = BEANS.opt(IUiNotificationClusterService.class);
@@ -169,41 +173,38 @@ public class UiNotificationRegistry {
   }
 
   protected List<UiNotificationDo> get(String topic, String user, final List<UiNotificationDo> lastKnownNotifications) {
-    m_lock.readLock().lock();
-    try {
-      Stream<UiNotificationDo> notificationStream = getNotifications().getOrDefault(topic, Collections.emptyList()).stream()
-          .filter(elem -> isNotificationRelevantForUser(elem, user))
-          .map(elem -> elem.getNotification());
+    TopicNotifications topicNotifications = m_notifications.get(topic);
+    Predicate<UiNotificationMessageDo> relevantForUser = elem -> isNotificationRelevantForUser(elem, user);
 
-      // Return notifications that just act as subscription start markers
-      if (lastKnownNotifications.isEmpty()) {
-        return createSubscriptionStartNotifications(topic, notificationStream);
-      }
-
-      // If the last element is SUBSCRIPTION_START_ID, return all elements
-      if (lastKnownNotifications.size() == 1 && SUBSCRIPTION_START_ID.equals(lastKnownNotifications.get(0).getId())) {
-        return notificationStream.collect(Collectors.toList());
-      }
-
-      // Group last known notifications by nodeId
-      Map<String, UiNotificationDo> lastKnownNotificationsByNode = lastKnownNotifications.stream()
-          .collect(Collectors.toMap(UiNotificationDo::getNodeId, Function.identity()));
-
-      // Return all elements that were created after the last known notifications
-      return notificationStream
-          .filter(notification -> {
-            UiNotificationDo lastKnownNotification = lastKnownNotificationsByNode.get(notification.getNodeId());
-            long creationTime = notification.getCreationTime().getTime();
-            long lastKnownNotificationTime = lastKnownNotification == null ? 0 : lastKnownNotification.getCreationTime().getTime();
-            return creationTime > lastKnownNotificationTime;
-          })
-          .collect(Collectors.toList());
+    // Return notifications that just act as subscription start markers
+    if (lastKnownNotifications.isEmpty()) {
+      List<UiNotificationDo> lastNotifications = topicNotifications == null ? new ArrayList<>() : topicNotifications.getLastPerNode(user, relevantForUser);
+      return createSubscriptionStartNotifications(topic, lastNotifications.stream());
+    }
+    if (topicNotifications == null) {
+      return new ArrayList<>();
     }
-    finally {
-      m_lock.readLock().unlock();
+
+    // If the last element is SUBSCRIPTION_START_ID, return all elements
+    if (lastKnownNotifications.size() == 1 && SUBSCRIPTION_START_ID.equals(lastKnownNotifications.get(0).getId())) {
+      return topicNotifications.getCreatedAfter(user, nodeId -> Long.MIN_VALUE, relevantForUser);
     }
+
+    // Group last known notifications by nodeId
+    Map<String, UiNotificationDo> lastKnownNotificationsByNode = lastKnownNotifications.stream()
+        .collect(Collectors.toMap(UiNotificationDo::getNodeId, Function.identity()));
+
+    // Return all elements that were created after the last known notifications
+    return topicNotifications.getCreatedAfter(user, nodeId -> {
+      UiNotificationDo lastKnownNotification = lastKnownNotificationsByNode.get(nodeId);
+      return lastKnownNotification == null ? 0 : lastKnownNotification.getCreationTime().getTime();
+    }, relevantForUser);
   }
 
+  /**
+   * Notifications are indexed by {@link UiNotificationMessageDo#getUser()}: only notifications without a user and the
+   * ones of the requesting user are passed to this method.
+   */
   protected boolean isNotificationRelevantForUser(UiNotificationMessageDo notification, String requestingUser) {
     String notificationUser = notification.getUser();
     if (notificationUser != null) {
@@ -385,24 +386,20 @@ public class UiNotificationRegistry {
   protected void putInternal(UiNotificationMessageDo message, UiNotificationPutOptions options) {
     UiNotificationDo notification = message.getNotification();
     String topic = notification.getTopic();
-    m_lock.writeLock().lock();
-    try {
-      updateNotificationCreationTime(notification);
-
-      List<UiNotificationMessageDo> uiNotifications = getNotifications().computeIfAbsent(topic, key -> new ArrayList<>());
-      uiNotifications.add(message);
-      if (LOG.isDebugEnabled()) {
-        LOG.debug("Added new ui notification {} for topic {}. New size: {}", notification, topic, uiNotifications.size());
-      }
-      else {
-        LOG.info("Added new ui notification with id {} for topic {}. New size: {}", notification.getId(), topic, uiNotifications.size());
-      }
-
-      startCleanupJob(); // inside lock to ensure cleanup job will be started only once
+    int size;
+    do {
+      // the creation time is updated within the lock of the topic, so notifications of this node are added in the order of their creation time
+      size = m_notifications.computeIfAbsent(topic, key -> new TopicNotifications()).add(message, this::updateNotificationCreationTime);
     }
-    finally {
-      m_lock.writeLock().unlock();
+    while (size < 0); // topic was removed concurrently by the cleanup job, add it again
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("Added new ui notification {} for topic {}. New size: {}", notification, topic, size);
     }
+    else {
+      LOG.info("Added new ui notification with id {} for topic {}. New size: {}", notification.getId(), topic, size);
+    }
+
+    startCleanupJob(); // after adding the notification to ensure the cleanup job is not stopped before it can remove it
     triggerEvent(topic, notification); // outside lock because it is (a) an open call and (b) not required to be synchronized
     if (options == null || ObjectUtility.nvl(options.getPublishOverCluster(), true)) {
       publishOverCluster(message);
@@ -415,31 +412,25 @@ public class UiNotificationRegistry {
       return;
     }
     // Ensure creation time is unique per node
-    notification.withCreationTime(new Date());
-    if (m_lastCreationTime != null && notification.getCreationTime().getTime() <= m_lastCreationTime.getTime()) {
-      notification.withCreationTime(DateUtility.addMilliseconds(m_lastCreationTime, 1));
-    }
-    m_lastCreationTime = notification.getCreationTime();
+    long now = System.currentTimeMillis();
+    notification.withCreationTime(new Date(m_lastCreationTime.updateAndGet(lastCreationTime -> Math.max(now, lastCreationTime + 1))));
   }
 
   public void addListener(String topic, UiNotificationListener listener) {
-    synchronized (m_listeners) {
-      FastListenerList<UiNotificationListener> listeners = m_listeners.computeIfAbsent(topic, k -> new FastListenerList<>());
+    m_listeners.compute(topic, (k, listeners) -> {
+      if (listeners == null) {
+        listeners = new FastListenerList<>();
+      }
       listeners.add(listener);
-    }
+      return listeners;
+    });
   }
 
   public void removeListener(String topic, UiNotificationListener listener) {
-    synchronized (m_listeners) {
-      FastListenerList<UiNotificationListener> listeners = getListeners(topic);
-      if (listeners == null) {
-        return;
-      }
+    m_listeners.computeIfPresent(topic, (k, listeners) -> {
       listeners.remove(listener);
-      if (listeners.isEmpty()) {
-        m_listeners.remove(topic);
-      }
-    }
+      return listeners.isEmpty() ? null : listeners;
+    });
   }
 
   /**
@@ -486,13 +477,21 @@ public class UiNotificationRegistry {
   }
 
   protected final FastListenerList<UiNotificationListener> getListeners(String topic) {
-    synchronized (m_listeners) {
-      return m_listeners.get(topic);
-    }
+    return m_listeners.get(topic);
   }
 
+  /**
+   * @return a snapshot of all notifications per topic, ordered by the time they were added to the registry.
+   */
   protected final Map<String, List<UiNotificationMessageDo>> getNotifications() {
-    return m_notifications;
+    Map<String, List<UiNotificationMessageDo>> notifications = new HashMap<>();
+    for (Entry<String, TopicNotifications> entry : m_notifications.entrySet()) {
+      List<UiNotificationMessageDo> topicNotifications = entry.getValue().getAll();
+      if (!topicNotifications.isEmpty()) {
+        notifications.put(entry.getKey(), topicNotifications);
+      }
+    }
+    return notifications;
   }
 
   public void startCleanupJob() {
@@ -500,32 +499,33 @@ public class UiNotificationRegistry {
       // Already started
       return;
     }
-    LOG.info("Starting cleanup job");
-    m_cleanupJob = Jobs.schedule(() -> {
-      BEANS.get(UiNotificationRegistry.class).cleanup();
-
-      m_lock.readLock().lock();
-      try {
-        if (getNotifications().isEmpty()) {
-          m_cleanupJob.cancel(false);
-          m_cleanupJob = null;
-          LOG.info("Cleanup job stopped.");
-        }
-      }
-      finally {
-        m_lock.readLock().unlock();
+    synchronized (m_cleanupJobLock) {
+      if (m_cleanupJob != null) {
+        return;
       }
-    }, Jobs.newInput()
-        .withName("UI Notification registry cleanup")
-        .withExceptionHandling(new ExceptionHandler() {
-          @Override
-          public void handle(Throwable t) {
-            LOG.error("Exception while running ui notification registry cleanup job", t);
+      LOG.info("Starting cleanup job");
+      m_cleanupJob = Jobs.schedule(() -> {
+        BEANS.get(UiNotificationRegistry.class).cleanup();
+
+        synchronized (m_cleanupJobLock) {
+          if (m_notifications.isEmpty()) {
+            m_cleanupJob.cancel(false);
+            m_cleanupJob = null;
+            LOG.info("Cleanup job stopped.");
           }
-        }, true)
-        .withExecutionTrigger(Jobs
-            .newExecutionTrigger()
-            .withSchedule(FixedDelayScheduleBuilder.repeatForever(getCleanupJobInterval(), TimeUnit.SECONDS))));
+        }
+      }, Jobs.newInput()
+          .withName("UI Notification registry cleanup")
+          .withExceptionHandling(new ExceptionHandler() {
+            @Override
+            public void handle(Throwable t) {
+              LOG.error("Exception while running ui notification registry cleanup job", t);
+            }
+          }, true)
+          .withExecutionTrigger(Jobs
+              .newExecutionTrigger()
+              .withSchedule(FixedDelayScheduleBuilder.repeatForever(getCleanupJobInterval(), TimeUnit.SECONDS))));
+    }
   }
 
   /**
@@ -534,33 +534,22 @@ public class UiNotificationRegistry {
    * @see UiNotificationMessageDo#getTimeout(), {@link UiNotificationDo#creationTime()}
    */
   public void cleanup() {
-    m_lock.writeLock().lock();
-    try {
-      if (getNotifications().isEmpty()) {
-        return;
-      }
-      LOG.debug("Cleaning up expired ui notifications. Topic count: {}.", getNotifications().size());
-
-      long now = new Date().getTime();
-      for (Iterator<Entry<String, List<UiNotificationMessageDo>>> it = getNotifications().entrySet().iterator(); it.hasNext();) {
-        Entry<String, List<UiNotificationMessageDo>> entry = it.next();
-        List<UiNotificationMessageDo> notifications = entry.getValue();
-        int oldSize = notifications.size();
-        if (notifications.removeIf(elem -> elem.getNotification().getCreationTime().getTime() + elem.getTimeout() < now)) {
-          int newSize = notifications.size();
-          LOG.info("Removed {} expired notifications for topic {}. New size: {}.", oldSize - newSize, entry.getKey(), newSize);
-          if (newSize == 0) {
-            // Remove topic if there are no notifications left
-            it.remove();
-          }
-        }
-      }
-
-      LOG.debug("Clean up finished. New topic count: {}.", getNotifications().size());
+    if (m_notifications.isEmpty()) {
+      return;
     }
-    finally {
-      m_lock.writeLock().unlock();
+    LOG.debug("Cleaning up expired ui notifications. Topic count: {}.", m_notifications.size());
+
+    long now = new Date().getTime();
+    for (Entry<String, TopicNotifications> entry : m_notifications.entrySet()) {
+      TopicNotifications notifications = entry.getValue();
+      notifications.removeIf(elem -> elem.getNotification().getCreationTime().getTime() + elem.getTimeout() < now, entry.getKey());
+      if (notifications.isRemoved()) {
+        // Remove topic if there are no notifications left
+        m_notifications.remove(entry.getKey(), notifications);
+      }
     }
+
+    LOG.debug("Clean up finished. New topic count: {}.", m_notifications.size());
   }
 
   /**
@@ -594,4 +583,211 @@ public class UiNotificationRegistry {
   public String currentNodeId() {
     return Base64Utility.encode(SecurityUtility.hash(NodeId.current().toString().getBytes()));
   }
+
+  /**
+   * Notifications of one topic, guarded by a lock per topic.
+   * <p>
+   * Each notification gets a sequence number that is monotonic per topic, it defines the order in which notifications
+   * are returned. The notifications are additionally indexed by user and node and sorted by creation time, so a client
+   * resuming with its last known notifications only visits the newer notifications of its user and of all users.
+   */
+  protected static class TopicNotifications {
+    private final ReadWriteLock m_lock = new ReentrantReadWriteLock();
+    private final NavigableMap<Long, IndexedNotification> m_bySequence = new TreeMap<>();
+    /**
+     * user (or {@code null} for notifications without user) -> node id -> notifications ordered by creation time
+     */
+    private final Map<String, Map<String, NavigableSet<IndexedNotification>>> m_byUserAndNode = new HashMap<>();
+    private long m_lastSequence;
+    private boolean m_removed;
+
+    /**
+     * @param creationTimeUpdater
+     *          called within the lock before the notification is added
+     * @return the new number of notifications or -1 if this topic was already removed from the registry
+     */
+    public int add(UiNotificationMessageDo message, Consumer<UiNotificationDo> creationTimeUpdater) {
+      m_lock.writeLock().lock();
+      try {
+        if (m_removed) {
+          return -1;
+        }
+        UiNotificationDo notification = message.getNotification();
+        creationTimeUpdater.accept(notification);
+        IndexedNotification entry = new IndexedNotification(++m_lastSequence, notification.getCreationTime().getTime(), message);
+        m_bySequence.put(entry.getSequence(), entry);
+        m_byUserAndNode
+            .computeIfAbsent(message.getUser(), k -> new HashMap<>())
+            .computeIfAbsent(notification.getNodeId(), k -> new TreeSet<>(IndexedNotification.CREATION_TIME_COMPARATOR))
+            .add(entry);
+        return m_bySequence.size();
+      }
+      finally {
+        m_lock.writeLock().unlock();
+      }
+    }
+
+    /**
+     * @param lastKnownCreationTime
+     *          returns the creation time per node id after which notifications are returned
+     * @return the notifications of the given user and all users created after the last known creation time of their
+     *         node, ordered by sequence
+     */
+    public List<UiNotificationDo> getCreatedAfter(String user, ToLongFunction<String> lastKnownCreationTime, Predicate<UiNotificationMessageDo> filter) {
+      m_lock.readLock().lock();
+      try {
+        List<IndexedNotification> result = new ArrayList<>();
+        for (Map<String, NavigableSet<IndexedNotification>> byNode : getIndexes(user)) {
+          for (Entry<String, NavigableSet<IndexedNotification>> entry : byNode.entrySet()) {
+            IndexedNotification lowerBound = new IndexedNotification(Long.MAX_VALUE, lastKnownCreationTime.applyAsLong(entry.getKey()), null);
+            for (IndexedNotification notification : entry.getValue().tailSet(lowerBound, false)) {
+              if (filter.test(notification.getMessage())) {
+                result.add(notification);
+              }
+            }
+          }
+        }
+        return toNotifications(result);
+      }
+      finally {
+        m_lock.readLock().unlock();
+      }
+    }
+
+    /**
+     * @return the most recent notification of each node for the given user, ordered by sequence
+     */
+    public List<UiNotificationDo> getLastPerNode(String user, Predicate<UiNotificationMessageDo> filter) {
+      m_lock.readLock().lock();
+      try {
+        Map<String, IndexedNotification> lastByNode = new HashMap<>();
+        for (Map<String, NavigableSet<IndexedNotification>> byNode : getIndexes(user)) {
+          for (Entry<String, NavigableSet<IndexedNotification>> entry : byNode.entrySet()) {
+            entry.getValue().descendingSet().stream()
+                .filter(notification -> filter.test(notification.getMessage()))
+                .findFirst()
+                .ifPresent(notification -> lastByNode.merge(entry.getKey(), notification, (a, b) -> IndexedNotification.CREATION_TIME_COMPARATOR.compare(a, b) >= 0 ? a : b));
+          }
+        }
+        return toNotifications(new ArrayList<>(lastByNode.values()));
+      }
+      finally {
+        m_lock.readLock().unlock();
+      }
+    }
+
+    protected List<Map<String, NavigableSet<IndexedNotification>>> getIndexes(String user) {
+      List<Map<String, NavigableSet<IndexedNotification>>> indexes = new ArrayList<>(2);
+      Map<String, NavigableSet<IndexedNotification>> allUsers = m_byUserAndNode.get(null);
+      if (allUsers != null) {
+        indexes.add(allUsers);
+      }
+      Map<String, NavigableSet<IndexedNotification>> userOnly = user == null ? null : m_byUserAndNode.get(user);
+      if (userOnly != null) {
+        indexes.add(userOnly);
+      }
+      return indexes;
+    }
+
+    protected List<UiNotificationDo> toNotifications(List<IndexedNotification> notifications) {
+      notifications.sort(Comparator.comparingLong(IndexedNotification::getSequence));
+      return notifications.stream()
+          .map(notification -> notification.getMessage().getNotification())
+          .collect(Collectors.toList());
+    }
+
+    /**
+     * @return all notifications ordered by sequence
+     */
+    public List<UiNotificationMessageDo> getAll() {
+      m_lock.readLock().lock();
+      try {
+        return m_bySequence.values().stream()
+            .map(IndexedNotification::getMessage)
+            .collect(Collectors.toList());
+      }
+      finally {
+        m_lock.readLock().unlock();
+      }
+    }
+
+    /**
+     * Removes the notifications matching the given filter. If no notifications are left, this topic is marked as
+     * removed and must be removed from the registry.
+     */
+    public void removeIf(Predicate<UiNotificationMessageDo> filter, String topic) {
+      m_lock.writeLock().lock();
+      try {
+        int oldSize = m_bySequence.size();
+        for (Iterator<IndexedNotification> it = m_bySequence.values().iterator(); it.hasNext();) {
+          IndexedNotification notification = it.next();
+          if (filter.test(notification.getMessage())) {
+            it.remove();
+            removeFromIndex(notification);
+          }
+        }
+        int newSize = m_bySequence.size();
+        if (newSize < oldSize) {
+          LOG.info("Removed {} expired notifications for topic {}. New size: {}.", oldSize - newSize, topic, newSize);
+        }
+        m_removed = newSize == 0;
+      }
+      finally {
+        m_lock.writeLock().unlock();
+      }
+    }
+
+    protected void removeFromIndex(IndexedNotification notification) {
+      String user = notification.getMessage().getUser();
+      Map<String, NavigableSet<IndexedNotification>> byNode = m_byUserAndNode.get(user);
+      if (byNode == null) {
+        return;
+      }
+      byNode.values().removeIf(notifications -> notifications.remove(notification) && notifications.isEmpty());
+      if (byNode.isEmpty()) {
+        m_byUserAndNode.remove(user);
+      }
+    }
+
+    public boolean isRemoved() {
+      m_lock.readLock().lock();
+      try {
+        return m_removed;
+      }
+      finally {
+        m_lock.readLock().unlock();
+      }
+    }
+  }
+
+  /**
+   * Entry of {@link TopicNotifications}. The creation time is captured when the notification is added.
+   */
+  protected static class IndexedNotification {
+    public static final Comparator<IndexedNotification> CREATION_TIME_COMPARATOR = Comparator
+        .comparingLong(IndexedNotification::getCreationTime)
+        .thenComparingLong(IndexedNotification::getSequence);
+
+    private final long m_sequence;
+    private final long m_creationTime;
+    private final UiNotificationMessageDo m_message;
+
+    public IndexedNotification(long sequence, long creationTime, UiNotificationMessageDo message) {
+      m_sequence = sequence;
+      m_creationTime = creationTime;
+      m_message = message;
+    }
+
+    public long getSequence() {
+      return m_sequence;
+    }
+
+    public long getCreationTime() {
+      return m_creationTime;
+    }
+
+    public UiNotificationMessageDo getMessage() {
+      return m_message;
+    }
+  }
 }
@@ -215,15 +215,37 @@ public class UiNotificationRegistryTest {
     assertEquals(expected, m_registry.get(Arrays.asList(createTopic("topic a", lastNotification)), "otto"));
   }
 
+  @Test
+  public void testGetWithLastNotificationAndUserAfterCleanup() throws InterruptedException {
+    m_registry.put("topic", "otto", createMessage(), new UiNotificationPutOptions().withTimeout(50L).withTransactional(false)); // 1
+    m_registry.put("topic", "max", createMessage(), noTransaction()); // 2
+    UiNotificationDo notification2 = getNewestNotification("topic");
+    m_registry.put("topic", "otto", createMessage(), noTransaction()); // 3
+    UiNotificationDo notification3 = getNewestNotification("topic");
+
+    // Newest notification of otto is used as subscription start
+    assertEquals(Arrays.asList(asSubscriptionStartNotification(notification3)), m_registry.get(Arrays.asList(createTopic("topic")), "otto"));
+    assertEquals(Arrays.asList(asSubscriptionStartNotification(notification2)), m_registry.get(Arrays.asList(createTopic("topic")), "max"));
+    assertEquals(Arrays.asList(createInitialNotification("topic")), m_registry.get(Arrays.asList(createTopic("topic")), null));
+
+    Thread.sleep(60);
+    m_registry.cleanup();
+    assertEquals(2, m_registry.getNotifications().get("topic").size());
+
+    assertEquals(Arrays.asList(notification3), m_registry.get(Arrays.asList(createGetAllTopic("topic")), "otto"));
+    assertEquals(Arrays.asList(notification2), m_registry.get(Arrays.asList(createGetAllTopic("topic")), "max"));
+    assertEquals(new ArrayList<>(), m_registry.get(Arrays.asList(createGetAllTopic("topic")), null));
+
+    m_registry.put("topic", createMessage(), noTransaction()); // 4
+    UiNotificationDo notification4 = getNewestNotification("topic");
+    assertEquals(Arrays.asList(notification4), m_registry.get(Arrays.asList(createTopic("topic", notification3)), "otto"));
+  }
+
   @Test
   public void testGetWithLastNotificationSameTime() {
-    m_registry.put("topic", createMessage(), noTransaction());
-    UiNotificationDo lastNotification1 = m_registry.getNotifications().get("topic").get(0).getNotification();
-    lastNotification1.withCreationTime(DateUtility.parse("20220922 140000.123", "yyyyMMdd HHmmss.SSS"));
+    UiNotificationDo lastNotification1 = putClusterNotification("topic", "node1", DateUtility.parse("20220922 140000.123", "yyyyMMdd HHmmss.SSS"));
 
-    m_registry.put("topic", createMessage(), noTransaction());
-    UiNotificationDo lastNotification2 = m_registry.getNotifications().get("topic").get(1).getNotification();
-    lastNotification2.withCreationTime(DateUtility.parse("20220922 140000.123", "yyyyMMdd HHmmss.SSS"));
+    UiNotificationDo lastNotification2 = putClusterNotification("topic", "node1", DateUtility.parse("20220922 140000.123", "yyyyMMdd HHmmss.SSS"));
 
     // Notification must not be returned, having two notifications with the same time is not allowed and should not be possible, see UiNotificationRegistry.updateNotificationCreationTime
     assertEquals(new ArrayList<>(), m_registry.get(Arrays.asList(createTopic("topic", lastNotification1)), null));
@@ -236,37 +258,22 @@ public class UiNotificationRegistryTest {
     List<UiNotificationDo> subscriptions = m_registry.get(Arrays.asList(createTopic("topic")), null);
     assertEquals(Arrays.asList(createInitialNotification("topic")), subscriptions);
 
-    m_registry.put("topic", createMessage(), noTransaction());
-    UiNotificationDo lastNotificationNode1 = m_registry.getNotifications().get("topic").get(0).getNotification();
-    lastNotificationNode1.withNodeId("node1");
-    lastNotificationNode1.withCreationTime(DateUtility.parse("20220922 140000", "yyyyMMdd HHmmss"));
+    UiNotificationDo lastNotificationNode1 = putClusterNotification("topic", "node1", DateUtility.parse("20220922 140000", "yyyyMMdd HHmmss"));
 
-    m_registry.put("topic", createMessage(), noTransaction());
-    UiNotificationDo lastNotificationNode2 = m_registry.getNotifications().get("topic").get(1).getNotification();
-    lastNotificationNode2.withNodeId("node2");
-    lastNotificationNode2.withCreationTime(DateUtility.parse("20220922 135959", "yyyyMMdd HHmmss")); // The time of Node 2 is slightly behind Node 1
+    UiNotificationDo lastNotificationNode2 = putClusterNotification("topic", "node2", DateUtility.parse("20220922 135959", "yyyyMMdd HHmmss")); // The time of Node 2 is slightly behind Node 1
 
     // Return notifications from both nodes
     assertEquals(Arrays.asList(lastNotificationNode1, lastNotificationNode2), m_registry.get(Arrays.asList(createTopic("topic", subscriptions.get(0))), null));
 
-    m_registry.put("topic", createMessage(), noTransaction());
-    UiNotificationDo lastNotification2Node1 = m_registry.getNotifications().get("topic").get(2).getNotification();
-    lastNotification2Node1.withNodeId("node1");
-    lastNotification2Node1.withCreationTime(DateUtility.parse("20220922 140001", "yyyyMMdd HHmmss"));
+    UiNotificationDo lastNotification2Node1 = putClusterNotification("topic", "node1", DateUtility.parse("20220922 140001", "yyyyMMdd HHmmss"));
 
-    m_registry.put("topic", createMessage(), noTransaction());
-    UiNotificationDo lastNotification2Node2 = m_registry.getNotifications().get("topic").get(3).getNotification();
-    lastNotification2Node2.withNodeId("node2");
-    lastNotification2Node2.withCreationTime(DateUtility.parse("20220922 140000", "yyyyMMdd HHmmss"));
+    UiNotificationDo lastNotification2Node2 = putClusterNotification("topic", "node2", DateUtility.parse("20220922 140000", "yyyyMMdd HHmmss"));
 
     // Return notifications from both nodes
     assertEquals(Arrays.asList(lastNotification2Node1, lastNotification2Node2), m_registry.get(Arrays.asList(createTopic("topic", lastNotificationNode1, lastNotificationNode2)), null));
 
     // Add new notification for a node that is unknown to client
-    m_registry.put("topic", createMessage(), noTransaction());
-    UiNotificationDo lastNotificationNode3 = m_registry.getNotifications().get("topic").get(4).getNotification();
-    lastNotificationNode3.withNodeId("node3");
-    lastNotificationNode3.withCreationTime(DateUtility.parse("20220922 140010", "yyyyMMdd HHmmss"));
+    UiNotificationDo lastNotificationNode3 = putClusterNotification("topic", "node3", DateUtility.parse("20220922 140010", "yyyyMMdd HHmmss"));
 
     assertEquals(Arrays.asList(lastNotificationNode3), m_registry.get(Arrays.asList(createTopic("topic", lastNotification2Node1, lastNotification2Node2)), null));
 
@@ -277,15 +284,9 @@ public class UiNotificationRegistryTest {
   @Test
   public void testGetWithLastNotificationMultipleNodesExistingTopics() {
     // There are notifications for the topic created by node 1 and node 2, but not node 3
-    m_registry.put("topic", createMessage(), noTransaction());
-    UiNotificationDo lastNotificationNode1 = m_registry.getNotifications().get("topic").get(0).getNotification();
-    lastNotificationNode1.withNodeId("node1");
-    lastNotificationNode1.withCreationTime(DateUtility.parse("20220922 140000", "yyyyMMdd HHmmss"));
+    UiNotificationDo lastNotificationNode1 = putClusterNotification("topic", "node1", DateUtility.parse("20220922 140000", "yyyyMMdd HHmmss"));
 
-    m_registry.put("topic", createMessage(), noTransaction());
-    UiNotificationDo lastNotificationNode2 = m_registry.getNotifications().get("topic").get(1).getNotification();
-    lastNotificationNode2.withNodeId("node2");
-    lastNotificationNode2.withCreationTime(DateUtility.parse("20220922 135959", "yyyyMMdd HHmmss")); // The time of Node 2 is slightly behind Node 1
+    UiNotificationDo lastNotificationNode2 = putClusterNotification("topic", "node2", DateUtility.parse("20220922 135959", "yyyyMMdd HHmmss")); // The time of Node 2 is slightly behind Node 1
 
     UiNotificationDo node1Subscription = asSubscriptionStartNotification(lastNotificationNode1);
     UiNotificationDo node2Subscription = asSubscriptionStartNotification(lastNotificationNode2);
@@ -298,22 +299,13 @@ public class UiNotificationRegistryTest {
     assertEquals(new ArrayList<>(), m_registry.get(Arrays.asList(createTopic("topic", subscriptions.get(0), subscriptions.get(1))), null));
 
     // Old, obsolete notification by node1 -> It must not be returned
-    m_registry.put("topic", createMessage(), noTransaction());
-    UiNotificationDo lastNotification2Node1Old = m_registry.getNotifications().get("topic").get(2).getNotification();
-    lastNotification2Node1Old.withNodeId("node1");
-    lastNotification2Node1Old.withCreationTime(DateUtility.parse("20220922 120000", "yyyyMMdd HHmmss"));
+    putClusterNotification("topic", "node1", DateUtility.parse("20220922 120000", "yyyyMMdd HHmmss"));
 
     // Valid notification by node1
-    m_registry.put("topic", createMessage(), noTransaction());
-    UiNotificationDo lastNotification3Node1 = m_registry.getNotifications().get("topic").get(3).getNotification();
-    lastNotification3Node1.withNodeId("node1");
-    lastNotification3Node1.withCreationTime(DateUtility.parse("20220922 140010", "yyyyMMdd HHmmss"));
+    UiNotificationDo lastNotification3Node1 = putClusterNotification("topic", "node1", DateUtility.parse("20220922 140010", "yyyyMMdd HHmmss"));
 
     // Server 3 has a bad time, but since there weren't any notifications created by that node at the subscription time, it will be returned
-    m_registry.put("topic", createMessage(), noTransaction());
-    UiNotificationDo lastNotificationNode3 = m_registry.getNotifications().get("topic").get(4).getNotification();
-    lastNotificationNode3.withNodeId("node3");
-    lastNotificationNode3.withCreationTime(DateUtility.parse("20220922 130055", "yyyyMMdd HHmmss"));
+    UiNotificationDo lastNotificationNode3 = putClusterNotification("topic", "node3", DateUtility.parse("20220922 130055", "yyyyMMdd HHmmss"));
 
     // Return valid one from node 1 and new one from node3
     assertEquals(Arrays.asList(lastNotification3Node1, lastNotificationNode3), m_registry.get(Arrays.asList(createTopic("topic", node1Subscription, node2Subscription)), null));
@@ -616,6 +608,22 @@ public class UiNotificationRegistryTest {
     }
   }
 
+  /**
+   * Puts a notification as if it was received from another cluster node.
+   */
+  protected UiNotificationDo putClusterNotification(String topic, String nodeId, Date creationTime) {
+    UiNotificationDo notification = BEANS.get(UiNotificationDo.class)
+        .withId(m_registry.getIdGenerator().generate())
+        .withTopic(topic)
+        .withNodeId(nodeId)
+        .withCreationTime(creationTime)
+        .withMessage(createMessage());
+    m_registry.handleClusterNotification(BEANS.get(UiNotificationMessageDo.class)
+        .withNotification(notification)
+        .withTimeout(TimeUnit.MINUTES.toMillis(1)));
+    return notification;
+  }
+
   protected IDoEntity createMessage(String value) {
     IDoEntity message = new DoEntity();
     message.put("dummy", value);